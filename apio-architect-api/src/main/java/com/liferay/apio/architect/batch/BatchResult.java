@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+
+package com.liferay.apio.architect.batch;
+
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.List;
+
+/**
+ * Represents the result of a batch operation. It contains the result of each
+ * of the batch's elements, in the same order in which the elements were
+ * received, so the outcome of every element can be reported independently.
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the type of each element's result
+ */
+public class BatchResult<T> {
+
+	public BatchResult(List<Try<T>> results) {
+		_results = results;
+	}
+
+	/**
+	 * Returns the result of each of the batch's elements. Elements that
+	 * couldn't be processed contain the exception that caused the failure.
+	 *
+	 * @return the result of each of the batch's elements
+	 */
+	public List<Try<T>> getResults() {
+		return _results;
+	}
+
+	private final List<Try<T>> _results;
+
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.endpoint;
+
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+
+import com.liferay.apio.architect.form.Body;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.POST;
+import javax.ws.rs.PUT;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Providers;
+
+/**
+ * Declares the endpoint for batch operations. A batch request contains either
+ * a list of relative Apio requests, which are executed concurrently, or a list
+ * of items of a resource to create, update, or delete at once. In both cases,
+ * the result of each element is returned in a single multi-status response.
+ *
+ * @author Alejandro Hernández
+ */
+public interface BatchEndpoint {
+
+	/**
+	 * Creates several items of the resource specified by {@code name} and
+	 * returns a multi-status response with the result of each one, in order.
+	 * The body must be a list of elements, each one containing the information
+	 * of an item to create.
+	 *
+	 * @param  name the resource's name
+	 * @param  httpHeaders the current request's headers, used to negotiate
+	 *         the response's media type
+	 * @param  httpServletRequest the current request
+	 * @param  providers the JAX-RS providers used to render each result
+	 * @param  body the request's body, containing the list of items
+	 * @return the multi-status response, or an exception if an error occurred
+	 */
+	@Consumes(APPLICATION_JSON)
+	@Path("{name}")
+	@POST
+	public Response addCollectionItems(
+		@PathParam("name") String name,
+		@Context HttpHeaders httpHeaders,
+		@Context HttpServletRequest httpServletRequest,
+		@Context Providers providers, Body body);
+
+	/**
+	 * Deletes several items of the resource specified by {@code name} and
+	 * returns a multi-status response with the result of each one, in order.
+	 * The body must be a list of elements, each one containing the {@code id}
+	 * of an item to delete.
+	 *
+	 * @param  name the resource's name
+	 * @param  httpHeaders the current request's headers, used to negotiate
+	 *         the response's media type
+	 * @param  httpServletRequest the current request
+	 * @param  providers the JAX-RS providers used to render each result
+	 * @param  body the request's body, containing the list of IDs
+	 * @return the multi-status response, or an exception if an error occurred
+	 */
+	@Consumes(APPLICATION_JSON)
+	@DELETE
+	@Path("{name}")
+	public Response deleteCollectionItems(
+		@PathParam("name") String name,
+		@Context HttpHeaders httpHeaders,
+		@Context HttpServletRequest httpServletRequest,
+		@Context Providers providers, Body body);
+
+	/**
+	 * Executes every request contained in the body and returns a multi-status
+	 * response with the result of each one. The body must be a list of
+	 * elements, each one containing the {@code path} of a {@code GET} request
+	 * relative to the application's root (e.g., {@code /p/people?page=2}).
+	 *
+	 * @param  httpHeaders the current request's headers, used to negotiate
+	 *         the response's media type
+	 * @param  httpServletRequest the current request
+	 * @param  providers the JAX-RS providers used to render each result
+	 * @param  body the request's body, containing the list of requests
+	 * @return the multi-status response, or an exception if an error occurred
+	 */
+	@Consumes(APPLICATION_JSON)
+	@Path("/")
+	@POST
+	public Response executeBatch(
+		@Context HttpHeaders httpHeaders,
+		@Context HttpServletRequest httpServletRequest,
+		@Context Providers providers, Body body);
+
+	/**
+	 * Updates several items of the resource specified by {@code name} and
+	 * returns a multi-status response with the result of each one, in order.
+	 * The body must be a list of elements, each one containing the {@code id}
+	 * of an item to update and its new information.
+	 *
+	 * @param  name the resource's name
+	 * @param  httpHeaders the current request's headers, used to negotiate
+	 *         the response's media type
+	 * @param  httpServletRequest the current request
+	 * @param  providers the JAX-RS providers used to render each result
+	 * @param  body the request's body, containing the list of items
+	 * @return the multi-status response, or an exception if an error occurred
+	 */
+	@Consumes(APPLICATION_JSON)
+	@Path("{name}")
+	@PUT
+	public Response updateCollectionItems(
+		@PathParam("name") String name,
+		@Context HttpHeaders httpHeaders,
+		@Context HttpServletRequest httpServletRequest,
+		@Context Providers providers, Body body);
+
+}
@@ -18,6 +18,7 @@ import static javax.ws.rs.core.Response.Status.METHOD_NOT_ALLOWED;
 
 import com.liferay.apio.architect.operation.Method;
 
+import java.util.NoSuchElementException;
 import java.util.function.Supplier;
 
 import javax.ws.rs.NotAllowedException;
@@ -29,6 +30,11 @@ import javax.ws.rs.core.Response;
  * inside endpoints.
  *
  * <p>
+ * The supplied exceptions don't fill in their stack traces, since they
+ * represent ordinary request outcomes rather than programming errors.
+ * </p>
+ *
+ * <p>
  * This class shouldn't be instantiated.
  * </p>
  *
@@ -36,6 +42,16 @@ import javax.ws.rs.core.Response;
  */
 public class ExceptionSupplierUtil {
 
+	/**
+	 * Returns a supplier of {@code NoSuchElementException}, used when an
+	 * {@code Optional} that should hold a value is empty.
+	 *
+	 * @return a supplier of {@code NoSuchElementException}
+	 */
+	public static Supplier<NoSuchElementException> noSuchElement() {
+		return StacklessNoSuchElementException::new;
+	}
+
 	/**
 	 * Returns a supplier of {@code NotAllowedException}.
 	 *
@@ -53,7 +69,7 @@ public class ExceptionSupplierUtil {
 
 		Response response = Response.status(METHOD_NOT_ALLOWED).build();
 
-		return () -> new NotAllowedException(message, response);
+		return () -> new StacklessNotAllowedException(message, response);
 	}
 
 	/**
@@ -64,7 +80,7 @@ public class ExceptionSupplierUtil {
 	 * @return a supplier of {@code NotFoundException}
 	 */
 	public static Supplier<NotFoundException> notFound(String... path) {
-		return () -> new NotFoundException(
+		return () -> new StacklessNotFoundException(
 			"No endpoint found at path " + String.join("/", path));
 	}
 
@@ -72,4 +88,43 @@ public class ExceptionSupplierUtil {
 		throw new UnsupportedOperationException();
 	}
 
+	private static class StacklessNoSuchElementException
+		extends NoSuchElementException {
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+
+	}
+
+	private static class StacklessNotAllowedException
+		extends NotAllowedException {
+
+		public StacklessNotAllowedException(
+			String message, Response response) {
+
+			super(message, response);
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+
+	}
+
+	private static class StacklessNotFoundException extends NotFoundException {
+
+		public StacklessNotFoundException(String message) {
+			super(message);
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+
+	}
+
 }
\ No newline at end of file
@@ -17,10 +17,12 @@ package com.liferay.apio.architect.endpoint;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.MULTIPART_FORM_DATA;
 
+import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.single.model.SingleModelStream;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -29,6 +31,8 @@ import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 
 /**
@@ -50,6 +54,18 @@ public interface PageEndpoint<T> {
 	@POST
 	public Try<SingleModel<T>> addCollectionItem(Body body);
 
+	/**
+	 * Adds several new items to the resource specified by {@code name}. The
+	 * body contains the list of items to create. Invalid items don't prevent
+	 * the rest from being created.
+	 *
+	 * @param  body the request's body, containing a list of items
+	 * @return the result of creating each item, in order, or an exception if
+	 *         an error occurred
+	 * @see    BatchEndpoint
+	 */
+	public Try<BatchResult<SingleModel<T>>> addCollectionItems(Body body);
+
 	/**
 	 * Adds a new {@link SingleModel} to the nested resource specified. This
 	 * occurs via a POST request to the nested resource.
@@ -78,6 +94,32 @@ public interface PageEndpoint<T> {
 	public Response deleteCollectionItem(@PathParam("id") String id)
 		throws Exception;
 
+	/**
+	 * Deletes several collection items of the resource specified by {@code
+	 * name}. The request's body contains a list of elements, each one with the
+	 * {@code id} of an item to delete. Invalid elements don't prevent the rest
+	 * of the items from being deleted.
+	 *
+	 * @param  body the request's body, containing the list of IDs
+	 * @return the ID of each deleted item, in order, or an exception if an
+	 *         error occurred
+	 * @see    BatchEndpoint
+	 */
+	public Try<BatchResult<String>> deleteCollectionItems(Body body);
+
+	/**
+	 * Resumes the asynchronous response with the {@link SingleModel} for the
+	 * specified resource, once its item function completes. The request's
+	 * thread isn't blocked while the item is being obtained.
+	 *
+	 * @param id the resource's ID
+	 * @param asyncResponse the suspended response
+	 */
+	@GET
+	@Path("{id}")
+	public void getCollectionItemSingleModel(
+		@PathParam("id") String id, @Suspended AsyncResponse asyncResponse);
+
 	/**
 	 * Returns the {@link SingleModel} for the specified resource.
 	 *
@@ -85,21 +127,54 @@ public interface PageEndpoint<T> {
 	 * @return the {@link SingleModel} for the specified resource, or an
 	 *         exception if an error occurred
 	 */
-	@GET
-	@Path("{id}")
 	public Try<SingleModel<T>> getCollectionItemSingleModelTry(
 		@PathParam("id") String id);
 
+	/**
+	 * Resumes the asynchronous response with the collection {@link Page} for
+	 * the specified resource, once its page function completes. The request's
+	 * thread isn't blocked while the page is being calculated.
+	 *
+	 * @param asyncResponse the suspended response
+	 */
+	@GET
+	@Path("/")
+	public void getCollectionPage(@Suspended AsyncResponse asyncResponse);
+
 	/**
 	 * Returns the collection {@link Page} for the specified resource.
 	 *
 	 * @return the collection {@link Page} for the specified resource, or an
 	 *         exception if an error occurred
 	 */
-	@GET
-	@Path("/")
 	public Try<Page<T>> getCollectionPageTry();
 
+	/**
+	 * Returns a {@link SingleModelStream} with every item of the specified
+	 * resource. The items are written one by one as newline-delimited JSON, so
+	 * the collection is never fully loaded in memory.
+	 *
+	 * @return the stream with every item of the resource, or an exception if
+	 *         an error occurred
+	 * @see    RootEndpoint#export(String)
+	 */
+	public Try<SingleModelStream<T>> getCollectionStream();
+
+	/**
+	 * Resumes the asynchronous response with a nested collection {@link Page}
+	 * for the specified resource, once its page function completes. The
+	 * request's thread isn't blocked while the page is being calculated.
+	 *
+	 * @param id the parent resource's ID
+	 * @param nestedName the nested resource's name
+	 * @param asyncResponse the suspended response
+	 */
+	@GET
+	@Path("{id}/{nestedName}")
+	public void getNestedCollectionPage(
+		@PathParam("id") String id, @PathParam("nestedName") String nestedName,
+		@Suspended AsyncResponse asyncResponse);
+
 	/**
 	 * Returns a nested collection {@link Page} for the specified resource.
 	 *
@@ -108,8 +183,6 @@ public interface PageEndpoint<T> {
 	 * @return the nested collection {@link Page} for the specified resource, or
 	 *         an exception if an error occurred
 	 */
-	@GET
-	@Path("{id}/{nestedName}")
 	public Try<Page<T>> getNestedCollectionPageTry(
 		@PathParam("id") String id, @PathParam("nestedName") String nestedName);
 
@@ -126,4 +199,17 @@ public interface PageEndpoint<T> {
 	public Try<SingleModel<T>> updateCollectionItem(
 		@PathParam("id") String id, Body body);
 
+	/**
+	 * Updates several collection items. The request's body contains a list of
+	 * elements, each one with the {@code id} of the item to update and its new
+	 * information. Invalid elements don't prevent the rest of the items from
+	 * being updated.
+	 *
+	 * @param  body the request's body, containing a list of items
+	 * @return the result of updating each item, in order, or an exception if
+	 *         an error occurred
+	 * @see    BatchEndpoint
+	 */
+	public Try<BatchResult<SingleModel<T>>> updateCollectionItems(Body body);
+
 }
\ No newline at end of file
@@ -17,6 +17,8 @@ package com.liferay.apio.architect.endpoint;
 import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.apio.architect.documentation.Documentation;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.single.model.SingleModelStream;
 
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
@@ -34,6 +36,14 @@ import javax.ws.rs.core.Response;
 @ProviderType
 public interface RootEndpoint {
 
+	/**
+	 * Returns the endpoint for batch operations.
+	 *
+	 * @return the endpoint
+	 */
+	@Path("/batch")
+	public BatchEndpoint batchEndpoint();
+
 	/**
 	 * Returns the endpoint for binary operations.
 	 *
@@ -51,6 +61,20 @@ public interface RootEndpoint {
 	@Path("/doc")
 	public Documentation documentation();
 
+	/**
+	 * Returns a {@link SingleModelStream} with every item of a resource. This
+	 * occurs via a GET request to the resource's export path, which lives
+	 * outside the page endpoint so it can't collide with an item's ID.
+	 *
+	 * @param  name the resource's name
+	 * @return the stream with every item of the resource, or an exception if
+	 *         an error occurred
+	 */
+	@GET
+	@Path("/export/{name}")
+	public Try<SingleModelStream<Object>> export(
+		@PathParam("name") String name);
+
 	/**
 	 * Returns the endpoint for form operations.
 	 *
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.event;
+
+/**
+ * Represents the execution of a {@link PipelineStage}. The event starts when
+ * it's created by {@link PipelineEventUtil#begin(PipelineStage)} and ends
+ * when it's closed, so it can be used in a {@code try}-with-resources
+ * statement.
+ *
+ * <p>
+ * If the stage isn't being recorded, the event does nothing, so callers don't
+ * have to check {@link #isEnabled()} unless computing an event's information
+ * is expensive.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public interface PipelineEvent extends AutoCloseable {
+
+	/**
+	 * Ends the event and records it.
+	 */
+	@Override
+	public void close();
+
+	/**
+	 * Returns {@code true} if this event is being recorded.
+	 *
+	 * @return {@code true} if this event is being recorded; {@code false}
+	 *         otherwise
+	 */
+	public boolean isEnabled();
+
+	/**
+	 * Sets the number of bytes processed during the event.
+	 *
+	 * @param byteCount the number of bytes
+	 */
+	public void setByteCount(long byteCount);
+
+	/**
+	 * Sets the number of items processed during the event.
+	 *
+	 * @param itemCount the number of items
+	 */
+	public void setItemCount(long itemCount);
+
+	/**
+	 * Sets the class of the context created during the event, if the event
+	 * creates a provider's context.
+	 *
+	 * @param providerClass the class of the provider's context
+	 */
+	public void setProviderClass(Class<?> providerClass);
+
+	/**
+	 * Sets the name of the resource the event refers to.
+	 *
+	 * @param resourceName the resource's name
+	 */
+	public void setResourceName(String resourceName);
+
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.event;
+
+import aQute.bnd.annotation.ConsumerType;
+
+/**
+ * Instances of this interface record the {@link PipelineEvent} emitted by
+ * Apio's request pipeline, for example, as JDK Flight Recorder events.
+ *
+ * @author Alejandro Hernández
+ * @see    PipelineEventUtil#setPipelineEventRecorder(PipelineEventRecorder)
+ */
+@ConsumerType
+public interface PipelineEventRecorder {
+
+	/**
+	 * Starts an event for a pipeline stage. If the stage isn't being recorded,
+	 * this method must return a disabled event as cheaply as possible, since
+	 * it's called several times per request.
+	 *
+	 * @param  pipelineStage the pipeline stage
+	 * @return the started event
+	 */
+	public PipelineEvent begin(PipelineStage pipelineStage);
+
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.event;
+
+/**
+ * Provides methods to emit the {@link PipelineEvent} of Apio's request
+ * pipeline.
+ *
+ * <p>
+ * Events are only recorded if a {@link PipelineEventRecorder} has been set.
+ * Otherwise, {@link #begin(PipelineStage)} returns {@link #DISABLED}, so
+ * emitting an event costs a field read.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class PipelineEventUtil {
+
+	/**
+	 * The event returned when the pipeline stage isn't being recorded. It does
+	 * nothing.
+	 */
+	public static final PipelineEvent DISABLED = new PipelineEvent() {
+
+		@Override
+		public void close() {
+		}
+
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public void setByteCount(long byteCount) {
+		}
+
+		@Override
+		public void setItemCount(long itemCount) {
+		}
+
+		@Override
+		public void setProviderClass(Class<?> providerClass) {
+		}
+
+		@Override
+		public void setResourceName(String resourceName) {
+		}
+
+	};
+
+	/**
+	 * Starts an event for a pipeline stage.
+	 *
+	 * @param  pipelineStage the pipeline stage
+	 * @return the started event, if the stage is being recorded; {@link
+	 *         #DISABLED} otherwise
+	 */
+	public static PipelineEvent begin(PipelineStage pipelineStage) {
+		PipelineEventRecorder pipelineEventRecorder = _pipelineEventRecorder;
+
+		if (pipelineEventRecorder == null) {
+			return DISABLED;
+		}
+
+		return pipelineEventRecorder.begin(pipelineStage);
+	}
+
+	/**
+	 * Sets the recorder of the pipeline's events.
+	 *
+	 * @param pipelineEventRecorder the recorder, or {@code null} to stop
+	 *        recording events
+	 */
+	public static void setPipelineEventRecorder(
+		PipelineEventRecorder pipelineEventRecorder) {
+
+		_pipelineEventRecorder = pipelineEventRecorder;
+	}
+
+	private PipelineEventUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static volatile PipelineEventRecorder _pipelineEventRecorder;
+
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.event;
+
+/**
+ * Defines the stages of Apio's request pipeline that emit a {@link
+ * PipelineEvent}.
+ *
+ * @author Alejandro Hernández
+ */
+public enum PipelineStage {
+
+	MESSAGE_BODY_WRITE, PROVIDER_CREATION, RELATED_MODEL_FETCH,
+	REPRESENTOR_WRITE, ROUTE_EXECUTION
+
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.exception;
+
+/**
+ * Defines the exception thrown by {@link
+ * com.liferay.apio.architect.request.Deadline#check()} when a request's
+ * deadline has expired.
+ *
+ * <p>
+ * This exception doesn't fill in its stack trace, since it's thrown to stop
+ * an expired request as cheaply as possible.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+	public DeadlineExceededException() {
+		super("The request's deadline has expired", null, false, false);
+	}
+
+}
\ No newline at end of file
@@ -20,12 +20,17 @@ package com.liferay.apio.architect.exception;
  * com.liferay.apio.architect.functional.Try#filter(
  * java.util.function.Predicate)} returns {@code false}.
  *
+ * <p>
+ * This exception doesn't fill in its stack trace, since it only signals that
+ * a filter didn't match.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 public class FalsePredicateException extends Exception {
 
 	public FalsePredicateException(Object value) {
-		super("Predicate does not match for " + value);
+		super("Predicate does not match for " + value, null, false, false);
 	}
 
 }
\ No newline at end of file
@@ -27,6 +27,30 @@ import java.util.function.Function;
  */
 public interface Body {
 
+	/**
+	 * Creates and returns a new {@code Body} that wraps a list of bodies. This
+	 * is the body received by batch routes, where each element of the list
+	 * holds the information of one item.
+	 *
+	 * @param  bodies the list of bodies
+	 * @return the body
+	 */
+	public static Body create(List<Body> bodies) {
+		return new Body() {
+
+			@Override
+			public Optional<List<Body>> getBodyListOptional() {
+				return Optional.of(bodies);
+			}
+
+			@Override
+			public Optional<String> getValueOptional(String key) {
+				return Optional.empty();
+			}
+
+		};
+	}
+
 	/**
 	 * Creates and returns a new {@code Body} from two lambdas.
 	 *
@@ -93,6 +117,17 @@ public interface Body {
 		};
 	}
 
+	/**
+	 * Returns the list of bodies contained in this body, if this is a batch
+	 * body; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the list of bodies, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public default Optional<List<Body>> getBodyListOptional() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Returns a list of files from the body, if present; returns {@code
 	 * Optional#empty()} otherwise.
@@ -54,6 +54,7 @@ import static com.liferay.apio.architect.form.FormUtil.getRequiredString;
 import static com.liferay.apio.architect.form.FormUtil.getRequiredStringList;
 
 import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.language.Language;
 
 import java.util.Collections;
@@ -68,6 +69,8 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.ws.rs.BadRequestException;
+
 /**
  * Holds information about an operation's form. The {@link #get(Body)} method
  * method uses the HTTP request body to extract the form values as detailed in
@@ -170,6 +173,31 @@ public class Form<T> {
 		);
 	}
 
+	/**
+	 * Returns the information of every element of a batch body, each one in a
+	 * class of type {@code T}, where type {@code T} matches the type parameter
+	 * of the {@link Builder} that created the form. Each element is parsed on
+	 * its own, so an invalid element doesn't prevent the rest from being
+	 * obtained.
+	 *
+	 * @param  body the HTTP request body, containing a list of bodies
+	 * @return the list with the result of parsing each element of the body
+	 */
+	public List<Try<T>> getList(Body body) {
+		List<Body> bodies = body.getBodyListOptional(
+		).orElseThrow(
+			() -> new BadRequestException("Body is not a list of elements")
+		);
+
+		Stream<Body> stream = bodies.stream();
+
+		return stream.map(
+			element -> Try.fromFallible(() -> get(element))
+		).collect(
+			Collectors.toList()
+		);
+	}
+
 	/**
 	 * Returns the form's title, which depends on the HTTP request language.
 	 *
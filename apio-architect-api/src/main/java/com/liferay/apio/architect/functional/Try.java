@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.functional;
 
+import static com.liferay.apio.architect.endpoint.ExceptionSupplierUtil.noSuchElement;
+
 import com.liferay.apio.architect.consumer.throwable.ThrowableConsumer;
 import com.liferay.apio.architect.exception.FalsePredicateException;
 import com.liferay.apio.architect.function.throwable.ThrowableFunction;
@@ -134,8 +136,8 @@ public abstract class Try<T> {
 
 		return Try.fromFallible(
 			throwableSupplier
-		).map(
-			Optional::get
+		).flatMap(
+			optional -> _fromOptional(optional, supplier)
 		).mapFailMatching(
 			NoSuchElementException.class, supplier
 		);
@@ -325,8 +327,8 @@ public abstract class Try<T> {
 
 		return tTry.map(
 			throwableFunction
-		).map(
-			Optional::get
+		).flatMap(
+			optional -> _fromOptional(optional, noSuchElement())
 		);
 	}
 
@@ -352,8 +354,8 @@ public abstract class Try<T> {
 
 		return tTry.map(
 			throwableFunction
-		).map(
-			Optional::get
+		).flatMap(
+			optional -> _fromOptional(optional, supplier)
 		).mapFailMatching(
 			NoSuchElementException.class, supplier
 		);
@@ -816,6 +818,16 @@ public abstract class Try<T> {
 
 	}
 
+	private static <S> Try<S> _fromOptional(
+		Optional<S> optional, Supplier<? extends Exception> supplier) {
+
+		if (optional.isPresent()) {
+			return success(optional.get());
+		}
+
+		return fail(supplier.get());
+	}
+
 	private Try() {
 	}
 
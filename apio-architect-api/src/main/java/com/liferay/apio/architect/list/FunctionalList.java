@@ -14,10 +14,10 @@
 
 package com.liferay.apio.architect.list;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -27,6 +27,13 @@ import java.util.stream.Stream;
  * methods this interface defines to take different elements from the list.
  * Instances of {@code FunctionalList} should always have at least one element.
  *
+ * <p>
+ * Lists are persistent: creating a list from another one shares the original
+ * list instead of copying it, so appending an element takes constant time.
+ * The arrays and joined strings this class returns are computed once per list
+ * and cached, so they must not be modified.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés§
  * @author Jorge Ferrer
@@ -37,19 +44,15 @@ public class FunctionalList<E> {
 	public FunctionalList(FunctionalList<E> functionalList, E last) {
 		if (functionalList == null) {
 			_first = last;
-			_tail = Collections.emptyList();
+			_size = 1;
 		}
 		else {
-			_first = functionalList.head();
-
-			Stream<E> stream = functionalList.tailStream();
-
-			List<E> tail = stream.collect(Collectors.toList());
-
-			tail.add(last);
-
-			_tail = tail;
+			_first = functionalList._first;
+			_size = functionalList._size + 1;
 		}
+
+		_last = last;
+		_parent = functionalList;
 	}
 
 	/**
@@ -68,19 +71,31 @@ public class FunctionalList<E> {
 	 *         list
 	 */
 	public Stream<E> initStream() {
-		if (_init == null) {
-			List<E> init = new ArrayList<>();
-
-			init.add(_first);
+		return Arrays.stream(_getElements(), 0, Math.max(_size - 1, 1));
+	}
 
-			Stream<E> stream = middleStream();
+	/**
+	 * Returns the string representation of every element of the list, joined
+	 * by the provided delimiter. The result is cached, so joining the list
+	 * again with the same delimiter returns the same string.
+	 *
+	 * @param  delimiter the delimiter between every two elements
+	 * @return the joined elements of the list
+	 */
+	public String join(String delimiter) {
+		if (!Objects.equals(delimiter, _joinedDelimiter)) {
+			Stream<E> stream = Arrays.stream(_getElements());
 
-			init.addAll(stream.collect(Collectors.toList()));
+			_joined = stream.map(
+				String::valueOf
+			).collect(
+				Collectors.joining(delimiter)
+			);
 
-			_init = init;
+			_joinedDelimiter = delimiter;
 		}
 
-		return _init.stream();
+		return _joined;
 	}
 
 	/**
@@ -89,15 +104,34 @@ public class FunctionalList<E> {
 	 * @return the last element of the list; {@code Optional.empty()} otherwise
 	 */
 	public Optional<E> lastOptional() {
-		if (_last == null) {
-			if (_tail.size() == 0) {
-				return Optional.empty();
+		if (_lastOptional == null) {
+			if (_size == 1) {
+				_lastOptional = Optional.empty();
+			}
+			else {
+				_lastOptional = Optional.of(_last);
 			}
+		}
+
+		return _lastOptional;
+	}
 
-			_last = _tail.get(_tail.size() - 1);
+	/**
+	 * Returns an array with all elements of the list except the first and
+	 * last. The array is created with the provided generator the first time
+	 * this method is called, and cached afterwards.
+	 *
+	 * @param  generator the function that creates an array of the requested
+	 *         length
+	 * @return the array with all list elements except the first and last
+	 */
+	public E[] middleArray(IntFunction<E[]> generator) {
+		if (_middleArray == null) {
+			_middleArray = _copyElements(
+				generator, 1, Math.max(_size - 1, 1));
 		}
 
-		return Optional.of(_last);
+		return _middleArray;
 	}
 
 	/**
@@ -107,16 +141,24 @@ public class FunctionalList<E> {
 	 *         and last
 	 */
 	public Stream<E> middleStream() {
-		if (_middle == null) {
-			if (_tail.size() == 0) {
-				_middle = Collections.emptyList();
-			}
-			else {
-				_middle = _tail.subList(0, _tail.size() - 1);
-			}
+		return Arrays.stream(_getElements(), 1, Math.max(_size - 1, 1));
+	}
+
+	/**
+	 * Returns an array with all elements of the list except the first. The
+	 * array is created with the provided generator the first time this method
+	 * is called, and cached afterwards.
+	 *
+	 * @param  generator the function that creates an array of the requested
+	 *         length
+	 * @return the array with all list elements except the first
+	 */
+	public E[] tailArray(IntFunction<E[]> generator) {
+		if (_tailArray == null) {
+			_tailArray = _copyElements(generator, 1, _size);
 		}
 
-		return _middle.stream();
+		return _tailArray;
 	}
 
 	/**
@@ -125,13 +167,45 @@ public class FunctionalList<E> {
 	 * @return a {@code Stream} that contains all list elements except the first
 	 */
 	public Stream<E> tailStream() {
-		return _tail.stream();
+		return Arrays.stream(_getElements(), 1, _size);
+	}
+
+	private E[] _copyElements(IntFunction<E[]> generator, int from, int to) {
+		E[] array = generator.apply(to - from);
+
+		System.arraycopy(_getElements(), from, array, 0, to - from);
+
+		return array;
+	}
+
+	@SuppressWarnings("unchecked")
+	private E[] _getElements() {
+		if (_elements == null) {
+			Object[] elements = new Object[_size];
+
+			FunctionalList<E> functionalList = this;
+
+			for (int i = _size - 1; i >= 0; i--) {
+				elements[i] = functionalList._last;
+
+				functionalList = functionalList._parent;
+			}
+
+			_elements = (E[])elements;
+		}
+
+		return _elements;
 	}
 
+	private E[] _elements;
 	private final E _first;
-	private List<E> _init;
-	private E _last;
-	private List<E> _middle;
-	private final List<E> _tail;
+	private String _joined;
+	private String _joinedDelimiter;
+	private final E _last;
+	private Optional<E> _lastOptional;
+	private E[] _middleArray;
+	private final FunctionalList<E> _parent;
+	private final int _size;
+	private E[] _tailArray;
 
 }
\ No newline at end of file
@@ -17,11 +17,18 @@ package com.liferay.apio.architect.message.json;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import com.liferay.apio.architect.list.FunctionalList;
 
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 /**
@@ -80,6 +87,10 @@ import java.util.stream.Stream;
  */
 public class JSONObjectBuilder {
 
+	public JSONObjectBuilder() {
+		this(new JsonObject());
+	}
+
 	/**
 	 * Returns the JSON object constructed by the JSON object builder.
 	 *
@@ -141,6 +152,42 @@ public class JSONObjectBuilder {
 		return fieldStep;
 	}
 
+	/**
+	 * Returns a JSON object builder that writes directly into the JSON object
+	 * of a nested path. The path is walked by calling {@code biFunction} the
+	 * first time this method is called with a path elements instance; later
+	 * calls with the same instance return the same builder, so all the fields
+	 * of an embedded model can be written without walking the path again.
+	 *
+	 * @param  pathElements the path elements that identify the nested JSON
+	 *         object
+	 * @param  biFunction the function that returns the field step pointing to
+	 *         the nested JSON object, starting from this builder
+	 * @return the builder for the nested JSON object
+	 */
+	public JSONObjectBuilder nestedObject(
+		FunctionalList<String> pathElements,
+		BiFunction<JSONObjectBuilder, FunctionalList<String>, FieldStep>
+			biFunction) {
+
+		if (_nestedJSONObjectBuilders == null) {
+			_nestedJSONObjectBuilders = new IdentityHashMap<>();
+		}
+
+		JSONObjectBuilder jsonObjectBuilder = _nestedJSONObjectBuilders.get(
+			pathElements);
+
+		if (jsonObjectBuilder == null) {
+			FieldStep fieldStep = biFunction.apply(this, pathElements);
+
+			jsonObjectBuilder = fieldStep.objectValue();
+
+			_nestedJSONObjectBuilders.put(pathElements, jsonObjectBuilder);
+		}
+
+		return jsonObjectBuilder;
+	}
+
 	/**
 	 * Begins creating a nested field inside the JSON object, adding a prefix to
 	 * each level.
@@ -292,6 +339,28 @@ public class JSONObjectBuilder {
 			collection.forEach(_jsonArray::add);
 		}
 
+		/**
+		 * Adds all elements of a double array as elements of the JSON array.
+		 *
+		 * @param values the double array to add to the JSON array
+		 */
+		public void addAllNumbers(double[] values) {
+			for (double value : values) {
+				_jsonArray.add(value);
+			}
+		}
+
+		/**
+		 * Adds all elements of a long array as elements of the JSON array.
+		 *
+		 * @param values the long array to add to the JSON array
+		 */
+		public void addAllNumbers(long[] values) {
+			for (long value : values) {
+				_jsonArray.add(_getJsonPrimitive(value));
+			}
+		}
+
 		/**
 		 * Adds all elements of a string collection as elements of the JSON
 		 * array.
@@ -322,6 +391,24 @@ public class JSONObjectBuilder {
 			_jsonArray.add(value);
 		}
 
+		/**
+		 * Adds a new double to the JSON array.
+		 *
+		 * @param value the double to add to the JSON array
+		 */
+		public void addNumber(double value) {
+			_jsonArray.add(value);
+		}
+
+		/**
+		 * Adds a new long to the JSON array.
+		 *
+		 * @param value the long to add to the JSON array
+		 */
+		public void addNumber(long value) {
+			_jsonArray.add(_getJsonPrimitive(value));
+		}
+
 		/**
 		 * Adds a new string to the JSON array.
 		 *
@@ -516,6 +603,46 @@ public class JSONObjectBuilder {
 			_jsonObject.addProperty(_name, value);
 		}
 
+		/**
+		 * Adds a new double to the field.
+		 *
+		 * @param value the double to add to the field
+		 */
+		public void numberValue(double value) {
+			_jsonObject.addProperty(_name, value);
+		}
+
+		/**
+		 * Adds a new long to the field.
+		 *
+		 * @param value the long to add to the field
+		 */
+		public void numberValue(long value) {
+			_jsonObject.add(_name, _getJsonPrimitive(value));
+		}
+
+		/**
+		 * Begins creating a JSON object inside the field, reusing the existing
+		 * one if present.
+		 *
+		 * @return the builder for the field's JSON object
+		 */
+		public JSONObjectBuilder objectValue() {
+			JsonObject jsonObject = Optional.ofNullable(
+				_jsonObject.get(_name)
+			).filter(
+				JsonElement::isJsonObject
+			).map(
+				JsonObject.class::cast
+			).orElseGet(
+				JsonObject::new
+			);
+
+			_jsonObject.add(_name, jsonObject);
+
+			return new JSONObjectBuilder(jsonObject);
+		}
+
 		/**
 		 * Adds a new string to the JSON array.
 		 *
@@ -530,6 +657,33 @@ public class JSONObjectBuilder {
 
 	}
 
-	private final JsonObject _jsonObject = new JsonObject();
+	private JSONObjectBuilder(JsonObject jsonObject) {
+		_jsonObject = jsonObject;
+	}
+
+	private static JsonPrimitive _getJsonPrimitive(long value) {
+		if ((value >= _MIN_SMALL_VALUE) && (value <= _MAX_SMALL_VALUE)) {
+			return _SMALL_JSON_PRIMITIVES[(int)value - _MIN_SMALL_VALUE];
+		}
+
+		return new JsonPrimitive(value);
+	}
+
+	private static final int _MAX_SMALL_VALUE = 1023;
+
+	private static final int _MIN_SMALL_VALUE = -128;
+
+	private static final JsonPrimitive[] _SMALL_JSON_PRIMITIVES =
+		LongStream.rangeClosed(
+			_MIN_SMALL_VALUE, _MAX_SMALL_VALUE
+		).mapToObj(
+			JsonPrimitive::new
+		).toArray(
+			JsonPrimitive[]::new
+		);
+
+	private final JsonObject _jsonObject;
+	private Map<FunctionalList<String>, JSONObjectBuilder>
+		_nestedJSONObjectBuilders;
 
 }
\ No newline at end of file
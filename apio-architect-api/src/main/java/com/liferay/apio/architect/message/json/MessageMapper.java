@@ -14,8 +14,17 @@
 
 package com.liferay.apio.architect.message.json;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import aQute.bnd.annotation.ConsumerType;
 
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
 import javax.ws.rs.core.HttpHeaders;
 
 /**
@@ -63,4 +72,24 @@ public interface MessageMapper<T> {
 		JSONObjectBuilder jsonObjectBuilder, T t, HttpHeaders httpHeaders) {
 	}
 
+	/**
+	 * Serializes the JSON object built by the mapper to the response's body.
+	 * By default, the object is written as JSON text encoded in UTF-8. Mappers
+	 * of binary media types can override this method to encode the same data
+	 * model differently.
+	 *
+	 * @param jsonObject the JSON object built by the mapper
+	 * @param outputStream the stream the message is written to
+	 */
+	public default void serialize(
+			JsonObject jsonObject, OutputStream outputStream)
+		throws IOException {
+
+		Writer writer = new OutputStreamWriter(outputStream, UTF_8);
+
+		writer.write(jsonObject.toString());
+
+		writer.flush();
+	}
+
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import com.liferay.apio.architect.list.FunctionalList;
 import com.liferay.apio.architect.operation.Method;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.TotalCount;
 import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.util.List;
@@ -92,6 +93,20 @@ public interface PageMessageMapper<T> extends MessageMapper<Page<T>> {
 		JSONObjectBuilder jsonObjectBuilder, String url) {
 	}
 
+	/**
+	 * Maps an estimated total number of elements in the collection to its JSON
+	 * object representation. This method is called instead of {@link
+	 * #mapItemTotalCount(JSONObjectBuilder, int)} if the count is an estimate.
+	 * Estimated counts aren't mapped by default.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the page
+	 * @param estimatedTotalCount the estimated number of elements in the
+	 *        collection
+	 */
+	public default void mapEstimatedItemTotalCount(
+		JSONObjectBuilder jsonObjectBuilder, int estimatedTotalCount) {
+	}
+
 	/**
 	 * Maps the first page's URL to its JSON object representation.
 	 *
@@ -146,6 +161,49 @@ public interface PageMessageMapper<T> extends MessageMapper<Page<T>> {
 					itemJSONObjectBuilder, fieldName, value));
 	}
 
+	/**
+	 * Maps a resource's double field to its JSON object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapItemDoubleField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, String fieldName,
+		double value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper -> singleModelMessageMapper.mapDoubleField(
+				itemJSONObjectBuilder, fieldName, value));
+	}
+
+	/**
+	 * Maps a resource's double list field to its JSON object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapItemDoubleListField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, String fieldName,
+		double[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapDoubleListField(
+					itemJSONObjectBuilder, fieldName, value));
+	}
+
 	/**
 	 * Maps an embedded resource's boolean field to its JSON object
 	 * representation.
@@ -198,6 +256,58 @@ public interface PageMessageMapper<T> extends MessageMapper<Page<T>> {
 					value));
 	}
 
+	/**
+	 * Maps an embedded resource's double field to its JSON object
+	 * representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapItemEmbeddedResourceDoubleField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapEmbeddedResourceDoubleField(
+					itemJSONObjectBuilder, embeddedPathElements, fieldName,
+					value));
+	}
+
+	/**
+	 * Maps an embedded resource's double list field to its JSON object
+	 * representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapItemEmbeddedResourceDoubleListField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapEmbeddedResourceDoubleListField(
+					itemJSONObjectBuilder, embeddedPathElements, fieldName,
+					value));
+	}
+
 	/**
 	 * Maps an embedded resource link to its JSON object representation.
 	 *
@@ -223,6 +333,58 @@ public interface PageMessageMapper<T> extends MessageMapper<Page<T>> {
 					url));
 	}
 
+	/**
+	 * Maps an embedded resource's long field to its JSON object
+	 * representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapItemEmbeddedResourceLongField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapEmbeddedResourceLongField(
+					itemJSONObjectBuilder, embeddedPathElements, fieldName,
+					value));
+	}
+
+	/**
+	 * Maps an embedded resource's long list field to its JSON object
+	 * representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapItemEmbeddedResourceLongListField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapEmbeddedResourceLongListField(
+					itemJSONObjectBuilder, embeddedPathElements, fieldName,
+					value));
+	}
+
 	/**
 	 * Maps an embedded resource number field to its JSON object representation.
 	 *
@@ -411,6 +573,49 @@ public interface PageMessageMapper<T> extends MessageMapper<Page<T>> {
 					itemJSONObjectBuilder, embeddedPathElements, url));
 	}
 
+	/**
+	 * Maps a resource's long field to its JSON object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapItemLongField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, String fieldName,
+		long value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper -> singleModelMessageMapper.mapLongField(
+				itemJSONObjectBuilder, fieldName, value));
+	}
+
+	/**
+	 * Maps a resource's long list field to its JSON object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapItemLongListField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, String fieldName,
+		long[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapLongListField(
+					itemJSONObjectBuilder, fieldName, value));
+	}
+
 	/**
 	 * Maps a resource number field to its JSON object representation.
 	 *
@@ -454,6 +659,52 @@ public interface PageMessageMapper<T> extends MessageMapper<Page<T>> {
 					itemJSONObjectBuilder, fieldName, value));
 	}
 
+	/**
+	 * Maps an item operation form's URL to its JSON object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param operationJSONObjectBuilder the JSON object builder for the
+	 *        operation
+	 * @param url the operation form's URL
+	 */
+	public default void mapItemOperationFormURL(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		JSONObjectBuilder operationJSONObjectBuilder, String url) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapOperationFormURL(
+					itemJSONObjectBuilder, operationJSONObjectBuilder, url));
+	}
+
+	/**
+	 * Maps an item operation's method to its JSON object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param operationJSONObjectBuilder the JSON object builder for the
+	 *        operation
+	 * @param method the operation's method
+	 */
+	public default void mapItemOperationMethod(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		JSONObjectBuilder operationJSONObjectBuilder, Method method) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapOperationMethod(
+					itemJSONObjectBuilder, operationJSONObjectBuilder, method));
+	}
+
 	/**
 	 * Maps a resource URL to its JSON object representation.
 	 *
@@ -628,6 +879,33 @@ public interface PageMessageMapper<T> extends MessageMapper<Page<T>> {
 		JSONObjectBuilder jsonObjectBuilder, String url) {
 	}
 
+	/**
+	 * Maps the collection's total count to its JSON object representation. By
+	 * default, this method calculates the count if it's lazy, and calls {@link
+	 * #mapItemTotalCount(JSONObjectBuilder, int)} or {@link
+	 * #mapEstimatedItemTotalCount(JSONObjectBuilder, int)} with its value.
+	 * Mappers that don't need the count should override this method, so lazy
+	 * counts aren't calculated.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the page
+	 * @param totalCount the collection's total count
+	 */
+	public default void mapTotalCount(
+		JSONObjectBuilder jsonObjectBuilder, TotalCount totalCount) {
+
+		Optional<Integer> optional = totalCount.getValueOptional();
+
+		optional.ifPresent(
+			value -> {
+				if (totalCount.isEstimated()) {
+					mapEstimatedItemTotalCount(jsonObjectBuilder, value);
+				}
+				else {
+					mapItemTotalCount(jsonObjectBuilder, value);
+				}
+			});
+	}
+
 	/**
 	 * Finishes the item. This is the final page message mapper method the
 	 * writer calls for the item.
@@ -643,6 +921,31 @@ public interface PageMessageMapper<T> extends MessageMapper<Page<T>> {
 		HttpHeaders httpHeaders) {
 	}
 
+	/**
+	 * Finishes an item operation. This is the final operation-mapper method
+	 * the writer calls for the item operation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param operationJSONObjectBuilder the JSON object builder for the
+	 *        operation
+	 * @param operation the operation
+	 */
+	public default void onFinishItemOperation(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		JSONObjectBuilder operationJSONObjectBuilder, Operation operation) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.onFinishOperation(
+					itemJSONObjectBuilder, operationJSONObjectBuilder,
+					operation));
+	}
+
 	/**
 	 * Finishes the operation. This is the final operation-mapper method the
 	 * writer calls.
@@ -681,6 +984,31 @@ public interface PageMessageMapper<T> extends MessageMapper<Page<T>> {
 		HttpHeaders httpHeaders) {
 	}
 
+	/**
+	 * Starts an item operation. This is the first operation-mapper method the
+	 * writer calls for the item operation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param operationJSONObjectBuilder the JSON object builder for the
+	 *        operation
+	 * @param operation the operation
+	 */
+	public default void onStartItemOperation(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		JSONObjectBuilder operationJSONObjectBuilder, Operation operation) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.onStartOperation(
+					itemJSONObjectBuilder, operationJSONObjectBuilder,
+					operation));
+	}
+
 	/**
 	 * Starts an operation. This is the first operation-mapper method the writer
 	 * calls.
@@ -22,6 +22,10 @@ import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * Maps {@link SingleModel} data to its representation in a JSON object.
@@ -71,6 +75,41 @@ public interface SingleModelMessageMapper<T>
 		List<Boolean> value) {
 	}
 
+	/**
+	 * Maps a resource's double field to its JSON object representation. By
+	 * default, this method delegates to {@link
+	 * #mapNumberField(JSONObjectBuilder, String, Number)}.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapDoubleField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double value) {
+
+		mapNumberField(jsonObjectBuilder, fieldName, value);
+	}
+
+	/**
+	 * Maps a resource's double list field to its JSON object representation.
+	 * By default, this method delegates to {@link
+	 * #mapNumberListField(JSONObjectBuilder, String, List)}.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double[] value) {
+
+		Stream<Double> stream = DoubleStream.of(
+			value
+		).boxed();
+
+		mapNumberListField(
+			jsonObjectBuilder, fieldName, stream.collect(Collectors.toList()));
+	}
+
 	/**
 	 * Maps an embedded resource operation form's URL to its JSON object
 	 * representation.
@@ -133,6 +172,51 @@ public interface SingleModelMessageMapper<T>
 		List<Boolean> value) {
 	}
 
+	/**
+	 * Maps an embedded resource's double field to its JSON object
+	 * representation. By default, this method delegates to {@link
+	 * #mapEmbeddedResourceNumberField(JSONObjectBuilder, FunctionalList,
+	 * String, Number)}.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapEmbeddedResourceDoubleField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double value) {
+
+		mapEmbeddedResourceNumberField(
+			jsonObjectBuilder, embeddedPathElements, fieldName, value);
+	}
+
+	/**
+	 * Maps an embedded resource's double list field to its JSON object
+	 * representation. By default, this method delegates to {@link
+	 * #mapEmbeddedResourceNumberListField(JSONObjectBuilder, FunctionalList,
+	 * String, List)}.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapEmbeddedResourceDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double[] value) {
+
+		Stream<Double> stream = DoubleStream.of(
+			value
+		).boxed();
+
+		mapEmbeddedResourceNumberListField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			stream.collect(Collectors.toList()));
+	}
+
 	/**
 	 * Maps an embedded resource's link to its JSON object representation.
 	 *
@@ -147,6 +231,51 @@ public interface SingleModelMessageMapper<T>
 		String url) {
 	}
 
+	/**
+	 * Maps an embedded resource's long field to its JSON object
+	 * representation. By default, this method delegates to {@link
+	 * #mapEmbeddedResourceNumberField(JSONObjectBuilder, FunctionalList,
+	 * String, Number)}.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapEmbeddedResourceLongField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long value) {
+
+		mapEmbeddedResourceNumberField(
+			jsonObjectBuilder, embeddedPathElements, fieldName, value);
+	}
+
+	/**
+	 * Maps an embedded resource's long list field to its JSON object
+	 * representation. By default, this method delegates to {@link
+	 * #mapEmbeddedResourceNumberListField(JSONObjectBuilder, FunctionalList,
+	 * String, List)}.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapEmbeddedResourceLongListField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long[] value) {
+
+		Stream<Long> stream = LongStream.of(
+			value
+		).boxed();
+
+		mapEmbeddedResourceNumberListField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			stream.collect(Collectors.toList()));
+	}
+
 	/**
 	 * Maps an embedded resource's number field to its JSON object
 	 * representation.
@@ -254,6 +383,41 @@ public interface SingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String url) {
 	}
 
+	/**
+	 * Maps a resource's long field to its JSON object representation. By
+	 * default, this method delegates to {@link
+	 * #mapNumberField(JSONObjectBuilder, String, Number)}.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapLongField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long value) {
+
+		mapNumberField(jsonObjectBuilder, fieldName, value);
+	}
+
+	/**
+	 * Maps a resource's long list field to its JSON object representation. By
+	 * default, this method delegates to {@link
+	 * #mapNumberListField(JSONObjectBuilder, String, List)}.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 */
+	public default void mapLongListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long[] value) {
+
+		Stream<Long> stream = LongStream.of(
+			value
+		).boxed();
+
+		mapNumberListField(
+			jsonObjectBuilder, fieldName, stream.collect(Collectors.toList()));
+	}
+
 	/**
 	 * Maps a resource's number field to its JSON object representation.
 	 *
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.pagination;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Represents a position in a collection that uses keyset pagination. A cursor
+ * points after or before the item with a certain key, so data layers can seek
+ * directly to the requested page with an indexed query, instead of skipping
+ * every previous item.
+ *
+ * <p>
+ * Cursors are sent to clients in an opaque form, created with {@link
+ * #encode()}. Clients shouldn't rely on its contents.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @see    CursorPagination
+ */
+public class Cursor {
+
+	/**
+	 * Returns a cursor pointing after the item with the provided key. If the
+	 * key is {@code null}, the cursor points to the collection's start, so it
+	 * selects the first page.
+	 *
+	 * @param  key the key of the item that precedes the page, or {@code null}
+	 *         to select the first page
+	 * @return the cursor
+	 */
+	public static Cursor after(String key) {
+		return new Cursor(false, key);
+	}
+
+	/**
+	 * Returns a cursor pointing before the item with the provided key. If the
+	 * key is {@code null}, the cursor points to the collection's end, so it
+	 * selects the last page.
+	 *
+	 * @param  key the key of the item that follows the page, or {@code null}
+	 *         to select the last page
+	 * @return the cursor
+	 */
+	public static Cursor before(String key) {
+		return new Cursor(true, key);
+	}
+
+	/**
+	 * Returns the cursor represented by an opaque value created with {@link
+	 * #encode()}, if the value is valid. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @param  value the opaque value
+	 * @return the cursor, if the value is valid; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<Cursor> decode(String value) {
+		return Try.success(
+			value
+		).map(
+			_decoder::decode
+		).map(
+			bytes -> new String(bytes, UTF_8)
+		).filter(
+			string -> string.startsWith(_AFTER) || string.startsWith(_BEFORE)
+		).map(
+			string -> {
+				String key = string.substring(_AFTER.length());
+
+				if (key.isEmpty()) {
+					key = null;
+				}
+
+				return new Cursor(string.startsWith(_BEFORE), key);
+			}
+		).toOptional();
+	}
+
+	/**
+	 * Returns the cursor's opaque value, which can be sent to clients and
+	 * decoded back with {@link #decode(String)}.
+	 *
+	 * @return the cursor's opaque value
+	 */
+	public String encode() {
+		String prefix = _before ? _BEFORE : _AFTER;
+
+		String value = (_key == null) ? prefix : prefix + _key;
+
+		return _encoder.encodeToString(value.getBytes(UTF_8));
+	}
+
+	/**
+	 * Returns the key of the item next to the page, if present. Returns {@code
+	 * Optional#empty()} for a cursor that points to the collection's start or
+	 * end.
+	 *
+	 * @return the key, if present; {@code Optional#empty()} otherwise
+	 */
+	public Optional<String> getKeyOptional() {
+		return Optional.ofNullable(_key);
+	}
+
+	/**
+	 * Returns {@code true} if the cursor points after its key.
+	 *
+	 * @return {@code true} if the cursor points after its key; {@code false}
+	 *         otherwise
+	 */
+	public boolean isAfter() {
+		return !_before;
+	}
+
+	/**
+	 * Returns {@code true} if the cursor points before its key.
+	 *
+	 * @return {@code true} if the cursor points before its key; {@code false}
+	 *         otherwise
+	 */
+	public boolean isBefore() {
+		return _before;
+	}
+
+	private Cursor(boolean before, String key) {
+		_before = before;
+		_key = key;
+	}
+
+	private static final String _AFTER = "a:";
+
+	private static final String _BEFORE = "b:";
+
+	private static final Base64.Decoder _decoder = Base64.getUrlDecoder();
+	private static final Base64.Encoder _encoder =
+		Base64.getUrlEncoder().withoutPadding();
+
+	private final boolean _before;
+	private final String _key;
+
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.pagination;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Provides the information needed to construct a valid {@link Page} for a
+ * collection that uses keyset pagination. Besides the page's items, instances
+ * of this class contain the cursors of the previous and next pages, which are
+ * used to create the page's links.
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ * @see    CursorPagination
+ */
+public class CursorPageItems<T> extends PageItems<T> {
+
+	/**
+	 * Creates the page items of a collection that uses keyset pagination.
+	 *
+	 * @param items the page's items
+	 * @param totalCount the total number of elements in the collection
+	 * @param cursorPagination the requested cursor pagination
+	 * @param previousCursor the cursor of the previous page, or {@code null}
+	 *        if this is the first page
+	 * @param nextCursor the cursor of the next page, or {@code null} if this
+	 *        is the last page
+	 */
+	public CursorPageItems(
+		Collection<T> items, int totalCount, CursorPagination cursorPagination,
+		Cursor previousCursor, Cursor nextCursor) {
+
+		this(
+			items, TotalCount.exact(totalCount), cursorPagination,
+			previousCursor, nextCursor);
+	}
+
+	/**
+	 * Creates the page items of a collection that uses keyset pagination and
+	 * whose total count may be estimated, lazily calculated, or unknown.
+	 *
+	 * @param items the page's items
+	 * @param total the total number of elements in the collection
+	 * @param cursorPagination the requested cursor pagination
+	 * @param previousCursor the cursor of the previous page, or {@code null}
+	 *        if this is the first page
+	 * @param nextCursor the cursor of the next page, or {@code null} if this
+	 *        is the last page
+	 */
+	public CursorPageItems(
+		Collection<T> items, TotalCount total,
+		CursorPagination cursorPagination, Cursor previousCursor,
+		Cursor nextCursor) {
+
+		super(items, total);
+
+		_cursorPagination = cursorPagination;
+		_previousCursor = previousCursor;
+		_nextCursor = nextCursor;
+	}
+
+	@Override
+	public Optional<CursorPagination> getCursorPaginationOptional() {
+		return Optional.of(_cursorPagination);
+	}
+
+	@Override
+	public Optional<Cursor> getNextCursorOptional() {
+		return Optional.ofNullable(_nextCursor);
+	}
+
+	@Override
+	public Optional<Cursor> getPreviousCursorOptional() {
+		return Optional.ofNullable(_previousCursor);
+	}
+
+	private final CursorPagination _cursorPagination;
+	private final Cursor _nextCursor;
+	private final Cursor _previousCursor;
+
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.pagination;
+
+import java.util.Optional;
+
+/**
+ * Defines keyset pagination for a collection endpoint. An instance of this
+ * class is handed to resources that handle cursor pagination parameters,
+ * alongside {@link Pagination}.
+ *
+ * <p>
+ * Resources using this class should seek to the position indicated by the
+ * {@link Cursor}, if present, and return the page's items in a {@link
+ * CursorPageItems} that contains the cursors of the previous and next pages. If
+ * the cursor isn't present, the first page should be returned.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @see    Cursor
+ */
+public class CursorPagination {
+
+	public CursorPagination(int itemsPerPage, Cursor cursor) {
+		_itemsPerPage = itemsPerPage;
+		_cursor = cursor;
+	}
+
+	/**
+	 * Returns the requested page's cursor, if present. Returns {@code
+	 * Optional#empty()} if the first page is requested.
+	 *
+	 * @return the requested page's cursor, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Cursor> getCursorOptional() {
+		return Optional.ofNullable(_cursor);
+	}
+
+	/**
+	 * Returns the selected number of items per page.
+	 *
+	 * @return the selected number of items per page
+	 */
+	public int getItemsPerPage() {
+		return _itemsPerPage;
+	}
+
+	private final Cursor _cursor;
+	private final int _itemsPerPage;
+
+}
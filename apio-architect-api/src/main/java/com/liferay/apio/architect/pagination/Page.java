@@ -20,8 +20,11 @@ import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.uri.Path;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Represents a page in a collection. Writers can use instances of this
@@ -48,21 +51,99 @@ public class Page<T> {
 
 		_resourceName = resourceName;
 
-		_items = pageItems.getItems();
+		_pageItems = pageItems;
 		_itemsPerPage = pagination.getItemsPerPage();
 		_pageNumber = pagination.getPageNumber();
-		_totalCount = pageItems.getTotalCount();
+		_total = pageItems.getTotal();
 		_path = path;
 		_operations = operations;
+
+		Optional<CursorPagination> optional =
+			pageItems.getCursorPaginationOptional();
+
+		_cursorBased = optional.isPresent();
+
+		_currentCursor = optional.flatMap(
+			CursorPagination::getCursorOptional
+		).orElse(
+			null
+		);
+
+		_nextCursor = pageItems.getNextCursorOptional(
+		).orElse(
+			null
+		);
+		_previousCursor = pageItems.getPreviousCursorOptional(
+		).orElse(
+			null
+		);
 	}
 
 	/**
-	 * Returns the page's items.
+	 * Returns the cursor used to obtain the page, if the collection uses keyset
+	 * pagination and the page isn't the first one. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the page's cursor, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<Cursor> getCurrentCursorOptional() {
+		return Optional.ofNullable(_currentCursor);
+	}
+
+	/**
+	 * Performs an action for each of the page's items. If the page's items are
+	 * obtained incrementally, each item is pulled from its source right before
+	 * the action is performed, and the source is closed afterwards.
+	 *
+	 * @param consumer the action to perform for each item
+	 * @see   StreamPageItems
+	 */
+	public void forEachItem(Consumer<T> consumer) {
+		int count = 0;
+
+		try (Stream<T> stream = _pageItems.getItemsStream()) {
+			Iterator<T> iterator = stream.iterator();
+
+			while (iterator.hasNext()) {
+				consumer.accept(iterator.next());
+
+				count++;
+			}
+		}
+
+		_itemsCount = count;
+	}
+
+	/**
+	 * Returns the page's items. If the page's items are obtained
+	 * incrementally, this method collects them first, so it must be called
+	 * before {@link #forEachItem(Consumer)}.
 	 *
 	 * @return the page's items
+	 * @throws IllegalStateException if the page's items are obtained
+	 *         incrementally and have already been consumed by {@link
+	 *         #forEachItem(Consumer)}
 	 */
 	public Collection<T> getItems() {
-		return _items;
+		return _pageItems.getItems();
+	}
+
+	/**
+	 * Returns the number of items in the page. If the page's items are obtained
+	 * incrementally and {@link #forEachItem(Consumer)} hasn't been called yet,
+	 * this method collects them first.
+	 *
+	 * @return the number of items in the page
+	 */
+	public int getItemsCount() {
+		if (_itemsCount != null) {
+			return _itemsCount;
+		}
+
+		Collection<T> items = getItems();
+
+		return items.size();
 	}
 
 	/**
@@ -75,16 +156,44 @@ public class Page<T> {
 	}
 
 	/**
-	 * Returns the number of the collection's last page.
+	 * Returns the number of the collection's last page. If the total count
+	 * isn't exact, or it's lazy and hasn't been calculated yet, this method
+	 * returns the last page number known so far: the next page's number if
+	 * this page is full, or this page's number otherwise. This method never
+	 * calculates a lazy count.
 	 *
 	 * @return the number of the collection's last page
 	 */
 	public int getLastPageNumber() {
-		if (_totalCount == 0) {
+		Optional<Integer> optional = _getExactTotalCountOptional();
+
+		if (!optional.isPresent()) {
+			if (getItemsCount() >= _itemsPerPage) {
+				return _pageNumber + 1;
+			}
+
+			return _pageNumber;
+		}
+
+		int totalCount = optional.get();
+
+		if (totalCount == 0) {
 			return 1;
 		}
 
-		return -Math.floorDiv(-_totalCount, _itemsPerPage);
+		return -Math.floorDiv(-totalCount, _itemsPerPage);
+	}
+
+	/**
+	 * Returns the cursor of the next page, if the collection uses keyset
+	 * pagination and another page follows this one. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the cursor of the next page, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Cursor> getNextCursorOptional() {
+		return Optional.ofNullable(_nextCursor);
 	}
 
 	/**
@@ -115,6 +224,18 @@ public class Page<T> {
 		return Optional.ofNullable(_path);
 	}
 
+	/**
+	 * Returns the cursor of the previous page, if the collection uses keyset
+	 * pagination and another page precedes this one. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the cursor of the previous page, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Cursor> getPreviousCursorOptional() {
+		return Optional.ofNullable(_previousCursor);
+	}
+
 	/**
 	 * Returns the resource's name.
 	 *
@@ -125,21 +246,71 @@ public class Page<T> {
 	}
 
 	/**
-	 * Returns the total number of elements in the collection.
+	 * Returns the collection's total count, without calculating it if it's
+	 * lazy.
+	 *
+	 * @return the collection's total count
+	 */
+	public TotalCount getTotal() {
+		return _total;
+	}
+
+	/**
+	 * Returns the total number of elements in the collection. If the count is
+	 * lazy, this method calculates it. If the count is unknown, this method
+	 * returns {@code 0}.
 	 *
 	 * @return the total number of elements in the collection
 	 */
 	public int getTotalCount() {
-		return _totalCount;
+		Optional<Integer> optional = getTotalCountOptional();
+
+		return optional.orElse(0);
+	}
+
+	/**
+	 * Returns the total number of elements in the collection, if known.
+	 * Returns {@code Optional#empty()} otherwise. If the count is lazy, this
+	 * method calculates it.
+	 *
+	 * @return the total number of elements, if known; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Integer> getTotalCountOptional() {
+		return _total.getValueOptional();
+	}
+
+	/**
+	 * Returns {@code true} if a link to the collection's last page can be
+	 * created. This happens if the collection uses keyset pagination, or if
+	 * its total count is exact and already known. This method never
+	 * calculates a lazy count.
+	 *
+	 * @return {@code true} if the last page can be linked; {@code false}
+	 *         otherwise
+	 */
+	public boolean hasLast() {
+		Optional<Integer> optional = _getExactTotalCountOptional();
+
+		if (_cursorBased || optional.isPresent()) {
+			return true;
+		}
+
+		return false;
 	}
 
 	/**
 	 * Returns {@code true} if another page follows this page in the collection.
+	 * This method never calculates a lazy count.
 	 *
 	 * @return {@code true} if another page follows this page in the collection;
 	 *         {@code false} otherwise
 	 */
 	public boolean hasNext() {
+		if (_cursorBased) {
+			return _nextCursor != null;
+		}
+
 		if (getLastPageNumber() > _pageNumber) {
 			return true;
 		}
@@ -155,6 +326,10 @@ public class Page<T> {
 	 *         collection; {@code false} otherwise
 	 */
 	public boolean hasPrevious() {
+		if (_cursorBased) {
+			return _previousCursor != null;
+		}
+
 		if (_pageNumber > 1) {
 			return true;
 		}
@@ -162,12 +337,46 @@ public class Page<T> {
 		return false;
 	}
 
-	private final Collection<T> _items;
+	/**
+	 * Returns {@code true} if the collection uses keyset pagination. In that
+	 * case, pages are identified by cursors instead of page numbers.
+	 *
+	 * @return {@code true} if the collection uses keyset pagination; {@code
+	 *         false} otherwise
+	 */
+	public boolean isCursorBased() {
+		return _cursorBased;
+	}
+
+	/**
+	 * Returns {@code true} if the collection's total count is an estimate.
+	 *
+	 * @return {@code true} if the total count is an estimate; {@code false}
+	 *         otherwise
+	 */
+	public boolean isTotalCountEstimated() {
+		return _total.isEstimated();
+	}
+
+	private Optional<Integer> _getExactTotalCountOptional() {
+		if (_total.isEstimated()) {
+			return Optional.empty();
+		}
+
+		return _total.getCalculatedValueOptional();
+	}
+
+	private final Cursor _currentCursor;
+	private final boolean _cursorBased;
+	private Integer _itemsCount;
 	private final int _itemsPerPage;
+	private final Cursor _nextCursor;
 	private final List<Operation> _operations;
+	private final PageItems<T> _pageItems;
 	private final int _pageNumber;
 	private final Path _path;
+	private final Cursor _previousCursor;
 	private final String _resourceName;
-	private final int _totalCount;
+	private final TotalCount _total;
 
 }
\ No newline at end of file
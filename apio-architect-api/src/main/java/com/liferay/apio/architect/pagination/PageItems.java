@@ -15,6 +15,8 @@
 package com.liferay.apio.architect.pagination;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Provides the information needed by {@link
@@ -27,8 +29,32 @@ import java.util.Collection;
 public class PageItems<T> {
 
 	public PageItems(Collection<T> items, int totalCount) {
+		this(items, TotalCount.exact(totalCount));
+	}
+
+	/**
+	 * Creates the page items of a collection whose total count may be
+	 * estimated, lazily calculated, or unknown.
+	 *
+	 * @param items the page's items
+	 * @param total the total number of elements in the collection
+	 */
+	public PageItems(Collection<T> items, TotalCount total) {
 		_items = items;
-		_totalCount = totalCount;
+		_total = total;
+	}
+
+	/**
+	 * Returns the cursor pagination used to obtain the items, if the
+	 * collection uses keyset pagination. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @return the cursor pagination, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @see    CursorPageItems
+	 */
+	public Optional<CursorPagination> getCursorPaginationOptional() {
+		return Optional.empty();
 	}
 
 	/**
@@ -41,15 +67,64 @@ public class PageItems<T> {
 	}
 
 	/**
-	 * Returns the total number of elements in the collection.
+	 * Returns a stream of the page's items. The stream must be closed after
+	 * being consumed, so the resources held by the items' source are released.
+	 *
+	 * @return the stream of the page's items
+	 * @see    StreamPageItems
+	 */
+	public Stream<T> getItemsStream() {
+		return _items.stream();
+	}
+
+	/**
+	 * Returns the cursor of the next page, if the collection uses keyset
+	 * pagination and another page follows this one. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the cursor of the next page, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Cursor> getNextCursorOptional() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the cursor of the previous page, if the collection uses keyset
+	 * pagination and another page precedes this one. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the cursor of the previous page, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Cursor> getPreviousCursorOptional() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the total number of elements in the collection, which can be
+	 * exact, estimated, lazily calculated, or unknown.
+	 *
+	 * @return the total number of elements in the collection
+	 */
+	public TotalCount getTotal() {
+		return _total;
+	}
+
+	/**
+	 * Returns the total number of elements in the collection. If the count is
+	 * lazy, this method calculates it. If the count is unknown, this method
+	 * returns {@code 0}.
 	 *
 	 * @return the total number of elements in the collection
 	 */
 	public int getTotalCount() {
-		return _totalCount;
+		Optional<Integer> optional = _total.getValueOptional();
+
+		return optional.orElse(0);
 	}
 
 	private final Collection<T> _items;
-	private final int _totalCount;
+	private final TotalCount _total;
 
 }
\ No newline at end of file
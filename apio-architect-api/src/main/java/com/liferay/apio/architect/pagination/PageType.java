@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.pagination;
 
+import java.util.Optional;
+
 /**
  * Represents the different types of pages.
  *
@@ -23,13 +25,51 @@ public enum PageType {
 
 	CURRENT, FIRST, LAST, NEXT, PREVIOUS;
 
+	/**
+	 * Returns the corresponding cursor for a certain page type, if the page
+	 * uses keyset pagination. Returns {@code Optional#empty()} if the page type
+	 * points to the collection's first page, which doesn't need a cursor.
+	 *
+	 * @param  page the original page
+	 * @return the cursor for the page type, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Cursor> getCursorOptional(Page<?> page) {
+		if (this == FIRST) {
+			return Optional.empty();
+		}
+
+		if (this == LAST) {
+			return Optional.of(Cursor.before(null));
+		}
+
+		Optional<Cursor> currentCursorOptional =
+			page.getCurrentCursorOptional();
+
+		if (this == CURRENT) {
+			return currentCursorOptional;
+		}
+		else if (this == PREVIOUS) {
+			return page.getPreviousCursorOptional();
+		}
+		else {
+			Optional<Cursor> nextCursorOptional = page.getNextCursorOptional();
+
+			if (nextCursorOptional.isPresent()) {
+				return nextCursorOptional;
+			}
+
+			return currentCursorOptional;
+		}
+	}
+
 	/**
 	 * Returns the corresponding page number for a certain page type.
 	 *
 	 * @param  page the original page
 	 * @return the page number for the page type
 	 */
-	public Integer getPageNumber(Page page) {
+	public Integer getPageNumber(Page<?> page) {
 		if (this == FIRST) {
 			return 1;
 		}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.pagination;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Provides the information needed to construct a valid {@link Page} whose
+ * items are obtained incrementally, for example, from a database cursor.
+ * Writers pull the items one at a time, so the models don't need to be
+ * collected into a list first, and the cursor is released as soon as the last
+ * item is written.
+ *
+ * <p>
+ * The page's JSON document is still built in memory before it's sent, so the
+ * memory a page needs still grows with the number of items per page. To send a
+ * large collection with bounded memory, use the {@code /export/{name}}
+ * endpoint, which writes each item as soon as it's pulled.
+ * </p>
+ *
+ * <p>
+ * The stream is closed after the page is written, so its close handlers (e.g.,
+ * the handler that releases the database cursor) are run. If {@link
+ * #getItems()} is called before the page is written, the items are collected
+ * into a list and the stream is closed right away.
+ * </p>
+ *
+ * <p>
+ * The stream can only be consumed once. After the items have been streamed
+ * (e.g., by {@link Page#forEachItem(java.util.function.Consumer)}), they
+ * aren't available anymore, so calling {@link #getItems()} or {@link
+ * #getItemsStream()} throws an {@code IllegalStateException}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ */
+public class StreamPageItems<T> extends PageItems<T> {
+
+	/**
+	 * Creates the page items from an iterator. The close hook is run once the
+	 * items are consumed.
+	 *
+	 * @param iterator the iterator of the page's items
+	 * @param closeHook the hook that releases the iterator's resources
+	 * @param total the total number of elements in the collection
+	 */
+	public StreamPageItems(
+		Iterator<T> iterator, Runnable closeHook, TotalCount total) {
+
+		this(
+			StreamSupport.stream(
+				Spliterators.spliteratorUnknownSize(
+					iterator, Spliterator.ORDERED),
+				false
+			).onClose(
+				closeHook
+			),
+			total);
+	}
+
+	/**
+	 * Creates the page items from a stream. The stream's close handlers are
+	 * run once the items are consumed.
+	 *
+	 * @param stream the stream of the page's items
+	 * @param total the total number of elements in the collection
+	 */
+	public StreamPageItems(Stream<T> stream, TotalCount total) {
+		super(null, total);
+
+		_stream = stream;
+	}
+
+	/**
+	 * Returns the page's items. This method consumes and closes the stream,
+	 * collecting its items into a list, if the stream hasn't been consumed yet.
+	 *
+	 * @return the page's items
+	 * @throws IllegalStateException if the items have already been streamed
+	 */
+	@Override
+	public Collection<T> getItems() {
+		if (_list == null) {
+			try (Stream<T> stream = getItemsStream()) {
+				_list = stream.collect(Collectors.toList());
+			}
+		}
+
+		return _list;
+	}
+
+	/**
+	 * Returns the stream of the page's items. If the items have been collected
+	 * by {@link #getItems()}, the stream is created from the collected list.
+	 *
+	 * @return the stream of the page's items
+	 * @throws IllegalStateException if the items have already been streamed
+	 */
+	@Override
+	public Stream<T> getItemsStream() {
+		if (_list != null) {
+			return _list.stream();
+		}
+
+		if (_streamed) {
+			throw new IllegalStateException(
+				"The page's items have already been streamed");
+		}
+
+		_streamed = true;
+
+		return _stream;
+	}
+
+	private List<T> _list;
+	private final Stream<T> _stream;
+	private boolean _streamed;
+
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.pagination;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Represents the total number of elements in a collection. The count can be
+ * exact, estimated, lazily calculated, or unknown, so data layers don't need to
+ * perform an expensive count query for every page.
+ *
+ * <p>
+ * Lazy counts are calculated at most once, the first time their value is
+ * requested.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @see    PageItems
+ */
+public class TotalCount {
+
+	/**
+	 * Returns an estimated total count. Writers don't use estimated counts to
+	 * calculate the collection's last page.
+	 *
+	 * @param  value the estimated number of elements in the collection
+	 * @return the estimated total count
+	 */
+	public static TotalCount estimated(int value) {
+		return new TotalCount(Optional.of(value), true);
+	}
+
+	/**
+	 * Returns an exact total count.
+	 *
+	 * @param  value the number of elements in the collection
+	 * @return the exact total count
+	 */
+	public static TotalCount exact(int value) {
+		return new TotalCount(Optional.of(value), false);
+	}
+
+	/**
+	 * Returns an exact total count that is only calculated if its value is
+	 * needed.
+	 *
+	 * @param  supplier the supplier that calculates the number of elements in
+	 *         the collection
+	 * @return the lazy total count
+	 */
+	public static TotalCount lazy(Supplier<Integer> supplier) {
+		return new TotalCount(supplier);
+	}
+
+	/**
+	 * Returns a total count for a collection whose number of elements is
+	 * unknown.
+	 *
+	 * @return the unknown total count
+	 */
+	public static TotalCount unknown() {
+		return new TotalCount(Optional.empty(), false);
+	}
+
+	/**
+	 * Returns the number of elements in the collection, if it's known without
+	 * calculating it. Returns {@code Optional#empty()} if the count is unknown,
+	 * or if it's lazy and hasn't been calculated yet.
+	 *
+	 * @return the number of elements, if already known; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Integer> getCalculatedValueOptional() {
+		Optional<Integer> optional = _valueOptional;
+
+		if (optional == null) {
+			return Optional.empty();
+		}
+
+		return optional;
+	}
+
+	/**
+	 * Returns the number of elements in the collection, if known. Returns
+	 * {@code Optional#empty()} otherwise. If the count is lazy, this method
+	 * calculates it.
+	 *
+	 * @return the number of elements, if known; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<Integer> getValueOptional() {
+		Optional<Integer> optional = _valueOptional;
+
+		if (optional == null) {
+			synchronized (this) {
+				if (_valueOptional == null) {
+					_valueOptional = Optional.ofNullable(_supplier.get());
+				}
+
+				optional = _valueOptional;
+			}
+		}
+
+		return optional;
+	}
+
+	/**
+	 * Returns {@code true} if the count is an estimate.
+	 *
+	 * @return {@code true} if the count is an estimate; {@code false}
+	 *         otherwise
+	 */
+	public boolean isEstimated() {
+		return _estimated;
+	}
+
+	/**
+	 * Returns {@code true} if the count is lazy, so it's only calculated if
+	 * its value is requested.
+	 *
+	 * @return {@code true} if the count is lazy; {@code false} otherwise
+	 */
+	public boolean isLazy() {
+		return _supplier != null;
+	}
+
+	private TotalCount(Optional<Integer> valueOptional, boolean estimated) {
+		_valueOptional = valueOptional;
+		_estimated = estimated;
+
+		_supplier = null;
+	}
+
+	private TotalCount(Supplier<Integer> supplier) {
+		_supplier = supplier;
+
+		_estimated = false;
+	}
+
+	private final boolean _estimated;
+	private final Supplier<Integer> _supplier;
+	private volatile Optional<Integer> _valueOptional;
+
+}
@@ -21,7 +21,9 @@ import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.language.Language;
 import com.liferay.apio.architect.related.RelatedModel;
+import com.liferay.apio.architect.representor.function.DoubleFieldFunction;
 import com.liferay.apio.architect.representor.function.FieldFunction;
+import com.liferay.apio.architect.representor.function.LongFieldFunction;
 import com.liferay.apio.architect.representor.function.NestedFieldFunction;
 import com.liferay.apio.architect.unsafe.Unsafe;
 
@@ -35,6 +37,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Base class for {@code Representors}.
@@ -114,6 +119,32 @@ public abstract class BaseRepresentor<T> {
 		);
 	}
 
+	/**
+	 * Returns the list containing the double field names and the functions to
+	 * get those fields.
+	 *
+	 * @return the list containing the double field names and functions
+	 */
+	public List<DoubleFieldFunction<T>> getDoubleFunctions() {
+		return doubleFieldFunctions;
+	}
+
+	/**
+	 * Returns the list containing the double list field names and the functions
+	 * to get those fields.
+	 *
+	 * @return the list containing the double list field names and functions
+	 */
+	public List<FieldFunction<T, double[]>> getDoubleListFunctions() {
+		return Optional.ofNullable(
+			fieldFunctions.get("DOUBLE_LIST")
+		).<List<FieldFunction<T, double[]>>>map(
+			Unsafe::unsafeCast
+		).orElseGet(
+			Collections::emptyList
+		);
+	}
+
 	/**
 	 * Returns the list containing the links field names and the functions to
 	 * get those links.
@@ -149,6 +180,32 @@ public abstract class BaseRepresentor<T> {
 		);
 	}
 
+	/**
+	 * Returns the list containing the long field names and the functions to get
+	 * those fields.
+	 *
+	 * @return the list containing the long field names and functions
+	 */
+	public List<LongFieldFunction<T>> getLongFunctions() {
+		return longFieldFunctions;
+	}
+
+	/**
+	 * Returns the list containing the long list field names and the functions
+	 * to get those fields.
+	 *
+	 * @return the list containing the long list field names and functions
+	 */
+	public List<FieldFunction<T, long[]>> getLongListFunctions() {
+		return Optional.ofNullable(
+			fieldFunctions.get("LONG_LIST")
+		).<List<FieldFunction<T, long[]>>>map(
+			Unsafe::unsafeCast
+		).orElseGet(
+			Collections::emptyList
+		);
+	}
+
 	/**
 	 * Returns the list of nested field functions.
 	 *
@@ -252,7 +309,9 @@ public abstract class BaseRepresentor<T> {
 
 	protected BaseRepresentor() {
 		binaryFunctions = new LinkedHashMap<>();
+		doubleFieldFunctions = new ArrayList<>();
 		fieldFunctions = new LinkedHashMap<>();
+		longFieldFunctions = new ArrayList<>();
 		nestedFieldFunctions = new ArrayList<>();
 		relatedModels = new ArrayList<>();
 		types = new ArrayList<>();
@@ -299,6 +358,30 @@ public abstract class BaseRepresentor<T> {
 		_addFieldFunction(key, function, "BOOLEAN_LIST");
 	}
 
+	/**
+	 * Adds a double function to the {@code Representor}.
+	 *
+	 * @param  key the field's name
+	 * @param  function the function used to get the double
+	 * @review
+	 */
+	protected void addDoubleFunction(String key, ToDoubleFunction<T> function) {
+		doubleFieldFunctions.add(new DoubleFieldFunction<>(key, function));
+	}
+
+	/**
+	 * Adds a double list function to the {@code Representor}.
+	 *
+	 * @param  key the field's name
+	 * @param  function the function used to get the double array
+	 * @review
+	 */
+	protected void addDoubleListFunction(
+		String key, Function<T, double[]> function) {
+
+		_addFieldFunction(key, function, "DOUBLE_LIST");
+	}
+
 	/**
 	 * Adds a language function to the {@code Representor}.
 	 *
@@ -323,6 +406,30 @@ public abstract class BaseRepresentor<T> {
 		_addFieldFunction(key, function, "LINK");
 	}
 
+	/**
+	 * Adds a long function to the {@code Representor}.
+	 *
+	 * @param  key the field's name
+	 * @param  function the function used to get the long
+	 * @review
+	 */
+	protected void addLongFunction(String key, ToLongFunction<T> function) {
+		longFieldFunctions.add(new LongFieldFunction<>(key, function));
+	}
+
+	/**
+	 * Adds a long list function to the {@code Representor}.
+	 *
+	 * @param  key the field's name
+	 * @param  function the function used to get the long array
+	 * @review
+	 */
+	protected void addLongListFunction(
+		String key, Function<T, long[]> function) {
+
+		_addFieldFunction(key, function, "LONG_LIST");
+	}
+
 	/**
 	 * Adds a nested field to the {@code Representor}.
 	 *
@@ -426,7 +533,9 @@ public abstract class BaseRepresentor<T> {
 	}
 
 	protected final Map<String, BinaryFunction<T>> binaryFunctions;
+	protected final List<DoubleFieldFunction<T>> doubleFieldFunctions;
 	protected final Map<String, List<FieldFunction<T, ?>>> fieldFunctions;
+	protected final List<LongFieldFunction<T>> longFieldFunctions;
 	protected final List<NestedFieldFunction<T, ?>> nestedFieldFunctions;
 	protected final List<RelatedModel<T, ?>> relatedModels;
 	protected final List<String> types;
@@ -516,6 +625,49 @@ public abstract class BaseRepresentor<T> {
 				return _this;
 			}
 
+			/**
+			 * Adds information about a resource's double field. Unlike {@link
+			 * #addNumber(String, Function)}, the value is never boxed.
+			 *
+			 * @param  key the field's name
+			 * @param  function the function used to get the double's value
+			 * @return the builder's step
+			 */
+			public U addDouble(String key, ToDoubleFunction<T> function) {
+				baseRepresentor.addDoubleFunction(key, function);
+
+				return _this;
+			}
+
+			/**
+			 * Adds information about a resource's double list field. Unlike
+			 * {@link #addNumberList(String, Function)}, the values are never
+			 * boxed.
+			 *
+			 * @param  key the field's name
+			 * @param  function the function used to get the double array
+			 * @return the builder's step
+			 */
+			public U addDoubleList(String key, Function<T, double[]> function) {
+				baseRepresentor.addDoubleListFunction(key, function);
+
+				return _this;
+			}
+
+			/**
+			 * Adds information about a resource's int field. The value is
+			 * written as a long, without boxing it.
+			 *
+			 * @param  key the field's name
+			 * @param  function the function used to get the int's value
+			 * @return the builder's step
+			 */
+			public U addInt(String key, ToIntFunction<T> function) {
+				baseRepresentor.addLongFunction(key, function::applyAsInt);
+
+				return _this;
+			}
+
 			/**
 			 * Adds information about a resource link.
 			 *
@@ -580,6 +732,35 @@ public abstract class BaseRepresentor<T> {
 						t, language.getPreferredLocale()));
 			}
 
+			/**
+			 * Adds information about a resource's long field. Unlike {@link
+			 * #addNumber(String, Function)}, the value is never boxed.
+			 *
+			 * @param  key the field's name
+			 * @param  function the function used to get the long's value
+			 * @return the builder's step
+			 */
+			public U addLong(String key, ToLongFunction<T> function) {
+				baseRepresentor.addLongFunction(key, function);
+
+				return _this;
+			}
+
+			/**
+			 * Adds information about a resource's long list field. Unlike
+			 * {@link #addNumberList(String, Function)}, the values are never
+			 * boxed.
+			 *
+			 * @param  key the field's name
+			 * @param  function the function used to get the long array
+			 * @return the builder's step
+			 */
+			public U addLongList(String key, Function<T, long[]> function) {
+				baseRepresentor.addLongListFunction(key, function);
+
+				return _this;
+			}
+
 			/**
 			 * Provides information about a nested field.
 			 *
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.request;
+
+import com.liferay.apio.architect.exception.DeadlineExceededException;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Represents the instant after which the result of a request is no longer
+ * useful, because the client (or a proxy in between) has already given up on
+ * it.
+ *
+ * <p>
+ * Resources can receive a {@code Deadline} as a parameter in the methods of
+ * the different routes builders, and check it with {@link #check()} between
+ * expensive steps. Apio's writers check the request's deadline between
+ * collection items and before fetching related models, so an expired request
+ * stops early instead of keeping a thread busy.
+ * </p>
+ *
+ * <p>
+ * Requests without a deadline use {@link #NONE}, which never expires.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class Deadline {
+
+	/**
+	 * The deadline of requests that don't have one. It never expires.
+	 */
+	public static final Deadline NONE = new Deadline(0, false);
+
+	/**
+	 * Creates a deadline that expires after a timeout, counted from now.
+	 *
+	 * @param  timeout the timeout
+	 * @param  timeUnit the timeout's unit
+	 * @return the deadline
+	 */
+	public static Deadline after(long timeout, TimeUnit timeUnit) {
+		long expirationNanos = System.nanoTime() + timeUnit.toNanos(timeout);
+
+		return new Deadline(expirationNanos, true);
+	}
+
+	/**
+	 * Returns the deadline attached to a request, or {@link #NONE} if the
+	 * request doesn't have one.
+	 *
+	 * @param  httpServletRequest the request
+	 * @return the request's deadline, if present; {@code NONE} otherwise
+	 */
+	public static Deadline getDeadline(HttpServletRequest httpServletRequest) {
+		if (httpServletRequest == null) {
+			return NONE;
+		}
+
+		Object deadline = httpServletRequest.getAttribute(_ATTRIBUTE_NAME);
+
+		if (deadline instanceof Deadline) {
+			return (Deadline)deadline;
+		}
+
+		return NONE;
+	}
+
+	/**
+	 * Attaches this deadline to a request, so the request's writers check it.
+	 *
+	 * @param httpServletRequest the request
+	 */
+	public void attach(HttpServletRequest httpServletRequest) {
+		httpServletRequest.setAttribute(_ATTRIBUTE_NAME, this);
+	}
+
+	/**
+	 * Throws a {@link DeadlineExceededException} if this deadline has expired.
+	 */
+	public void check() {
+		if (isExpired()) {
+			throw new DeadlineExceededException();
+		}
+	}
+
+	/**
+	 * Returns the time left before this deadline expires, in nanoseconds.
+	 *
+	 * @return the time left, which is negative if the deadline has expired,
+	 *         or {@code Long.MAX_VALUE} if this is {@link #NONE}
+	 */
+	public long getRemainingNanos() {
+		if (!_present) {
+			return Long.MAX_VALUE;
+		}
+
+		return _expirationNanos - System.nanoTime();
+	}
+
+	/**
+	 * Returns {@code true} if this deadline has expired.
+	 *
+	 * @return {@code true} if this deadline has expired; {@code false}
+	 *         otherwise
+	 */
+	public boolean isExpired() {
+		if (!_present) {
+			return false;
+		}
+
+		return getRemainingNanos() <= 0;
+	}
+
+	private Deadline(long expirationNanos, boolean present) {
+		_expirationNanos = expirationNanos;
+		_present = present;
+	}
+
+	private static final String _ATTRIBUTE_NAME = Deadline.class.getName();
+
+	private final long _expirationNanos;
+	private final boolean _present;
+
+}
\ No newline at end of file
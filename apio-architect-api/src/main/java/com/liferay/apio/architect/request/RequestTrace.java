@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.request;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Records how long each phase of a request takes. Spans with the same name are
+ * added together, so a phase that runs many times per request (for example,
+ * resolving related models) is reported as a single span.
+ *
+ * <p>
+ * Tracing is opt-in: a trace is only recorded if one has been attached to the
+ * request with {@link #attach(HttpServletRequest)}. Otherwise, {@link
+ * #getRequestTrace(HttpServletRequest)} returns {@link #DISABLED}, whose spans
+ * do nothing, so instrumented code doesn't have to check whether tracing is
+ * enabled.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class RequestTrace {
+
+	/**
+	 * The trace returned for requests that aren't being traced. It doesn't
+	 * record any span.
+	 */
+	public static final RequestTrace DISABLED = new RequestTrace(false);
+
+	/**
+	 * The name of the span that measures message mapper negotiation.
+	 */
+	public static final String NEGOTIATION_SPAN = "negotiation";
+
+	/**
+	 * The name of the span that measures provider creation.
+	 */
+	public static final String PROVIDER_SPAN = "provider";
+
+	/**
+	 * The name of the span that measures related model resolution.
+	 */
+	public static final String RELATED_SPAN = "related";
+
+	/**
+	 * The name of the span that measures JSON serialization.
+	 */
+	public static final String SERIALIZATION_SPAN = "serialization";
+
+	/**
+	 * Returns the trace attached to a request, or {@link #DISABLED} if the
+	 * request isn't being traced.
+	 *
+	 * @param  httpServletRequest the request
+	 * @return the request's trace, if it's being traced; {@code DISABLED}
+	 *         otherwise
+	 */
+	public static RequestTrace getRequestTrace(
+		HttpServletRequest httpServletRequest) {
+
+		if (httpServletRequest == null) {
+			return DISABLED;
+		}
+
+		Object requestTrace = httpServletRequest.getAttribute(_ATTRIBUTE_NAME);
+
+		if (requestTrace instanceof RequestTrace) {
+			return (RequestTrace)requestTrace;
+		}
+
+		return DISABLED;
+	}
+
+	public RequestTrace() {
+		this(true);
+	}
+
+	private RequestTrace(boolean enabled) {
+		_enabled = enabled;
+	}
+
+	/**
+	 * Adds a duration to a span.
+	 *
+	 * @param name the span's name
+	 * @param nanos the duration, in nanoseconds
+	 */
+	public void addSpan(String name, long nanos) {
+		if (!_enabled) {
+			return;
+		}
+
+		LongAdder longAdder = _spans.computeIfAbsent(
+			name, __ -> new LongAdder());
+
+		longAdder.add(nanos);
+	}
+
+	/**
+	 * Attaches this trace to a request, so the request's instrumented phases
+	 * record their spans in it.
+	 *
+	 * @param httpServletRequest the request
+	 */
+	public void attach(HttpServletRequest httpServletRequest) {
+		httpServletRequest.setAttribute(_ATTRIBUTE_NAME, this);
+	}
+
+	/**
+	 * Returns the recorded duration of a span, in nanoseconds.
+	 *
+	 * @param  name the span's name
+	 * @return the span's duration, or {@code 0} if it hasn't been recorded
+	 */
+	public long getSpanNanos(String name) {
+		LongAdder longAdder = _spans.get(name);
+
+		if (longAdder == null) {
+			return 0;
+		}
+
+		return longAdder.sum();
+	}
+
+	/**
+	 * Returns the recorded spans, sorted by name, with their durations in
+	 * nanoseconds.
+	 *
+	 * @return the recorded spans
+	 */
+	public SortedMap<String, Long> getSpans() {
+		SortedMap<String, Long> spans = new TreeMap<>();
+
+		_spans.forEach((name, longAdder) -> spans.put(name, longAdder.sum()));
+
+		return spans;
+	}
+
+	/**
+	 * Returns {@code true} if this trace records spans.
+	 *
+	 * @return {@code true} if this trace records spans; {@code false}
+	 *         otherwise
+	 */
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	/**
+	 * Starts a span. The span's duration is recorded when it's closed, so it
+	 * can be used in a {@code try}-with-resources statement.
+	 *
+	 * @param  name the span's name
+	 * @return the started span
+	 */
+	public Span startSpan(String name) {
+		if (!_enabled) {
+			return _NO_OP_SPAN;
+		}
+
+		long start = System.nanoTime();
+
+		return () -> addSpan(name, System.nanoTime() - start);
+	}
+
+	/**
+	 * Returns the result of a supplier, recording how long it takes in a span.
+	 *
+	 * @param  name the span's name
+	 * @param  supplier the supplier
+	 * @return the supplier's result
+	 */
+	public <T> T trace(String name, Supplier<T> supplier) {
+		try (Span span = startSpan(name)) {
+			return supplier.get();
+		}
+	}
+
+	/**
+	 * A span that records its duration when closed.
+	 */
+	@FunctionalInterface
+	public interface Span extends AutoCloseable {
+
+		@Override
+		public void close();
+
+	}
+
+	private static final String _ATTRIBUTE_NAME = RequestTrace.class.getName();
+
+	private static final Span _NO_OP_SPAN = () -> {
+	};
+
+	private final boolean _enabled;
+	private final Map<String, LongAdder> _spans = new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
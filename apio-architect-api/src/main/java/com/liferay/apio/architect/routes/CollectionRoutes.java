@@ -15,12 +15,17 @@
 package com.liferay.apio.architect.routes;
 
 import static com.liferay.apio.architect.operation.Method.POST;
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.await;
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.createBatchResult;
 import static com.liferay.apio.architect.routes.RoutesBuilderUtil.provide;
 
 import com.liferay.apio.architect.alias.ProvideFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
+import com.liferay.apio.architect.alias.routes.AsyncGetPageFunction;
+import com.liferay.apio.architect.alias.routes.BatchCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.CreateItemFunction;
 import com.liferay.apio.architect.alias.routes.GetPageFunction;
+import com.liferay.apio.architect.alias.routes.GetStreamFunction;
 import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.function.throwable.ThrowableBiFunction;
@@ -34,13 +39,18 @@ import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.single.model.SingleModelStream;
+import com.liferay.apio.architect.supplier.ThrowableSupplier;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Holds information about the routes supported for a {@link
@@ -59,9 +69,43 @@ import java.util.function.Function;
 public class CollectionRoutes<T> {
 
 	public CollectionRoutes(Builder<T> builder) {
+		_asyncGetPageFunction = _getAsyncGetPageFunction(builder);
+		_batchCreateItemFunction = builder._batchCreateItemFunction;
 		_createItemFunction = builder._createItemFunction;
 		_form = builder._form;
 		_getPageFunction = builder._getPageFunction;
+		_getStreamFunction = builder._getStreamFunction;
+	}
+
+	/**
+	 * Returns the function used to obtain the page asynchronously, if the
+	 * endpoint was added through the {@link Builder} and the function therefore
+	 * exists. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * <p>
+	 * If the page function was added synchronously, the returned function
+	 * wraps its result in an already completed stage.
+	 * </p>
+	 *
+	 * @return the function used to obtain the page asynchronously, if the
+	 *         function exists; {@code Optional#empty()} otherwise
+	 */
+	public Optional<AsyncGetPageFunction<T>> getAsyncGetPageFunctionOptional() {
+		return Optional.ofNullable(_asyncGetPageFunction);
+	}
+
+	/**
+	 * Returns the function that is used to create several collection items at
+	 * once, if the endpoint was added through the {@link Builder} and the
+	 * function therefore exists. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to create several collection items, if the
+	 *         function exists; {@code Optional#empty()} otherwise
+	 */
+	public Optional<BatchCreateItemFunction<T>>
+		getBatchCreateItemFunctionOptional() {
+
+		return Optional.ofNullable(_batchCreateItemFunction);
 	}
 
 	/**
@@ -100,6 +144,38 @@ public class CollectionRoutes<T> {
 		return Optional.ofNullable(_getPageFunction);
 	}
 
+	/**
+	 * Returns the function used to obtain a stream with every item of the
+	 * collection, if the endpoint was added through the {@link Builder} and the
+	 * function therefore exists. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to obtain the stream, if the function exists;
+	 *         {@code Optional#empty()} otherwise
+	 */
+	public Optional<GetStreamFunction<T>> getGetStreamFunctionOptional() {
+		return Optional.ofNullable(_getStreamFunction);
+	}
+
+	private AsyncGetPageFunction<T> _getAsyncGetPageFunction(
+		Builder<T> builder) {
+
+		if (builder._asyncGetPageFunction != null) {
+			return builder._asyncGetPageFunction;
+		}
+
+		GetPageFunction<T> getPageFunction = builder._getPageFunction;
+
+		if (getPageFunction == null) {
+			return null;
+		}
+
+		return httpServletRequest -> getPageFunction.apply(
+			httpServletRequest
+		).map(
+			CompletableFuture::completedFuture
+		);
+	}
+
 	/**
 	 * Creates the {@link CollectionRoutes} of a {@link
 	 * com.liferay.apio.architect.router.CollectionRouter}.
@@ -116,6 +192,394 @@ public class CollectionRoutes<T> {
 			_neededProviderConsumer = neededProviderConsumer;
 		}
 
+		/**
+		 * Adds a route to an asynchronous collection page function with one
+		 * extra parameter. The function returns a completion stage of the page
+		 * items, so the thread handling the request isn't blocked while the
+		 * result is calculated.
+		 *
+		 * @param  throwableBiFunction the function that calculates the page
+		 *         asynchronously
+		 * @param  aClass the class of the page function's second parameter
+		 * @return the updated builder
+		 */
+		public <A> Builder<T> addAsyncGetter(
+			ThrowableBiFunction<Pagination, A, CompletionStage<PageItems<T>>>
+				throwableBiFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			AsyncGetPageFunction<T> asyncGetPageFunction =
+				httpServletRequest -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, Credentials.class,
+					pagination -> a -> credentials ->
+						throwableBiFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> new Page<>(
+									_name, items, pagination,
+									_getOperations(credentials)))
+						).apply(
+							pagination, a
+						));
+
+			_asyncGetPageFunction = asyncGetPageFunction;
+
+			_getPageFunction = httpServletRequest -> await(
+				asyncGetPageFunction.apply(httpServletRequest));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous collection page function with no
+		 * extra parameters. The function returns a completion stage of the page
+		 * items, so the thread handling the request isn't blocked while the
+		 * result is calculated.
+		 *
+		 * @param  throwableFunction the function that calculates the page
+		 *         asynchronously
+		 * @return the updated builder
+		 */
+		public Builder<T> addAsyncGetter(
+			ThrowableFunction<Pagination, CompletionStage<PageItems<T>>>
+				throwableFunction) {
+
+			AsyncGetPageFunction<T> asyncGetPageFunction =
+				httpServletRequest -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, Credentials.class,
+					pagination -> credentials ->
+						throwableFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> new Page<>(
+									_name, items, pagination,
+									_getOperations(credentials)))
+						).apply(
+							pagination
+						));
+
+			_asyncGetPageFunction = asyncGetPageFunction;
+
+			_getPageFunction = httpServletRequest -> await(
+				asyncGetPageFunction.apply(httpServletRequest));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous collection page function with four
+		 * extra parameters. The function returns a completion stage of the page
+		 * items, so the thread handling the request isn't blocked while the
+		 * result is calculated.
+		 *
+		 * @param  throwablePentaFunction the function that calculates the page
+		 *         asynchronously
+		 * @param  aClass the class of the page function's second parameter
+		 * @param  bClass the class of the page function's third parameter
+		 * @param  cClass the class of the page function's fourth parameter
+		 * @param  dClass the class of the page function's fifth parameter
+		 * @return the updated builder
+		 */
+		public <A, B, C, D> Builder<T> addAsyncGetter(
+			ThrowablePentaFunction
+				<Pagination, A, B, C, D, CompletionStage<PageItems<T>>>
+					throwablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			AsyncGetPageFunction<T> asyncGetPageFunction =
+				httpServletRequest -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, bClass, cClass, dClass,
+					Credentials.class,
+					pagination -> a -> b -> c -> d -> credentials ->
+						throwablePentaFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> new Page<>(
+									_name, items, pagination,
+									_getOperations(credentials)))
+						).apply(
+							pagination, a, b, c, d
+						));
+
+			_asyncGetPageFunction = asyncGetPageFunction;
+
+			_getPageFunction = httpServletRequest -> await(
+				asyncGetPageFunction.apply(httpServletRequest));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous collection page function with three
+		 * extra parameters. The function returns a completion stage of the page
+		 * items, so the thread handling the request isn't blocked while the
+		 * result is calculated.
+		 *
+		 * @param  throwableTetraFunction the function that calculates the page
+		 *         asynchronously
+		 * @param  aClass the class of the page function's second parameter
+		 * @param  bClass the class of the page function's third parameter
+		 * @param  cClass the class of the page function's fourth parameter
+		 * @return the updated builder
+		 */
+		public <A, B, C> Builder<T> addAsyncGetter(
+			ThrowableTetraFunction
+				<Pagination, A, B, C, CompletionStage<PageItems<T>>>
+					throwableTetraFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			AsyncGetPageFunction<T> asyncGetPageFunction =
+				httpServletRequest -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, bClass, cClass, Credentials.class,
+					pagination -> a -> b -> c -> credentials ->
+						throwableTetraFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> new Page<>(
+									_name, items, pagination,
+									_getOperations(credentials)))
+						).apply(
+							pagination, a, b, c
+						));
+
+			_asyncGetPageFunction = asyncGetPageFunction;
+
+			_getPageFunction = httpServletRequest -> await(
+				asyncGetPageFunction.apply(httpServletRequest));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous collection page function with two
+		 * extra parameters. The function returns a completion stage of the page
+		 * items, so the thread handling the request isn't blocked while the
+		 * result is calculated.
+		 *
+		 * @param  throwableTriFunction the function that calculates the page
+		 *         asynchronously
+		 * @param  aClass the class of the page function's second parameter
+		 * @param  bClass the class of the page function's third parameter
+		 * @return the updated builder
+		 */
+		public <A, B> Builder<T> addAsyncGetter(
+			ThrowableTriFunction
+				<Pagination, A, B, CompletionStage<PageItems<T>>>
+					throwableTriFunction,
+			Class<A> aClass, Class<B> bClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			AsyncGetPageFunction<T> asyncGetPageFunction =
+				httpServletRequest -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, bClass, Credentials.class,
+					pagination -> a -> b -> credentials ->
+						throwableTriFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> new Page<>(
+									_name, items, pagination,
+									_getOperations(credentials)))
+						).apply(
+							pagination, a, b
+						));
+
+			_asyncGetPageFunction = asyncGetPageFunction;
+
+			_getPageFunction = httpServletRequest -> await(
+				asyncGetPageFunction.apply(httpServletRequest));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch creator function with one extra parameter.
+		 * The function receives the information of every valid item in the
+		 * request body, so all of them can be created at once, and must return
+		 * the created items in the same order.
+		 *
+		 * @param  throwableBiFunction the batch creator function
+		 * @param  aClass the class of the batch creator function's second
+		 *         parameter
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         each item
+		 * @return the updated builder
+		 */
+		public <A, R> Builder<T> addBatchCreator(
+			ThrowableBiFunction<List<R>, A, List<T>> throwableBiFunction,
+			Class<A> aClass, FormBuilderFunction<R> formBuilderFunction) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			Form<R> form = formBuilderFunction.apply(
+				new Form.Builder<>(Arrays.asList("c", _name)));
+
+			_batchCreateItemFunction = httpServletRequest -> body -> provide(
+				_provideFunction.apply(httpServletRequest), aClass,
+				a -> createBatchResult(
+					_name, form.getList(body),
+					list -> throwableBiFunction.apply(list, a)));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch creator function with no extra parameters.
+		 * The function receives the information of every valid item in the
+		 * request body, so all of them can be created at once, and must return
+		 * the created items in the same order.
+		 *
+		 * @param  throwableFunction the batch creator function
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         each item
+		 * @return the updated builder
+		 */
+		public <R> Builder<T> addBatchCreator(
+			ThrowableFunction<List<R>, List<T>> throwableFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			Form<R> form = formBuilderFunction.apply(
+				new Form.Builder<>(Arrays.asList("c", _name)));
+
+			_batchCreateItemFunction = httpServletRequest -> body ->
+				Try.fromFallible(
+					() -> createBatchResult(
+						_name, form.getList(body), throwableFunction));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch creator function with four extra parameters.
+		 * The function receives the information of every valid item in the
+		 * request body, so all of them can be created at once, and must return
+		 * the created items in the same order.
+		 *
+		 * @param  throwablePentaFunction the batch creator function
+		 * @param  aClass the class of the batch creator function's second
+		 *         parameter
+		 * @param  bClass the class of the batch creator function's third
+		 *         parameter
+		 * @param  cClass the class of the batch creator function's fourth
+		 *         parameter
+		 * @param  dClass the class of the batch creator function's fifth
+		 *         parameter
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         each item
+		 * @return the updated builder
+		 */
+		public <A, B, C, D, R> Builder<T> addBatchCreator(
+			ThrowablePentaFunction<List<R>, A, B, C, D, List<T>>
+				throwablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass, Class<D> dClass,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			Form<R> form = formBuilderFunction.apply(
+				new Form.Builder<>(Arrays.asList("c", _name)));
+
+			_batchCreateItemFunction = httpServletRequest -> body -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				cClass, dClass,
+				a -> b -> c -> d -> createBatchResult(
+					_name, form.getList(body),
+					list -> throwablePentaFunction.apply(list, a, b, c, d)));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch creator function with three extra parameters.
+		 * The function receives the information of every valid item in the
+		 * request body, so all of them can be created at once, and must return
+		 * the created items in the same order.
+		 *
+		 * @param  throwableTetraFunction the batch creator function
+		 * @param  aClass the class of the batch creator function's second
+		 *         parameter
+		 * @param  bClass the class of the batch creator function's third
+		 *         parameter
+		 * @param  cClass the class of the batch creator function's fourth
+		 *         parameter
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         each item
+		 * @return the updated builder
+		 */
+		public <A, B, C, R> Builder<T> addBatchCreator(
+			ThrowableTetraFunction<List<R>, A, B, C, List<T>>
+				throwableTetraFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			Form<R> form = formBuilderFunction.apply(
+				new Form.Builder<>(Arrays.asList("c", _name)));
+
+			_batchCreateItemFunction = httpServletRequest -> body -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				cClass,
+				a -> b -> c -> createBatchResult(
+					_name, form.getList(body),
+					list -> throwableTetraFunction.apply(list, a, b, c)));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch creator function with two extra parameters.
+		 * The function receives the information of every valid item in the
+		 * request body, so all of them can be created at once, and must return
+		 * the created items in the same order.
+		 *
+		 * @param  throwableTriFunction the batch creator function
+		 * @param  aClass the class of the batch creator function's second
+		 *         parameter
+		 * @param  bClass the class of the batch creator function's third
+		 *         parameter
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         each item
+		 * @return the updated builder
+		 */
+		public <A, B, R> Builder<T> addBatchCreator(
+			ThrowableTriFunction<List<R>, A, B, List<T>> throwableTriFunction,
+			Class<A> aClass, Class<B> bClass,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			Form<R> form = formBuilderFunction.apply(
+				new Form.Builder<>(Arrays.asList("c", _name)));
+
+			_batchCreateItemFunction = httpServletRequest -> body -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				a -> b -> createBatchResult(
+					_name, form.getList(body),
+					list -> throwableTriFunction.apply(list, a, b)));
+
+			return this;
+		}
+
 		/**
 		 * Adds a route to a creator function that has one extra parameter.
 		 *
@@ -458,6 +922,142 @@ public class CollectionRoutes<T> {
 			return this;
 		}
 
+		/**
+		 * Adds a route to a collection stream function with two extra
+		 * parameters. The stream is consumed lazily, one item at a time, so
+		 * the collection doesn't have to fit in memory.
+		 *
+		 * @param  throwableBiFunction the function that opens the stream
+		 * @param  aClass the class of the stream function's first parameter
+		 * @param  bClass the class of the stream function's second parameter
+		 * @return the updated builder
+		 */
+		public <A, B> Builder<T> addStreamGetter(
+			ThrowableBiFunction<A, B, Stream<T>> throwableBiFunction,
+			Class<A> aClass, Class<B> bClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			_getStreamFunction = httpServletRequest -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				a -> b -> throwableBiFunction.andThen(
+					this::_createSingleModelStream
+				).apply(
+					a, b
+				));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a collection stream function with one extra
+		 * parameter. The stream is consumed lazily, one item at a time, so the
+		 * collection doesn't have to fit in memory.
+		 *
+		 * @param  throwableFunction the function that opens the stream
+		 * @param  aClass the class of the stream function's first parameter
+		 * @return the updated builder
+		 */
+		public <A> Builder<T> addStreamGetter(
+			ThrowableFunction<A, Stream<T>> throwableFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_getStreamFunction = httpServletRequest -> provide(
+				_provideFunction.apply(httpServletRequest), aClass,
+				throwableFunction.andThen(this::_createSingleModelStream));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a collection stream function with none extra
+		 * parameters. The stream is consumed lazily, one item at a time, so the
+		 * collection doesn't have to fit in memory.
+		 *
+		 * @param  throwableSupplier the supplier that opens the stream
+		 * @return the updated builder
+		 */
+		public Builder<T> addStreamGetter(
+			ThrowableSupplier<Stream<T>> throwableSupplier) {
+
+			_getStreamFunction = httpServletRequest -> Try.fromFallible(
+				throwableSupplier
+			).map(
+				this::_createSingleModelStream
+			);
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a collection stream function with four extra
+		 * parameters. The stream is consumed lazily, one item at a time, so
+		 * the collection doesn't have to fit in memory.
+		 *
+		 * @param  throwableTetraFunction the function that opens the stream
+		 * @param  aClass the class of the stream function's first parameter
+		 * @param  bClass the class of the stream function's second parameter
+		 * @param  cClass the class of the stream function's third parameter
+		 * @param  dClass the class of the stream function's fourth parameter
+		 * @return the updated builder
+		 */
+		public <A, B, C, D> Builder<T> addStreamGetter(
+			ThrowableTetraFunction<A, B, C, D, Stream<T>>
+				throwableTetraFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			_getStreamFunction = httpServletRequest -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				cClass, dClass,
+				a -> b -> c -> d -> throwableTetraFunction.andThen(
+					this::_createSingleModelStream
+				).apply(
+					a, b, c, d
+				));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a collection stream function with three extra
+		 * parameters. The stream is consumed lazily, one item at a time, so
+		 * the collection doesn't have to fit in memory.
+		 *
+		 * @param  throwableTriFunction the function that opens the stream
+		 * @param  aClass the class of the stream function's first parameter
+		 * @param  bClass the class of the stream function's second parameter
+		 * @param  cClass the class of the stream function's third parameter
+		 * @return the updated builder
+		 */
+		public <A, B, C> Builder<T> addStreamGetter(
+			ThrowableTriFunction<A, B, C, Stream<T>> throwableTriFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			_getStreamFunction = httpServletRequest -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				cClass,
+				a -> b -> c -> throwableTriFunction.andThen(
+					this::_createSingleModelStream
+				).apply(
+					a, b, c
+				));
+
+			return this;
+		}
+
 		/**
 		 * Constructs the {@link CollectionRoutes} instance with the information
 		 * provided to the builder.
@@ -465,14 +1065,8 @@ public class CollectionRoutes<T> {
 		 * @return the {@code Routes} instance
 		 */
 		public CollectionRoutes<T> build() {
-			return new CollectionRoutes<>(this);
-		}
-
-		private List<Operation> _getOperations(Credentials credentials) {
-			return Optional.ofNullable(
+			_createOperations = Optional.ofNullable(
 				_form
-			).filter(
-				__ -> _collectionPermissionFunction.apply(credentials)
 			).map(
 				form -> new Operation(form, POST, _name + "/create")
 			).map(
@@ -480,20 +1074,45 @@ public class CollectionRoutes<T> {
 			).orElseGet(
 				Collections::emptyList
 			);
+
+			return new CollectionRoutes<>(this);
+		}
+
+		private SingleModelStream<T> _createSingleModelStream(
+			Stream<T> stream) {
+
+			return new SingleModelStream<>(_name, stream);
+		}
+
+		private List<Operation> _getOperations(Credentials credentials) {
+			if (_createOperations.isEmpty() ||
+				!_collectionPermissionFunction.apply(credentials)) {
+
+				return Collections.emptyList();
+			}
+
+			return _createOperations;
 		}
 
+		private AsyncGetPageFunction<T> _asyncGetPageFunction;
+		private BatchCreateItemFunction<T> _batchCreateItemFunction;
 		private Function<Credentials, Boolean> _collectionPermissionFunction;
 		private CreateItemFunction<T> _createItemFunction;
+		private List<Operation> _createOperations;
 		private Form _form;
 		private GetPageFunction<T> _getPageFunction;
+		private GetStreamFunction<T> _getStreamFunction;
 		private final String _name;
 		private final Consumer<String> _neededProviderConsumer;
 		private final ProvideFunction _provideFunction;
 
 	}
 
+	private final AsyncGetPageFunction<T> _asyncGetPageFunction;
+	private final BatchCreateItemFunction<T> _batchCreateItemFunction;
 	private final CreateItemFunction<T> _createItemFunction;
 	private final Form _form;
 	private final GetPageFunction<T> _getPageFunction;
+	private final GetStreamFunction<T> _getStreamFunction;
 
 }
\ No newline at end of file
@@ -16,20 +16,28 @@ package com.liferay.apio.architect.routes;
 
 import static com.liferay.apio.architect.operation.Method.DELETE;
 import static com.liferay.apio.architect.operation.Method.PUT;
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.await;
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.createBatchResult;
 import static com.liferay.apio.architect.routes.RoutesBuilderUtil.provide;
 import static com.liferay.apio.architect.routes.RoutesBuilderUtil.provideConsumer;
 
 import com.liferay.apio.architect.alias.ProvideFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
+import com.liferay.apio.architect.alias.routes.AsyncGetItemFunction;
+import com.liferay.apio.architect.alias.routes.BatchDeleteItemConsumer;
+import com.liferay.apio.architect.alias.routes.BatchGetOperationsFunction;
+import com.liferay.apio.architect.alias.routes.BatchUpdateItemFunction;
 import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
 import com.liferay.apio.architect.alias.routes.GetItemFunction;
 import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
+import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.consumer.throwable.ThrowableBiConsumer;
 import com.liferay.apio.architect.consumer.throwable.ThrowableConsumer;
 import com.liferay.apio.architect.consumer.throwable.ThrowablePentaConsumer;
 import com.liferay.apio.architect.consumer.throwable.ThrowableTetraConsumer;
 import com.liferay.apio.architect.consumer.throwable.ThrowableTriConsumer;
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.function.throwable.ThrowableBiFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableFunction;
@@ -37,13 +45,24 @@ import com.liferay.apio.architect.function.throwable.ThrowableHexaFunction;
 import com.liferay.apio.architect.function.throwable.ThrowablePentaFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableTetraFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableTriFunction;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.operation.Method;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -66,12 +85,78 @@ import java.util.function.Consumer;
 public class ItemRoutes<T, S> {
 
 	public ItemRoutes(Builder<T, S> builder) {
+		_asyncSingleModelFunction = _getAsyncItemFunction(builder);
+		_batchDeleteItemConsumer = builder._batchDeleteItemConsumer;
+		_batchGetOperationsFunction = _getBatchGetOperationsFunction(builder);
+		_batchUpdateItemFunction = builder._batchUpdateItemFunction;
 		_deleteItemConsumer = builder._deleteItemConsumer;
 		_form = builder._form;
 		_singleModelFunction = builder._singleModelFunction;
 		_updateItemFunction = builder._updateItemFunction;
 	}
 
+	/**
+	 * Returns the function used to obtain the item asynchronously, if the
+	 * endpoint was added through the {@link Builder} and the function therefore
+	 * exists. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * <p>
+	 * If the item function was added synchronously, the returned function
+	 * wraps its result in an already completed stage.
+	 * </p>
+	 *
+	 * @return the function used to obtain the item asynchronously, if the
+	 *         function exists; {@code Optional#empty()} otherwise
+	 */
+	public Optional<AsyncGetItemFunction<T, S>>
+		getAsyncItemFunctionOptional() {
+
+		return Optional.ofNullable(_asyncSingleModelFunction);
+	}
+
+	/**
+	 * Returns the function used to delete several items at once, if the
+	 * endpoint was added through the {@link Builder} and the function
+	 * therefore exists. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to delete several items, if the function
+	 *         exists; {@code Optional#empty()} otherwise
+	 */
+	public Optional<BatchDeleteItemConsumer<S>>
+		getBatchDeleteConsumerOptional() {
+
+		return Optional.ofNullable(_batchDeleteItemConsumer);
+	}
+
+	/**
+	 * Returns the function used to get the operations allowed for several
+	 * items at once, if a batch permission function was added through the
+	 * {@link Builder}. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to get the operations allowed for several
+	 *         items, if the function exists; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<BatchGetOperationsFunction<S>>
+		getBatchGetOperationsFunctionOptional() {
+
+		return Optional.ofNullable(_batchGetOperationsFunction);
+	}
+
+	/**
+	 * Returns the function used to update several items at once, if the
+	 * endpoint was added through the {@link Builder} and the function
+	 * therefore exists. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to update several items, if the function
+	 *         exists; {@code Optional#empty()} otherwise
+	 */
+	public Optional<BatchUpdateItemFunction<T, S>>
+		getBatchUpdateItemFunctionOptional() {
+
+		return Optional.ofNullable(_batchUpdateItemFunction);
+	}
+
 	/**
 	 * Returns the function used to delete the item, if the endpoint was added
 	 * through the {@link Builder} and the function therefore exists. Returns
@@ -120,6 +205,41 @@ public class ItemRoutes<T, S> {
 		return Optional.ofNullable(_updateItemFunction);
 	}
 
+	private AsyncGetItemFunction<T, S> _getAsyncItemFunction(
+		Builder<T, S> builder) {
+
+		if (builder._asyncSingleModelFunction != null) {
+			return builder._asyncSingleModelFunction;
+		}
+
+		GetItemFunction<T, S> getItemFunction = builder._singleModelFunction;
+
+		if (getItemFunction == null) {
+			return null;
+		}
+
+		return httpServletRequest -> s -> getItemFunction.apply(
+			httpServletRequest
+		).apply(
+			s
+		).map(
+			CompletableFuture::completedFuture
+		);
+	}
+
+	private BatchGetOperationsFunction<S> _getBatchGetOperationsFunction(
+		Builder<T, S> builder) {
+
+		if (builder._batchPermissionFunction == null) {
+			return null;
+		}
+
+		return httpServletRequest -> identifiers -> provide(
+			builder._provideFunction.apply(httpServletRequest),
+			Credentials.class,
+			credentials -> builder._getOperations(credentials, identifiers));
+	}
+
 	/**
 	 * Creates the {@code ItemRoutes} of an {@link
 	 * com.liferay.apio.architect.router.ItemRouter}.
@@ -140,6 +260,559 @@ public class ItemRoutes<T, S> {
 			_neededProviderConsumer = neededProviderConsumer;
 		}
 
+		/**
+		 * Adds a route to an asynchronous item function with one extra
+		 * parameter. The function returns a completion stage of the item, so
+		 * the thread handling the request isn't blocked while the result is
+		 * calculated.
+		 *
+		 * @param  throwableBiFunction the function that calculates the item
+		 *         asynchronously
+		 * @param  aClass the class of the item function's second parameter
+		 * @return the updated builder
+		 */
+		public <A> Builder<T, S> addAsyncGetter(
+			ThrowableBiFunction<S, A, CompletionStage<T>> throwableBiFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			AsyncGetItemFunction<T, S> asyncGetItemFunction =
+				httpServletRequest -> s -> provide(
+					_provideFunction.apply(httpServletRequest), aClass,
+					Credentials.class,
+					a -> credentials ->
+						throwableBiFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								t -> new SingleModel<>(
+									t, _name, _getOperations(credentials, s)))
+						).apply(
+							s, a
+						));
+
+			_asyncSingleModelFunction = asyncGetItemFunction;
+
+			_singleModelFunction = httpServletRequest -> s -> await(
+				asyncGetItemFunction.apply(
+					httpServletRequest
+				).apply(
+					s
+				));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous item function with no extra
+		 * parameters. The function returns a completion stage of the item, so
+		 * the thread handling the request isn't blocked while the result is
+		 * calculated.
+		 *
+		 * @param  throwableFunction the function that calculates the item
+		 *         asynchronously
+		 * @return the updated builder
+		 */
+		public Builder<T, S> addAsyncGetter(
+			ThrowableFunction<S, CompletionStage<T>> throwableFunction) {
+
+			AsyncGetItemFunction<T, S> asyncGetItemFunction =
+				httpServletRequest -> s -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Credentials.class,
+					credentials ->
+						throwableFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								t -> new SingleModel<>(
+									t, _name, _getOperations(credentials, s)))
+						).apply(
+							s
+						));
+
+			_asyncSingleModelFunction = asyncGetItemFunction;
+
+			_singleModelFunction = httpServletRequest -> s -> await(
+				asyncGetItemFunction.apply(
+					httpServletRequest
+				).apply(
+					s
+				));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous item function with four extra
+		 * parameters. The function returns a completion stage of the item, so
+		 * the thread handling the request isn't blocked while the result is
+		 * calculated.
+		 *
+		 * @param  throwablePentaFunction the function that calculates the item
+		 *         asynchronously
+		 * @param  aClass the class of the item function's second parameter
+		 * @param  bClass the class of the item function's third parameter
+		 * @param  cClass the class of the item function's fourth parameter
+		 * @param  dClass the class of the item function's fifth parameter
+		 * @return the updated builder
+		 */
+		public <A, B, C, D> Builder<T, S> addAsyncGetter(
+			ThrowablePentaFunction<S, A, B, C, D, CompletionStage<T>>
+				throwablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			AsyncGetItemFunction<T, S> asyncGetItemFunction =
+				httpServletRequest -> s -> provide(
+					_provideFunction.apply(httpServletRequest), aClass, bClass,
+					cClass, dClass, Credentials.class,
+					a -> b -> c -> d -> credentials ->
+						throwablePentaFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								t -> new SingleModel<>(
+									t, _name, _getOperations(credentials, s)))
+						).apply(
+							s, a, b, c, d
+						));
+
+			_asyncSingleModelFunction = asyncGetItemFunction;
+
+			_singleModelFunction = httpServletRequest -> s -> await(
+				asyncGetItemFunction.apply(
+					httpServletRequest
+				).apply(
+					s
+				));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous item function with three extra
+		 * parameters. The function returns a completion stage of the item, so
+		 * the thread handling the request isn't blocked while the result is
+		 * calculated.
+		 *
+		 * @param  throwableTetraFunction the function that calculates the item
+		 *         asynchronously
+		 * @param  aClass the class of the item function's second parameter
+		 * @param  bClass the class of the item function's third parameter
+		 * @param  cClass the class of the item function's fourth parameter
+		 * @return the updated builder
+		 */
+		public <A, B, C> Builder<T, S> addAsyncGetter(
+			ThrowableTetraFunction<S, A, B, C, CompletionStage<T>>
+				throwableTetraFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			AsyncGetItemFunction<T, S> asyncGetItemFunction =
+				httpServletRequest -> s -> provide(
+					_provideFunction.apply(httpServletRequest), aClass, bClass,
+					cClass, Credentials.class,
+					a -> b -> c -> credentials ->
+						throwableTetraFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								t -> new SingleModel<>(
+									t, _name, _getOperations(credentials, s)))
+						).apply(
+							s, a, b, c
+						));
+
+			_asyncSingleModelFunction = asyncGetItemFunction;
+
+			_singleModelFunction = httpServletRequest -> s -> await(
+				asyncGetItemFunction.apply(
+					httpServletRequest
+				).apply(
+					s
+				));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous item function with two extra
+		 * parameters. The function returns a completion stage of the item, so
+		 * the thread handling the request isn't blocked while the result is
+		 * calculated.
+		 *
+		 * @param  throwableTriFunction the function that calculates the item
+		 *         asynchronously
+		 * @param  aClass the class of the item function's second parameter
+		 * @param  bClass the class of the item function's third parameter
+		 * @return the updated builder
+		 */
+		public <A, B> Builder<T, S> addAsyncGetter(
+			ThrowableTriFunction<S, A, B, CompletionStage<T>>
+				throwableTriFunction,
+			Class<A> aClass, Class<B> bClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			AsyncGetItemFunction<T, S> asyncGetItemFunction =
+				httpServletRequest -> s -> provide(
+					_provideFunction.apply(httpServletRequest), aClass, bClass,
+					Credentials.class,
+					a -> b -> credentials ->
+						throwableTriFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								t -> new SingleModel<>(
+									t, _name, _getOperations(credentials, s)))
+						).apply(
+							s, a, b
+						));
+
+			_asyncSingleModelFunction = asyncGetItemFunction;
+
+			_singleModelFunction = httpServletRequest -> s -> await(
+				asyncGetItemFunction.apply(
+					httpServletRequest
+				).apply(
+					s
+				));
+
+			return this;
+		}
+
+		/**
+		 * Adds a function that checks, in a single call, which operations are
+		 * allowed for several items. The function receives the identifiers of
+		 * every item and returns the methods allowed for each of them. Only
+		 * {@link Method#DELETE} and {@link Method#PUT} are taken into account,
+		 * provided the corresponding remover and updater routes exist.
+		 *
+		 * <p>
+		 * Without this function, the items of a collection page are written
+		 * without operations, so the per-item permission functions aren't
+		 * called once for every item of the page.
+		 * </p>
+		 *
+		 * @param  batchPermissionFunction the function that returns the methods
+		 *         allowed for each item
+		 * @return the updated builder
+		 */
+		public Builder<T, S> addBatchPermissionFunction(
+			BiFunction<Credentials, List<S>, Map<S, Set<Method>>>
+				batchPermissionFunction) {
+
+			_batchPermissionFunction = batchPermissionFunction;
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch remover function with one extra parameter.
+		 * The function receives the identifiers of every item that should be
+		 * removed.
+		 *
+		 * @param  biConsumer the batch remover function
+		 * @param  aClass the class of the batch remover function's second
+		 *         parameter
+		 * @return the updated builder
+		 */
+		public <A> Builder<T, S> addBatchRemover(
+			ThrowableBiConsumer<List<S>, A> biConsumer, Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_batchDeleteItemConsumer = httpServletRequest -> list ->
+				provideConsumer(
+					_provideFunction.apply(httpServletRequest), aClass,
+					a -> biConsumer.accept(list, a));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch remover function with no extra parameters.
+		 * The function receives the identifiers of every item that should be
+		 * removed.
+		 *
+		 * @param  consumer the batch remover function
+		 * @return the updated builder
+		 */
+		public Builder<T, S> addBatchRemover(
+			ThrowableConsumer<List<S>> consumer) {
+
+			_batchDeleteItemConsumer = __ -> consumer;
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch remover function with four extra parameters.
+		 * The function receives the identifiers of every item that should be
+		 * removed.
+		 *
+		 * @param  pentaConsumer the batch remover function
+		 * @param  aClass the class of the batch remover function's second
+		 *         parameter
+		 * @param  bClass the class of the batch remover function's third
+		 *         parameter
+		 * @param  cClass the class of the batch remover function's fourth
+		 *         parameter
+		 * @param  dClass the class of the batch remover function's fifth
+		 *         parameter
+		 * @return the updated builder
+		 */
+		public <A, B, C, D> Builder<T, S> addBatchRemover(
+			ThrowablePentaConsumer<List<S>, A, B, C, D> pentaConsumer,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			_batchDeleteItemConsumer = httpServletRequest -> list ->
+				provideConsumer(
+					_provideFunction.apply(httpServletRequest), aClass, bClass,
+					cClass, dClass,
+					a -> b -> c -> d -> pentaConsumer.accept(list, a, b, c, d));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch remover function with three extra parameters.
+		 * The function receives the identifiers of every item that should be
+		 * removed.
+		 *
+		 * @param  tetraConsumer the batch remover function
+		 * @param  aClass the class of the batch remover function's second
+		 *         parameter
+		 * @param  bClass the class of the batch remover function's third
+		 *         parameter
+		 * @param  cClass the class of the batch remover function's fourth
+		 *         parameter
+		 * @return the updated builder
+		 */
+		public <A, B, C> Builder<T, S> addBatchRemover(
+			ThrowableTetraConsumer<List<S>, A, B, C> tetraConsumer,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			_batchDeleteItemConsumer = httpServletRequest -> list ->
+				provideConsumer(
+					_provideFunction.apply(httpServletRequest), aClass, bClass,
+					cClass, a -> b -> c -> tetraConsumer.accept(list, a, b, c));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch remover function with two extra parameters.
+		 * The function receives the identifiers of every item that should be
+		 * removed.
+		 *
+		 * @param  triConsumer the batch remover function
+		 * @param  aClass the class of the batch remover function's second
+		 *         parameter
+		 * @param  bClass the class of the batch remover function's third
+		 *         parameter
+		 * @return the updated builder
+		 */
+		public <A, B> Builder<T, S> addBatchRemover(
+			ThrowableTriConsumer<List<S>, A, B> triConsumer, Class<A> aClass,
+			Class<B> bClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			_batchDeleteItemConsumer = httpServletRequest -> list ->
+				provideConsumer(
+					_provideFunction.apply(httpServletRequest), aClass, bClass,
+					a -> b -> triConsumer.accept(list, a, b));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch updater function with one extra parameter.
+		 * The function receives the information of every valid item in the
+		 * request body, indexed by the item's identifier, so all of them can be
+		 * updated at once, and must return the updated items in the same order.
+		 *
+		 * @param  throwableBiFunction the batch updater function
+		 * @param  aClass the class of the batch updater function's second
+		 *         parameter
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         each item
+		 * @return the updated builder
+		 */
+		public <A, R> Builder<T, S> addBatchUpdater(
+			ThrowableBiFunction<Map<S, R>, A, List<T>> throwableBiFunction,
+			Class<A> aClass, FormBuilderFunction<R> formBuilderFunction) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			Form<R> form = formBuilderFunction.apply(
+				new Form.Builder<>(Arrays.asList("u", _name)));
+
+			_batchUpdateItemFunction = httpServletRequest -> bodies -> provide(
+				_provideFunction.apply(httpServletRequest), aClass,
+				a -> _createBatchResult(
+					form, bodies,
+					map -> throwableBiFunction.apply(map, a)));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch updater function with no extra parameters.
+		 * The function receives the information of every valid item in the
+		 * request body, indexed by the item's identifier, so all of them can be
+		 * updated at once, and must return the updated items in the same order.
+		 *
+		 * @param  throwableFunction the batch updater function
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         each item
+		 * @return the updated builder
+		 */
+		public <R> Builder<T, S> addBatchUpdater(
+			ThrowableFunction<Map<S, R>, List<T>> throwableFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			Form<R> form = formBuilderFunction.apply(
+				new Form.Builder<>(Arrays.asList("u", _name)));
+
+			_batchUpdateItemFunction = httpServletRequest -> bodies ->
+				Try.fromFallible(
+					() -> _createBatchResult(form, bodies, throwableFunction));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch updater function with four extra parameters.
+		 * The function receives the information of every valid item in the
+		 * request body, indexed by the item's identifier, so all of them can be
+		 * updated at once, and must return the updated items in the same order.
+		 *
+		 * @param  throwablePentaFunction the batch updater function
+		 * @param  aClass the class of the batch updater function's second
+		 *         parameter
+		 * @param  bClass the class of the batch updater function's third
+		 *         parameter
+		 * @param  cClass the class of the batch updater function's fourth
+		 *         parameter
+		 * @param  dClass the class of the batch updater function's fifth
+		 *         parameter
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         each item
+		 * @return the updated builder
+		 */
+		public <A, B, C, D, R> Builder<T, S> addBatchUpdater(
+			ThrowablePentaFunction<Map<S, R>, A, B, C, D, List<T>>
+				throwablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass, Class<D> dClass,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			Form<R> form = formBuilderFunction.apply(
+				new Form.Builder<>(Arrays.asList("u", _name)));
+
+			_batchUpdateItemFunction = httpServletRequest -> bodies -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				cClass, dClass,
+				a -> b -> c -> d -> _createBatchResult(
+					form, bodies,
+					map -> throwablePentaFunction.apply(map, a, b, c, d)));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch updater function with three extra parameters.
+		 * The function receives the information of every valid item in the
+		 * request body, indexed by the item's identifier, so all of them can be
+		 * updated at once, and must return the updated items in the same order.
+		 *
+		 * @param  throwableTetraFunction the batch updater function
+		 * @param  aClass the class of the batch updater function's second
+		 *         parameter
+		 * @param  bClass the class of the batch updater function's third
+		 *         parameter
+		 * @param  cClass the class of the batch updater function's fourth
+		 *         parameter
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         each item
+		 * @return the updated builder
+		 */
+		public <A, B, C, R> Builder<T, S> addBatchUpdater(
+			ThrowableTetraFunction<Map<S, R>, A, B, C, List<T>>
+				throwableTetraFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			Form<R> form = formBuilderFunction.apply(
+				new Form.Builder<>(Arrays.asList("u", _name)));
+
+			_batchUpdateItemFunction = httpServletRequest -> bodies -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				cClass,
+				a -> b -> c -> _createBatchResult(
+					form, bodies,
+					map -> throwableTetraFunction.apply(map, a, b, c)));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch updater function with two extra parameters.
+		 * The function receives the information of every valid item in the
+		 * request body, indexed by the item's identifier, so all of them can be
+		 * updated at once, and must return the updated items in the same order.
+		 *
+		 * @param  throwableTriFunction the batch updater function
+		 * @param  aClass the class of the batch updater function's second
+		 *         parameter
+		 * @param  bClass the class of the batch updater function's third
+		 *         parameter
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         each item
+		 * @return the updated builder
+		 */
+		public <A, B, R> Builder<T, S> addBatchUpdater(
+			ThrowableTriFunction<Map<S, R>, A, B, List<T>> throwableTriFunction,
+			Class<A> aClass, Class<B> bClass,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			Form<R> form = formBuilderFunction.apply(
+				new Form.Builder<>(Arrays.asList("u", _name)));
+
+			_batchUpdateItemFunction = httpServletRequest -> bodies -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				a -> b -> _createBatchResult(
+					form, bodies,
+					map -> throwableTriFunction.apply(map, a, b)));
+
+			return this;
+		}
+
 		/**
 		 * Adds a route to an item function with one extra parameter.
 		 *
@@ -152,6 +825,8 @@ public class ItemRoutes<T, S> {
 
 			_neededProviderConsumer.accept(aClass.getName());
 
+			_asyncSingleModelFunction = null;
+
 			_singleModelFunction = httpServletRequest -> s -> provide(
 				_provideFunction.apply(httpServletRequest), aClass,
 				Credentials.class,
@@ -174,6 +849,8 @@ public class ItemRoutes<T, S> {
 		public Builder<T, S> addGetter(
 			ThrowableFunction<S, T> throwableFunction) {
 
+			_asyncSingleModelFunction = null;
+
 			_singleModelFunction = httpServletRequest -> s -> provide(
 				_provideFunction.apply(httpServletRequest), Credentials.class,
 				credentials -> throwableFunction.andThen(
@@ -206,6 +883,8 @@ public class ItemRoutes<T, S> {
 			_neededProviderConsumer.accept(cClass.getName());
 			_neededProviderConsumer.accept(dClass.getName());
 
+			_asyncSingleModelFunction = null;
+
 			_singleModelFunction = httpServletRequest -> s -> provide(
 				_provideFunction.apply(httpServletRequest), aClass, bClass,
 				cClass, dClass, Credentials.class,
@@ -237,6 +916,8 @@ public class ItemRoutes<T, S> {
 			_neededProviderConsumer.accept(bClass.getName());
 			_neededProviderConsumer.accept(cClass.getName());
 
+			_asyncSingleModelFunction = null;
+
 			_singleModelFunction = httpServletRequest -> s -> provide(
 				_provideFunction.apply(httpServletRequest), aClass, bClass,
 				cClass, Credentials.class,
@@ -265,6 +946,8 @@ public class ItemRoutes<T, S> {
 			_neededProviderConsumer.accept(aClass.getName());
 			_neededProviderConsumer.accept(bClass.getName());
 
+			_asyncSingleModelFunction = null;
+
 			_singleModelFunction = httpServletRequest -> s -> provide(
 				_provideFunction.apply(httpServletRequest), aClass, bClass,
 				Credentials.class,
@@ -621,48 +1304,133 @@ public class ItemRoutes<T, S> {
 		 * @return the {@code Routes} instance
 		 */
 		public ItemRoutes<T, S> build() {
+			Operation deleteOperation = new Operation(
+				DELETE, _name + "/delete");
+			Operation updateOperation = new Operation(
+				_form, PUT, _name + "/update");
+
+			_deleteOperations = Collections.singletonList(deleteOperation);
+			_operations = Collections.unmodifiableList(
+				Arrays.asList(deleteOperation, updateOperation));
+			_updateOperations = Collections.singletonList(updateOperation);
+
 			return new ItemRoutes<>(this);
 		}
 
+		private <R> BatchResult<SingleModel<T>> _createBatchResult(
+			Form<R> form, Map<S, Body> bodies,
+			ThrowableFunction<Map<S, R>, List<T>> throwableFunction) {
+
+			List<Try<Entry<S, R>>> tries = new ArrayList<>(bodies.size());
+
+			bodies.forEach(
+				(s, body) -> tries.add(
+					Try.fromFallible(
+						() -> new SimpleImmutableEntry<>(s, form.get(body)))));
+
+			return createBatchResult(
+				_name, tries,
+				entries -> {
+					Map<S, R> map = new LinkedHashMap<>();
+
+					entries.forEach(
+						entry -> map.put(entry.getKey(), entry.getValue()));
+
+					return throwableFunction.apply(map);
+				});
+		}
+
+		private List<Operation> _getOperations(
+			boolean deletable, boolean updatable) {
+
+			if (deletable && updatable) {
+				return _operations;
+			}
+
+			if (deletable) {
+				return _deleteOperations;
+			}
+
+			if (updatable) {
+				return _updateOperations;
+			}
+
+			return Collections.emptyList();
+		}
+
+		private Map<S, List<Operation>> _getOperations(
+			Credentials credentials, List<S> identifiers) {
+
+			Map<S, List<Operation>> map = new HashMap<>();
+
+			Map<S, Set<Method>> methodsMap = _batchPermissionFunction.apply(
+				credentials, identifiers);
+
+			identifiers.forEach(
+				identifier -> {
+					Set<Method> methods = methodsMap.getOrDefault(
+						identifier, Collections.emptySet());
+
+					boolean deletable =
+						(_deleteItemConsumer != null) &&
+						methods.contains(DELETE);
+					boolean updatable =
+						(_updateItemFunction != null) && methods.contains(PUT);
+
+					map.put(identifier, _getOperations(deletable, updatable));
+				});
+
+			return map;
+		}
+
 		private List<Operation> _getOperations(
 			Credentials credentials, S identifier) {
 
-			List<Operation> operations = new ArrayList<>();
+			boolean deletable = _isAllowed(
+				_deleteItemPermissionFunction, credentials, identifier);
+			boolean updatable = _isAllowed(
+				_updateItemPermissionFunction, credentials, identifier);
 
-			Optional.ofNullable(
-				_deleteItemPermissionFunction
-			).filter(
-				function -> function.apply(credentials, identifier)
-			).ifPresent(
-				__ -> operations.add(new Operation(DELETE, _name + "/delete"))
-			);
+			return _getOperations(deletable, updatable);
+		}
+
+		private boolean _isAllowed(
+			BiFunction<Credentials, S, Boolean> permissionFunction,
+			Credentials credentials, S identifier) {
 
-			Optional.ofNullable(
-				_updateItemPermissionFunction
-			).filter(
-				function -> function.apply(credentials, identifier)
-			).ifPresent(
-				__ -> operations.add(
-					new Operation(_form, PUT, _name + "/update"))
-			);
+			if (permissionFunction == null) {
+				return false;
+			}
 
-			return operations;
+			return permissionFunction.apply(credentials, identifier);
 		}
 
+		private AsyncGetItemFunction<T, S> _asyncSingleModelFunction;
+		private BatchDeleteItemConsumer<S> _batchDeleteItemConsumer;
+		private BiFunction<Credentials, List<S>, Map<S, Set<Method>>>
+			_batchPermissionFunction;
+		private BatchUpdateItemFunction<T, S> _batchUpdateItemFunction;
 		private DeleteItemConsumer<S> _deleteItemConsumer;
 		private BiFunction<Credentials, S, Boolean>
 			_deleteItemPermissionFunction;
+		private List<Operation> _deleteOperations;
 		private Form _form;
 		private final String _name;
 		private final Consumer<String> _neededProviderConsumer;
+		private List<Operation> _operations;
 		private final ProvideFunction _provideFunction;
 		private GetItemFunction<T, S> _singleModelFunction;
 		private UpdateItemFunction<T, S> _updateItemFunction;
 		private BiFunction<Credentials, S, Boolean>
 			_updateItemPermissionFunction;
+		private List<Operation> _updateOperations;
 
 	}
 
+	private final AsyncGetItemFunction<T, S> _asyncSingleModelFunction;
+	private final BatchDeleteItemConsumer<S> _batchDeleteItemConsumer;
+	private final BatchGetOperationsFunction<S> _batchGetOperationsFunction;
+	private final BatchUpdateItemFunction<T, S> _batchUpdateItemFunction;
 	private final DeleteItemConsumer<S> _deleteItemConsumer;
 	private final Form _form;
 	private final GetItemFunction<T, S> _singleModelFunction;
@@ -15,12 +15,14 @@
 package com.liferay.apio.architect.routes;
 
 import static com.liferay.apio.architect.operation.Method.POST;
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.await;
 import static com.liferay.apio.architect.routes.RoutesBuilderUtil.provide;
 
 import static java.lang.String.join;
 
 import com.liferay.apio.architect.alias.ProvideFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
+import com.liferay.apio.architect.alias.routes.AsyncNestedGetPageFunction;
 import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
 import com.liferay.apio.architect.credentials.Credentials;
@@ -41,6 +43,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -63,11 +67,31 @@ import java.util.function.Consumer;
 public class NestedCollectionRoutes<T, S> {
 
 	public NestedCollectionRoutes(Builder<T, S> builder) {
+		_asyncNestedGetPageFunction = _getAsyncNestedGetPageFunction(builder);
 		_form = builder._form;
 		_nestedCreateItemFunction = builder._nestedCreateItemFunction;
 		_nestedGetPageFunction = builder._nestedGetPageFunction;
 	}
 
+	/**
+	 * Returns the function used to obtain the page asynchronously, if the
+	 * endpoint was added through the {@link Builder} and the function therefore
+	 * exists. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * <p>
+	 * If the page function was added synchronously, the returned function
+	 * wraps its result in an already completed stage.
+	 * </p>
+	 *
+	 * @return the function used to obtain the page asynchronously, if the
+	 *         function exists; {@code Optional#empty()} otherwise
+	 */
+	public Optional<AsyncNestedGetPageFunction<T, S>>
+		getAsyncNestedGetPageFunctionOptional() {
+
+		return Optional.ofNullable(_asyncNestedGetPageFunction);
+	}
+
 	/**
 	 * Returns the form that is used to create a collection item, if it was
 	 * added through the {@link Builder}. Returns {@code Optional#empty()}
@@ -108,6 +132,31 @@ public class NestedCollectionRoutes<T, S> {
 		return Optional.ofNullable(_nestedGetPageFunction);
 	}
 
+	private AsyncNestedGetPageFunction<T, S> _getAsyncNestedGetPageFunction(
+		Builder<T, S> builder) {
+
+		if (builder._asyncNestedGetPageFunction != null) {
+			return builder._asyncNestedGetPageFunction;
+		}
+
+		NestedGetPageFunction<T, S> nestedGetPageFunction =
+			builder._nestedGetPageFunction;
+
+		if (nestedGetPageFunction == null) {
+			return null;
+		}
+
+		return httpServletRequest -> path -> s -> nestedGetPageFunction.apply(
+			httpServletRequest
+		).apply(
+			path
+		).apply(
+			s
+		).map(
+			CompletableFuture::completedFuture
+		);
+	}
+
 	/**
 	 * Creates the {@link NestedCollectionRoutes} of a {@link
 	 * com.liferay.apio.architect.router.NestedCollectionRouter}.
@@ -129,6 +178,255 @@ public class NestedCollectionRoutes<T, S> {
 			_neededProviderConsumer = neededProviderConsumer;
 		}
 
+		/**
+		 * Adds a route to an asynchronous collection page function with no
+		 * extra parameters. The function returns a completion stage of the page
+		 * items, so the thread handling the request isn't blocked while the
+		 * result is calculated.
+		 *
+		 * @param  biFunction the function that calculates the page
+		 *         asynchronously
+		 * @return the updated builder
+		 */
+		public Builder<T, S> addAsyncGetter(
+			ThrowableBiFunction<Pagination, S, CompletionStage<PageItems<T>>>
+				biFunction) {
+
+			AsyncNestedGetPageFunction<T, S> asyncNestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, Credentials.class,
+					pagination -> credentials ->
+						biFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> new Page<>(
+									_nestedName, items, pagination, path,
+									_getOperations(credentials, identifier)))
+						).apply(
+							pagination, identifier
+						));
+
+			_asyncNestedGetPageFunction = asyncNestedGetPageFunction;
+
+			_nestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> await(
+					asyncNestedGetPageFunction.apply(
+						httpServletRequest
+					).apply(
+						path
+					).apply(
+						identifier
+					));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous collection page function with four
+		 * extra parameters. The function returns a completion stage of the page
+		 * items, so the thread handling the request isn't blocked while the
+		 * result is calculated.
+		 *
+		 * @param  hexaFunction the function that calculates the page
+		 *         asynchronously
+		 * @param  aClass the class of the page function's third parameter
+		 * @param  bClass the class of the page function's fourth parameter
+		 * @param  cClass the class of the page function's fifth parameter
+		 * @param  dClass the class of the page function's sixth parameter
+		 * @return the updated builder
+		 */
+		public <A, B, C, D> Builder<T, S> addAsyncGetter(
+			ThrowableHexaFunction
+				<Pagination, S, A, B, C, D, CompletionStage<PageItems<T>>>
+					hexaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			AsyncNestedGetPageFunction<T, S> asyncNestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, bClass, cClass, dClass,
+					Credentials.class,
+					pagination -> a -> b -> c -> d -> credentials ->
+						hexaFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> new Page<>(
+									_nestedName, items, pagination, path,
+									_getOperations(credentials, identifier)))
+						).apply(
+							pagination, identifier, a, b, c, d
+						));
+
+			_asyncNestedGetPageFunction = asyncNestedGetPageFunction;
+
+			_nestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> await(
+					asyncNestedGetPageFunction.apply(
+						httpServletRequest
+					).apply(
+						path
+					).apply(
+						identifier
+					));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous collection page function with three
+		 * extra parameters. The function returns a completion stage of the page
+		 * items, so the thread handling the request isn't blocked while the
+		 * result is calculated.
+		 *
+		 * @param  pentaFunction the function that calculates the page
+		 *         asynchronously
+		 * @param  aClass the class of the page function's third parameter
+		 * @param  bClass the class of the page function's fourth parameter
+		 * @param  cClass the class of the page function's fifth parameter
+		 * @return the updated builder
+		 */
+		public <A, B, C> Builder<T, S> addAsyncGetter(
+			ThrowablePentaFunction
+				<Pagination, S, A, B, C, CompletionStage<PageItems<T>>>
+					pentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			AsyncNestedGetPageFunction<T, S> asyncNestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, bClass, cClass, Credentials.class,
+					pagination -> a -> b -> c -> credentials ->
+						pentaFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> new Page<>(
+									_nestedName, items, pagination, path,
+									_getOperations(credentials, identifier)))
+						).apply(
+							pagination, identifier, a, b, c
+						));
+
+			_asyncNestedGetPageFunction = asyncNestedGetPageFunction;
+
+			_nestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> await(
+					asyncNestedGetPageFunction.apply(
+						httpServletRequest
+					).apply(
+						path
+					).apply(
+						identifier
+					));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous collection page function with two
+		 * extra parameters. The function returns a completion stage of the page
+		 * items, so the thread handling the request isn't blocked while the
+		 * result is calculated.
+		 *
+		 * @param  tetraFunction the function that calculates the page
+		 *         asynchronously
+		 * @param  aClass the class of the page function's third parameter
+		 * @param  bClass the class of the page function's fourth parameter
+		 * @return the updated builder
+		 */
+		public <A, B> Builder<T, S> addAsyncGetter(
+			ThrowableTetraFunction
+				<Pagination, S, A, B, CompletionStage<PageItems<T>>>
+					tetraFunction,
+			Class<A> aClass, Class<B> bClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			AsyncNestedGetPageFunction<T, S> asyncNestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, bClass, Credentials.class,
+					pagination -> a -> b -> credentials ->
+						tetraFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> new Page<>(
+									_nestedName, items, pagination, path,
+									_getOperations(credentials, identifier)))
+						).apply(
+							pagination, identifier, a, b
+						));
+
+			_asyncNestedGetPageFunction = asyncNestedGetPageFunction;
+
+			_nestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> await(
+					asyncNestedGetPageFunction.apply(
+						httpServletRequest
+					).apply(
+						path
+					).apply(
+						identifier
+					));
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to an asynchronous collection page function with one
+		 * extra parameter. The function returns a completion stage of the page
+		 * items, so the thread handling the request isn't blocked while the
+		 * result is calculated.
+		 *
+		 * @param  triFunction the function that calculates the page
+		 *         asynchronously
+		 * @param  aClass the class of the page function's third parameter
+		 * @return the updated builder
+		 */
+		public <A> Builder<T, S> addAsyncGetter(
+			ThrowableTriFunction
+				<Pagination, S, A, CompletionStage<PageItems<T>>>
+					triFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			AsyncNestedGetPageFunction<T, S> asyncNestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, Credentials.class,
+					pagination -> a -> credentials ->
+						triFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> new Page<>(
+									_nestedName, items, pagination, path,
+									_getOperations(credentials, identifier)))
+						).apply(
+							pagination, identifier, a
+						));
+
+			_asyncNestedGetPageFunction = asyncNestedGetPageFunction;
+
+			_nestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> await(
+					asyncNestedGetPageFunction.apply(
+						httpServletRequest
+					).apply(
+						path
+					).apply(
+						identifier
+					));
+
+			return this;
+		}
+
 		/**
 		 * Adds a route to a creator function that has no extra parameters.
 		 *
@@ -520,6 +818,7 @@ public class NestedCollectionRoutes<T, S> {
 			);
 		}
 
+		private AsyncNestedGetPageFunction<T, S> _asyncNestedGetPageFunction;
 		private Form _form;
 		private final String _name;
 		private final Consumer<String> _neededProviderConsumer;
@@ -532,6 +831,7 @@ public class NestedCollectionRoutes<T, S> {
 
 	}
 
+	private final AsyncNestedGetPageFunction<T, S> _asyncNestedGetPageFunction;
 	private final Form _form;
 	private final NestedCreateItemFunction<T, S> _nestedCreateItemFunction;
 	private final NestedGetPageFunction<T, S> _nestedGetPageFunction;
@@ -16,10 +16,19 @@ package com.liferay.apio.architect.routes;
 
 import static com.liferay.apio.architect.unsafe.Unsafe.unsafeCast;
 
+import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.consumer.throwable.ThrowableConsumer;
 import com.liferay.apio.architect.function.throwable.ThrowableFunction;
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 
 /**
@@ -33,6 +42,122 @@ import java.util.function.Function;
  */
 public class RoutesBuilderUtil {
 
+	/**
+	 * Waits for the completion stage contained in the {@code Try} and returns
+	 * its result. If the stage completes exceptionally, the returned {@code
+	 * Try} contains the exception that caused it.
+	 *
+	 * <p>
+	 * This method is used to obtain a synchronous version of an asynchronous
+	 * route, so the route can also be used where a result is needed right away
+	 * (e.g., to render embedded models).
+	 * </p>
+	 *
+	 * @param  completionStageTry the {@code Try} containing the completion
+	 *         stage
+	 * @return the result of the completion stage
+	 */
+	public static <T> Try<T> await(
+		Try<CompletionStage<T>> completionStageTry) {
+
+		return completionStageTry.flatMap(
+			completionStage -> Try.fromFallible(
+				() -> {
+					CompletableFuture<T> completableFuture =
+						completionStage.toCompletableFuture();
+
+					try {
+						return completableFuture.get();
+					}
+					catch (ExecutionException ee) {
+						Throwable cause = ee.getCause();
+
+						if (cause instanceof Exception) {
+							throw (Exception)cause;
+						}
+
+						throw ee;
+					}
+					catch (InterruptedException ie) {
+						Thread currentThread = Thread.currentThread();
+
+						currentThread.interrupt();
+
+						throw ie;
+					}
+				}));
+	}
+
+	/**
+	 * Returns the {@link BatchResult} of a batch route. The batch function is
+	 * called once, with the values of every valid element. Elements whose
+	 * value couldn't be obtained keep their failure, while the rest receive,
+	 * in order, the items returned by the function, or the function's failure
+	 * if it fails.
+	 *
+	 * <p>
+	 * The batch function must return one item per value it receives, in the
+	 * same order. Otherwise, every valid element fails with an {@code
+	 * IllegalStateException}.
+	 * </p>
+	 *
+	 * @param  name the resource's name
+	 * @param  tries the result of obtaining each element's value
+	 * @param  throwableFunction the batch function
+	 * @return the result of each element of the batch
+	 */
+	public static <R, T> BatchResult<SingleModel<T>> createBatchResult(
+		String name, List<Try<R>> tries,
+		ThrowableFunction<List<R>, List<T>> throwableFunction) {
+
+		List<R> values = new ArrayList<>();
+
+		tries.forEach(rTry -> rTry.ifSuccess(values::add));
+
+		Try<List<T>> itemsTry = Try.fromFallible(
+			() -> {
+				if (values.isEmpty()) {
+					return Collections.emptyList();
+				}
+
+				List<T> items = throwableFunction.apply(values);
+
+				if (items.size() != values.size()) {
+					throw new IllegalStateException(
+						"The batch function of " + name + " returned " +
+							items.size() + " items for " + values.size() +
+								" elements");
+				}
+
+				return items;
+			});
+
+		List<Try<SingleModel<T>>> results = new ArrayList<>(tries.size());
+
+		Iterator<T> iterator = itemsTry.map(
+			List::iterator
+		).orElse(
+			null
+		);
+
+		for (Try<R> rTry : tries) {
+			if (rTry.isFailure()) {
+				results.add(unsafeCast(rTry));
+			}
+			else if (iterator == null) {
+				results.add(unsafeCast(itemsTry));
+			}
+			else {
+				results.add(
+					Try.success(
+						new SingleModel<>(
+							iterator.next(), name, Collections.emptyList())));
+			}
+		}
+
+		return new BatchResult<>(results);
+	}
+
 	/**
 	 * Returns the result of applying instances of the six classes requested
 	 * from the HTTP request to the {@code function}.
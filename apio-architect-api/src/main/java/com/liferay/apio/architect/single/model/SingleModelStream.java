@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.single.model;
+
+import java.util.Collections;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Provides a wrapper for a lazily consumed stream of models of the same
+ * resource. Each model is handed out as a {@link SingleModel}, one at a time,
+ * so the whole collection never has to be held in memory.
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ */
+public class SingleModelStream<T> implements AutoCloseable {
+
+	public SingleModelStream(String resourceName, Stream<T> stream) {
+		_resourceName = resourceName;
+		_stream = stream;
+	}
+
+	/**
+	 * Closes the underlying stream, releasing the resources it holds.
+	 */
+	@Override
+	public void close() {
+		_stream.close();
+	}
+
+	/**
+	 * Performs an action for each model of the stream, in encounter order, and
+	 * closes the stream afterwards. Models are wrapped in a {@link
+	 * SingleModel} without operations. This method can only be called once.
+	 *
+	 * @param consumer the action to perform for each single model
+	 */
+	public void forEach(Consumer<SingleModel<T>> consumer) {
+		try (Stream<T> stream = _stream) {
+			stream.map(
+				model -> new SingleModel<>(
+					model, _resourceName, Collections.emptyList())
+			).forEachOrdered(
+				consumer
+			);
+		}
+	}
+
+	/**
+	 * Returns the resource's name.
+	 *
+	 * @return the resource's name
+	 */
+	public String getResourceName() {
+		return _resourceName;
+	}
+
+	private final String _resourceName;
+	private final Stream<T> _stream;
+
+}
@@ -14,17 +14,21 @@
 
 package com.liferay.apio.architect.endpoint;
 
+import static com.liferay.apio.architect.endpoint.ExceptionSupplierUtil.noSuchElement;
 import static com.liferay.apio.architect.endpoint.ExceptionSupplierUtil.notAllowed;
 import static com.liferay.apio.architect.endpoint.ExceptionSupplierUtil.notFound;
 import static com.liferay.apio.architect.operation.Method.POST;
 import static com.liferay.apio.architect.operation.Method.PUT;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.core.Is.is;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
+import java.util.NoSuchElementException;
+
 import javax.ws.rs.NotAllowedException;
 import javax.ws.rs.NotFoundException;
 
@@ -50,6 +54,21 @@ public class ExceptionSupplierUtilTest {
 		}
 	}
 
+	@Test
+	public void testNoSuchElementDoesNotFillInStackTrace() {
+		NoSuchElementException noSuchElementException = noSuchElement().get();
+
+		assertThat(noSuchElementException.getStackTrace(), is(emptyArray()));
+	}
+
+	@Test
+	public void testNotAllowedDoesNotFillInStackTrace() {
+		NotAllowedException notAllowedException = notAllowed(
+			POST, "a", "b", "c").get();
+
+		assertThat(notAllowedException.getStackTrace(), is(emptyArray()));
+	}
+
 	@Test
 	public void testNotAllowedReturnsValidException() {
 		NotAllowedException notAllowedException = notAllowed(
@@ -69,6 +88,13 @@ public class ExceptionSupplierUtilTest {
 		assertThat(notAllowedException.getMessage(), is(expected));
 	}
 
+	@Test
+	public void testNotFoundDoesNotFillInStackTrace() {
+		NotFoundException notFoundException = notFound("a", "b", "c").get();
+
+		assertThat(notFoundException.getStackTrace(), is(emptyArray()));
+	}
+
 	@Test
 	public void testNotFoundReturnsValidException() {
 		NotFoundException notFoundException = notFound("a", "b", "c").get();
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.event;
+
+import static com.liferay.apio.architect.event.PipelineStage.ROUTE_EXECUTION;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PipelineEventUtilTest {
+
+	@After
+	public void tearDown() {
+		PipelineEventUtil.setPipelineEventRecorder(null);
+	}
+
+	@Test
+	public void testBeginWithoutRecorderReturnsDisabledEvent() {
+		PipelineEvent pipelineEvent = PipelineEventUtil.begin(ROUTE_EXECUTION);
+
+		assertThat(pipelineEvent, is(PipelineEventUtil.DISABLED));
+		assertThat(pipelineEvent.isEnabled(), is(false));
+	}
+
+	@Test
+	public void testBeginWithRecorderDelegatesToRecorder() {
+		PipelineEvent pipelineEvent = Mockito.mock(PipelineEvent.class);
+
+		PipelineEventUtil.setPipelineEventRecorder(
+			pipelineStage -> pipelineEvent);
+
+		assertThat(PipelineEventUtil.begin(ROUTE_EXECUTION), is(pipelineEvent));
+
+		PipelineEventUtil.setPipelineEventRecorder(null);
+
+		assertThat(
+			PipelineEventUtil.begin(ROUTE_EXECUTION),
+			is(PipelineEventUtil.DISABLED));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testConstructorThrowsException() throws Throwable {
+		Constructor<?> constructor =
+			PipelineEventUtil.class.getDeclaredConstructors()[0];
+
+		constructor.setAccessible(true);
+
+		try {
+			constructor.newInstance();
+		}
+		catch (InvocationTargetException ite) {
+			throw ite.getTargetException();
+		}
+	}
+
+}
\ No newline at end of file
@@ -23,11 +23,13 @@ import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 import com.liferay.apio.architect.exception.FalsePredicateException;
+import com.liferay.apio.architect.functional.Try.Failure;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -119,6 +121,21 @@ public class TryTest {
 		).get();
 	}
 
+	@Parameters(method = SUCCESS)
+	@Test
+	public void testInvokingFilterOnSuccessWithFalsePredicateHasNoStackTrace(
+		Try<String> stringTry) {
+
+		Try<String> filteredTry = stringTry.filter(
+			string -> string.startsWith("long"));
+
+		Failure<String> failure = (Failure<String>)filteredTry;
+
+		Exception exception = failure.getException();
+
+		assertThat(exception.getStackTrace(), is(emptyArray()));
+	}
+
 	@Parameters(method = SUCCESS)
 	@Test(expected = FalsePredicateException.class)
 	public void testInvokingFilterOnSuccessWithFalsePredicateReturnsException(
@@ -397,8 +414,11 @@ public class TryTest {
 		assertThat(newStringTry2.isFailure(), is(true));
 
 		newStringTry2.ifFailure(
-			exception -> assertThat(
-				exception.getClass(), is(NoSuchElementException.class)));
+			exception -> {
+				assertThat(
+					exception, is(instanceOf(NoSuchElementException.class)));
+				assertThat(exception.getStackTrace(), is(emptyArray()));
+			});
 	}
 
 	@Parameters(method = SUCCESS)
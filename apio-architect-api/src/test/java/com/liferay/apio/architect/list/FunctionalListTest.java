@@ -21,6 +21,9 @@ import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
 import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 
@@ -34,6 +37,30 @@ import org.junit.Test;
  */
 public class FunctionalListTest {
 
+	@Test
+	public void testAppendingToListDoesNotModifyOriginalList() {
+		FunctionalList<String> stringFunctionalList = _getFunctionalList();
+
+		new FunctionalList<>(stringFunctionalList, "element5");
+
+		Stream<String> stream = stringFunctionalList.tailStream();
+
+		assertThat(stream, contains("element2", "element3", "element4"));
+	}
+
+	@Test
+	public void testJoiningListReturnsCachedJoinedElements() {
+		FunctionalList<String> stringFunctionalList = _getFunctionalList();
+
+		String joined = stringFunctionalList.join(".");
+
+		assertThat(joined, is("element1.element2.element3.element4"));
+		assertThat(stringFunctionalList.join("."), is(sameInstance(joined)));
+		assertThat(
+			stringFunctionalList.join("/"),
+			is("element1/element2/element3/element4"));
+	}
+
 	@Test
 	public void testRetrievingHeadFromMultiElementListReturnsFirstElement() {
 		FunctionalList<String> stringFunctionalList = _getFunctionalList();
@@ -91,6 +118,18 @@ public class FunctionalListTest {
 		assertThat(optional, emptyOptional());
 	}
 
+	@Test
+	public void testRetrievingMiddleArrayFromMultiElementListReturnsArray() {
+		FunctionalList<String> stringFunctionalList = _getFunctionalList();
+
+		String[] middle = stringFunctionalList.middleArray(String[]::new);
+
+		assertThat(middle, is(arrayContaining("element2", "element3")));
+		assertThat(
+			stringFunctionalList.middleArray(String[]::new),
+			is(sameInstance(middle)));
+	}
+
 	@Test
 	public void testRetrievingMiddleFromMultiElementListReturnsMiddleSublist() {
 		FunctionalList<String> stringFunctionalList = _getFunctionalList();
@@ -110,6 +149,29 @@ public class FunctionalListTest {
 		assertThat(stream, empty());
 	}
 
+	@Test
+	public void testRetrievingTailArrayFromMultiElementListReturnsArray() {
+		FunctionalList<String> stringFunctionalList = _getFunctionalList();
+
+		String[] tail = stringFunctionalList.tailArray(String[]::new);
+
+		assertThat(
+			tail, is(arrayContaining("element2", "element3", "element4")));
+		assertThat(
+			stringFunctionalList.tailArray(String[]::new),
+			is(sameInstance(tail)));
+	}
+
+	@Test
+	public void testRetrievingTailArrayFromOneElementListReturnsEmptyArray() {
+		FunctionalList<String> stringFunctionalList = new FunctionalList<>(
+			null, "test");
+
+		String[] tail = stringFunctionalList.tailArray(String[]::new);
+
+		assertThat(tail, is(emptyArray()));
+	}
+
 	@Test
 	public void testRetrievingTailFromMultiElementListReturnsMiddleSublist() {
 		FunctionalList<String> stringFunctionalList = _getFunctionalList();
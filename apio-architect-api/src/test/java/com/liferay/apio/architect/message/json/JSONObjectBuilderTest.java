@@ -30,8 +30,13 @@ import static org.hamcrest.Matchers.not;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
+import com.liferay.apio.architect.list.FunctionalList;
+import com.liferay.apio.architect.message.json.JSONObjectBuilder.FieldStep;
+
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 
 import org.hamcrest.Matcher;
 
@@ -73,6 +78,23 @@ public class JSONObjectBuilderTest {
 		assertThat(getJsonObject(), isAJsonObjectWithAnArray);
 	}
 
+	@Test
+	public void testInvokingAddAllPrimitivesOnAnArrayValueCreatesAValidArray() {
+		JSONObjectBuilder.ArrayValueStep arrayValueStep =
+			_jsonObjectBuilder.field(
+				"array"
+			).arrayValue();
+
+		arrayValueStep.addAllNumbers(new long[] {21L, 4200000000L});
+		arrayValueStep.addAllNumbers(new double[] {1.5});
+		arrayValueStep.addNumber(42L);
+
+		JsonObject jsonObject = getJsonObject();
+
+		assertThat(
+			jsonObject.toString(), is("{\"array\":[21,4200000000,1.5,42]}"));
+	}
+
 	@Test
 	public void testInvokingAddConsumerCreatesAValidJsonArray() {
 		_jsonObjectBuilder.field(
@@ -307,6 +329,46 @@ public class JSONObjectBuilderTest {
 			is(aJsonObjectWhere("the", is(_aJsonObjectWithTheSolution))));
 	}
 
+	@Test
+	public void testInvokingNestedObjectWalksThePathOnlyOnce() {
+		FunctionalList<String> pathElements = new FunctionalList<>(
+			new FunctionalList<>(null, "first"), "second");
+
+		AtomicInteger counter = new AtomicInteger();
+
+		BiFunction<JSONObjectBuilder, FunctionalList<String>, FieldStep>
+			biFunction = (builder, elements) -> {
+				counter.incrementAndGet();
+
+				return builder.nestedField("first", "second");
+			};
+
+		_jsonObjectBuilder.nestedObject(
+			pathElements, biFunction
+		).field(
+			"solution"
+		).numberValue(
+			42
+		);
+
+		_jsonObjectBuilder.nestedObject(
+			pathElements, biFunction
+		).field(
+			"other"
+		).stringValue(
+			"forty-two"
+		);
+
+		JsonObject jsonObject = getJsonObject();
+
+		assertThat(counter.get(), is(1));
+		assertThat(
+			jsonObject.toString(),
+			is(
+				"{\"first\":{\"second\":{\"solution\":42," +
+					"\"other\":\"forty-two\"}}}"));
+	}
+
 	@Test
 	public void testInvokingNestedPrefixedFieldCreatesACorrectField() {
 		_jsonObjectBuilder.nestedPrefixedField(
@@ -340,6 +402,33 @@ public class JSONObjectBuilderTest {
 		assertThat(getJsonObject(), is(_aJsonObjectWithTheSolution));
 	}
 
+	@Test
+	public void testInvokingPrimitiveNumberValueCreatesANumber() {
+		_jsonObjectBuilder.field(
+			"solution"
+		).numberValue(
+			42L
+		);
+
+		_jsonObjectBuilder.field(
+			"big"
+		).numberValue(
+			4200000000L
+		);
+
+		_jsonObjectBuilder.field(
+			"half"
+		).numberValue(
+			0.5D
+		);
+
+		JsonObject jsonObject = getJsonObject();
+
+		assertThat(
+			jsonObject.toString(),
+			is("{\"solution\":42,\"big\":4200000000,\"half\":0.5}"));
+	}
+
 	@Test
 	public void testInvokingStringValueCreatesAString() {
 		_jsonObjectBuilder.field(
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.message.json;
 
+import static com.liferay.apio.architect.operation.Method.DELETE;
 import static com.liferay.apio.architect.unsafe.Unsafe.unsafeCast;
 
 import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
@@ -21,6 +22,8 @@ import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.operation.Operation;
+
 import java.util.Optional;
 
 import org.junit.Test;
@@ -207,6 +210,72 @@ public class PageMessageMapperTest {
 		);
 	}
 
+	@Test
+	public void testMessageMapperRestItemOperationsOnSingleModelMapper() {
+		SingleModelMessageMapper<Integer> singleModelMessageMapper = unsafeCast(
+			Mockito.mock(SingleModelMessageMapper.class));
+
+		PageMessageMapper<Integer> pageMessageMapper =
+			new PageMessageMapper<Integer>() {
+
+				@Override
+				public String getMediaType() {
+					return "mediaType";
+				}
+
+				@Override
+				public Optional<SingleModelMessageMapper<Integer>>
+					getSingleModelMessageMapperOptional() {
+
+					return Optional.of(singleModelMessageMapper);
+				}
+
+			};
+
+		JSONObjectBuilder pageJSONObjectBuilder = new JSONObjectBuilder();
+		JSONObjectBuilder itemJSONObjectBuilder = new JSONObjectBuilder();
+		JSONObjectBuilder operationJSONObjectBuilder = new JSONObjectBuilder();
+
+		Operation operation = new Operation(DELETE, "delete-operation");
+
+		pageMessageMapper.onStartItemOperation(
+			pageJSONObjectBuilder, itemJSONObjectBuilder,
+			operationJSONObjectBuilder, operation);
+		pageMessageMapper.mapItemOperationFormURL(
+			pageJSONObjectBuilder, itemJSONObjectBuilder,
+			operationJSONObjectBuilder, "url");
+		pageMessageMapper.mapItemOperationMethod(
+			pageJSONObjectBuilder, itemJSONObjectBuilder,
+			operationJSONObjectBuilder, DELETE);
+		pageMessageMapper.onFinishItemOperation(
+			pageJSONObjectBuilder, itemJSONObjectBuilder,
+			operationJSONObjectBuilder, operation);
+
+		Mockito.verify(
+			singleModelMessageMapper
+		).onStartOperation(
+			itemJSONObjectBuilder, operationJSONObjectBuilder, operation
+		);
+
+		Mockito.verify(
+			singleModelMessageMapper
+		).mapOperationFormURL(
+			itemJSONObjectBuilder, operationJSONObjectBuilder, "url"
+		);
+
+		Mockito.verify(
+			singleModelMessageMapper
+		).mapOperationMethod(
+			itemJSONObjectBuilder, operationJSONObjectBuilder, DELETE
+		);
+
+		Mockito.verify(
+			singleModelMessageMapper
+		).onFinishOperation(
+			itemJSONObjectBuilder, operationJSONObjectBuilder, operation
+		);
+	}
+
 	private static void _callAllItemMethods(
 		PageMessageMapper<Integer> pageMessageMapper) {
 
@@ -16,6 +16,7 @@ package com.liferay.apio.architect.pagination;
 
 import static com.liferay.apio.architect.operation.Method.POST;
 
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
 import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
 
 import static java.util.Collections.emptyList;
@@ -27,9 +28,14 @@ import static org.hamcrest.core.Is.is;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.uri.Path;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -53,6 +59,69 @@ public class PageTest {
 		_page = new Page<>("name", _pageItems, pagination, _path, _operations);
 	}
 
+	@Test
+	public void testForEachItemPullsStreamedItemsAndClosesSource() {
+		AtomicBoolean atomicBoolean = new AtomicBoolean();
+
+		List<String> list = Arrays.asList("apio", "architect");
+
+		PageItems<String> pageItems = new StreamPageItems<>(
+			list.iterator(), () -> atomicBoolean.set(true),
+			TotalCount.unknown());
+
+		Page<String> page = new Page<>(
+			"", pageItems, new Pagination(2, 1), _path, emptyList());
+
+		List<String> items = new ArrayList<>();
+
+		page.forEachItem(
+			item -> {
+				assertThat(atomicBoolean.get(), is(false));
+
+				items.add(item);
+			});
+
+		assertThat(items, contains("apio", "architect"));
+		assertThat(atomicBoolean.get(), is(true));
+		assertThat(page.getItemsCount(), is(2));
+		assertThat(page.hasNext(), is(true));
+	}
+
+	@Test
+	public void testGetItemsCollectsStreamedItemsAndClosesSource() {
+		AtomicBoolean atomicBoolean = new AtomicBoolean();
+
+		Stream<String> stream = Stream.of("apio", "architect");
+
+		PageItems<String> pageItems = new StreamPageItems<>(
+			stream.onClose(() -> atomicBoolean.set(true)),
+			TotalCount.exact(2));
+
+		Page<String> page = new Page<>(
+			"", pageItems, new Pagination(30, 1), _path, emptyList());
+
+		assertThat(page.getItems(), contains("apio", "architect"));
+		assertThat(atomicBoolean.get(), is(true));
+		assertThat(page.getItemsCount(), is(2));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testGetItemsFailsIfStreamedItemsHaveBeenConsumed() {
+		PageItems<String> pageItems = new StreamPageItems<>(
+			Stream.of("apio", "architect"), TotalCount.unknown());
+
+		Page<String> page = new Page<>(
+			"", pageItems, new Pagination(30, 1), _path, emptyList());
+
+		page.forEachItem(
+			__ -> {
+			});
+
+		assertThat(page.getItemsCount(), is(2));
+
+		page.getItems();
+	}
+
 	@Test
 	public void testGetItemsPerPageReturnsItemsPerPage() {
 		assertThat(_page.getItemsPerPage(), is(1));
@@ -80,6 +149,19 @@ public class PageTest {
 		assertThat(_page.getLastPageNumber(), is(10));
 	}
 
+	@Test
+	public void testGetLastPageNumberReturnsNextPageWithUnknownCount() {
+		PageItems<String> pageItems = new PageItems<>(
+			Collections.singleton("apio"), TotalCount.unknown());
+
+		Page<String> page = new Page<>(
+			"", pageItems, new Pagination(1, 4), _path, emptyList());
+
+		assertThat(page.getLastPageNumber(), is(5));
+		assertThat(page.hasLast(), is(false));
+		assertThat(page.hasNext(), is(true));
+	}
+
 	@Test
 	public void testGetOperationsReturnsList() {
 		assertThat(_page.getOperations(), is(_operations));
@@ -113,6 +195,52 @@ public class PageTest {
 		assertThat(_page.getTotalCount(), is(10));
 	}
 
+	@Test
+	public void testGetTotalCountWithEstimatedCount() {
+		PageItems<String> pageItems = new PageItems<>(
+			Collections.singleton("apio"), TotalCount.estimated(1000));
+
+		Page<String> page = new Page<>(
+			"", pageItems, new Pagination(30, 1), _path, emptyList());
+
+		assertThat(
+			page.getTotalCountOptional(), is(optionalWithValue(is(1000))));
+		assertThat(page.hasLast(), is(false));
+		assertThat(page.hasNext(), is(false));
+		assertThat(page.isTotalCountEstimated(), is(true));
+	}
+
+	@Test
+	public void testGetTotalCountWithLazyCountIsOnlyCalculatedOnce() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		PageItems<String> pageItems = new PageItems<>(
+			Collections.singleton("apio"),
+			TotalCount.lazy(() -> atomicInteger.incrementAndGet() + 9));
+
+		Page<String> page = new Page<>(
+			"", pageItems, new Pagination(1, 4), _path, emptyList());
+
+		assertThat(atomicInteger.get(), is(0));
+		assertThat(page.getTotalCount(), is(10));
+		assertThat(page.getLastPageNumber(), is(10));
+		assertThat(page.hasLast(), is(true));
+		assertThat(atomicInteger.get(), is(1));
+	}
+
+	@Test
+	public void testGetTotalCountWithUnknownCountIsEmpty() {
+		PageItems<String> pageItems = new PageItems<>(
+			emptyList(), TotalCount.unknown());
+
+		Page<String> page = new Page<>(
+			"", pageItems, new Pagination(30, 1), _path, emptyList());
+
+		assertThat(page.getTotalCountOptional(), is(emptyOptional()));
+		assertThat(page.getTotalCount(), is(0));
+		assertThat(page.hasNext(), is(false));
+	}
+
 	@Test
 	public void testHasNextReturnsFalseWhenIsLast() {
 		Pagination pagination = new Pagination(1, 10);
@@ -144,6 +272,29 @@ public class PageTest {
 		assertThat(_page.hasPrevious(), is(true));
 	}
 
+	@Test
+	public void testNavigationMethodsDoNotCalculateLazyCount() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		PageItems<String> pageItems = new PageItems<>(
+			Collections.singleton("apio"),
+			TotalCount.lazy(atomicInteger::incrementAndGet));
+
+		Page<String> page = new Page<>(
+			"", pageItems, new Pagination(1, 4), _path, emptyList());
+
+		assertThat(page.hasNext(), is(true));
+		assertThat(page.hasLast(), is(false));
+		assertThat(page.getLastPageNumber(), is(5));
+		assertThat(atomicInteger.get(), is(0));
+
+		TotalCount totalCount = page.getTotal();
+
+		assertThat(totalCount.isLazy(), is(true));
+		assertThat(
+			totalCount.getCalculatedValueOptional(), is(emptyOptional()));
+	}
+
 	private List<Operation> _operations;
 	private Page<String> _page;
 	private PageItems<String> _pageItems;
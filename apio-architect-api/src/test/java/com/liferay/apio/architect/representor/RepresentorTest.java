@@ -30,6 +30,8 @@ import com.liferay.apio.architect.related.RelatedCollection;
 import com.liferay.apio.architect.related.RelatedModel;
 import com.liferay.apio.architect.representor.Representor.Builder;
 import com.liferay.apio.architect.representor.dummy.Dummy;
+import com.liferay.apio.architect.representor.function.DoubleFieldFunction;
+import com.liferay.apio.architect.representor.function.LongFieldFunction;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
@@ -38,6 +40,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -94,6 +98,14 @@ public class RepresentorTest {
 			"date2", dummy -> dummy.date2
 		).addDate(
 			"nullDate", __ -> null
+		).addDouble(
+			"double1", __ -> 1.5
+		).addDouble(
+			"double2", __ -> 2.5
+		).addDoubleList(
+			"doubleList1", __ -> new double[] {1.5, 2.5}
+		).addInt(
+			"int1", dummy -> dummy.id
 		).addLink(
 			"link1", "Link 1"
 		).addLink(
@@ -106,6 +118,10 @@ public class RepresentorTest {
 			"localized1", Dummy::getLocalizedString1
 		).addLocalizedStringByLocale(
 			"localized2", Dummy::getLocalizedString2
+		).addLong(
+			"long1", __ -> 42L
+		).addLongList(
+			"longList1", __ -> new long[] {1L, 2L, 3L}
 		).addNumber(
 			"number1", dummy -> dummy.number1
 		).addNumber(
@@ -165,6 +181,37 @@ public class RepresentorTest {
 			asList("Link 1", "Link 2"));
 	}
 
+	@Test
+	public void testPrimitiveArrayFunctions() {
+		testFields(
+			_dummy, _representor.getDoubleListFunctions(),
+			asList("doubleList1"), asList(new double[] {1.5, 2.5}));
+
+		testFields(
+			_dummy, _representor.getLongListFunctions(), asList("longList1"),
+			asList(new long[] {1L, 2L, 3L}));
+	}
+
+	@Test
+	public void testPrimitiveDoubleFunctions() {
+		List<DoubleFieldFunction<Dummy>> doubleFieldFunctions =
+			_representor.getDoubleFunctions();
+
+		List<String> keys = new ArrayList<>();
+		List<Double> values = new ArrayList<>();
+
+		doubleFieldFunctions.forEach(
+			doubleFieldFunction -> {
+				ToDoubleFunction<Dummy> function = doubleFieldFunction.function;
+
+				keys.add(doubleFieldFunction.key);
+				values.add(function.applyAsDouble(_dummy));
+			});
+
+		assertThat(keys, contains("double1", "double2"));
+		assertThat(values, contains(1.5, 2.5));
+	}
+
 	@Test
 	public void testPrimitiveFunctions() {
 		testFields(
@@ -208,6 +255,26 @@ public class RepresentorTest {
 			asList(asList("a", "b", "c", "d"), asList("e", "f", "g", "h")));
 	}
 
+	@Test
+	public void testPrimitiveLongFunctions() {
+		List<LongFieldFunction<Dummy>> longFieldFunctions =
+			_representor.getLongFunctions();
+
+		List<String> keys = new ArrayList<>();
+		List<Long> values = new ArrayList<>();
+
+		longFieldFunctions.forEach(
+			longFieldFunction -> {
+				ToLongFunction<Dummy> function = longFieldFunction.function;
+
+				keys.add(longFieldFunction.key);
+				values.add(function.applyAsLong(_dummy));
+			});
+
+		assertThat(keys, contains("int1", "long1"));
+		assertThat(values, contains(23L, 42L));
+	}
+
 	@Test
 	public void testRelatedCollections() {
 		Stream<RelatedCollection<?>> relatedCollections =
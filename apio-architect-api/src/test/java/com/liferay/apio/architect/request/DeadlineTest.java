@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.request;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.exception.DeadlineExceededException;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class DeadlineTest {
+
+	@Test(expected = DeadlineExceededException.class)
+	public void testCheckThrowsExceptionIfDeadlineHasExpired() {
+		Deadline deadline = Deadline.after(-1, TimeUnit.MILLISECONDS);
+
+		assertThat(deadline.isExpired(), is(true));
+
+		deadline.check();
+	}
+
+	@Test
+	public void testDeadlineInTheFutureHasNotExpired() {
+		Deadline deadline = Deadline.after(1, TimeUnit.HOURS);
+
+		deadline.check();
+
+		assertThat(deadline.isExpired(), is(false));
+		assertThat(
+			deadline.getRemainingNanos(),
+			is(greaterThan(TimeUnit.MINUTES.toNanos(59))));
+	}
+
+	@Test
+	public void testGetDeadlineReturnsAttachedDeadline() {
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		assertThat(Deadline.getDeadline(httpServletRequest), is(Deadline.NONE));
+
+		Deadline deadline = Deadline.after(1, TimeUnit.SECONDS);
+
+		deadline.attach(httpServletRequest);
+
+		Mockito.verify(
+			httpServletRequest
+		).setAttribute(
+			Deadline.class.getName(), deadline
+		);
+
+		Mockito.when(
+			httpServletRequest.getAttribute(Deadline.class.getName())
+		).thenReturn(
+			deadline
+		);
+
+		assertThat(Deadline.getDeadline(httpServletRequest), is(deadline));
+	}
+
+	@Test
+	public void testGetDeadlineWithNullRequestReturnsNone() {
+		assertThat(Deadline.getDeadline(null), is(Deadline.NONE));
+	}
+
+	@Test
+	public void testNoneNeverExpires() {
+		Deadline.NONE.check();
+
+		assertThat(Deadline.NONE.isExpired(), is(false));
+		assertThat(Deadline.NONE.getRemainingNanos(), is(Long.MAX_VALUE));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.request;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.request.RequestTrace.Span;
+
+import java.util.SortedMap;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RequestTraceTest {
+
+	@Test
+	public void testAddSpanAccumulatesDurationsWithTheSameName() {
+		RequestTrace requestTrace = new RequestTrace();
+
+		requestTrace.addSpan("related", 100);
+		requestTrace.addSpan("related", 200);
+		requestTrace.addSpan("provider", 50);
+
+		SortedMap<String, Long> spans = requestTrace.getSpans();
+
+		assertThat(spans.size(), is(2));
+		assertThat(spans.firstKey(), is("provider"));
+		assertThat(spans.get("provider"), is(50L));
+		assertThat(spans.get("related"), is(300L));
+		assertThat(requestTrace.getSpanNanos("missing"), is(0L));
+	}
+
+	@Test
+	public void testDisabledRequestTraceDoesNotRecordSpans() {
+		RequestTrace requestTrace = RequestTrace.DISABLED;
+
+		requestTrace.addSpan("related", 100);
+
+		try (Span span = requestTrace.startSpan("provider")) {
+		}
+
+		String string = requestTrace.trace("negotiation", () -> "Apio");
+
+		assertThat(requestTrace.isEnabled(), is(false));
+		assertThat(requestTrace.getSpans().isEmpty(), is(true));
+		assertThat(string, is("Apio"));
+	}
+
+	@Test
+	public void testGetRequestTraceReturnsAttachedRequestTrace() {
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		assertThat(
+			RequestTrace.getRequestTrace(httpServletRequest),
+			is(RequestTrace.DISABLED));
+
+		RequestTrace requestTrace = new RequestTrace();
+
+		requestTrace.attach(httpServletRequest);
+
+		Mockito.verify(
+			httpServletRequest
+		).setAttribute(
+			RequestTrace.class.getName(), requestTrace
+		);
+
+		Mockito.when(
+			httpServletRequest.getAttribute(RequestTrace.class.getName())
+		).thenReturn(
+			requestTrace
+		);
+
+		assertThat(
+			RequestTrace.getRequestTrace(httpServletRequest), is(requestTrace));
+	}
+
+	@Test
+	public void testGetRequestTraceWithNullRequestReturnsDisabled() {
+		assertThat(
+			RequestTrace.getRequestTrace(null), is(RequestTrace.DISABLED));
+	}
+
+	@Test
+	public void testTraceRecordsSpanAndReturnsResult() {
+		RequestTrace requestTrace = new RequestTrace();
+
+		String string = requestTrace.trace("negotiation", () -> "Apio");
+
+		assertThat(string, is("Apio"));
+		assertThat(requestTrace.isEnabled(), is(true));
+		assertThat(
+			requestTrace.getSpans().containsKey("negotiation"), is(true));
+	}
+
+}
\ No newline at end of file
@@ -19,6 +19,8 @@ import static com.liferay.apio.architect.routes.RoutesTestUtil.COLLECTION_PERMIS
 import static com.liferay.apio.architect.routes.RoutesTestUtil.FORM_BUILDER_FUNCTION;
 import static com.liferay.apio.architect.routes.RoutesTestUtil.PAGINATION;
 import static com.liferay.apio.architect.routes.RoutesTestUtil.REQUEST_PROVIDE_FUNCTION;
+import static com.liferay.apio.architect.test.util.result.TryMatchers.aFailTry;
+import static com.liferay.apio.architect.test.util.result.TryMatchers.aTryWithValueThat;
 
 import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
 import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
@@ -29,22 +31,34 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.alias.routes.AsyncGetPageFunction;
+import com.liferay.apio.architect.alias.routes.BatchCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.CreateItemFunction;
 import com.liferay.apio.architect.alias.routes.GetPageFunction;
+import com.liferay.apio.architect.alias.routes.GetStreamFunction;
+import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.routes.CollectionRoutes.Builder;
 import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.single.model.SingleModelStream;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 
@@ -53,6 +67,85 @@ import org.junit.Test;
  */
 public class CollectionRoutesTest {
 
+	@Test
+	public void testAsyncBuilderMethodsCreatesValidRoutes() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add);
+
+		CollectionRoutes<String> collectionRoutes = builder.addAsyncGetter(
+			(pagination, string) -> CompletableFuture.supplyAsync(
+				() -> _testAndReturnOneParameterGetterRoute(
+					pagination, string)),
+			String.class
+		).build();
+
+		assertThat(neededProviders, contains(String.class.getName()));
+
+		Page<String> page = collectionRoutes.getAsyncGetPageFunctionOptional(
+		).get(
+		).apply(
+			null
+		).map(
+			CompletionStage::toCompletableFuture
+		).map(
+			CompletableFuture::get
+		).getUnchecked();
+
+		assertThat(page.getItems(), contains("Apio"));
+
+		Page<String> syncPage = collectionRoutes.getGetPageFunctionOptional(
+		).get(
+		).apply(
+			null
+		).getUnchecked();
+
+		assertThat(syncPage.getItems(), contains("Apio"));
+	}
+
+	@Test
+	public void testBatchBuilderMethodsCreatesValidRoutes() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add);
+
+		CollectionRoutes<String> collectionRoutes = builder.addBatchCreator(
+			this::_testAndReturnBatchCreatorRoute, String.class,
+			FORM_BUILDER_FUNCTION
+		).build();
+
+		assertThat(neededProviders, contains(String.class.getName()));
+
+		Body body = Body.create(
+			Arrays.asList(_body, __ -> Optional.empty(), _body));
+
+		BatchResult<SingleModel<String>> batchResult =
+			collectionRoutes.getBatchCreateItemFunctionOptional(
+			).get(
+			).apply(
+				null
+			).apply(
+				body
+			).getUnchecked();
+
+		List<Try<SingleModel<String>>> results = batchResult.getResults();
+
+		assertThat(results, hasSize(3));
+
+		assertThat(
+			results.get(0).map(SingleModel::getModel),
+			is(aTryWithValueThat(is("Apio0"))));
+		assertThat(results.get(1), is(aFailTry()));
+		assertThat(
+			results.get(2).map(SingleModel::getModel),
+			is(aTryWithValueThat(is("Apio1"))));
+		assertThat(
+			results.get(2).map(SingleModel::getResourceName),
+			is(aTryWithValueThat(is("name"))));
+	}
+
 	@Test
 	public void testEmptyBuilderBuildsEmptyRoutes() {
 		Builder<String> builder = new Builder<>(
@@ -62,6 +155,17 @@ public class CollectionRoutesTest {
 
 		CollectionRoutes<String> collectionRoutes = builder.build();
 
+		Optional<AsyncGetPageFunction<String>> asyncGetPageFunctionOptional =
+			collectionRoutes.getAsyncGetPageFunctionOptional();
+
+		assertThat(asyncGetPageFunctionOptional, is(emptyOptional()));
+
+		Optional<BatchCreateItemFunction<String>>
+			batchCreateItemFunctionOptional =
+				collectionRoutes.getBatchCreateItemFunctionOptional();
+
+		assertThat(batchCreateItemFunctionOptional, is(emptyOptional()));
+
 		Optional<CreateItemFunction<String>> createItemFunctionOptional =
 			collectionRoutes.getCreateItemFunctionOptional();
 
@@ -71,6 +175,11 @@ public class CollectionRoutesTest {
 			collectionRoutes.getGetPageFunctionOptional();
 
 		assertThat(getPageFunctionOptional, is(emptyOptional()));
+
+		Optional<GetStreamFunction<String>> getStreamFunctionOptional =
+			collectionRoutes.getGetStreamFunctionOptional();
+
+		assertThat(getStreamFunctionOptional, is(emptyOptional()));
 	}
 
 	@Test
@@ -142,6 +251,54 @@ public class CollectionRoutesTest {
 		_testCollectionRoutes(collectionRoutes);
 	}
 
+	@Test
+	public void testStreamBuilderMethodsCreatesValidRoutes() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add);
+
+		AtomicBoolean closed = new AtomicBoolean();
+
+		CollectionRoutes<String> collectionRoutes = builder.addStreamGetter(
+			(string, aLong) -> {
+				assertThat(string, is("Apio"));
+				assertThat(aLong, is(42L));
+
+				Stream<String> stream = Stream.of("Apio", "Architect");
+
+				return stream.onClose(() -> closed.set(true));
+			},
+			String.class, Long.class
+		).build();
+
+		assertThat(
+			neededProviders,
+			contains(Long.class.getName(), String.class.getName()));
+
+		SingleModelStream<String> singleModelStream =
+			collectionRoutes.getGetStreamFunctionOptional(
+			).get(
+			).apply(
+				null
+			).getUnchecked();
+
+		assertThat(singleModelStream.getResourceName(), is("name"));
+
+		List<String> models = new ArrayList<>();
+
+		singleModelStream.forEach(
+			singleModel -> {
+				assertThat(singleModel.getResourceName(), is("name"));
+				assertThat(singleModel.getOperations(), hasSize(0));
+
+				models.add(singleModel.getModel());
+			});
+
+		assertThat(models, contains("Apio", "Architect"));
+		assertThat(closed.get(), is(true));
+	}
+
 	@Test
 	public void testThreeParameterBuilderMethodsCreatesValidRoutes() {
 		Set<String> neededProviders = new TreeSet<>();
@@ -183,6 +340,23 @@ public class CollectionRoutesTest {
 		_testCollectionRoutes(collectionRoutes);
 	}
 
+	private List<String> _testAndReturnBatchCreatorRoute(
+		List<Map<String, Object>> bodies, String string) {
+
+		assertThat(string, is("Apio"));
+		assertThat(bodies, hasSize(2));
+
+		List<String> list = new ArrayList<>();
+
+		for (int i = 0; i < bodies.size(); i++) {
+			Map<String, Object> body = bodies.get(i);
+
+			list.add(body.get("key") + String.valueOf(i));
+		}
+
+		return list;
+	}
+
 	private String _testAndReturnFourParameterCreatorRoute(
 		Map<String, Object> body, String string, Long aLong, Boolean aBoolean,
 		Integer integer) {
@@ -312,6 +486,18 @@ public class CollectionRoutesTest {
 		assertThat(page.getItems(), hasItem("Apio"));
 		assertThat(page.getTotalCount(), is(1));
 
+		CompletionStage<Page<String>> completionStage = optional.flatMap(
+			CollectionRoutes::getAsyncGetPageFunctionOptional
+		).get(
+		).apply(
+			null
+		).getUnchecked();
+
+		CompletableFuture<Page<String>> completableFuture =
+			completionStage.toCompletableFuture();
+
+		assertThat(completableFuture.isDone(), is(true));
+
 		List<Operation> operations = page.getOperations();
 
 		assertThat(operations, hasSize(1));
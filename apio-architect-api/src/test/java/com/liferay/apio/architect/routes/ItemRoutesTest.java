@@ -19,28 +19,46 @@ import static com.liferay.apio.architect.operation.Method.PUT;
 import static com.liferay.apio.architect.routes.RoutesTestUtil.FORM_BUILDER_FUNCTION;
 import static com.liferay.apio.architect.routes.RoutesTestUtil.ITEM_PERMISSION_FUNCTION;
 import static com.liferay.apio.architect.routes.RoutesTestUtil.REQUEST_PROVIDE_FUNCTION;
+import static com.liferay.apio.architect.test.util.result.TryMatchers.aFailTry;
+import static com.liferay.apio.architect.test.util.result.TryMatchers.aTryWithValueThat;
 
 import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
 import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.alias.routes.AsyncGetItemFunction;
+import com.liferay.apio.architect.alias.routes.BatchDeleteItemConsumer;
+import com.liferay.apio.architect.alias.routes.BatchGetOperationsFunction;
+import com.liferay.apio.architect.alias.routes.BatchUpdateItemFunction;
 import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
 import com.liferay.apio.architect.alias.routes.GetItemFunction;
 import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
+import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.operation.Method;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.routes.ItemRoutes.Builder;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.junit.Test;
 
@@ -49,6 +67,186 @@ import org.junit.Test;
  */
 public class ItemRoutesTest {
 
+	@Test
+	public void testAsyncBuilderMethodsCreatesValidRoutes() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, Long> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add);
+
+		ItemRoutes<String, Long> itemRoutes = builder.addAsyncGetter(
+			(identifier, string) -> CompletableFuture.supplyAsync(
+				() -> _testAndReturnOneParameterGetterRoute(
+					identifier, string)),
+			String.class
+		).build();
+
+		assertThat(neededProviders, contains(String.class.getName()));
+
+		SingleModel<String> singleModel =
+			itemRoutes.getAsyncItemFunctionOptional(
+			).get(
+			).apply(
+				null
+			).apply(
+				42L
+			).map(
+				CompletionStage::toCompletableFuture
+			).map(
+				CompletableFuture::get
+			).getUnchecked();
+
+		assertThat(singleModel.getModel(), is("Apio"));
+
+		SingleModel<String> syncSingleModel =
+			itemRoutes.getItemFunctionOptional(
+			).get(
+			).apply(
+				null
+			).apply(
+				42L
+			).getUnchecked();
+
+		assertThat(syncSingleModel.getModel(), is("Apio"));
+	}
+
+	@Test
+	public void testAsyncGetterIsReplacedByLaterGetter() {
+		Builder<String, Long> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			});
+
+		ItemRoutes<String, Long> itemRoutes = builder.addAsyncGetter(
+			identifier -> CompletableFuture.completedFuture("Async")
+		).addGetter(
+			identifier -> "Sync"
+		).build();
+
+		SingleModel<String> singleModel =
+			itemRoutes.getAsyncItemFunctionOptional(
+			).get(
+			).apply(
+				null
+			).apply(
+				42L
+			).map(
+				CompletionStage::toCompletableFuture
+			).map(
+				CompletableFuture::get
+			).getUnchecked();
+
+		assertThat(singleModel.getModel(), is("Sync"));
+	}
+
+	@Test
+	public void testBatchBuilderMethodsCreatesValidRoutes() throws Exception {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, Long> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add);
+
+		ItemRoutes<String, Long> itemRoutes = builder.addBatchRemover(
+			this::_testBatchRemoverRoute, String.class
+		).addBatchUpdater(
+			this::_testAndReturnBatchUpdaterRoute, Long.class,
+			FORM_BUILDER_FUNCTION
+		).build();
+
+		assertThat(
+			neededProviders,
+			contains(Long.class.getName(), String.class.getName()));
+
+		itemRoutes.getBatchDeleteConsumerOptional(
+		).get(
+		).apply(
+			null
+		).accept(
+			Arrays.asList(1L, 2L)
+		);
+
+		Map<Long, Body> bodies = new LinkedHashMap<>();
+
+		bodies.put(1L, _body);
+		bodies.put(3L, __ -> Optional.empty());
+		bodies.put(2L, _body);
+
+		BatchResult<SingleModel<String>> batchResult =
+			itemRoutes.getBatchUpdateItemFunctionOptional(
+			).get(
+			).apply(
+				null
+			).apply(
+				bodies
+			).getUnchecked();
+
+		List<Try<SingleModel<String>>> results = batchResult.getResults();
+
+		assertThat(results, hasSize(3));
+
+		assertThat(
+			results.get(0).map(SingleModel::getModel),
+			is(aTryWithValueThat(is("Apio1"))));
+		assertThat(results.get(1), is(aFailTry()));
+		assertThat(
+			results.get(2).map(SingleModel::getModel),
+			is(aTryWithValueThat(is("Apio2"))));
+	}
+
+	@Test
+	public void testBatchPermissionFunctionGetsOperationsOfEveryItem() {
+		Builder<String, Long> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION, __ -> {
+			});
+
+		List<List<Long>> calls = new ArrayList<>();
+
+		builder.addBatchPermissionFunction(
+			(credentials, identifiers) -> {
+				calls.add(identifiers);
+
+				Map<Long, Set<Method>> map = new HashMap<>();
+
+				map.put(1L, EnumSet.of(DELETE));
+				map.put(2L, EnumSet.of(DELETE, PUT));
+
+				return map;
+			});
+
+		ItemRoutes<String, Long> itemRoutes = builder.addRemover(
+			this::_testAndReturnNoParameterRemoverRoute,
+			ITEM_PERMISSION_FUNCTION
+		).addUpdater(
+			this::_testAndReturnNoParameterUpdaterRoute,
+			ITEM_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		Optional<BatchGetOperationsFunction<Long>> optional =
+			itemRoutes.getBatchGetOperationsFunctionOptional();
+
+		Map<Long, List<Operation>> map = optional.get(
+		).apply(
+			null
+		).apply(
+			Arrays.asList(1L, 2L, 3L)
+		).getUnchecked();
+
+		assertThat(calls, hasSize(1));
+
+		List<Operation> firstOperations = map.get(1L);
+
+		assertThat(firstOperations, hasSize(1));
+		assertThat(firstOperations.get(0).name, is("name/delete"));
+
+		List<Operation> secondOperations = map.get(2L);
+
+		assertThat(secondOperations, hasSize(2));
+		assertThat(secondOperations.get(0).name, is("name/delete"));
+		assertThat(secondOperations.get(1).name, is("name/update"));
+
+		assertThat(map.get(3L), is(empty()));
+	}
+
 	@Test
 	public void testEmptyBuilderBuildsEmptyRoutes() {
 		Builder<String, Long> builder = new Builder<>(
@@ -58,6 +256,30 @@ public class ItemRoutesTest {
 
 		ItemRoutes<String, Long> itemRoutes = builder.build();
 
+		Optional<AsyncGetItemFunction<String, Long>>
+			asyncGetItemFunctionOptional =
+				itemRoutes.getAsyncItemFunctionOptional();
+
+		assertThat(asyncGetItemFunctionOptional, is(emptyOptional()));
+
+		Optional<BatchDeleteItemConsumer<Long>>
+			batchDeleteItemConsumerOptional =
+				itemRoutes.getBatchDeleteConsumerOptional();
+
+		assertThat(batchDeleteItemConsumerOptional, is(emptyOptional()));
+
+		Optional<BatchGetOperationsFunction<Long>>
+			batchGetOperationsFunctionOptional =
+				itemRoutes.getBatchGetOperationsFunctionOptional();
+
+		assertThat(batchGetOperationsFunctionOptional, is(emptyOptional()));
+
+		Optional<BatchUpdateItemFunction<String, Long>>
+			batchUpdateItemFunctionOptional =
+				itemRoutes.getBatchUpdateItemFunctionOptional();
+
+		assertThat(batchUpdateItemFunctionOptional, is(emptyOptional()));
+
 		Optional<DeleteItemConsumer<Long>> deleteItemConsumerOptional =
 			itemRoutes.getDeleteConsumerOptional();
 
@@ -158,6 +380,66 @@ public class ItemRoutesTest {
 		_testItemRoutes(itemRoutes);
 	}
 
+	@Test
+	public void testOperationsAreSharedBetweenRequests() throws Exception {
+		Builder<String, Long> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION, __ -> {
+			});
+
+		ItemRoutes<String, Long> itemRoutes = builder.addGetter(
+			this::_testAndReturnNoParameterGetterRoute
+		).addRemover(
+			this::_testAndReturnNoParameterRemoverRoute,
+			ITEM_PERMISSION_FUNCTION
+		).addUpdater(
+			this::_testAndReturnNoParameterUpdaterRoute,
+			ITEM_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		Optional<GetItemFunction<String, Long>> optional =
+			itemRoutes.getItemFunctionOptional();
+
+		GetItemFunction<String, Long> getItemFunction = optional.get();
+
+		SingleModel<String> firstSingleModel = getItemFunction.apply(
+			null
+		).apply(
+			42L
+		).getUnchecked();
+
+		SingleModel<String> secondSingleModel = getItemFunction.apply(
+			null
+		).apply(
+			42L
+		).getUnchecked();
+
+		List<Operation> operations = firstSingleModel.getOperations();
+
+		assertThat(operations, hasSize(2));
+		assertThat(
+			secondSingleModel.getOperations(), is(sameInstance(operations)));
+	}
+
+	@Test
+	public void testPerItemPermissionFunctionsDoNotGetPageItemOperations() {
+		Builder<String, Long> builder = new Builder<>(
+			"name", REQUEST_PROVIDE_FUNCTION, __ -> {
+			});
+
+		ItemRoutes<String, Long> itemRoutes = builder.addRemover(
+			this::_testAndReturnNoParameterRemoverRoute,
+			ITEM_PERMISSION_FUNCTION
+		).addUpdater(
+			this::_testAndReturnNoParameterUpdaterRoute,
+			ITEM_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		Optional<BatchGetOperationsFunction<Long>> optional =
+			itemRoutes.getBatchGetOperationsFunctionOptional();
+
+		assertThat(optional, is(emptyOptional()));
+	}
+
 	@Test
 	public void testThreeParameterBuilderMethodsCreatesValidRoutes()
 		throws Exception {
@@ -209,6 +491,20 @@ public class ItemRoutesTest {
 		_testItemRoutes(itemRoutes);
 	}
 
+	private List<String> _testAndReturnBatchUpdaterRoute(
+		Map<Long, Map<String, Object>> bodies, Long aLong) {
+
+		assertThat(aLong, is(42L));
+		assertThat(bodies.keySet(), contains(1L, 2L));
+
+		List<String> list = new ArrayList<>();
+
+		bodies.forEach(
+			(identifier, body) -> list.add(body.get("key") + "" + identifier));
+
+		return list;
+	}
+
 	private String _testAndReturnFourParameterGetterRoute(
 		Long identifier, String string, Long aLong, Boolean aBoolean,
 		Integer integer) {
@@ -301,6 +597,11 @@ public class ItemRoutesTest {
 		return _testAndReturnOneParameterUpdaterRoute(identifier, body, string);
 	}
 
+	private void _testBatchRemoverRoute(List<Long> identifiers, String string) {
+		assertThat(string, is("Apio"));
+		assertThat(identifiers, contains(1L, 2L));
+	}
+
 	private void _testFourParameterRemoverRoute(
 		Long identifier, String string, Long aLong, Boolean aBoolean,
 		Integer integer) {
@@ -341,6 +642,20 @@ public class ItemRoutesTest {
 		assertThat(singleModel.getResourceName(), is("name"));
 		assertThat(singleModel.getModel(), is("Apio"));
 
+		CompletionStage<SingleModel<String>> completionStage = optional.flatMap(
+			ItemRoutes::getAsyncItemFunctionOptional
+		).get(
+		).apply(
+			null
+		).apply(
+			42L
+		).getUnchecked();
+
+		CompletableFuture<SingleModel<String>> completableFuture =
+			completionStage.toCompletableFuture();
+
+		assertThat(completableFuture.isDone(), is(true));
+
 		optional.flatMap(
 			ItemRoutes::getDeleteConsumerOptional
 		).get(
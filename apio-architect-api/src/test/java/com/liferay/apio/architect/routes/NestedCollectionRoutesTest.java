@@ -30,6 +30,7 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.alias.routes.AsyncNestedGetPageFunction;
 import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
 import com.liferay.apio.architect.form.Body;
@@ -47,6 +48,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.junit.Test;
 
@@ -55,6 +58,58 @@ import org.junit.Test;
  */
 public class NestedCollectionRoutesTest {
 
+	@Test
+	public void testAsyncBuilderMethodsCreatesValidRoutes() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, Long> builder = new Builder<>(
+			"name", "nested", REQUEST_PROVIDE_FUNCTION, neededProviders::add);
+
+		NestedCollectionRoutes<String, Long> nestedCollectionRoutes =
+			builder.addAsyncGetter(
+				(pagination, identifier, string) ->
+					CompletableFuture.supplyAsync(
+						() -> _testAndReturnOneParameterGetterRoute(
+							pagination, identifier, string)),
+				String.class
+			).build();
+
+		assertThat(neededProviders, contains(String.class.getName()));
+
+		Path path = new Path("name", "42");
+
+		Page<String> page =
+			nestedCollectionRoutes.getAsyncNestedGetPageFunctionOptional(
+			).get(
+			).apply(
+				null
+			).apply(
+				path
+			).apply(
+				42L
+			).map(
+				CompletionStage::toCompletableFuture
+			).map(
+				CompletableFuture::get
+			).getUnchecked();
+
+		assertThat(page.getItems(), contains("Apio"));
+		assertThat(page.getPathOptional(), optionalWithValue(equalTo(path)));
+
+		Page<String> syncPage =
+			nestedCollectionRoutes.getNestedGetPageFunctionOptional(
+			).get(
+			).apply(
+				null
+			).apply(
+				path
+			).apply(
+				42L
+			).getUnchecked();
+
+		assertThat(syncPage.getItems(), contains("Apio"));
+	}
+
 	@Test
 	public void testEmptyBuilderBuildsEmptyRoutes() {
 		Builder<String, Long> builder = new Builder<>(
@@ -74,6 +129,11 @@ public class NestedCollectionRoutesTest {
 			nestedCollectionRoutes.getNestedGetPageFunctionOptional();
 
 		assertThat(optional2, is(emptyOptional()));
+
+		Optional<AsyncNestedGetPageFunction<String, Long>> optional3 =
+			nestedCollectionRoutes.getAsyncNestedGetPageFunctionOptional();
+
+		assertThat(optional3, is(emptyOptional()));
 	}
 
 	@Test
@@ -338,6 +398,22 @@ public class NestedCollectionRoutesTest {
 		assertThat(page.getPathOptional(), optionalWithValue(equalTo(path)));
 		assertThat(page.getTotalCount(), is(1));
 
+		CompletionStage<Page<String>> completionStage = optional.flatMap(
+			NestedCollectionRoutes::getAsyncNestedGetPageFunctionOptional
+		).get(
+		).apply(
+			null
+		).apply(
+			path
+		).apply(
+			42L
+		).getUnchecked();
+
+		CompletableFuture<Page<String>> completableFuture =
+			completionStage.toCompletableFuture();
+
+		assertThat(completableFuture.isDone(), is(true));
+
 		List<Operation> operations = page.getOperations();
 
 		assertThat(operations, hasSize(1));
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.routes;
 
+import static com.liferay.apio.architect.routes.RoutesBuilderUtil.createBatchResult;
 import static com.liferay.apio.architect.routes.RoutesBuilderUtil.provide;
 import static com.liferay.apio.architect.routes.RoutesBuilderUtil.provideConsumer;
 import static com.liferay.apio.architect.routes.RoutesTestUtil.PROVIDE_FUNCTION;
@@ -21,14 +22,25 @@ import static com.liferay.apio.architect.test.util.result.TryMatchers.aFailTry;
 import static com.liferay.apio.architect.test.util.result.TryMatchers.aTryWithValueThat;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.language.Language;
+import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.ws.rs.BadRequestException;
 import javax.ws.rs.NotFoundException;
 
 import org.junit.Test;
@@ -38,6 +50,24 @@ import org.junit.Test;
  */
 public class RoutesBuilderUtilTest {
 
+	@Test
+	public void testAwaitRestoresInterruptedFlag() {
+		Thread currentThread = Thread.currentThread();
+
+		currentThread.interrupt();
+
+		try {
+			Try<String> stringTry = RoutesBuilderUtil.await(
+				Try.success(new CompletableFuture<>()));
+
+			assertThat(stringTry, is(aFailTry()));
+			assertThat(currentThread.isInterrupted(), is(true));
+		}
+		finally {
+			Thread.interrupted();
+		}
+	}
+
 	@Test(expected = UnsupportedOperationException.class)
 	public void testConstructorThrowsException() throws Throwable {
 		Constructor<?> constructor =
@@ -53,6 +83,78 @@ public class RoutesBuilderUtilTest {
 		}
 	}
 
+	@Test
+	public void testCreateBatchResultFailsEveryValidElementIfFunctionFails() {
+		BatchResult<SingleModel<String>> batchResult = createBatchResult(
+			"name", Arrays.asList(Try.success("a"), Try.success("b")),
+			list -> {
+				throw new IllegalArgumentException();
+			});
+
+		List<Try<SingleModel<String>>> results = batchResult.getResults();
+
+		assertThat(results, contains(aFailTry(), aFailTry()));
+	}
+
+	@Test
+	public void testCreateBatchResultFailsIfFunctionReturnsOtherItemCount() {
+		BatchResult<SingleModel<String>> batchResult = createBatchResult(
+			"name", Arrays.asList(Try.success("a"), Try.success("b")),
+			list -> Collections.singletonList("A"));
+
+		List<Try<SingleModel<String>>> results = batchResult.getResults();
+
+		assertThat(results, contains(aFailTry(), aFailTry()));
+	}
+
+	@Test
+	public void testCreateBatchResultKeepsElementFailuresInOrder() {
+		List<List<String>> calls = new ArrayList<>();
+
+		BatchResult<SingleModel<String>> batchResult = createBatchResult(
+			"name",
+			Arrays.asList(
+				Try.success("a"), Try.fail(new BadRequestException()),
+				Try.success("b")),
+			list -> {
+				calls.add(list);
+
+				return Arrays.asList("A", "B");
+			});
+
+		assertThat(calls, contains(Arrays.asList("a", "b")));
+
+		List<Try<SingleModel<String>>> results = batchResult.getResults();
+
+		assertThat(results, hasSize(3));
+
+		assertThat(
+			results.get(0).map(SingleModel::getModel),
+			is(aTryWithValueThat(is("A"))));
+		assertThat(results.get(1), is(aFailTry()));
+		assertThat(
+			results.get(2).map(SingleModel::getModel),
+			is(aTryWithValueThat(is("B"))));
+		assertThat(
+			results.get(2).map(SingleModel::getResourceName),
+			is(aTryWithValueThat(is("name"))));
+	}
+
+	@Test
+	public void testCreateBatchResultWithoutValidElementsDoesNotCallFunction() {
+		BatchResult<SingleModel<String>> batchResult = createBatchResult(
+			"name",
+			Collections.<Try<String>>singletonList(
+				Try.fail(new BadRequestException())),
+			list -> {
+				throw new AssertionError("This lambda should not be called");
+			});
+
+		List<Try<SingleModel<String>>> results = batchResult.getResults();
+
+		assertThat(results, contains(aFailTry()));
+	}
+
 	@Test(expected = NotFoundException.class)
 	public void testFiveParameterProvideConsumerMethodFailsIfNoProvider()
 		throws Exception {
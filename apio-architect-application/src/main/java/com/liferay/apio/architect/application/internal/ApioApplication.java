@@ -26,18 +26,21 @@ import java.util.List;
 import java.util.Set;
 
 import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.ext.ExceptionMapper;
 import javax.ws.rs.ext.MessageBodyReader;
 import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.WriterInterceptor;
 
 import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
 /**
- * Registers the application's root endpoint, writers, and mappers in JAX-RS.
+ * Registers the application's root endpoint, additional endpoints, writers, and
+ * mappers in JAX-RS.
  *
  * <p>
  * The default {@link RootEndpoint} already deploys
@@ -63,17 +66,34 @@ public class ApioApplication extends Application {
 
 		singletons.add(_rootEndpoint);
 
+		singletons.addAll(_endpoints);
+
 		singletons.addAll(_messageBodyReaders);
 
 		singletons.addAll(_messageBodyWriters);
 
+		singletons.addAll(_containerRequestFilters);
+
 		singletons.addAll(_containerResponseFilters);
 
 		singletons.addAll(_exceptionMappers);
 
+		singletons.addAll(_writerInterceptors);
+
 		return singletons;
 	}
 
+	@Reference(
+		cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY,
+		target = "(liferay.apio.architect.container.request.filter=true)"
+	)
+	public void setContainerRequestFilter(
+		ServiceReference<ContainerRequestFilter> serviceReference,
+		ContainerRequestFilter containerRequestFilter) {
+
+		_containerRequestFilters.add(containerRequestFilter);
+	}
+
 	@Reference(
 		cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY,
 		target = "(liferay.apio.architect.container.response.filter=true)"
@@ -85,6 +105,17 @@ public class ApioApplication extends Application {
 		_containerResponseFilters.add(containerResponseFilter);
 	}
 
+	@Reference(
+		cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY,
+		service = Object.class,
+		target = "(liferay.apio.architect.endpoint=true)"
+	)
+	public void setEndpoint(
+		ServiceReference<Object> serviceReference, Object endpoint) {
+
+		_endpoints.add(endpoint);
+	}
+
 	@Reference(
 		cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY,
 		target = "(liferay.apio.architect.exception.mapper=true)"
@@ -118,6 +149,25 @@ public class ApioApplication extends Application {
 		_messageBodyWriters.add(messageBodyWriter);
 	}
 
+	@Reference(
+		cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY,
+		target = "(liferay.apio.architect.writer.interceptor=true)"
+	)
+	public void setWriterInterceptor(
+		ServiceReference<WriterInterceptor> serviceReference,
+		WriterInterceptor writerInterceptor) {
+
+		_writerInterceptors.add(writerInterceptor);
+	}
+
+	@SuppressWarnings("unused")
+	public void unsetContainerRequestFilter(
+		ServiceReference<ContainerRequestFilter> serviceReference,
+		ContainerRequestFilter containerRequestFilter) {
+
+		_containerRequestFilters.remove(containerRequestFilter);
+	}
+
 	@SuppressWarnings("unused")
 	public <T> void unsetContainerResponseFilter(
 		ServiceReference<ContainerResponseFilter> serviceReference,
@@ -126,6 +176,13 @@ public class ApioApplication extends Application {
 		_containerResponseFilters.remove(containerResponseFilter);
 	}
 
+	@SuppressWarnings("unused")
+	public void unsetEndpoint(
+		ServiceReference<Object> serviceReference, Object endpoint) {
+
+		_endpoints.remove(endpoint);
+	}
+
 	@SuppressWarnings("unused")
 	public void unsetExceptionMapper(
 		ServiceReference<ExceptionMapper> serviceReference,
@@ -150,8 +207,19 @@ public class ApioApplication extends Application {
 		_messageBodyWriters.remove(messageBodyWriter);
 	}
 
+	@SuppressWarnings("unused")
+	public void unsetWriterInterceptor(
+		ServiceReference<WriterInterceptor> serviceReference,
+		WriterInterceptor writerInterceptor) {
+
+		_writerInterceptors.remove(writerInterceptor);
+	}
+
+	private final List<ContainerRequestFilter> _containerRequestFilters =
+		new ArrayList<>();
 	private final List<ContainerResponseFilter> _containerResponseFilters =
 		new ArrayList<>();
+	private final List<Object> _endpoints = new ArrayList<>();
 	private final List<ExceptionMapper> _exceptionMappers = new ArrayList<>();
 	private final List<MessageBodyReader> _messageBodyReaders =
 		new ArrayList<>();
@@ -161,4 +229,7 @@ public class ApioApplication extends Application {
 	@Reference
 	private RootEndpoint _rootEndpoint;
 
+	private final List<WriterInterceptor> _writerInterceptors =
+		new ArrayList<>();
+
 }
\ No newline at end of file
@@ -0,0 +1,252 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.application.internal.endpoint;
+
+import com.liferay.apio.architect.application.internal.endpoint.MultiStatusWriter.Entry;
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.endpoint.BatchEndpoint;
+import com.liferay.apio.architect.endpoint.PageEndpoint;
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Providers;
+
+/**
+ * Executes the requests of a batch concurrently using a bounded executor, and
+ * the batch operations of a resource's routes.
+ *
+ * <p>
+ * Every request is resolved in the executor with its own {@link
+ * BatchHttpServletRequest}, while the results are rendered, in order, by a
+ * {@link MultiStatusWriter} in the thread that handles the batch request.
+ * Before the requests start, the batch request is prepared in that thread, so
+ * the requests can share what doesn't depend on them, like the providers that
+ * only read the batch request's headers.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class BatchEndpointImpl implements BatchEndpoint {
+
+	public BatchEndpointImpl(
+		BiFunction<String, HttpServletRequest, PageEndpoint<Object>>
+			pageEndpointFunction,
+		Consumer<HttpServletRequest> batchRequestConsumer, Executor executor) {
+
+		_pageEndpointFunction = pageEndpointFunction;
+		_batchRequestConsumer = batchRequestConsumer;
+		_executor = executor;
+	}
+
+	@Override
+	public Response addCollectionItems(
+		String name, HttpHeaders httpHeaders,
+		HttpServletRequest httpServletRequest, Providers providers, Body body) {
+
+		PageEndpoint<Object> pageEndpoint = _pageEndpointFunction.apply(
+			name, httpServletRequest);
+
+		BatchResult<SingleModel<Object>> batchResult =
+			pageEndpoint.addCollectionItems(
+				body
+			).getUnchecked();
+
+		return _write(providers, httpHeaders, body, 201, batchResult);
+	}
+
+	@Override
+	public Response deleteCollectionItems(
+		String name, HttpHeaders httpHeaders,
+		HttpServletRequest httpServletRequest, Providers providers, Body body) {
+
+		PageEndpoint<Object> pageEndpoint = _pageEndpointFunction.apply(
+			name, httpServletRequest);
+
+		BatchResult<String> batchResult = pageEndpoint.deleteCollectionItems(
+			body
+		).getUnchecked();
+
+		return _write(providers, httpHeaders, body, 204, batchResult);
+	}
+
+	@Override
+	public Response executeBatch(
+		HttpHeaders httpHeaders, HttpServletRequest httpServletRequest,
+		Providers providers, Body body) {
+
+		List<Body> bodies = body.getBodyListOptional(
+		).orElseThrow(
+			() -> new BadRequestException("Body is not a list of requests")
+		);
+
+		if (bodies.size() > _MAX_REQUESTS) {
+			throw new BadRequestException(
+				"A batch can contain at most " + _MAX_REQUESTS + " requests");
+		}
+
+		_batchRequestConsumer.accept(httpServletRequest);
+
+		List<Entry> entries = new ArrayList<>(bodies.size());
+
+		for (Body element : bodies) {
+			String path = element.getValueOptional(
+				"path"
+			).orElseThrow(
+				() -> new BadRequestException(
+					"Every request of the batch must have a \"path\"")
+			);
+
+			CompletableFuture<Try<?>> completableFuture =
+				CompletableFuture.supplyAsync(
+					() -> _execute(httpServletRequest, path), _executor);
+
+			entries.add(new Entry("path", path, 200, completableFuture::join));
+		}
+
+		MultiStatusWriter multiStatusWriter = new MultiStatusWriter(
+			providers, httpHeaders);
+
+		return multiStatusWriter.write(entries);
+	}
+
+	@Override
+	public Response updateCollectionItems(
+		String name, HttpHeaders httpHeaders,
+		HttpServletRequest httpServletRequest, Providers providers, Body body) {
+
+		PageEndpoint<Object> pageEndpoint = _pageEndpointFunction.apply(
+			name, httpServletRequest);
+
+		BatchResult<SingleModel<Object>> batchResult =
+			pageEndpoint.updateCollectionItems(
+				body
+			).getUnchecked();
+
+		return _write(providers, httpHeaders, body, 200, batchResult);
+	}
+
+	private Try<?> _execute(
+		HttpServletRequest httpServletRequest, String path) {
+
+		return Try.fromFallible(
+			() -> {
+				int index = path.indexOf('?');
+
+				String queryString = null;
+				String relativePath = path;
+
+				if (index != -1) {
+					queryString = path.substring(index + 1);
+					relativePath = path.substring(0, index);
+				}
+
+				List<String> components = new ArrayList<>();
+
+				for (String component : relativePath.split("/")) {
+					if (!component.isEmpty()) {
+						components.add(
+							BatchHttpServletRequest.decode(component));
+					}
+				}
+
+				if ((components.size() < 2) || (components.size() > 4) ||
+					!"p".equals(components.get(0))) {
+
+					throw new NotFoundException(
+						"No endpoint found at path " + relativePath);
+				}
+
+				PageEndpoint<Object> pageEndpoint = _pageEndpointFunction.apply(
+					components.get(1),
+					new BatchHttpServletRequest(
+						httpServletRequest, queryString));
+
+				if (components.size() == 2) {
+					return pageEndpoint.getCollectionPageTry();
+				}
+
+				if (components.size() == 3) {
+					return pageEndpoint.getCollectionItemSingleModelTry(
+						components.get(2));
+				}
+
+				return pageEndpoint.getNestedCollectionPageTry(
+					components.get(2), components.get(3));
+			}
+		).flatMap(
+			aTry -> aTry
+		);
+	}
+
+	private <U> Response _write(
+		Providers providers, HttpHeaders httpHeaders, Body body,
+		int successStatus, BatchResult<U> batchResult) {
+
+		List<Body> bodies = body.getBodyListOptional(
+		).orElseGet(
+			Collections::emptyList
+		);
+
+		List<Try<U>> results = batchResult.getResults();
+
+		List<Entry> entries = new ArrayList<>(results.size());
+
+		for (int i = 0; i < results.size(); i++) {
+			String id = null;
+
+			if (i < bodies.size()) {
+				Body element = bodies.get(i);
+
+				id = element.getValueOptional(
+					"id"
+				).orElse(
+					null
+				);
+			}
+
+			Try<U> result = results.get(i);
+
+			entries.add(new Entry("id", id, successStatus, () -> result));
+		}
+
+		MultiStatusWriter multiStatusWriter = new MultiStatusWriter(
+			providers, httpHeaders);
+
+		return multiStatusWriter.write(entries);
+	}
+
+	private static final int _MAX_REQUESTS = 50;
+
+	private final Consumer<HttpServletRequest> _batchRequestConsumer;
+	private final Executor _executor;
+	private final BiFunction<String, HttpServletRequest, PageEndpoint<Object>>
+		_pageEndpointFunction;
+
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.application.internal.endpoint;
+
+import java.io.UnsupportedEncodingException;
+
+import java.net.URLDecoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Represents one of the requests of a batch. It shares the headers and
+ * credentials of the batch request, but has its own method, query parameters
+ * (extracted from the request's relative path) and attributes.
+ *
+ * <p>
+ * The attributes set in this request are stored in its own concurrent map,
+ * and reads fall back to the batch request's attributes. This way, the
+ * requests of a batch can run in different threads without writing to the
+ * batch request's attributes, which aren't thread-safe. Attributes the
+ * requests read from the batch request, like the request's {@code Language}
+ * or {@code Deadline}, must be set before the requests start.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class BatchHttpServletRequest extends HttpServletRequestWrapper {
+
+	public BatchHttpServletRequest(
+		HttpServletRequest httpServletRequest, String queryString) {
+
+		super(httpServletRequest);
+
+		_queryString = queryString;
+
+		Map<String, List<String>> map = new LinkedHashMap<>();
+
+		if ((queryString != null) && !queryString.isEmpty()) {
+			for (String parameter : queryString.split("&")) {
+				if (parameter.isEmpty()) {
+					continue;
+				}
+
+				int index = parameter.indexOf('=');
+
+				String key = parameter;
+				String value = "";
+
+				if (index != -1) {
+					key = parameter.substring(0, index);
+					value = parameter.substring(index + 1);
+				}
+
+				List<String> list = map.computeIfAbsent(
+					decode(key), __ -> new ArrayList<>());
+
+				list.add(decode(value));
+			}
+		}
+
+		map.forEach(
+			(key, list) -> _parameters.put(key, list.toArray(new String[0])));
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		Object value = _attributes.get(name);
+
+		if (value == _REMOVED) {
+			return null;
+		}
+
+		if (value != null) {
+			return value;
+		}
+
+		return super.getAttribute(name);
+	}
+
+	@Override
+	public Enumeration<String> getAttributeNames() {
+		Set<String> names = new LinkedHashSet<>(
+			Collections.list(super.getAttributeNames()));
+
+		_attributes.forEach(
+			(name, value) -> {
+				if (value == _REMOVED) {
+					names.remove(name);
+				}
+				else {
+					names.add(name);
+				}
+			});
+
+		return Collections.enumeration(names);
+	}
+
+	@Override
+	public String getMethod() {
+		return "GET";
+	}
+
+	@Override
+	public String getParameter(String name) {
+		String[] values = _parameters.get(name);
+
+		if ((values == null) || (values.length == 0)) {
+			return null;
+		}
+
+		return values[0];
+	}
+
+	@Override
+	public Map<String, String[]> getParameterMap() {
+		return Collections.unmodifiableMap(_parameters);
+	}
+
+	@Override
+	public Enumeration<String> getParameterNames() {
+		return Collections.enumeration(_parameters.keySet());
+	}
+
+	@Override
+	public String[] getParameterValues(String name) {
+		return _parameters.get(name);
+	}
+
+	@Override
+	public String getQueryString() {
+		return _queryString;
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		_attributes.put(name, _REMOVED);
+	}
+
+	@Override
+	public void setAttribute(String name, Object value) {
+		if (value == null) {
+			removeAttribute(name);
+
+			return;
+		}
+
+		_attributes.put(name, value);
+	}
+
+	/**
+	 * Decodes a component of a batch request's relative path (a path segment,
+	 * or a query parameter's name or value).
+	 *
+	 * @param  string the URL-encoded component
+	 * @return the decoded component
+	 */
+	protected static String decode(String string) {
+		try {
+			return URLDecoder.decode(string, "UTF-8");
+		}
+		catch (UnsupportedEncodingException uee) {
+			throw new IllegalStateException(uee);
+		}
+	}
+
+	private static final Object _REMOVED = new Object();
+
+	private final Map<String, Object> _attributes = new ConcurrentHashMap<>();
+	private final Map<String, String[]> _parameters = new LinkedHashMap<>();
+	private final String _queryString;
+
+}
@@ -0,0 +1,334 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.application.internal.endpoint;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static javax.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM_TYPE;
+
+import com.google.gson.JsonPrimitive;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import javax.ws.rs.NotAcceptableException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Providers;
+
+/**
+ * Writes multi-status responses, which contain the result of several
+ * operations. The results are written in order, each one as soon as it's
+ * available, so the response is streamed while the rest of the operations are
+ * still running.
+ *
+ * <p>
+ * Results are rendered in the thread that writes the response, through the
+ * registered message body writers. This way, the writers, which depend on the
+ * request-scoped JAX-RS context, behave exactly as in a normal request.
+ * </p>
+ *
+ * <p>
+ * The envelope is always a JSON document, so its media type is negotiated
+ * between the JSON-based types accepted by the request. Each result is
+ * rendered in the media type negotiated by its writer; results whose media
+ * type isn't JSON-based (e.g., CBOR) are base64-encoded.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class MultiStatusWriter {
+
+	/**
+	 * Creates a new writer.
+	 *
+	 * @param providers the JAX-RS providers used to render each result
+	 * @param httpHeaders the headers of the current request, used to negotiate
+	 *        the envelope's media type
+	 * @throws NotAcceptableException if the request doesn't accept any
+	 *         JSON-based media type
+	 */
+	public MultiStatusWriter(Providers providers, HttpHeaders httpHeaders) {
+		_providers = providers;
+
+		_mediaType = _getMediaType(httpHeaders);
+	}
+
+	/**
+	 * Returns the multi-status response that contains the results of the
+	 * entries, in order.
+	 *
+	 * @param  entries the entries of the response
+	 * @return the multi-status response
+	 */
+	public Response write(List<Entry> entries) {
+		StreamingOutput streamingOutput = outputStream -> {
+			Writer writer = new OutputStreamWriter(
+				outputStream, StandardCharsets.UTF_8);
+
+			writer.write("{\"responses\":[");
+
+			for (int i = 0; i < entries.size(); i++) {
+				if (i > 0) {
+					writer.write(",");
+				}
+
+				_writeEntry(writer, entries.get(i));
+
+				writer.flush();
+			}
+
+			writer.write("]}");
+
+			writer.flush();
+		};
+
+		return Response.status(
+			_MULTI_STATUS
+		).type(
+			_mediaType
+		).entity(
+			streamingOutput
+		).build();
+	}
+
+	/**
+	 * Represents one of the results of a multi-status response.
+	 */
+	public static class Entry {
+
+		/**
+		 * Creates a new entry.
+		 *
+		 * @param key the name of the member that identifies the entry (e.g.,
+		 *        {@code path})
+		 * @param value the value of the member that identifies the entry, or
+		 *        {@code null} if the entry is only identified by its position
+		 * @param successStatus the status of the entry if its result is a
+		 *        success
+		 * @param supplier the supplier of the entry's result. It is called
+		 *        when the entry is written, so it can wait for the result
+		 */
+		public Entry(
+			String key, String value, int successStatus,
+			Supplier<Try<?>> supplier) {
+
+			_key = key;
+			_value = value;
+			_successStatus = successStatus;
+			_supplier = supplier;
+		}
+
+		private final String _key;
+		private final int _successStatus;
+		private final Supplier<Try<?>> _supplier;
+		private final String _value;
+
+	}
+
+	private static MediaType _getMediaType(HttpHeaders httpHeaders) {
+		for (MediaType mediaType : httpHeaders.getAcceptableMediaTypes()) {
+			if (mediaType.isWildcardSubtype() &&
+				(mediaType.isWildcardType() ||
+				 "application".equals(mediaType.getType()))) {
+
+				return APPLICATION_JSON_TYPE;
+			}
+
+			if (_isJson(mediaType)) {
+				return new MediaType(
+					mediaType.getType(), mediaType.getSubtype());
+			}
+		}
+
+		throw new NotAcceptableException();
+	}
+
+	private static MediaType _getMediaType(
+		MultivaluedMap<String, Object> httpHeaders) {
+
+		Object contentType = httpHeaders.getFirst(CONTENT_TYPE);
+
+		if (contentType == null) {
+			return APPLICATION_OCTET_STREAM_TYPE;
+		}
+
+		if (contentType instanceof MediaType) {
+			return (MediaType)contentType;
+		}
+
+		return MediaType.valueOf(String.valueOf(contentType));
+	}
+
+	private static boolean _isJson(MediaType mediaType) {
+		if (!"application".equals(mediaType.getType())) {
+			return false;
+		}
+
+		String subtype = mediaType.getSubtype();
+
+		if (subtype.equals("json") || subtype.endsWith("+json")) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private int _getStatus(Exception exception) {
+		if ((exception instanceof CompletionException) &&
+			(exception.getCause() instanceof Exception)) {
+
+			return _getStatus((Exception)exception.getCause());
+		}
+
+		if (exception instanceof WebApplicationException) {
+			WebApplicationException webApplicationException =
+				(WebApplicationException)exception;
+
+			Response response = webApplicationException.getResponse();
+
+			return response.getStatus();
+		}
+
+		return 500;
+	}
+
+	private byte[] _render(
+			Object value, MultivaluedMap<String, Object> httpHeaders)
+		throws IOException {
+
+		Type type;
+
+		if (value instanceof Page) {
+			type = _PAGE_TYPE;
+		}
+		else if (value instanceof SingleModel) {
+			type = _SINGLE_MODEL_TYPE;
+		}
+		else {
+			return null;
+		}
+
+		MessageBodyWriter<Try.Success> messageBodyWriter =
+			_providers.getMessageBodyWriter(
+				Try.Success.class, type, _ANNOTATIONS, MediaType.WILDCARD_TYPE);
+
+		if (messageBodyWriter == null) {
+			throw new WebApplicationException(500);
+		}
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		messageBodyWriter.writeTo(
+			(Try.Success)Try.success(value), Try.Success.class, type,
+			_ANNOTATIONS, MediaType.WILDCARD_TYPE, httpHeaders,
+			byteArrayOutputStream);
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private void _writeEntry(Writer writer, Entry entry) throws IOException {
+		int status = entry._successStatus;
+		byte[] bytes = null;
+		MultivaluedMap<String, Object> httpHeaders =
+			new MultivaluedHashMap<>();
+
+		try {
+			Try<?> aTry = entry._supplier.get();
+
+			bytes = _render(aTry.getUnchecked(), httpHeaders);
+		}
+		catch (Exception e) {
+			status = _getStatus(e);
+		}
+
+		writer.write("{");
+
+		if (entry._value != null) {
+			writer.write(new JsonPrimitive(entry._key).toString());
+			writer.write(":");
+			writer.write(new JsonPrimitive(entry._value).toString());
+			writer.write(",");
+		}
+
+		writer.write("\"status\":");
+		writer.write(String.valueOf(status));
+
+		if (bytes != null) {
+			MediaType mediaType = _getMediaType(httpHeaders);
+
+			writer.write(",\"type\":");
+			writer.write(new JsonPrimitive(mediaType.toString()).toString());
+
+			if (_isJson(mediaType)) {
+				String json = new String(bytes, StandardCharsets.UTF_8);
+
+				writer.write(",\"body\":");
+				writer.write(json.trim());
+			}
+			else {
+				Base64.Encoder encoder = Base64.getEncoder();
+
+				writer.write(",\"encoding\":\"base64\",\"body\":");
+				writer.write(
+					new JsonPrimitive(
+						encoder.encodeToString(bytes)
+					).toString());
+			}
+		}
+
+		writer.write("}");
+	}
+
+	private static final Annotation[] _ANNOTATIONS = new Annotation[0];
+
+	private static final int _MULTI_STATUS = 207;
+
+	private static final Type _PAGE_TYPE =
+		new GenericType<Try<Page<Object>>>() {
+		}.getType();
+
+	private static final Type _SINGLE_MODEL_TYPE =
+		new GenericType<Try<SingleModel<Object>>>() {
+		}.getType();
+
+	private final MediaType _mediaType;
+	private final Providers _providers;
+
+}
\ No newline at end of file
@@ -19,32 +19,46 @@ import static com.liferay.apio.architect.endpoint.ExceptionSupplierUtil.notFound
 import static com.liferay.apio.architect.operation.Method.DELETE;
 import static com.liferay.apio.architect.operation.Method.POST;
 import static com.liferay.apio.architect.operation.Method.PUT;
+import static com.liferay.apio.architect.unsafe.Unsafe.unsafeCast;
 
 import static javax.ws.rs.core.Response.noContent;
 
+import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.consumer.throwable.ThrowableConsumer;
 import com.liferay.apio.architect.endpoint.PageEndpoint;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.function.throwable.ThrowableFunction;
 import com.liferay.apio.architect.functional.Try;
-import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.pagination.Page;
-import com.liferay.apio.architect.related.RelatedCollection;
 import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.routes.CollectionRoutes;
 import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.routes.NestedCollectionRoutes;
 import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.single.model.SingleModelStream;
 import com.liferay.apio.architect.uri.Path;
-
+import com.liferay.apio.architect.wiring.osgi.manager.router.ResourceDispatcher;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.function.Supplier;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.GenericEntity;
 import javax.ws.rs.core.Response;
 
 /**
@@ -53,31 +67,22 @@ import javax.ws.rs.core.Response;
 public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 
 	public PageEndpointImpl(
-		String name, HttpServletRequest httpServletRequest,
-		Function<String, Optional<Class<Identifier>>> identifierClassFunction,
-		Function<String, Try<SingleModel<T>>> singleModelFunction,
-		Supplier<Optional<CollectionRoutes<T>>> collectionRoutesSupplier,
-		Supplier<Optional<Representor<T>>> representorSupplier,
-		Supplier<Optional<ItemRoutes<T, S>>> itemRoutesSupplier,
-		Function<String, Optional<NestedCollectionRoutes<T, Object>>>
-			nestedCollectionRoutesFunction,
-		Function<Path, S> identifierFunction) {
-
-		_name = name;
+		HttpServletRequest httpServletRequest,
+		ResourceDispatcher<T, S> resourceDispatcher,
+		Function<String, Try<SingleModel<T>>> singleModelFunction) {
+
 		_httpServletRequest = httpServletRequest;
-		_identifierClassFunction = identifierClassFunction;
+		_resourceDispatcher = resourceDispatcher;
 		_singleModelFunction = singleModelFunction;
-		_collectionRoutesSupplier = collectionRoutesSupplier;
-		_representorSupplier = representorSupplier;
-		_itemRoutesSupplier = itemRoutesSupplier;
-		_nestedCollectionRoutesFunction = nestedCollectionRoutesFunction;
-		_identifierFunction = identifierFunction;
+
+		_name = resourceDispatcher.getName();
+		_identifierFunction = resourceDispatcher.getIdentifierFunction();
 	}
 
 	@Override
 	public Try<SingleModel<T>> addCollectionItem(Body body) {
 		return Try.fromOptional(
-			_collectionRoutesSupplier::get, notFound(_name)
+			_resourceDispatcher::getCollectionRoutesOptional, notFound(_name)
 		).mapOptional(
 			CollectionRoutes::getCreateItemFunctionOptional,
 			notAllowed(POST, _name)
@@ -88,12 +93,28 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		);
 	}
 
+	@Override
+	public Try<BatchResult<SingleModel<T>>> addCollectionItems(Body body) {
+		return Try.fromOptional(
+			_resourceDispatcher::getCollectionRoutesOptional,
+			notFound("batch", _name)
+		).mapOptional(
+			CollectionRoutes::getBatchCreateItemFunctionOptional,
+			notAllowed(POST, "batch", _name)
+		).map(
+			function -> function.apply(_httpServletRequest)
+		).flatMap(
+			function -> function.apply(body)
+		);
+	}
+
 	@Override
 	public Try<SingleModel<T>> addNestedCollectionItem(
 		String id, String nestedName, Body body) {
 
 		return Try.fromOptional(
-			() -> _nestedCollectionRoutesFunction.apply(nestedName),
+			() -> _resourceDispatcher.getNestedCollectionRoutesOptional(
+				nestedName),
 			notFound(_name, nestedName)
 		).mapOptional(
 			NestedCollectionRoutes::getNestedCreateItemFunctionOptional
@@ -123,7 +144,7 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 	@Override
 	public Response deleteCollectionItem(String id) throws Exception {
 		ThrowableConsumer<S> throwableConsumer = Try.fromOptional(
-			_itemRoutesSupplier::get, notFound(_name)
+			_resourceDispatcher::getItemRoutesOptional, notFound(_name)
 		).mapOptional(
 			ItemRoutes::getDeleteConsumerOptional, notAllowed(DELETE, _name, id)
 		).map(
@@ -137,15 +158,92 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		return noContent().build();
 	}
 
+	@Override
+	public Try<BatchResult<String>> deleteCollectionItems(Body body) {
+		return Try.fromOptional(
+			_resourceDispatcher::getItemRoutesOptional, notFound("batch", _name)
+		).mapOptional(
+			ItemRoutes::getBatchDeleteConsumerOptional,
+			notAllowed(DELETE, "batch", _name)
+		).map(
+			function -> {
+				List<Body> bodies = _getBodies(body);
+
+				List<Try<S>> identifierTries = _getIdentifierTries(bodies);
+
+				List<S> identifiers = new ArrayList<>();
+
+				identifierTries.forEach(
+					identifierTry -> identifierTry.ifSuccess(identifiers::add));
+
+				Try<List<S>> deletedTry = Try.fromFallible(
+					() -> {
+						if (!identifiers.isEmpty()) {
+							ThrowableConsumer<List<S>> throwableConsumer =
+								function.apply(_httpServletRequest);
+
+							throwableConsumer.accept(identifiers);
+						}
+
+						return identifiers;
+					});
+
+				List<Try<String>> results = new ArrayList<>(bodies.size());
+
+				for (int i = 0; i < bodies.size(); i++) {
+					Body element = bodies.get(i);
+
+					results.add(
+						identifierTries.get(
+							i
+						).flatMap(
+							__ -> deletedTry
+						).map(
+							__ -> element.getValueOptional(
+								"id"
+							).get()
+						));
+				}
+
+				return new BatchResult<>(results);
+			}
+		);
+	}
+
+	@Override
+	public void getCollectionItemSingleModel(
+		String id, AsyncResponse asyncResponse) {
+
+		_resume(
+			asyncResponse, _getAsyncSingleModelTry(id),
+			singleModelTry ->
+				new GenericEntity<Try<SingleModel<T>>>(singleModelTry) {});
+	}
+
 	@Override
 	public Try<SingleModel<T>> getCollectionItemSingleModelTry(String id) {
 		return _singleModelFunction.apply(id);
 	}
 
+	@Override
+	public void getCollectionPage(AsyncResponse asyncResponse) {
+		Try<CompletionStage<Page<T>>> completionStageTry = Try.fromOptional(
+			_resourceDispatcher::getCollectionRoutesOptional, notFound(_name)
+		).mapOptional(
+			CollectionRoutes::getAsyncGetPageFunctionOptional, notFound(_name)
+		).flatMap(
+			function -> function.apply(_httpServletRequest)
+		);
+
+		_resume(
+			asyncResponse, completionStageTry,
+			pageTry -> new GenericEntity<Try<Page<T>>>(pageTry) {});
+	}
+
 	@Override
 	public Try<Page<T>> getCollectionPageTry() {
 		return Try.fromOptional(
-			_collectionRoutesSupplier::get, notFound(_name)
+			_resourceDispatcher::getCollectionRoutesOptional, notFound(_name)
 		).mapOptional(
 			CollectionRoutes::getGetPageFunctionOptional, notFound(_name)
 		).flatMap(
@@ -153,12 +251,62 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		);
 	}
 
+	@Override
+	public Try<SingleModelStream<T>> getCollectionStream() {
+		return Try.fromOptional(
+			_resourceDispatcher::getCollectionRoutesOptional, notFound(_name)
+		).mapOptional(
+			CollectionRoutes::getGetStreamFunctionOptional,
+			notFound("export", _name)
+		).flatMap(
+			function -> function.apply(_httpServletRequest)
+		);
+	}
+
+	@Override
+	public void getNestedCollectionPage(
+		String id, String nestedName, AsyncResponse asyncResponse) {
+
+		Try<CompletionStage<Page<T>>> completionStageTry = Try.fromOptional(
+			() -> _resourceDispatcher.getNestedCollectionRoutesOptional(
+				nestedName),
+			notFound(_name, id, nestedName)
+		).mapOptional(
+			NestedCollectionRoutes::getAsyncNestedGetPageFunctionOptional,
+			notFound(_name, id, nestedName)
+		).map(
+			function -> function.apply(_httpServletRequest)
+		).map(
+			function -> function.apply(new Path(_name, id))
+		).flatMap(
+			pageFunction -> _getAsyncSingleModelTry(
+				id
+			).map(
+				completionStage -> completionStage.thenCompose(
+					parentSingleModel -> _toCompletionStage(
+						Try.success(
+							parentSingleModel
+						).mapOptional(
+							_getIdentifierFunction(nestedName),
+							notFound(id, nestedName)
+						).flatMap(
+							pageFunction::apply
+						)))
+			)
+		);
+
+		_resume(
+			asyncResponse, completionStageTry,
+			pageTry -> new GenericEntity<Try<Page<T>>>(pageTry) {});
+	}
+
 	@Override
 	public Try<Page<T>> getNestedCollectionPageTry(
 		String id, String nestedName) {
 
 		return Try.fromOptional(
-			() -> _nestedCollectionRoutesFunction.apply(nestedName),
+			() -> _resourceDispatcher.getNestedCollectionRoutesOptional(
+				nestedName),
 			notFound(_name, id, nestedName)
 		).map(
 			NestedCollectionRoutes::getNestedGetPageFunctionOptional
@@ -189,7 +337,7 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 	@Override
 	public Try<SingleModel<T>> updateCollectionItem(String id, Body body) {
 		return Try.fromOptional(
-			_itemRoutesSupplier::get, notFound(_name, id)
+			_resourceDispatcher::getItemRoutesOptional, notFound(_name, id)
 		).mapOptional(
 			ItemRoutes::getUpdateItemFunctionOptional,
 			notAllowed(PUT, _name, id)
@@ -206,56 +354,192 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		);
 	}
 
-	private Predicate<RelatedCollection<?>>
-		_getFilterRelatedCollectionPredicate(String nestedName) {
+	@Override
+	public Try<BatchResult<SingleModel<T>>> updateCollectionItems(Body body) {
+		return Try.fromOptional(
+			_resourceDispatcher::getItemRoutesOptional, notFound("batch", _name)
+		).mapOptional(
+			ItemRoutes::getBatchUpdateItemFunctionOptional,
+			notAllowed(PUT, "batch", _name)
+		).flatMap(
+			function -> {
+				List<Body> bodies = _getBodies(body);
 
-		return relatedCollection -> {
-			Class<?> relatedIdentifierClass =
-				relatedCollection.getIdentifierClass();
+				List<Try<S>> identifierTries = _getIdentifierTries(bodies);
 
-			String className = relatedIdentifierClass.getName();
+				Map<S, Body> map = new LinkedHashMap<>();
 
-			return _identifierClassFunction.apply(
-				nestedName
-			).map(
-				Class::getName
-			).map(
-				className::equals
-			).orElse(
-				false
-			);
-		};
+				for (int i = 0; i < bodies.size(); i++) {
+					Body element = bodies.get(i);
+
+					identifierTries.get(
+						i
+					).ifSuccess(
+						identifier -> map.put(identifier, element)
+					);
+				}
+
+				return function.apply(
+					_httpServletRequest
+				).apply(
+					map
+				).map(
+					batchResult -> _merge(identifierTries, batchResult)
+				);
+			}
+		);
+	}
+
+	private Try<CompletionStage<SingleModel<T>>> _getAsyncSingleModelTry(
+		String id) {
+
+		return Try.fromOptional(
+			_resourceDispatcher::getItemRoutesOptional, notFound(_name, id)
+		).mapOptional(
+			ItemRoutes::getAsyncItemFunctionOptional, notFound(_name, id)
+		).flatMap(
+			function -> function.apply(
+				_httpServletRequest
+			).compose(
+				_identifierFunction
+			).apply(
+				new Path(_name, id)
+			)
+		);
+	}
+
+	private List<Body> _getBodies(Body body) {
+		return body.getBodyListOptional(
+		).orElseThrow(
+			() -> new BadRequestException("Body is not a list of elements")
+		);
+	}
+
+	private Exception _getException(Throwable throwable) {
+		if ((throwable instanceof CompletionException) &&
+			(throwable.getCause() != null)) {
+
+			return _getException(throwable.getCause());
+		}
+
+		if (throwable instanceof Exception) {
+			return (Exception)throwable;
+		}
+
+		return new ExecutionException(throwable);
 	}
 
 	private ThrowableFunction<SingleModel<T>, Optional<Object>>
 		_getIdentifierFunction(String nestedName) {
 
-		Optional<Representor<T>> optional = _representorSupplier.get();
+		if (!_resourceDispatcher.isRelatedCollection(nestedName)) {
+			return __ -> Optional.empty();
+		}
+
+		Optional<Representor<T>> optional =
+			_resourceDispatcher.getRepresentorOptional();
 
 		return parentSingleModel -> optional.map(
-			Representor::getRelatedCollections
-		).filter(
-			stream -> stream.anyMatch(
-				_getFilterRelatedCollectionPredicate(nestedName))
-		).flatMap(
-			__ -> _representorSupplier.get()
-		).map(
 			representor -> representor.getIdentifier(
 				parentSingleModel.getModel())
 		);
 	}
 
-	private final Supplier<Optional<CollectionRoutes<T>>>
-		_collectionRoutesSupplier;
+	private List<Try<S>> _getIdentifierTries(List<Body> bodies) {
+		Set<S> identifiers = new HashSet<>();
+
+		List<Try<S>> identifierTries = new ArrayList<>(bodies.size());
+
+		for (Body element : bodies) {
+			identifierTries.add(
+				Try.fromFallible(
+					() -> {
+						String id = element.getValueOptional(
+							"id"
+						).orElseThrow(
+							() -> new BadRequestException(
+								"Every element of the list must have an " +
+									"\"id\"")
+						);
+
+						S identifier = _identifierFunction.apply(
+							new Path(_name, id));
+
+						if (!identifiers.add(identifier)) {
+							throw new BadRequestException(
+								"Duplicated element with id " + id);
+						}
+
+						return identifier;
+					}));
+		}
+
+		return identifierTries;
+	}
+
+	private <U> BatchResult<U> _merge(
+		List<Try<S>> identifierTries, BatchResult<U> batchResult) {
+
+		List<Try<U>> results = batchResult.getResults();
+
+		Iterator<Try<U>> iterator = results.iterator();
+
+		List<Try<U>> mergedResults = new ArrayList<>(identifierTries.size());
+
+		for (Try<S> identifierTry : identifierTries) {
+			if (identifierTry.isFailure()) {
+				mergedResults.add(unsafeCast(identifierTry));
+			}
+			else {
+				mergedResults.add(iterator.next());
+			}
+		}
+
+		return new BatchResult<>(mergedResults);
+	}
+
+	private <U> void _resume(
+		AsyncResponse asyncResponse,
+		Try<CompletionStage<U>> completionStageTry,
+		Function<Try<U>, GenericEntity<Try<U>>> genericEntityFunction) {
+
+		completionStageTry.voidFold(
+			exception -> asyncResponse.resume(
+				genericEntityFunction.apply(Try.fail(exception))),
+			completionStage -> completionStage.whenComplete(
+				(u, throwable) -> {
+					Try<U> uTry;
+
+					if (throwable == null) {
+						uTry = Try.success(u);
+					}
+					else {
+						uTry = Try.fail(_getException(throwable));
+					}
+
+					asyncResponse.resume(genericEntityFunction.apply(uTry));
+				}));
+	}
+
+	private <U> CompletionStage<U> _toCompletionStage(
+		Try<CompletionStage<U>> completionStageTry) {
+
+		return completionStageTry.fold(
+			exception -> {
+				CompletableFuture<U> completableFuture =
+					new CompletableFuture<>();
+
+				completableFuture.completeExceptionally(exception);
+
+				return completableFuture;
+			},
+			completionStage -> completionStage);
+	}
+
 	private final HttpServletRequest _httpServletRequest;
-	private final Function<String, Optional<Class<Identifier>>>
-		_identifierClassFunction;
 	private final Function<Path, S> _identifierFunction;
-	private final Supplier<Optional<ItemRoutes<T, S>>> _itemRoutesSupplier;
 	private final String _name;
-	private final Function<String, Optional<NestedCollectionRoutes<T, Object>>>
-		_nestedCollectionRoutesFunction;
-	private final Supplier<Optional<Representor<T>>> _representorSupplier;
+	private final ResourceDispatcher<T, S> _resourceDispatcher;
 	private final Function<String, Try<SingleModel<T>>> _singleModelFunction;
 
 }
\ No newline at end of file
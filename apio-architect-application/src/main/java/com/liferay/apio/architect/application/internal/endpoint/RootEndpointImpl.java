@@ -19,29 +19,40 @@ import static com.liferay.apio.architect.endpoint.ExceptionSupplierUtil.notFound
 import com.google.gson.JsonObject;
 
 import com.liferay.apio.architect.alias.RequestFunction;
+import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.documentation.APIDescription;
 import com.liferay.apio.architect.documentation.APITitle;
 import com.liferay.apio.architect.documentation.Documentation;
+import com.liferay.apio.architect.endpoint.BatchEndpoint;
 import com.liferay.apio.architect.endpoint.BinaryEndpoint;
 import com.liferay.apio.architect.endpoint.FormEndpoint;
 import com.liferay.apio.architect.endpoint.RootEndpoint;
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.language.Language;
+import com.liferay.apio.architect.request.Deadline;
 import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.routes.NestedCollectionRoutes;
 import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.single.model.SingleModelStream;
 import com.liferay.apio.architect.uri.Path;
 import com.liferay.apio.architect.url.ServerURL;
-import com.liferay.apio.architect.wiring.osgi.manager.PathIdentifierMapperManager;
 import com.liferay.apio.architect.wiring.osgi.manager.ProviderManager;
-import com.liferay.apio.architect.wiring.osgi.manager.representable.IdentifierClassManager;
 import com.liferay.apio.architect.wiring.osgi.manager.representable.RepresentableManager;
 import com.liferay.apio.architect.wiring.osgi.manager.router.CollectionRouterManager;
 import com.liferay.apio.architect.wiring.osgi.manager.router.ItemRouterManager;
-import com.liferay.apio.architect.wiring.osgi.manager.router.NestedCollectionRouterManager;
-import com.liferay.apio.architect.wiring.osgi.manager.router.ReusableNestedCollectionRouterManager;
+import com.liferay.apio.architect.wiring.osgi.manager.router.ResourceDispatcher;
+import com.liferay.apio.architect.wiring.osgi.manager.router.ResourceDispatcherManager;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -51,6 +62,7 @@ import javax.ws.rs.core.Response;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 
 /**
@@ -77,13 +89,50 @@ public class RootEndpointImpl implements RootEndpoint {
 			() -> _representableManager.getRepresentors(),
 			() -> _collectionRouterManager.getCollectionRoutes(),
 			() -> _itemRouterManager.getItemRoutes());
+
+		int threads = Runtime.getRuntime().availableProcessors();
+
+		_executorService = new ThreadPoolExecutor(
+			threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(_BATCH_QUEUE_SIZE),
+			new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	@Override
+	public BatchEndpoint batchEndpoint() {
+		Map<String, CompletableFuture<Try<SingleModel<Object>>>>
+			singleModelFutures = new ConcurrentHashMap<>();
+
+		return new BatchEndpointImpl(
+			(name, httpServletRequest) -> {
+				ResourceDispatcher<Object, Object> resourceDispatcher =
+					_resourceDispatcherManager.getResourceDispatcher(name);
+
+				return new PageEndpointImpl<>(
+					httpServletRequest, resourceDispatcher,
+					id -> _getMemoizedSingleModelTry(
+						singleModelFutures, name + "/" + id,
+						() -> _getSingleModelTry(
+							resourceDispatcher, id, httpServletRequest)));
+			},
+			httpServletRequest -> _providerManager.shareContexts(
+				httpServletRequest, Credentials.class, Deadline.class,
+				Language.class, ServerURL.class),
+			_executorService);
 	}
 
 	@Override
 	public BinaryEndpoint binaryEndpoint() {
 		return new BinaryEndpoint(
 			_representableManager::getRepresentorOptional,
-			this::_getSingleModelTry);
+			(name, id) -> _getSingleModelTry(
+				_resourceDispatcherManager.getResourceDispatcher(name), id,
+				_httpServletRequest));
+	}
+
+	@Deactivate
+	public void deactivate() {
+		_executorService.shutdownNow();
 	}
 
 	@Override
@@ -91,6 +140,14 @@ public class RootEndpointImpl implements RootEndpoint {
 		return _documentation;
 	}
 
+	@Override
+	public Try<SingleModelStream<Object>> export(String name) {
+		PageEndpointImpl<Object, Object> pageEndpointImpl =
+			_getPageEndpointImpl(name);
+
+		return pageEndpointImpl.getCollectionStream();
+	}
+
 	@Override
 	public FormEndpoint formEndpoint() {
 		return new FormEndpoint(
@@ -133,71 +190,92 @@ public class RootEndpointImpl implements RootEndpoint {
 
 	@Override
 	public PageEndpointImpl pageEndpoint(String name) {
-		return new PageEndpointImpl<>(
-			name, _httpServletRequest,
-			_identifierClassManager::getIdentifierClassOptional,
-			id -> _getSingleModelTry(name, id),
-			() -> _collectionRouterManager.getCollectionRoutesOptional(name),
-			() -> _representableManager.getRepresentorOptional(name),
-			() -> _itemRouterManager.getItemRoutesOptional(name),
-			nestedName -> _getNestedCollectionRoutesOptional(name, nestedName),
-			_pathIdentifierMapperManager::mapToIdentifierOrFail);
+		return _getPageEndpointImpl(name);
+	}
+
+	private Try<SingleModel<Object>> _getMemoizedSingleModelTry(
+		Map<String, CompletableFuture<Try<SingleModel<Object>>>>
+			singleModelFutures,
+		String key, Supplier<Try<SingleModel<Object>>> supplier) {
+
+		CompletableFuture<Try<SingleModel<Object>>> completableFuture =
+			new CompletableFuture<>();
+
+		CompletableFuture<Try<SingleModel<Object>>> previousCompletableFuture =
+			singleModelFutures.putIfAbsent(key, completableFuture);
+
+		if (previousCompletableFuture != null) {
+			return previousCompletableFuture.join();
+		}
+
+		Try<SingleModel<Object>> singleModelTry = Try.fromFallible(
+			supplier::get
+		).flatMap(
+			aTry -> aTry
+		);
+
+		completableFuture.complete(singleModelTry);
+
+		return singleModelTry;
 	}
 
 	private <T> Optional<NestedCollectionRoutes<T, Object>>
 		_getNestedCollectionRoutesOptional(String name, String nestedName) {
 
-		Optional<NestedCollectionRoutes<T, Object>> optional =
-			_nestedCollectionRouterManager.getNestedCollectionRoutesOptional(
-				name, nestedName);
+		ResourceDispatcher<T, Object> resourceDispatcher =
+			_resourceDispatcherManager.getResourceDispatcher(name);
 
-		return optional.map(
-			Optional::of
-		).orElseGet(
-			() -> _reusableNestedCollectionRouterManager.
-				getNestedCollectionRoutesOptional(nestedName)
-		);
+		return resourceDispatcher.getNestedCollectionRoutesOptional(nestedName);
+	}
+
+	private PageEndpointImpl<Object, Object> _getPageEndpointImpl(String name) {
+		ResourceDispatcher<Object, Object> resourceDispatcher =
+			_resourceDispatcherManager.getResourceDispatcher(name);
+
+		return new PageEndpointImpl<>(
+			_httpServletRequest, resourceDispatcher,
+			id -> _getSingleModelTry(
+				resourceDispatcher, id, _httpServletRequest));
 	}
 
 	private <T, S> Try<SingleModel<T>> _getSingleModelTry(
-		String name, String id) {
+		ResourceDispatcher<T, S> resourceDispatcher, String id,
+		HttpServletRequest httpServletRequest) {
+
+		String name = resourceDispatcher.getName();
 
 		return Try.success(
-			name
-		).<ItemRoutes<T, S>>mapOptional(
-			_itemRouterManager::getItemRoutesOptional
+			resourceDispatcher
+		).mapOptional(
+			ResourceDispatcher::getItemRoutesOptional
 		).mapOptional(
 			ItemRoutes::getItemFunctionOptional, notFound(name, id)
 		).flatMap(
 			function -> function.apply(
-				_httpServletRequest
+				httpServletRequest
 			).apply(
-				_pathIdentifierMapperManager.mapToIdentifierOrFail(
-					new Path(name, id))
+				resourceDispatcher.getIdentifierFunction(
+				).apply(
+					new Path(name, id)
+				)
 			)
 		);
 	}
 
+	private static final int _BATCH_QUEUE_SIZE = 1000;
+
 	@Reference
 	private CollectionRouterManager _collectionRouterManager;
 
 	private Documentation _documentation;
+	private ExecutorService _executorService;
 
 	@Context
 	private HttpServletRequest _httpServletRequest;
 
-	@Reference
-	private IdentifierClassManager _identifierClassManager;
-
 	@Reference
 	private ItemRouterManager _itemRouterManager;
 
-	@Reference
-	private NestedCollectionRouterManager _nestedCollectionRouterManager;
-
-	@Reference
-	private PathIdentifierMapperManager _pathIdentifierMapperManager;
-
 	@Reference
 	private ProviderManager _providerManager;
 
@@ -205,7 +283,6 @@ public class RootEndpointImpl implements RootEndpoint {
 	private RepresentableManager _representableManager;
 
 	@Reference
-	private ReusableNestedCollectionRouterManager
-		_reusableNestedCollectionRouterManager;
+	private ResourceDispatcherManager _resourceDispatcherManager;
 
 }
\ No newline at end of file
@@ -39,6 +39,11 @@ import org.osgi.service.component.annotations.Component;
  * com.liferay.apio.architect.representor.Representor}.
  * </p>
  *
+ * <p>
+ * The requested locales are resolved once per request, and the same {@code
+ * Language} is returned to every caller during that request.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 @Component(immediate = true)
@@ -46,23 +51,39 @@ public class LanguageProvider implements Provider<Language> {
 
 	@Override
 	public Language createContext(HttpServletRequest httpServletRequest) {
-		return new Language() {
+		Object attribute = httpServletRequest.getAttribute(_ATTRIBUTE_NAME);
 
-			@Override
-			public Stream<Locale> getLocales() {
-				Enumeration<Locale> locales = httpServletRequest.getLocales();
+		if (attribute instanceof Language) {
+			return (Language)attribute;
+		}
+
+		Enumeration<Locale> enumeration = httpServletRequest.getLocales();
+
+		List<Locale> locales = Collections.unmodifiableList(
+			Collections.list(enumeration));
 
-				List<Locale> localesList = Collections.list(locales);
+		Locale preferredLocale = httpServletRequest.getLocale();
 
-				return localesList.stream();
+		Language language = new Language() {
+
+			@Override
+			public Stream<Locale> getLocales() {
+				return locales.stream();
 			}
 
 			@Override
 			public Locale getPreferredLocale() {
-				return httpServletRequest.getLocale();
+				return preferredLocale;
 			}
 
 		};
+
+		httpServletRequest.setAttribute(_ATTRIBUTE_NAME, language);
+
+		return language;
 	}
 
+	private static final String _ATTRIBUTE_NAME =
+		LanguageProvider.class.getName();
+
 }
\ No newline at end of file
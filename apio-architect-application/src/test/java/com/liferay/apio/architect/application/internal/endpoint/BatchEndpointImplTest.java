@@ -0,0 +1,452 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+
+package com.liferay.apio.architect.application.internal.endpoint;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.endpoint.PageEndpoint;
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.NotAcceptableException;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Providers;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BatchEndpointImplTest {
+
+	@Before
+	public void setUp() {
+		_pageEndpoint = mock(PageEndpoint.class);
+
+		_batchEndpointImpl = new BatchEndpointImpl(
+			(name, httpServletRequest) -> _pageEndpoint,
+			httpServletRequest -> {
+			},
+			Runnable::run);
+
+		_providers = mock(Providers.class);
+
+		_mockAcceptableMediaTypes(MediaType.WILDCARD_TYPE);
+		_mockMessageBodyWriter(
+			"application/hal+json",
+			model -> ("{\"model\":\"" + model + "\"}").getBytes(
+				StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testAddCollectionItemsReportsTheStatusOfEveryItem() {
+		when(
+			_pageEndpoint.addCollectionItems(any(Body.class))
+		).thenReturn(
+			Try.success(
+				new BatchResult<>(
+					Arrays.asList(
+						Try.success(_singleModel("Apio")),
+						Try.fail(new BadRequestException()))))
+		);
+
+		Response response = _batchEndpointImpl.addCollectionItems(
+			"people", _httpHeaders, _httpServletRequest, _providers,
+			Body.create(
+				Arrays.asList(_body("name", "Apio"), _body("name", ""))));
+
+		assertThat(response.getStatus(), is(207));
+
+		JsonArray jsonArray = _getResponses(response);
+
+		assertThat(jsonArray.size(), is(2));
+
+		JsonObject first = jsonArray.get(0).getAsJsonObject();
+
+		assertThat(first.get("status").getAsInt(), is(201));
+		assertThat(
+			first.get("type").getAsString(), is("application/hal+json"));
+		assertThat(
+			first.getAsJsonObject(
+				"body"
+			).get(
+				"model"
+			).getAsString(),
+			is("Apio"));
+
+		JsonObject second = jsonArray.get(1).getAsJsonObject();
+
+		assertThat(second.get("status").getAsInt(), is(400));
+		assertThat(second.has("body"), is(false));
+	}
+
+	@Test
+	public void testDeleteCollectionItemsReportsTheIdOfEveryItem() {
+		when(
+			_pageEndpoint.deleteCollectionItems(any(Body.class))
+		).thenReturn(
+			Try.success(
+				new BatchResult<>(
+					Arrays.asList(
+						Try.success("1"), Try.fail(new NotFoundException()))))
+		);
+
+		Response response = _batchEndpointImpl.deleteCollectionItems(
+			"people", _httpHeaders, _httpServletRequest, _providers,
+			Body.create(Arrays.asList(_body("id", "1"), _body("id", "2"))));
+
+		JsonArray jsonArray = _getResponses(response);
+
+		JsonObject first = jsonArray.get(0).getAsJsonObject();
+
+		assertThat(first.get("id").getAsString(), is("1"));
+		assertThat(first.get("status").getAsInt(), is(204));
+		assertThat(first.has("body"), is(false));
+
+		JsonObject second = jsonArray.get(1).getAsJsonObject();
+
+		assertThat(second.get("id").getAsString(), is("2"));
+		assertThat(second.get("status").getAsInt(), is(404));
+	}
+
+	@Test
+	public void testEnvelopeMediaTypeIsNegotiatedFromTheRequest() {
+		_mockAcceptableMediaTypes(
+			MediaType.valueOf("application/cbor"),
+			MediaType.valueOf("application/hal+json"));
+
+		Response response = _batchEndpointImpl.executeBatch(
+			_httpHeaders, _httpServletRequest, _providers,
+			Body.create(Collections.emptyList()));
+
+		MediaType mediaType = response.getMediaType();
+
+		assertThat(mediaType.toString(), is("application/hal+json"));
+	}
+
+	@Test(expected = NotAcceptableException.class)
+	public void testEnvelopeMediaTypeMustBeJsonBased() {
+		_mockAcceptableMediaTypes(MediaType.valueOf("application/cbor"));
+
+		_batchEndpointImpl.executeBatch(
+			_httpHeaders, _httpServletRequest, _providers,
+			Body.create(Collections.emptyList()));
+	}
+
+	@Test
+	public void testExecuteBatchEncodesBodiesThatAreNotJsonBased() {
+		byte[] bytes = {(byte)0xA1, 0x61, 0x61, 0x01};
+
+		_mockMessageBodyWriter("application/cbor", model -> bytes);
+
+		when(
+			_pageEndpoint.getCollectionItemSingleModelTry("1")
+		).thenReturn(
+			Try.success(_singleModel("Apio"))
+		);
+
+		Response response = _batchEndpointImpl.executeBatch(
+			_httpHeaders, _httpServletRequest, _providers,
+			Body.create(Collections.singletonList(_body("path", "/p/a/1"))));
+
+		JsonObject jsonObject = _getResponses(
+			response
+		).get(
+			0
+		).getAsJsonObject();
+
+		assertThat(jsonObject.get("status").getAsInt(), is(200));
+		assertThat(
+			jsonObject.get("type").getAsString(), is("application/cbor"));
+		assertThat(jsonObject.get("encoding").getAsString(), is("base64"));
+
+		Base64.Decoder decoder = Base64.getDecoder();
+
+		assertThat(
+			decoder.decode(jsonObject.get("body").getAsString()), is(bytes));
+	}
+
+	@Test
+	public void testExecuteBatchPreparesTheBatchRequestBeforeItsRequests() {
+		when(
+			_pageEndpoint.getCollectionItemSingleModelTry("1")
+		).thenReturn(
+			Try.success(_singleModel("Apio"))
+		);
+
+		List<Object> events = new ArrayList<>();
+
+		BatchEndpointImpl batchEndpointImpl = new BatchEndpointImpl(
+			(name, httpServletRequest) -> {
+				events.add(httpServletRequest.getClass());
+
+				return _pageEndpoint;
+			},
+			events::add, Runnable::run);
+
+		batchEndpointImpl.executeBatch(
+			_httpHeaders, _httpServletRequest, _providers,
+			Body.create(
+				Arrays.asList(
+					_body("path", "/p/a/1"), _body("path", "/p/a/1"))));
+
+		assertThat(
+			events,
+			is(
+				Arrays.asList(
+					_httpServletRequest, BatchHttpServletRequest.class,
+					BatchHttpServletRequest.class)));
+	}
+
+	@Test
+	public void testExecuteBatchReportsEveryExceptionAsItsRequestStatus() {
+		when(
+			_pageEndpoint.getCollectionItemSingleModelTry("1")
+		).thenThrow(
+			new IllegalStateException()
+		);
+
+		when(
+			_pageEndpoint.getCollectionItemSingleModelTry("2")
+		).thenReturn(
+			Try.success(_singleModel("Apio"))
+		);
+
+		_mockMessageBodyWriter(
+			"application/json",
+			model -> {
+				throw new IllegalArgumentException();
+			});
+
+		Response response = _batchEndpointImpl.executeBatch(
+			_httpHeaders, _httpServletRequest, _providers,
+			Body.create(
+				Arrays.asList(
+					_body("path", "/p/a/1"), _body("path", "/p/a/2"),
+					_body("path", "/unknown"))));
+
+		JsonArray jsonArray = _getResponses(response);
+
+		assertThat(jsonArray.size(), is(3));
+		assertThat(_getStatus(jsonArray, 0), is(500));
+		assertThat(_getStatus(jsonArray, 1), is(500));
+		assertThat(_getStatus(jsonArray, 2), is(404));
+	}
+
+	@Test
+	public void testExecuteBatchWritesEveryResultInOrder() {
+		when(
+			_pageEndpoint.getCollectionItemSingleModelTry("1")
+		).thenReturn(
+			Try.success(_singleModel("Apio"))
+		);
+
+		when(
+			_pageEndpoint.getCollectionItemSingleModelTry("2 3")
+		).thenReturn(
+			Try.fail(new NotFoundException())
+		);
+
+		Response response = _batchEndpointImpl.executeBatch(
+			_httpHeaders, _httpServletRequest, _providers,
+			Body.create(
+				Arrays.asList(
+					_body("path", "/p/a/1"), _body("path", "/p/a/2%203"))));
+
+		JsonArray jsonArray = _getResponses(response);
+
+		JsonObject first = jsonArray.get(0).getAsJsonObject();
+
+		assertThat(first.get("path").getAsString(), is("/p/a/1"));
+		assertThat(first.get("status").getAsInt(), is(200));
+		assertThat(
+			first.getAsJsonObject(
+				"body"
+			).get(
+				"model"
+			).getAsString(),
+			is("Apio"));
+
+		JsonObject second = jsonArray.get(1).getAsJsonObject();
+
+		assertThat(second.get("path").getAsString(), is("/p/a/2%203"));
+		assertThat(second.get("status").getAsInt(), is(404));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testExecuteBatchWithoutListThrowsBadRequest() {
+		_batchEndpointImpl.executeBatch(
+			_httpHeaders, _httpServletRequest, _providers,
+			_body("path", "/p/a"));
+	}
+
+	private static Body _body(String key, String value) {
+		return Body.create(
+			name -> Optional.of(
+				value
+			).filter(
+				__ -> name.equals(key)
+			),
+			name -> Optional.empty());
+	}
+
+	private static JsonArray _getResponses(Response response) {
+		StreamingOutput streamingOutput = (StreamingOutput)response.getEntity();
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try {
+			streamingOutput.write(byteArrayOutputStream);
+		}
+		catch (IOException ioe) {
+			throw new AssertionError(ioe);
+		}
+
+		String json = new String(
+			byteArrayOutputStream.toByteArray(), StandardCharsets.UTF_8);
+
+		JsonParser jsonParser = new JsonParser();
+
+		JsonObject jsonObject = jsonParser.parse(json).getAsJsonObject();
+
+		return jsonObject.getAsJsonArray("responses");
+	}
+
+	private static int _getStatus(JsonArray jsonArray, int index) {
+		JsonObject jsonObject = jsonArray.get(index).getAsJsonObject();
+
+		return jsonObject.get("status").getAsInt();
+	}
+
+	private static SingleModel<Object> _singleModel(String model) {
+		return new SingleModel<>(model, "people", Collections.emptyList());
+	}
+
+	private void _mockAcceptableMediaTypes(MediaType... mediaTypes) {
+		when(
+			_httpHeaders.getAcceptableMediaTypes()
+		).thenReturn(
+			Arrays.asList(mediaTypes)
+		);
+	}
+
+	private void _mockMessageBodyWriter(
+		String mediaType, Function<Object, byte[]> function) {
+
+		when(
+			_providers.getMessageBodyWriter(
+				eq(Try.Success.class), any(Type.class),
+				any(Annotation[].class), any(MediaType.class))
+		).thenReturn(
+			new TestMessageBodyWriter(mediaType, function)
+		);
+	}
+
+	private BatchEndpointImpl _batchEndpointImpl;
+	private final HttpHeaders _httpHeaders = mock(HttpHeaders.class);
+	private final HttpServletRequest _httpServletRequest = mock(
+		HttpServletRequest.class);
+	private PageEndpoint<Object> _pageEndpoint;
+	private Providers _providers;
+
+	private static class TestMessageBodyWriter
+		implements MessageBodyWriter<Try.Success> {
+
+		public TestMessageBodyWriter(
+			String mediaType, Function<Object, byte[]> function) {
+
+			_mediaType = mediaType;
+			_function = function;
+		}
+
+		@Override
+		public long getSize(
+			Try.Success success, Class<?> clazz, Type type,
+			Annotation[] annotations, MediaType mediaType) {
+
+			return -1;
+		}
+
+		@Override
+		public boolean isWriteable(
+			Class<?> clazz, Type type, Annotation[] annotations,
+			MediaType mediaType) {
+
+			return true;
+		}
+
+		@Override
+		public void writeTo(
+				Try.Success success, Class<?> clazz, Type type,
+				Annotation[] annotations, MediaType mediaType,
+				MultivaluedMap<String, Object> httpHeaders,
+				OutputStream outputStream)
+			throws IOException {
+
+			SingleModel<?> singleModel = (SingleModel<?>)success.getValue();
+
+			httpHeaders.putSingle(CONTENT_TYPE, _mediaType);
+
+			outputStream.write(_function.apply(singleModel.getModel()));
+		}
+
+		private final Function<Object, byte[]> _function;
+		private final String _mediaType;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+
+package com.liferay.apio.architect.application.internal.endpoint;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BatchHttpServletRequestTest {
+
+	@Test
+	public void testAttributesAreNotWrittenToTheBatchRequest() {
+		BatchHttpServletRequest batchHttpServletRequest =
+			new BatchHttpServletRequest(_httpServletRequest, null);
+
+		batchHttpServletRequest.setAttribute("language", "en");
+
+		assertThat(batchHttpServletRequest.getAttribute("language"), is("en"));
+
+		verify(
+			_httpServletRequest, never()
+		).setAttribute(
+			"language", "en"
+		);
+	}
+
+	@Test
+	public void testAttributesFallBackToTheBatchRequest() {
+		when(
+			_httpServletRequest.getAttribute("deadline")
+		).thenReturn(
+			"deadline"
+		);
+
+		when(
+			_httpServletRequest.getAttributeNames()
+		).thenReturn(
+			Collections.enumeration(Arrays.asList("deadline", "trace"))
+		);
+
+		BatchHttpServletRequest batchHttpServletRequest =
+			new BatchHttpServletRequest(_httpServletRequest, null);
+
+		assertThat(
+			batchHttpServletRequest.getAttribute("deadline"), is("deadline"));
+
+		batchHttpServletRequest.setAttribute("language", "en");
+		batchHttpServletRequest.removeAttribute("trace");
+
+		List<String> names = Collections.list(
+			batchHttpServletRequest.getAttributeNames());
+
+		assertThat(names.toString(), is("[deadline, language]"));
+	}
+
+	@Test
+	public void testRemovedAttributesHideTheBatchRequestOnes() {
+		when(
+			_httpServletRequest.getAttribute("deadline")
+		).thenReturn(
+			"deadline"
+		);
+
+		BatchHttpServletRequest batchHttpServletRequest =
+			new BatchHttpServletRequest(_httpServletRequest, null);
+
+		batchHttpServletRequest.removeAttribute("deadline");
+
+		assertThat(
+			batchHttpServletRequest.getAttribute("deadline"),
+			is(nullValue()));
+
+		verify(
+			_httpServletRequest, never()
+		).removeAttribute(
+			"deadline"
+		);
+	}
+
+	@Test
+	public void testDecodeDecodesURLEncodedString() {
+		String string = BatchHttpServletRequest.decode("a%2Fb+c%C3%B1");
+
+		assertThat(string, is("a/b cñ"));
+	}
+
+	@Test
+	public void testGetMethodIsAlwaysGet() {
+		BatchHttpServletRequest batchHttpServletRequest =
+			new BatchHttpServletRequest(_httpServletRequest, null);
+
+		assertThat(batchHttpServletRequest.getMethod(), is("GET"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testParameterMapIsUnmodifiable() {
+		BatchHttpServletRequest batchHttpServletRequest =
+			new BatchHttpServletRequest(_httpServletRequest, "page=2");
+
+		Map<String, String[]> parameterMap =
+			batchHttpServletRequest.getParameterMap();
+
+		parameterMap.clear();
+	}
+
+	@Test
+	public void testParametersAreExtractedFromQueryString() {
+		BatchHttpServletRequest batchHttpServletRequest =
+			new BatchHttpServletRequest(
+				_httpServletRequest, "page=2&name=J%C3%BAlia+M&page=3&flag&&");
+
+		assertThat(
+			batchHttpServletRequest.getQueryString(),
+			is("page=2&name=J%C3%BAlia+M&page=3&flag&&"));
+		assertThat(batchHttpServletRequest.getParameter("page"), is("2"));
+		assertThat(
+			batchHttpServletRequest.getParameterValues("page"),
+			is(new String[] {"2", "3"}));
+		assertThat(batchHttpServletRequest.getParameter("name"), is("Júlia M"));
+		assertThat(batchHttpServletRequest.getParameter("flag"), is(""));
+		assertThat(
+			batchHttpServletRequest.getParameter("other"), is(nullValue()));
+
+		List<String> names = Collections.list(
+			batchHttpServletRequest.getParameterNames());
+
+		assertThat(names.toString(), is("[page, name, flag]"));
+	}
+
+	@Test
+	public void testWithoutQueryStringHasNoParameters() {
+		BatchHttpServletRequest batchHttpServletRequest =
+			new BatchHttpServletRequest(_httpServletRequest, null);
+
+		Map<String, String[]> parameterMap =
+			batchHttpServletRequest.getParameterMap();
+
+		assertThat(parameterMap.isEmpty(), is(true));
+		assertThat(batchHttpServletRequest.getQueryString(), is(nullValue()));
+	}
+
+	private final HttpServletRequest _httpServletRequest = mock(
+		HttpServletRequest.class);
+
+}
\ No newline at end of file
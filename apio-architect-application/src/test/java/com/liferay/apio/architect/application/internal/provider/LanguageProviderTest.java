@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.application.internal.provider;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import com.liferay.apio.architect.language.Language;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class LanguageProviderTest {
+
+	@Before
+	public void setUp() {
+		_httpServletRequest = Mockito.mock(HttpServletRequest.class);
+
+		Map<String, Object> attributes = new HashMap<>();
+
+		Mockito.when(
+			_httpServletRequest.getAttribute(Mockito.anyString())
+		).thenAnswer(
+			invocation -> attributes.get(invocation.getArguments()[0])
+		);
+
+		Mockito.doAnswer(
+			invocation -> attributes.put(
+				(String)invocation.getArguments()[0],
+				invocation.getArguments()[1])
+		).when(
+			_httpServletRequest
+		).setAttribute(
+			Mockito.anyString(), Mockito.any()
+		);
+
+		Mockito.when(
+			_httpServletRequest.getLocale()
+		).thenReturn(
+			Locale.GERMAN
+		);
+
+		Mockito.when(
+			_httpServletRequest.getLocales()
+		).thenAnswer(
+			invocation -> Collections.enumeration(
+				Arrays.asList(Locale.GERMAN, Locale.ENGLISH))
+		);
+	}
+
+	@Test
+	public void testCreateContextReturnsRequestedLocales() {
+		LanguageProvider languageProvider = new LanguageProvider();
+
+		Language language = languageProvider.createContext(
+			_httpServletRequest);
+
+		assertThat(language.getPreferredLocale(), is(Locale.GERMAN));
+
+		Stream<Locale> stream = language.getLocales();
+
+		assertThat(
+			stream.collect(Collectors.toList()),
+			is(Arrays.asList(Locale.GERMAN, Locale.ENGLISH)));
+	}
+
+	@Test
+	public void testCreateContextReusesLanguageStoredInRequest() {
+		LanguageProvider languageProvider = new LanguageProvider();
+
+		Language language = languageProvider.createContext(
+			_httpServletRequest);
+
+		assertThat(
+			languageProvider.createContext(_httpServletRequest),
+			is(sameInstance(language)));
+
+		Mockito.verify(
+			_httpServletRequest
+		).getLocales();
+
+		Mockito.verify(
+			_httpServletRequest
+		).setAttribute(
+			LanguageProvider.class.getName(), language
+		);
+	}
+
+	private HttpServletRequest _httpServletRequest;
+
+}
\ No newline at end of file
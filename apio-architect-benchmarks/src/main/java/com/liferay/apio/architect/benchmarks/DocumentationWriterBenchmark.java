@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmarks;
+
+import static com.liferay.apio.architect.benchmarks.internal.BenchmarkUtil.getRequestInfo;
+
+import com.liferay.apio.architect.documentation.Documentation;
+import com.liferay.apio.architect.message.json.DocumentationMessageMapper;
+import com.liferay.apio.architect.message.json.ld.internal.JSONLDDocumentationMessageMapper;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.routes.CollectionRoutes;
+import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.test.util.representor.MockRepresentorCreator;
+import com.liferay.apio.architect.writer.DocumentationWriter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes {@link DocumentationWriter} to write the
+ * documentation of the mock root model. Documentation is only written as
+ * JSON-LD.
+ *
+ * @author Alejandro Hernández
+ */
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+public class DocumentationWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		CollectionRoutes.Builder<String> collectionRoutesBuilder =
+			new CollectionRoutes.Builder<>(
+				"name", null,
+				__ -> {
+				});
+
+		CollectionRoutes<String> collectionRoutes =
+			collectionRoutesBuilder.build();
+
+		ItemRoutes.Builder<String, Object> itemRoutesBuilder =
+			new ItemRoutes.Builder<>(
+				"name", null,
+				__ -> {
+				});
+
+		ItemRoutes<String, Object> itemRoutes = itemRoutesBuilder.build();
+
+		Map<String, Representor> representors = Collections.singletonMap(
+			"root", MockRepresentorCreator.createRootModelRepresentor(false));
+
+		_documentation = new Documentation(
+			__ -> Optional.of(() -> "Title"),
+			__ -> Optional.of(() -> "Description"), () -> representors,
+			() -> Collections.singletonMap("root", collectionRoutes),
+			() -> Collections.singletonMap("root", itemRoutes));
+
+		_documentationMessageMapper = new JSONLDDocumentationMessageMapper();
+		_requestInfo = getRequestInfo(0, "all");
+	}
+
+	@Benchmark
+	public String write() {
+		DocumentationWriter documentationWriter = DocumentationWriter.create(
+			builder -> builder.documentation(
+				_documentation
+			).documentationMessageMapper(
+				_documentationMessageMapper
+			).requestInfo(
+				_requestInfo
+			).build());
+
+		return documentationWriter.write();
+	}
+
+	private Documentation _documentation;
+	private DocumentationMessageMapper _documentationMessageMapper;
+	private RequestInfo _requestInfo;
+
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmarks;
+
+import static com.liferay.apio.architect.benchmarks.internal.BenchmarkUtil.createPage;
+import static com.liferay.apio.architect.benchmarks.internal.BenchmarkUtil.createSingleModel;
+import static com.liferay.apio.architect.benchmarks.internal.BenchmarkUtil.getPageMessageMapper;
+import static com.liferay.apio.architect.benchmarks.internal.BenchmarkUtil.getRepresentorFunction;
+import static com.liferay.apio.architect.benchmarks.internal.BenchmarkUtil.getRequestInfo;
+import static com.liferay.apio.architect.benchmarks.internal.BenchmarkUtil.getSingleModelMessageMapper;
+
+import com.google.gson.JsonObject;
+
+import com.liferay.apio.architect.message.json.MessageMapper;
+import com.liferay.apio.architect.message.json.PageMessageMapper;
+import com.liferay.apio.architect.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+import com.liferay.apio.architect.writer.PageWriter;
+import com.liferay.apio.architect.writer.SingleModelWriter;
+import com.liferay.apio.architect.writer.alias.RepresentorFunction;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes each message mapper to serialize an already
+ * written page and single model of {@link RootModel}, so binary encodings like
+ * CBOR can be compared with the JSON ones.
+ *
+ * @author Alejandro Hernández
+ */
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+public class MessageSerializationBenchmark {
+
+	@Benchmark
+	public int serializePage() throws IOException {
+		return _serialize(_pageMessageMapper, _pageJsonObject);
+	}
+
+	@Benchmark
+	public int serializeSingleModel() throws IOException {
+		return _serialize(_singleModelMessageMapper, _singleModelJsonObject);
+	}
+
+	@Setup
+	public void setUp() {
+		RepresentorFunction representorFunction = getRepresentorFunction();
+		RequestInfo requestInfo = getRequestInfo(2, "all");
+
+		_pageMessageMapper = getPageMessageMapper(mediaType);
+
+		PageWriter<RootModel> pageWriter = PageWriter.create(
+			builder -> builder.page(
+				createPage(30)
+			).pageMessageMapper(
+				_pageMessageMapper
+			).pathFunction(
+				MockWriterUtil::identifierToPath
+			).resourceNameFunction(
+				__ -> Optional.of("models")
+			).representorFunction(
+				representorFunction
+			).requestInfo(
+				requestInfo
+			).singleModelFunction(
+				MockWriterUtil::getSingleModel
+			).build());
+
+		_pageJsonObject = pageWriter.writeJsonObject();
+
+		_singleModelMessageMapper = getSingleModelMessageMapper(mediaType);
+
+		SingleModelWriter<RootModel> singleModelWriter =
+			SingleModelWriter.create(
+				builder -> builder.singleModel(
+					createSingleModel()
+				).modelMessageMapper(
+					_singleModelMessageMapper
+				).pathFunction(
+					MockWriterUtil::identifierToPath
+				).resourceNameFunction(
+					__ -> Optional.of("models")
+				).representorFunction(
+					representorFunction
+				).requestInfo(
+					requestInfo
+				).singleModelFunction(
+					MockWriterUtil::getSingleModel
+				).build());
+
+		Optional<JsonObject> optional = singleModelWriter.writeJsonObject();
+
+		_singleModelJsonObject = optional.orElseGet(JsonObject::new);
+	}
+
+	@Param({"application/cbor", "application/ld+json", "application/json"})
+	public String mediaType;
+
+	private int _serialize(
+			MessageMapper<?> messageMapper, JsonObject jsonObject)
+		throws IOException {
+
+		_byteArrayOutputStream.reset();
+
+		messageMapper.serialize(jsonObject, _byteArrayOutputStream);
+
+		return _byteArrayOutputStream.size();
+	}
+
+	private final ByteArrayOutputStream _byteArrayOutputStream =
+		new ByteArrayOutputStream();
+	private JsonObject _pageJsonObject;
+	private PageMessageMapper<RootModel> _pageMessageMapper;
+	private JsonObject _singleModelJsonObject;
+	private SingleModelMessageMapper<RootModel> _singleModelMessageMapper;
+
+}
\ No newline at end of file
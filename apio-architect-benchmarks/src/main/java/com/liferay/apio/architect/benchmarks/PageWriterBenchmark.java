@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmarks;
+
+import static com.liferay.apio.architect.benchmarks.internal.BenchmarkUtil.createPage;
+import static com.liferay.apio.architect.benchmarks.internal.BenchmarkUtil.getPageMessageMapper;
+import static com.liferay.apio.architect.benchmarks.internal.BenchmarkUtil.getRepresentorFunction;
+import static com.liferay.apio.architect.benchmarks.internal.BenchmarkUtil.getRequestInfo;
+
+import com.liferay.apio.architect.message.json.PageMessageMapper;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+import com.liferay.apio.architect.writer.PageWriter;
+import com.liferay.apio.architect.writer.alias.RepresentorFunction;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes {@link PageWriter} to write a page of {@link
+ * RootModel}, for every combination of page size, embedding depth, field
+ * filter and media type.
+ *
+ * @author Alejandro Hernández
+ */
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+public class PageWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		_page = createPage(pageSize);
+		_pageMessageMapper = getPageMessageMapper(mediaType);
+		_representorFunction = getRepresentorFunction();
+		_requestInfo = getRequestInfo(embeddingDepth, fieldFilter);
+	}
+
+	@Benchmark
+	public String write() {
+		PageWriter<RootModel> pageWriter = PageWriter.create(
+			builder -> builder.page(
+				_page
+			).pageMessageMapper(
+				_pageMessageMapper
+			).pathFunction(
+				MockWriterUtil::identifierToPath
+			).resourceNameFunction(
+				__ -> Optional.of("models")
+			).representorFunction(
+				_representorFunction
+			).requestInfo(
+				_requestInfo
+			).singleModelFunction(
+				MockWriterUtil::getSingleModel
+			).build());
+
+		return pageWriter.write();
+	}
+
+	@Param({"0", "1", "2"})
+	public int embeddingDepth;
+
+	@Param({"all", "sparse"})
+	public String fieldFilter;
+
+	@Param({"application/hal+json", "application/ld+json", "application/json"})
+	public String mediaType;
+
+	@Param({"1", "30", "300"})
+	public int pageSize;
+
+	private Page<RootModel> _page;
+	private PageMessageMapper<RootModel> _pageMessageMapper;
+	private RepresentorFunction _representorFunction;
+	private RequestInfo _requestInfo;
+
+}
\ No newline at end of file
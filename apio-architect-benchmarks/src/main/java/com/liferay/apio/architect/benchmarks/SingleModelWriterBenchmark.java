@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmarks;
+
+import static com.liferay.apio.architect.benchmarks.internal.BenchmarkUtil.createSingleModel;
+import static com.liferay.apio.architect.benchmarks.internal.BenchmarkUtil.getRepresentorFunction;
+import static com.liferay.apio.architect.benchmarks.internal.BenchmarkUtil.getRequestInfo;
+import static com.liferay.apio.architect.benchmarks.internal.BenchmarkUtil.getSingleModelMessageMapper;
+
+import com.liferay.apio.architect.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+import com.liferay.apio.architect.writer.SingleModelWriter;
+import com.liferay.apio.architect.writer.alias.RepresentorFunction;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes {@link SingleModelWriter} to write a {@link
+ * RootModel}, for every combination of embedding depth, field filter and
+ * media type.
+ *
+ * @author Alejandro Hernández
+ */
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+public class SingleModelWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		_representorFunction = getRepresentorFunction();
+		_requestInfo = getRequestInfo(embeddingDepth, fieldFilter);
+		_singleModel = createSingleModel();
+		_singleModelMessageMapper = getSingleModelMessageMapper(mediaType);
+	}
+
+	@Benchmark
+	public Optional<String> write() {
+		SingleModelWriter<RootModel> singleModelWriter =
+			SingleModelWriter.create(
+				builder -> builder.singleModel(
+					_singleModel
+				).modelMessageMapper(
+					_singleModelMessageMapper
+				).pathFunction(
+					MockWriterUtil::identifierToPath
+				).resourceNameFunction(
+					__ -> Optional.of("models")
+				).representorFunction(
+					_representorFunction
+				).requestInfo(
+					_requestInfo
+				).singleModelFunction(
+					MockWriterUtil::getSingleModel
+				).build());
+
+		return singleModelWriter.write();
+	}
+
+	@Param({"0", "1", "2"})
+	public int embeddingDepth;
+
+	@Param({"all", "sparse"})
+	public String fieldFilter;
+
+	@Param({"application/hal+json", "application/ld+json", "application/json"})
+	public String mediaType;
+
+	private RepresentorFunction _representorFunction;
+	private RequestInfo _requestInfo;
+	private SingleModel<RootModel> _singleModel;
+	private SingleModelMessageMapper<RootModel> _singleModelMessageMapper;
+
+}
\ No newline at end of file
@@ -0,0 +1,311 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmarks.internal;
+
+import static com.liferay.apio.architect.operation.Method.DELETE;
+import static com.liferay.apio.architect.operation.Method.POST;
+import static com.liferay.apio.architect.operation.Method.PUT;
+import static com.liferay.apio.architect.test.util.form.MockFormCreator.createForm;
+
+import com.liferay.apio.architect.message.cbor.internal.CBORPageMessageMapper;
+import com.liferay.apio.architect.message.cbor.internal.CBORSingleModelMessageMapper;
+import com.liferay.apio.architect.message.hal.internal.HALPageMessageMapper;
+import com.liferay.apio.architect.message.hal.internal.HALSingleModelMessageMapper;
+import com.liferay.apio.architect.message.json.PageMessageMapper;
+import com.liferay.apio.architect.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.message.json.ld.internal.JSONLDPageMessageMapper;
+import com.liferay.apio.architect.message.json.ld.internal.JSONLDSingleModelMessageMapper;
+import com.liferay.apio.architect.message.json.plain.internal.PlainJSONPageMessageMapper;
+import com.liferay.apio.architect.message.json.plain.internal.PlainJSONSingleModelMessageMapper;
+import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.pagination.Pagination;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+import com.liferay.apio.architect.unsafe.Unsafe;
+import com.liferay.apio.architect.uri.Path;
+import com.liferay.apio.architect.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.writer.alias.RepresentorFunction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Provides the fixtures shared by the writer benchmarks. Every fixture is
+ * built from the mock models and representors in {@code
+ * apio-architect-test-util}, so the benchmarks measure the same output the
+ * message mapper tests verify.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class BenchmarkUtil {
+
+	/**
+	 * The media type of the CBOR message mappers.
+	 */
+	public static final String CBOR = "application/cbor";
+
+	/**
+	 * The media type of the HAL message mappers.
+	 */
+	public static final String HAL = "application/hal+json";
+
+	/**
+	 * The media type of the JSON-LD message mappers.
+	 */
+	public static final String JSON_LD = "application/ld+json";
+
+	/**
+	 * The media type of the plain JSON message mappers.
+	 */
+	public static final String PLAIN_JSON = "application/json";
+
+	/**
+	 * Returns a page of {@link RootModel} with the provided number of items.
+	 *
+	 * @param  pageSize the number of items in the page
+	 * @return the page
+	 */
+	public static Page<RootModel> createPage(int pageSize) {
+		List<RootModel> items = new ArrayList<>(pageSize);
+
+		for (int i = 0; i < pageSize; i++) {
+			String id = String.valueOf(i);
+
+			items.add(() -> id);
+		}
+
+		PageItems<RootModel> pageItems = new PageItems<>(
+			items, pageSize * 10);
+
+		Pagination pagination = new Pagination(pageSize, 2);
+
+		List<Operation> operations = Collections.singletonList(
+			new Operation(createForm("c", "p"), POST, "create-operation"));
+
+		return new Page<>(
+			"root", pageItems, pagination, new Path("name", "id"),
+			operations);
+	}
+
+	/**
+	 * Returns a {@link SingleModel} of {@link RootModel} with a delete and an
+	 * update operation.
+	 *
+	 * @return the single model
+	 */
+	public static SingleModel<RootModel> createSingleModel() {
+		Operation deleteOperation = new Operation(DELETE, "delete-operation");
+		Operation putOperation = new Operation(
+			createForm("u", "r"), PUT, "update-operation");
+
+		List<Operation> operations = Arrays.asList(
+			deleteOperation, putOperation);
+
+		return new SingleModel<>(() -> "first", "root", operations);
+	}
+
+	/**
+	 * Returns the {@link PageMessageMapper} for a media type.
+	 *
+	 * @param  mediaType the media type
+	 * @return the {@code PageMessageMapper}
+	 */
+	public static PageMessageMapper<RootModel> getPageMessageMapper(
+		String mediaType) {
+
+		if (CBOR.equals(mediaType)) {
+			return new CBORPageMessageMapper<>();
+		}
+
+		if (HAL.equals(mediaType)) {
+			return new BenchmarkHALPageMessageMapper<>();
+		}
+
+		if (JSON_LD.equals(mediaType)) {
+			return new JSONLDPageMessageMapper<>();
+		}
+
+		if (PLAIN_JSON.equals(mediaType)) {
+			return new PlainJSONPageMessageMapper<>();
+		}
+
+		throw new IllegalArgumentException(
+			"Unsupported media type: " + mediaType);
+	}
+
+	/**
+	 * Returns a function that provides the mock representors, created only
+	 * once, so their creation doesn't count as part of the measured writes.
+	 *
+	 * @return the representor function
+	 */
+	public static RepresentorFunction getRepresentorFunction() {
+		return _representors::get;
+	}
+
+	/**
+	 * Returns a {@link RequestInfo} that embeds the provided number of
+	 * levels of {@link RootModel}'s embedded models and filters its fields
+	 * with the provided field filter.
+	 *
+	 * @param  embeddingDepth the number of embedded levels, from {@code 0} to
+	 *         {@code 2}
+	 * @param  fieldFilter {@code all} to write every field, or {@code sparse}
+	 *         to write only a few of them
+	 * @return the {@code RequestInfo}
+	 */
+	public static RequestInfo getRequestInfo(
+		int embeddingDepth, String fieldFilter) {
+
+		List<String> embedded = Arrays.asList(_EMBEDDED).subList(
+			0, Math.min(embeddingDepth, _EMBEDDED.length));
+
+		Predicate<String> fieldsPredicate = _getFieldsPredicate(fieldFilter);
+
+		return RequestInfo.create(
+			builder -> builder.httpHeaders(
+				null
+			).httpServletRequest(
+				null
+			).serverURL(
+				() -> "localhost"
+			).embedded(
+				embedded::contains
+			).fields(
+				__ -> fieldsPredicate
+			).language(
+				() -> Locale.ENGLISH
+			).build());
+	}
+
+	/**
+	 * Returns the {@link SingleModelMessageMapper} for a media type.
+	 *
+	 * @param  mediaType the media type
+	 * @return the {@code SingleModelMessageMapper}
+	 */
+	public static SingleModelMessageMapper<RootModel>
+		getSingleModelMessageMapper(String mediaType) {
+
+		if (CBOR.equals(mediaType)) {
+			return new CBORSingleModelMessageMapper<>();
+		}
+
+		if (HAL.equals(mediaType)) {
+			return new HALSingleModelMessageMapper<>();
+		}
+
+		if (JSON_LD.equals(mediaType)) {
+			return new JSONLDSingleModelMessageMapper<>();
+		}
+
+		if (PLAIN_JSON.equals(mediaType)) {
+			return new PlainJSONSingleModelMessageMapper<>();
+		}
+
+		throw new IllegalArgumentException(
+			"Unsupported media type: " + mediaType);
+	}
+
+	private static Predicate<String> _getFieldsPredicate(String fieldFilter) {
+		if ("all".equals(fieldFilter)) {
+			return __ -> true;
+		}
+
+		if ("sparse".equals(fieldFilter)) {
+			return Arrays.asList(_SPARSE_FIELDS)::contains;
+		}
+
+		throw new IllegalArgumentException(
+			"Unsupported field filter: " + fieldFilter);
+	}
+
+	private static Map<String, Optional<Representor<?>>>
+		_createRepresentors() {
+
+		Map<String, Optional<Representor<?>>> representors = new HashMap<>();
+
+		for (String name : _RESOURCE_NAMES) {
+			representors.put(
+				name, MockWriterUtil.getRepresentorOptional(name));
+		}
+
+		return representors;
+	}
+
+	private BenchmarkUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * A {@link HALPageMessageMapper} that gets its representors from the mock
+	 * representors instead of from the OSGi container.
+	 */
+	private static class BenchmarkHALPageMessageMapper<T>
+		extends HALPageMessageMapper<T> implements RepresentableManager {
+
+		public BenchmarkHALPageMessageMapper() {
+			representableManager = this;
+		}
+
+		@Override
+		public <S> Optional<Representor<S>> getRepresentorOptional(
+			String name) {
+
+			Optional<Representor<?>> optional = _representors.getOrDefault(
+				name, Optional.empty());
+
+			return optional.map(Unsafe::unsafeCast);
+		}
+
+		@Override
+		public Map<String, Representor> getRepresentors() {
+			return Collections.emptyMap();
+		}
+
+	}
+
+	private static final String[] _EMBEDDED = {
+		"embedded1", "embedded1.embedded"
+	};
+
+	private static final String[] _RESOURCE_NAMES = {
+		"first", "root", "second", "third"
+	};
+
+	private static final String[] _SPARSE_FIELDS = {
+		"embedded", "embedded1", "number1", "string", "string1"
+	};
+
+	private static final Map<String, Optional<Representor<?>>> _representors =
+		_createRepresentors();
+
+}
\ No newline at end of file
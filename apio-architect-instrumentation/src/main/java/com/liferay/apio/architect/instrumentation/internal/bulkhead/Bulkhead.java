@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.bulkhead;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the number of requests that can run concurrently in a part of the
+ * API, so a slow resource or route can't exhaust the container's threads.
+ *
+ * <p>
+ * Requests over the limit wait in a bounded queue for, at most, the queue
+ * timeout. Requests that don't fit in the queue, or time out in it, are
+ * rejected.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class Bulkhead {
+
+	public Bulkhead(
+		String name, int maxConcurrentRequests, int maxQueueSize,
+		long queueTimeoutNanos) {
+
+		_name = name;
+		_maxQueueSize = maxQueueSize;
+		_queueTimeoutNanos = queueTimeoutNanos;
+
+		_semaphore = new Semaphore(maxConcurrentRequests, true);
+	}
+
+	public String getName() {
+		return _name;
+	}
+
+	/**
+	 * Releases a permit acquired with {@link #tryAcquire()}.
+	 */
+	public void release() {
+		_semaphore.release();
+	}
+
+	/**
+	 * Acquires a permit to run a request, waiting in the queue if necessary.
+	 *
+	 * @return {@code true} if the permit was acquired; {@code false} if the
+	 *         request must be rejected
+	 */
+	public boolean tryAcquire() {
+		if (_semaphore.tryAcquire()) {
+			return true;
+		}
+
+		if (_waitingRequests.incrementAndGet() > _maxQueueSize) {
+			_waitingRequests.decrementAndGet();
+
+			return false;
+		}
+
+		try {
+			return _semaphore.tryAcquire(
+				_queueTimeoutNanos, TimeUnit.NANOSECONDS);
+		}
+		catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+
+			return false;
+		}
+		finally {
+			_waitingRequests.decrementAndGet();
+		}
+	}
+
+	private final int _maxQueueSize;
+	private final String _name;
+	private final long _queueTimeoutNanos;
+	private final Semaphore _semaphore;
+	private final AtomicInteger _waitingRequests = new AtomicInteger();
+
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.endpoint;
+
+import com.liferay.apio.architect.instrumentation.internal.metrics.MetricsRegistry;
+
+import java.util.Map;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Exposes the latencies recorded by the {@link MetricsRegistry} in the
+ * Prometheus text exposition format, if the endpoint is enabled.
+ *
+ * <p>
+ * Since the metrics reveal the API's routes and latencies, the endpoint is
+ * disabled by default, and answers with a {@code 404} until the {@code
+ * metrics.endpoint.enabled} component property is set to {@code true}. Enable
+ * it only where {@code /metrics} isn't reachable by untrusted clients.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true,
+	property = {
+		"liferay.apio.architect.endpoint=true",
+		"metrics.endpoint.enabled:Boolean=false"
+	},
+	service = Object.class
+)
+@Path("/metrics")
+public class MetricsEndpoint {
+
+	@Activate
+	@Modified
+	public void activate(Map<String, Object> properties) {
+		Object enabled = properties.get("metrics.endpoint.enabled");
+
+		_enabled = Boolean.parseBoolean(String.valueOf(enabled));
+	}
+
+	@GET
+	@Produces("text/plain; version=0.0.4; charset=utf-8")
+	public String metrics() {
+		if (!_enabled) {
+			throw new NotFoundException();
+		}
+
+		return _metricsRegistry.toPrometheusText();
+	}
+
+	private volatile boolean _enabled;
+
+	@Reference
+	private MetricsRegistry _metricsRegistry;
+
+}
\ No newline at end of file
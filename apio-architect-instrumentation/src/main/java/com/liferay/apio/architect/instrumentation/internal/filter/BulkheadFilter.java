@@ -0,0 +1,445 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.filter;
+
+import com.liferay.apio.architect.instrumentation.internal.bulkhead.Bulkhead;
+import com.liferay.apio.architect.instrumentation.internal.metrics.MetricsRegistry;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.ws.rs.ServiceUnavailableException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.PathSegment;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Providers;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Enforces per-resource and per-route concurrency limits on the requests to
+ * Apio's page and export endpoints, if bulkheads are enabled. The limits are
+ * enforced before the route function is invoked, and the permits are released
+ * once the response's entity has been written, or when the response is ready
+ * if it has no entity. This way, asynchronous routes and streamed responses
+ * hold them until they finish.
+ *
+ * <p>
+ * If the response has an entity that no {@code MessageBodyWriter} can write,
+ * the writer interceptors never run, so the permits are released when the
+ * response is ready too. Either way, a request's permits are released only
+ * once.
+ * </p>
+ *
+ * <p>
+ * A route is identified by its path relative to the page endpoint, with the
+ * item's ID replaced by {@code {id}}. For example, {@code
+ * people/{id}/blog-postings}. Exports use the {@code export/{name}} route.
+ * Requests rejected by a bulkhead fail with a
+ * {@code ServiceUnavailableException}, so they're converted to a {@code 503}
+ * response with a {@code Retry-After} header, and are counted in the {@code
+ * /metrics} endpoint.
+ * </p>
+ *
+ * <p>
+ * The following component properties configure this filter:
+ * </p>
+ *
+ * <ul>
+ * <li>
+ * {@code bulkhead.enabled}: whether bulkheads are enforced
+ * </li>
+ * <li>
+ * {@code bulkhead.default.resource.limit}: the maximum number of concurrent
+ * requests of a resource without its own limit. {@code 0} means no limit.
+ * </li>
+ * <li>
+ * {@code bulkhead.max.queue.size}: the maximum number of requests that can
+ * wait for a permit in each bulkhead
+ * </li>
+ * <li>
+ * {@code bulkhead.queue.timeout}: the maximum time, in milliseconds, a request
+ * waits for a permit
+ * </li>
+ * <li>
+ * {@code bulkhead.resource.limits}: the per-resource limits, as {@code
+ * name=limit} values
+ * </li>
+ * <li>
+ * {@code bulkhead.retry.after}: the value, in seconds, of the {@code
+ * Retry-After} header of rejected requests
+ * </li>
+ * <li>
+ * {@code bulkhead.route.limits}: the per-route limits, as {@code route=limit}
+ * values
+ * </li>
+ * </ul>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true,
+	property = {
+		"bulkhead.default.resource.limit:Integer=0",
+		"bulkhead.enabled:Boolean=false",
+		"bulkhead.max.queue.size:Integer=16",
+		"bulkhead.queue.timeout:Integer=50",
+		"bulkhead.retry.after:Integer=1",
+		"liferay.apio.architect.container.request.filter=true",
+		"liferay.apio.architect.container.response.filter=true",
+		"liferay.apio.architect.writer.interceptor=true"
+	},
+	service = {
+		ContainerRequestFilter.class, ContainerResponseFilter.class,
+		WriterInterceptor.class
+	}
+)
+public class BulkheadFilter
+	implements ContainerRequestFilter, ContainerResponseFilter,
+			   WriterInterceptor {
+
+	@Activate
+	@Modified
+	public void activate(Map<String, Object> properties) {
+		Object enabled = properties.get("bulkhead.enabled");
+
+		_enabled = Boolean.parseBoolean(String.valueOf(enabled));
+
+		_defaultResourceLimit = Math.max(
+			_getInteger(properties, "bulkhead.default.resource.limit", 0), 0);
+		_maxQueueSize = Math.max(
+			_getInteger(properties, "bulkhead.max.queue.size", 16), 0);
+		_queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(
+			Math.max(_getInteger(properties, "bulkhead.queue.timeout", 50), 0));
+		_resourceBulkheads = new ConcurrentHashMap<>();
+		_resourceLimits = _getLimits(
+			properties.get("bulkhead.resource.limits"));
+		_retryAfter = Math.max(
+			_getInteger(properties, "bulkhead.retry.after", 1), 0);
+		_routeBulkheads = new ConcurrentHashMap<>();
+		_routeLimits = _getLimits(properties.get("bulkhead.route.limits"));
+	}
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException, WebApplicationException {
+
+		try {
+			writerInterceptorContext.proceed();
+		}
+		finally {
+			Object permits = writerInterceptorContext.getProperty(
+				_PERMITS_PROPERTY);
+
+			writerInterceptorContext.removeProperty(_PERMITS_PROPERTY);
+
+			_release(permits);
+		}
+	}
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext) {
+		if (!_enabled) {
+			return;
+		}
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		List<PathSegment> pathSegments = uriInfo.getPathSegments();
+
+		if ((pathSegments.size() < 2) ||
+			!_ROOT_SEGMENTS.contains(_getPath(pathSegments, 0))) {
+
+			return;
+		}
+
+		String resourceName = _getPath(pathSegments, 1);
+
+		List<Bulkhead> bulkheads = new ArrayList<>();
+
+		_getResourceBulkhead(resourceName).ifPresent(bulkheads::add);
+		_getRouteBulkhead(_getRoute(pathSegments)).ifPresent(bulkheads::add);
+
+		List<Bulkhead> acquiredBulkheads = new ArrayList<>();
+
+		for (Bulkhead bulkhead : bulkheads) {
+			if (!bulkhead.tryAcquire()) {
+				acquiredBulkheads.forEach(Bulkhead::release);
+
+				_metricsRegistry.recordRejection(bulkhead.getName());
+
+				throw new ServiceUnavailableException(
+					"Too many concurrent requests for " + bulkhead.getName(),
+					(long)_retryAfter);
+			}
+
+			acquiredBulkheads.add(bulkhead);
+		}
+
+		if (!acquiredBulkheads.isEmpty()) {
+			containerRequestContext.setProperty(
+				_PERMITS_PROPERTY, new Permits(acquiredBulkheads));
+		}
+	}
+
+	@Override
+	public void filter(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		if (containerResponseContext.hasEntity() &&
+			_isWritable(containerResponseContext)) {
+
+			return;
+		}
+
+		Object permits = containerRequestContext.getProperty(
+			_PERMITS_PROPERTY);
+
+		containerRequestContext.removeProperty(_PERMITS_PROPERTY);
+
+		_release(permits);
+	}
+
+	private Optional<Bulkhead> _getBulkhead(
+		ConcurrentMap<String, Bulkhead> bulkheads, String name, int limit) {
+
+		if (limit <= 0) {
+			return Optional.empty();
+		}
+
+		Bulkhead bulkhead = bulkheads.get(name);
+
+		if (bulkhead == null) {
+			if (bulkheads.size() >= _MAX_BULKHEADS) {
+				name = _OTHER;
+			}
+
+			bulkhead = bulkheads.computeIfAbsent(
+				name,
+				key -> new Bulkhead(
+					key, limit, _maxQueueSize, _queueTimeoutNanos));
+		}
+
+		return Optional.of(bulkhead);
+	}
+
+	private static int _getInteger(
+		Map<String, Object> properties, String key, int defaultValue) {
+
+		Object value = properties.get(key);
+
+		if (value instanceof Number) {
+			return ((Number)value).intValue();
+		}
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		String string = String.valueOf(value);
+
+		if (!string.matches("-?\\d{1,9}")) {
+			return defaultValue;
+		}
+
+		return Integer.parseInt(string);
+	}
+
+	private static Map<String, Integer> _getLimits(Object value) {
+		if (value == null) {
+			return Collections.emptyMap();
+		}
+
+		String[] entries;
+
+		if (value instanceof String[]) {
+			entries = (String[])value;
+		}
+		else {
+			entries = String.valueOf(value).split(",");
+		}
+
+		Map<String, Integer> limits = new HashMap<>();
+
+		for (String entry : entries) {
+			int index = entry.lastIndexOf('=');
+
+			if (index <= 0) {
+				continue;
+			}
+
+			String limit = entry.substring(index + 1).trim();
+
+			if (limit.matches("\\d{1,9}")) {
+				limits.put(
+					entry.substring(0, index).trim(), Integer.parseInt(limit));
+			}
+		}
+
+		return limits;
+	}
+
+	private static String _getPath(List<PathSegment> pathSegments, int index) {
+		PathSegment pathSegment = pathSegments.get(index);
+
+		return pathSegment.getPath();
+	}
+
+	private Optional<Bulkhead> _getResourceBulkhead(String resourceName) {
+		int limit = _resourceLimits.getOrDefault(
+			resourceName, _defaultResourceLimit);
+
+		return _getBulkhead(_resourceBulkheads, resourceName, limit);
+	}
+
+	private static String _getRoute(List<PathSegment> pathSegments) {
+		StringJoiner stringJoiner = new StringJoiner("/");
+
+		if (_EXPORT_SEGMENT.equals(_getPath(pathSegments, 0))) {
+			stringJoiner.add(_EXPORT_SEGMENT);
+		}
+
+		for (int i = 1; i < pathSegments.size(); i++) {
+			String path = _getPath(pathSegments, i);
+
+			if ((i == 2) && !_BATCH_SEGMENT.equals(path)) {
+				path = "{id}";
+			}
+
+			stringJoiner.add(path);
+		}
+
+		return stringJoiner.toString();
+	}
+
+	private Optional<Bulkhead> _getRouteBulkhead(String route) {
+		Integer limit = _routeLimits.get(route);
+
+		if (limit == null) {
+			return Optional.empty();
+		}
+
+		return _getBulkhead(_routeBulkheads, route, limit);
+	}
+
+	private boolean _isWritable(
+		ContainerResponseContext containerResponseContext) {
+
+		if (_providers == null) {
+			return true;
+		}
+
+		MediaType mediaType = containerResponseContext.getMediaType();
+
+		if (mediaType == null) {
+			mediaType = MediaType.WILDCARD_TYPE;
+		}
+
+		MessageBodyWriter<?> messageBodyWriter =
+			_providers.getMessageBodyWriter(
+				containerResponseContext.getEntityClass(),
+				containerResponseContext.getEntityType(),
+				containerResponseContext.getEntityAnnotations(), mediaType);
+
+		if (messageBodyWriter == null) {
+			return false;
+		}
+
+		return true;
+	}
+
+	private static void _release(Object permits) {
+		if (permits instanceof Permits) {
+			((Permits)permits).release();
+		}
+	}
+
+	private static class Permits {
+
+		public Permits(List<Bulkhead> bulkheads) {
+			_bulkheads = bulkheads;
+		}
+
+		public void release() {
+			if (_released.compareAndSet(false, true)) {
+				_bulkheads.forEach(Bulkhead::release);
+			}
+		}
+
+		private final List<Bulkhead> _bulkheads;
+		private final AtomicBoolean _released = new AtomicBoolean();
+
+	}
+
+	private static final String _BATCH_SEGMENT = "batch";
+
+	private static final String _EXPORT_SEGMENT = "export";
+
+	private static final int _MAX_BULKHEADS = 1024;
+
+	private static final String _OTHER = "other";
+
+	private static final String _PERMITS_PROPERTY =
+		BulkheadFilter.class.getName() + ".permits";
+
+	private static final List<String> _ROOT_SEGMENTS = Arrays.asList(
+		_EXPORT_SEGMENT, "p");
+
+	private volatile int _defaultResourceLimit;
+	private volatile boolean _enabled;
+	private volatile int _maxQueueSize;
+
+	@Reference
+	private MetricsRegistry _metricsRegistry;
+
+	@Context
+	private Providers _providers;
+
+	private volatile long _queueTimeoutNanos;
+	private volatile ConcurrentMap<String, Bulkhead> _resourceBulkheads =
+		new ConcurrentHashMap<>();
+	private volatile Map<String, Integer> _resourceLimits =
+		Collections.emptyMap();
+	private volatile int _retryAfter;
+	private volatile ConcurrentMap<String, Bulkhead> _routeBulkheads =
+		new ConcurrentHashMap<>();
+	private volatile Map<String, Integer> _routeLimits = Collections.emptyMap();
+
+}
\ No newline at end of file
@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.filter;
+
+import static com.liferay.apio.architect.event.PipelineStage.ROUTE_EXECUTION;
+import static com.liferay.apio.architect.instrumentation.internal.metrics.MetricsRegistry.OPERATION_PHASE;
+
+import com.liferay.apio.architect.event.PipelineEvent;
+import com.liferay.apio.architect.event.PipelineEventUtil;
+import com.liferay.apio.architect.instrumentation.internal.metrics.MetricsRegistry;
+import com.liferay.apio.architect.instrumentation.internal.metrics.Route;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.PathSegment;
+import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.UriInfo;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Times the operation of every request handled by Apio's page, form, binary,
+ * batch, documentation and root endpoints, from the moment the request is
+ * matched until its response is ready to be written.
+ *
+ * <p>
+ * The request's {@link Route} is stored as a request property, so {@code
+ * InstrumentationWriterInterceptor} can time the write phase of the same
+ * route.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true,
+	property = {
+		"liferay.apio.architect.container.request.filter=true",
+		"liferay.apio.architect.container.response.filter=true"
+	},
+	service = {ContainerRequestFilter.class, ContainerResponseFilter.class}
+)
+public class InstrumentationFilter
+	implements ContainerRequestFilter, ContainerResponseFilter {
+
+	/**
+	 * The name of the request property that holds the request's {@link
+	 * Route}.
+	 */
+	public static final String ROUTE_PROPERTY =
+		InstrumentationFilter.class.getName() + ".route";
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext) {
+		containerRequestContext.setProperty(_START_PROPERTY, System.nanoTime());
+
+		PipelineEvent pipelineEvent = PipelineEventUtil.begin(ROUTE_EXECUTION);
+
+		if (pipelineEvent.isEnabled()) {
+			containerRequestContext.setProperty(
+				_PIPELINE_EVENT_PROPERTY, pipelineEvent);
+		}
+	}
+
+	@Override
+	public void filter(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		Object start = containerRequestContext.getProperty(_START_PROPERTY);
+
+		if (!(start instanceof Long)) {
+			return;
+		}
+
+		Optional<Route> optional = _getRouteOptional(
+			containerRequestContext, containerResponseContext.getStatus());
+
+		optional.ifPresent(
+			route -> {
+				containerRequestContext.setProperty(ROUTE_PROPERTY, route);
+
+				_metricsRegistry.record(
+					route, OPERATION_PHASE, System.nanoTime() - (Long)start);
+			});
+
+		Object pipelineEvent = containerRequestContext.getProperty(
+			_PIPELINE_EVENT_PROPERTY);
+
+		if (pipelineEvent instanceof PipelineEvent) {
+			_commitRouteExecution((PipelineEvent)pipelineEvent, optional);
+		}
+	}
+
+	private void _commitRouteExecution(
+		PipelineEvent pipelineEvent, Optional<Route> optional) {
+
+		optional.ifPresent(
+			route -> pipelineEvent.setResourceName(route.resourceName));
+
+		pipelineEvent.close();
+	}
+
+	private static Map<String, String> _createEndpoints() {
+		Map<String, String> endpoints = new HashMap<>();
+
+		endpoints.put("", "root");
+		endpoints.put("b", "binary");
+		endpoints.put("batch", "batch");
+		endpoints.put("doc", "documentation");
+		endpoints.put("export", "export");
+		endpoints.put("f", "form");
+		endpoints.put("p", "page");
+
+		return endpoints;
+	}
+
+	private Optional<Route> _getRouteOptional(
+		ContainerRequestContext containerRequestContext, int status) {
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		List<PathSegment> pathSegments = uriInfo.getPathSegments();
+
+		String segment = "";
+
+		if (!pathSegments.isEmpty()) {
+			PathSegment pathSegment = pathSegments.get(0);
+
+			segment = pathSegment.getPath();
+		}
+
+		String method = containerRequestContext.getMethod();
+
+		return Optional.ofNullable(
+			_endpoints.get(segment)
+		).map(
+			endpoint -> {
+				MultivaluedMap<String, String> pathParameters =
+					uriInfo.getPathParameters();
+
+				String resourceName = pathParameters.getFirst("name");
+
+				if ((resourceName == null) ||
+					(status == Status.NOT_FOUND.getStatusCode())) {
+
+					resourceName = "";
+				}
+
+				return new Route(endpoint, resourceName, method);
+			}
+		);
+	}
+
+	private static final String _PIPELINE_EVENT_PROPERTY =
+		InstrumentationFilter.class.getName() + ".pipelineEvent";
+
+	private static final String _START_PROPERTY =
+		InstrumentationFilter.class.getName() + ".start";
+
+	private static final Map<String, String> _endpoints = _createEndpoints();
+
+	@Reference
+	private MetricsRegistry _metricsRegistry;
+
+}
\ No newline at end of file
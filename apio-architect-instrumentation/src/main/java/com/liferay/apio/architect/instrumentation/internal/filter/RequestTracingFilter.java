@@ -0,0 +1,275 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.filter;
+
+import static com.liferay.apio.architect.instrumentation.internal.tracing.ServerTimingUtil.SERVER_TIMING;
+import static com.liferay.apio.architect.request.RequestTrace.PROVIDER_SPAN;
+
+import static org.osgi.service.component.annotations.ReferenceCardinality.OPTIONAL;
+import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
+
+import com.liferay.apio.architect.instrumentation.internal.tracing.ServerTimingOutputStream;
+import com.liferay.apio.architect.instrumentation.internal.tracing.ServerTimingUtil;
+import com.liferay.apio.architect.logger.ApioLogger;
+import com.liferay.apio.architect.request.RequestTrace;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Traces the phases of every request, if request tracing is enabled. The
+ * phases are reported in a {@code Server-Timing} response header and, for
+ * requests slower than a threshold, in a log entry.
+ *
+ * <p>
+ * Besides the spans recorded by Apio's providers and message body writers,
+ * this filter records the following spans:
+ * </p>
+ *
+ * <ul>
+ * <li>
+ * {@code route}: the time the request's route takes, excluding the time spent
+ * creating providers
+ * </li>
+ * <li>
+ * {@code write}: the time the message body writers take to write the response.
+ * Since the {@code Server-Timing} header is sent before the response's first
+ * byte, this span is only included in the log entry.
+ * </li>
+ * </ul>
+ *
+ * <p>
+ * The following component properties configure this filter:
+ * </p>
+ *
+ * <ul>
+ * <li>
+ * {@code request.tracing.enabled}: whether requests are traced
+ * </li>
+ * <li>
+ * {@code request.tracing.slow.threshold}: the duration, in milliseconds, from
+ * which a request is logged as slow. A negative value disables the log.
+ * </li>
+ * </ul>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true,
+	property = {
+		"liferay.apio.architect.container.request.filter=true",
+		"liferay.apio.architect.container.response.filter=true",
+		"liferay.apio.architect.writer.interceptor=true",
+		"request.tracing.enabled:Boolean=false",
+		"request.tracing.slow.threshold:Integer=1000"
+	},
+	service = {
+		ContainerRequestFilter.class, ContainerResponseFilter.class,
+		WriterInterceptor.class
+	}
+)
+public class RequestTracingFilter
+	implements ContainerRequestFilter, ContainerResponseFilter,
+			   WriterInterceptor {
+
+	@Activate
+	@Modified
+	public void activate(Map<String, Object> properties) {
+		Object enabled = properties.get("request.tracing.enabled");
+
+		_enabled = Boolean.parseBoolean(String.valueOf(enabled));
+
+		long thresholdMillis = _getLong(
+			properties, "request.tracing.slow.threshold", 1000);
+
+		if (thresholdMillis < 0) {
+			_slowThresholdNanos = Long.MAX_VALUE;
+		}
+		else {
+			_slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(
+				thresholdMillis);
+		}
+	}
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException, WebApplicationException {
+
+		Object start = writerInterceptorContext.getProperty(_START_PROPERTY);
+
+		RequestTrace requestTrace = RequestTrace.getRequestTrace(
+			_httpServletRequest);
+
+		if (!(start instanceof Long) || !requestTrace.isEnabled()) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		MultivaluedMap<String, Object> headers =
+			writerInterceptorContext.getHeaders();
+
+		OutputStream outputStream = writerInterceptorContext.getOutputStream();
+
+		writerInterceptorContext.setOutputStream(
+			new ServerTimingOutputStream(
+				outputStream,
+				() -> headers.putSingle(
+					SERVER_TIMING,
+					ServerTimingUtil.toHeaderValue(requestTrace.getSpans()))));
+
+		long writeStart = System.nanoTime();
+
+		try {
+			writerInterceptorContext.proceed();
+		}
+		finally {
+			writerInterceptorContext.setOutputStream(outputStream);
+
+			requestTrace.addSpan(_WRITE_SPAN, System.nanoTime() - writeStart);
+
+			_logIfSlow(requestTrace, (Long)start);
+		}
+	}
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext) {
+		if (!_enabled || (_httpServletRequest == null)) {
+			return;
+		}
+
+		RequestTrace requestTrace = new RequestTrace();
+
+		requestTrace.attach(_httpServletRequest);
+
+		containerRequestContext.setProperty(_START_PROPERTY, System.nanoTime());
+	}
+
+	@Override
+	public void filter(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		Object start = containerRequestContext.getProperty(_START_PROPERTY);
+
+		RequestTrace requestTrace = RequestTrace.getRequestTrace(
+			_httpServletRequest);
+
+		if (!(start instanceof Long) || !requestTrace.isEnabled()) {
+			return;
+		}
+
+		long routeNanos =
+			System.nanoTime() - (Long)start -
+				requestTrace.getSpanNanos(PROVIDER_SPAN);
+
+		requestTrace.addSpan(_ROUTE_SPAN, Math.max(routeNanos, 0));
+
+		if (containerResponseContext.hasEntity()) {
+			return;
+		}
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		headers.putSingle(
+			SERVER_TIMING,
+			ServerTimingUtil.toHeaderValue(requestTrace.getSpans()));
+
+		_logIfSlow(requestTrace, (Long)start);
+	}
+
+	private long _getLong(
+		Map<String, Object> properties, String key, long defaultValue) {
+
+		Object value = properties.get(key);
+
+		if (value instanceof Number) {
+			return ((Number)value).longValue();
+		}
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Long.parseLong(value.toString().trim());
+		}
+		catch (NumberFormatException nfe) {
+			return defaultValue;
+		}
+	}
+
+	private void _logIfSlow(RequestTrace requestTrace, long start) {
+		long totalNanos = System.nanoTime() - start;
+
+		if ((_apioLogger == null) || (totalNanos < _slowThresholdNanos)) {
+			return;
+		}
+
+		String path = "";
+
+		if (_uriInfo != null) {
+			path = _uriInfo.getPath();
+		}
+
+		_apioLogger.warning(
+			ServerTimingUtil.toLogMessage(
+				_httpServletRequest.getMethod(), path, totalNanos,
+				requestTrace.getSpans()));
+	}
+
+	private static final String _ROUTE_SPAN = "route";
+
+	private static final String _START_PROPERTY =
+		RequestTracingFilter.class.getName() + ".start";
+
+	private static final String _WRITE_SPAN = "write";
+
+	@Reference(cardinality = OPTIONAL, policyOption = GREEDY)
+	private ApioLogger _apioLogger;
+
+	private volatile boolean _enabled;
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	private volatile long _slowThresholdNanos;
+
+	@Context
+	private UriInfo _uriInfo;
+
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records latencies in logarithmic buckets, in the style of HDR histograms.
+ * Bucket {@code i} counts the latencies of, at most, {@code 2^i}
+ * microseconds, from one microsecond to {@code 2^24} microseconds (about 16.8
+ * seconds); an overflow bucket counts the rest.
+ *
+ * <p>
+ * Recording is lock-free: it increments one {@code AtomicLongArray} slot and
+ * adds to a {@code LongAdder}, so concurrent requests never contend on a lock.
+ * Readers get a snapshot that can miss latencies recorded concurrently, which
+ * is acceptable for metrics.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class LatencyHistogram {
+
+	/**
+	 * The number of bounded buckets. The overflow bucket has the index {@code
+	 * BUCKETS}.
+	 */
+	public static final int BUCKETS = 25;
+
+	/**
+	 * Returns the bucket index for a latency.
+	 *
+	 * @param  nanos the latency, in nanoseconds
+	 * @return the bucket index
+	 */
+	public static int getBucketIndex(long nanos) {
+		long micros = nanos / 1000;
+
+		if ((nanos % 1000) > 0) {
+			micros++;
+		}
+
+		if (micros <= 1) {
+			return 0;
+		}
+
+		int index = 64 - Long.numberOfLeadingZeros(micros - 1);
+
+		return Math.min(index, BUCKETS);
+	}
+
+	/**
+	 * Returns the inclusive upper bound of a bounded bucket, in seconds.
+	 *
+	 * @param  index the bucket index, lower than {@link #BUCKETS}
+	 * @return the bucket's upper bound, in seconds
+	 */
+	public static double getUpperBoundSeconds(int index) {
+		return (double)(1L << index) / TimeUnit.SECONDS.toMicros(1);
+	}
+
+	/**
+	 * Returns a snapshot of the number of latencies recorded in each bucket.
+	 * The returned array has {@code BUCKETS + 1} elements; the last one is the
+	 * overflow bucket.
+	 *
+	 * @return the bucket counts
+	 */
+	public long[] getCounts() {
+		long[] counts = new long[BUCKETS + 1];
+
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = _counts.get(i);
+		}
+
+		return counts;
+	}
+
+	/**
+	 * Returns the sum of the recorded latencies, in nanoseconds.
+	 *
+	 * @return the sum of the recorded latencies
+	 */
+	public long getSumNanos() {
+		return _sumNanos.sum();
+	}
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param nanos the latency, in nanoseconds
+	 */
+	public void record(long nanos) {
+		_counts.incrementAndGet(getBucketIndex(nanos));
+		_sumNanos.add(Math.max(nanos, 0));
+	}
+
+	private final AtomicLongArray _counts = new AtomicLongArray(BUCKETS + 1);
+	private final LongAdder _sumNanos = new LongAdder();
+
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.interceptor;
+
+import static com.liferay.apio.architect.instrumentation.internal.filter.InstrumentationFilter.ROUTE_PROPERTY;
+import static com.liferay.apio.architect.instrumentation.internal.metrics.MetricsRegistry.WRITE_PHASE;
+
+import com.liferay.apio.architect.instrumentation.internal.metrics.MetricsRegistry;
+import com.liferay.apio.architect.instrumentation.internal.metrics.Route;
+
+import java.io.IOException;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Times the write phase of every request whose route was identified by {@code
+ * InstrumentationFilter}: the time the message body writers take to map and
+ * write the response.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true,
+	property = "liferay.apio.architect.writer.interceptor=true"
+)
+public class InstrumentationWriterInterceptor implements WriterInterceptor {
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException, WebApplicationException {
+
+		Object route = writerInterceptorContext.getProperty(ROUTE_PROPERTY);
+
+		if (!(route instanceof Route)) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		long start = System.nanoTime();
+
+		try {
+			writerInterceptorContext.proceed();
+		}
+		finally {
+			_metricsRegistry.record(
+				(Route)route, WRITE_PHASE, System.nanoTime() - start);
+		}
+	}
+
+	@Reference
+	private MetricsRegistry _metricsRegistry;
+
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.jfr;
+
+import com.liferay.apio.architect.event.PipelineEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * The base JDK Flight Recorder event of Apio's request pipeline stages.
+ * Closing the event commits it. Stack traces aren't recorded, to keep events
+ * cheap on hot paths.
+ *
+ * @author Alejandro Hernández
+ */
+@Category("Apio")
+@StackTrace(false)
+public abstract class ApioEvent extends Event implements PipelineEvent {
+
+	@Override
+	public void close() {
+		commit();
+	}
+
+	@Override
+	public void setByteCount(long byteCount) {
+		this.byteCount = byteCount;
+	}
+
+	@Override
+	public void setItemCount(long itemCount) {
+		this.itemCount = itemCount;
+	}
+
+	@Override
+	public void setProviderClass(Class<?> providerClass) {
+	}
+
+	@Override
+	public void setResourceName(String resourceName) {
+		this.resourceName = resourceName;
+	}
+
+	@DataAmount
+	@Label("Byte Count")
+	protected long byteCount;
+
+	@Label("Item Count")
+	protected long itemCount;
+
+	@Label("Resource Name")
+	protected String resourceName;
+
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.jfr;
+
+import static com.liferay.apio.architect.event.PipelineStage.MESSAGE_BODY_WRITE;
+import static com.liferay.apio.architect.event.PipelineStage.PROVIDER_CREATION;
+import static com.liferay.apio.architect.event.PipelineStage.RELATED_MODEL_FETCH;
+import static com.liferay.apio.architect.event.PipelineStage.REPRESENTOR_WRITE;
+import static com.liferay.apio.architect.event.PipelineStage.ROUTE_EXECUTION;
+
+import com.liferay.apio.architect.event.PipelineEvent;
+import com.liferay.apio.architect.event.PipelineEventRecorder;
+import com.liferay.apio.architect.event.PipelineEventUtil;
+import com.liferay.apio.architect.event.PipelineStage;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import jdk.jfr.EventType;
+
+/**
+ * Records the events of Apio's request pipeline as JDK Flight Recorder events.
+ *
+ * <p>
+ * An event is only created if its type is enabled in a running recording.
+ * Otherwise, {@link PipelineEventUtil#DISABLED} is returned, so the pipeline
+ * doesn't allocate anything while nothing is being recorded.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class FlightRecorderPipelineEventRecorder
+	implements PipelineEventRecorder {
+
+	public FlightRecorderPipelineEventRecorder() {
+		_register(
+			MESSAGE_BODY_WRITE, MessageBodyWriteEvent.class,
+			MessageBodyWriteEvent::new);
+		_register(
+			PROVIDER_CREATION, ProviderCreationEvent.class,
+			ProviderCreationEvent::new);
+		_register(
+			RELATED_MODEL_FETCH, RelatedModelFetchEvent.class,
+			RelatedModelFetchEvent::new);
+		_register(
+			REPRESENTOR_WRITE, RepresentorWriteEvent.class,
+			RepresentorWriteEvent::new);
+		_register(
+			ROUTE_EXECUTION, RouteExecutionEvent.class,
+			RouteExecutionEvent::new);
+	}
+
+	@Override
+	public PipelineEvent begin(PipelineStage pipelineStage) {
+		EventType eventType = _eventTypes.get(pipelineStage);
+
+		if ((eventType == null) || !eventType.isEnabled()) {
+			return PipelineEventUtil.DISABLED;
+		}
+
+		Supplier<ApioEvent> supplier = _suppliers.get(pipelineStage);
+
+		ApioEvent apioEvent = supplier.get();
+
+		apioEvent.begin();
+
+		return apioEvent;
+	}
+
+	private void _register(
+		PipelineStage pipelineStage, Class<? extends ApioEvent> clazz,
+		Supplier<ApioEvent> supplier) {
+
+		_eventTypes.put(pipelineStage, EventType.getEventType(clazz));
+		_suppliers.put(pipelineStage, supplier);
+	}
+
+	private final Map<PipelineStage, EventType> _eventTypes = new EnumMap<>(
+		PipelineStage.class);
+	private final Map<PipelineStage, Supplier<ApioEvent>> _suppliers =
+		new EnumMap<>(PipelineStage.class);
+
+}
\ No newline at end of file
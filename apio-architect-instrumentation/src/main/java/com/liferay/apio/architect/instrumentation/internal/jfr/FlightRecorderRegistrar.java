@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.jfr;
+
+import static org.osgi.service.component.annotations.ReferenceCardinality.OPTIONAL;
+import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
+
+import com.liferay.apio.architect.event.PipelineEventUtil;
+import com.liferay.apio.architect.logger.ApioLogger;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Records the events of Apio's request pipeline with the JDK Flight Recorder,
+ * if the JVM provides the {@code jdk.jfr} API.
+ *
+ * <p>
+ * This component doesn't reference any {@code jdk.jfr} class, so it can be
+ * activated on JVMs without the flight recorder.
+ * </p>
+ *
+ * <p>
+ * The bundle imports {@code jdk.jfr} optionally, and OSGi frameworks don't
+ * export it by default, so the flight recorder is only reachable if {@code
+ * jdk.jfr} is added to the {@code org.osgi.framework.system.packages.extra}
+ * framework property. If the JVM provides the flight recorder but the bundle
+ * can't reach it, a warning is logged when this component is activated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true)
+public class FlightRecorderRegistrar {
+
+	@Activate
+	public void activate() {
+		if (!_isFlightRecorderAvailable(
+				FlightRecorderRegistrar.class.getClassLoader())) {
+
+			if ((_apioLogger != null) &&
+				_isFlightRecorderAvailable(
+					ClassLoader.getSystemClassLoader())) {
+
+				_apioLogger.warning(
+					"The JDK Flight Recorder can't be used because the " +
+						"jdk.jfr package isn't exported by the OSGi " +
+							"framework. Add it to the " +
+								"org.osgi.framework.system.packages.extra " +
+									"property to record Apio's events.");
+			}
+
+			return;
+		}
+
+		PipelineEventUtil.setPipelineEventRecorder(
+			new FlightRecorderPipelineEventRecorder());
+
+		_registered = true;
+	}
+
+	@Deactivate
+	public void deactivate() {
+		if (_registered) {
+			PipelineEventUtil.setPipelineEventRecorder(null);
+
+			_registered = false;
+		}
+	}
+
+	private boolean _isFlightRecorderAvailable(ClassLoader classLoader) {
+		try {
+			Class.forName("jdk.jfr.Event", false, classLoader);
+
+			return true;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	@Reference(cardinality = OPTIONAL, policyOption = GREEDY)
+	private ApioLogger _apioLogger;
+
+	private boolean _registered;
+
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JDK Flight Recorder event emitted when a provider creates a request's
+ * context. The event records the context's class instead of a resource name.
+ *
+ * @author Alejandro Hernández
+ */
+@Description("Creating a provider's context")
+@Label("Provider Creation")
+@Name("com.liferay.apio.architect.ProviderCreation")
+public class ProviderCreationEvent extends ApioEvent {
+
+	@Override
+	public void setProviderClass(Class<?> providerClass) {
+		this.providerClass = providerClass;
+	}
+
+	@Label("Provider Class")
+	protected Class<?> providerClass;
+
+}
\ No newline at end of file
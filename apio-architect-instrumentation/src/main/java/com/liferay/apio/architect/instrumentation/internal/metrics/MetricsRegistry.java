@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.metrics;
+
+import com.liferay.apio.architect.instrumentation.internal.histogram.LatencyHistogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Keeps a {@link LatencyHistogram} for every route and phase of the requests
+ * handled by Apio, and writes them in the Prometheus text exposition format.
+ *
+ * <p>
+ * The number of series is bounded: once {@code 1024} series exist, latencies
+ * of new resource names are recorded under the {@code other} resource name.
+ * </p>
+ *
+ * <p>
+ * It also counts the requests rejected by each bulkhead. These are written
+ * only after the first rejection.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true, service = MetricsRegistry.class)
+public class MetricsRegistry {
+
+	/**
+	 * The name of the phase in which an endpoint operation runs.
+	 */
+	public static final String OPERATION_PHASE = "operation";
+
+	/**
+	 * The name of the phase in which a message body writer writes the
+	 * response.
+	 */
+	public static final String WRITE_PHASE = "write";
+
+	/**
+	 * Records the latency of a route's phase.
+	 *
+	 * @param route the route
+	 * @param phase the phase
+	 * @param nanos the latency, in nanoseconds
+	 */
+	public void record(Route route, String phase, long nanos) {
+		String labels = _getLabels(
+			route.endpoint, route.resourceName, route.method, phase);
+
+		LatencyHistogram latencyHistogram = _latencyHistograms.get(labels);
+
+		if (latencyHistogram == null) {
+			if (_latencyHistograms.size() >= _MAX_SERIES) {
+				labels = _getLabels(
+					route.endpoint, "other", route.method, phase);
+			}
+
+			latencyHistogram = _latencyHistograms.computeIfAbsent(
+				labels, __ -> new LatencyHistogram());
+		}
+
+		latencyHistogram.record(nanos);
+	}
+
+	/**
+	 * Records a request rejected by a bulkhead.
+	 *
+	 * @param bulkhead the bulkhead's name
+	 */
+	public void recordRejection(String bulkhead) {
+		LongAdder longAdder = _rejections.computeIfAbsent(
+			bulkhead, __ -> new LongAdder());
+
+		longAdder.increment();
+	}
+
+	/**
+	 * Returns the recorded latencies in the Prometheus text exposition format.
+	 *
+	 * @return the recorded latencies
+	 */
+	public String toPrometheusText() {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("# HELP ");
+		sb.append(_METRIC_NAME);
+		sb.append(" Time spent in each phase of the requests handled by ");
+		sb.append("Apio, by route.\n");
+		sb.append("# TYPE ");
+		sb.append(_METRIC_NAME);
+		sb.append(" histogram\n");
+
+		Map<String, LatencyHistogram> latencyHistograms = new TreeMap<>(
+			_latencyHistograms);
+
+		latencyHistograms.forEach(
+			(labels, latencyHistogram) -> _write(
+				sb, labels, latencyHistogram));
+
+		if (_rejections.isEmpty()) {
+			return sb.toString();
+		}
+
+		sb.append("# HELP ");
+		sb.append(_REJECTIONS_METRIC_NAME);
+		sb.append(" Requests rejected by each bulkhead.\n");
+		sb.append("# TYPE ");
+		sb.append(_REJECTIONS_METRIC_NAME);
+		sb.append(" counter\n");
+
+		Map<String, LongAdder> rejections = new TreeMap<>(_rejections);
+
+		rejections.forEach(
+			(bulkhead, longAdder) -> {
+				sb.append(_REJECTIONS_METRIC_NAME);
+				sb.append("{bulkhead=\"");
+				sb.append(_escape(bulkhead));
+				sb.append("\"} ");
+				sb.append(longAdder.sum());
+				sb.append('\n');
+			});
+
+		return sb.toString();
+	}
+
+	private static String _escape(String value) {
+		return value.replace(
+			"\\", "\\\\"
+		).replace(
+			"\"", "\\\""
+		).replace(
+			"\n", "\\n"
+		);
+	}
+
+	private static String _getLabels(
+		String endpoint, String resourceName, String method, String phase) {
+
+		return "endpoint=\"" + _escape(endpoint) + "\",method=\"" +
+			_escape(method) + "\",phase=\"" + _escape(phase) +
+				"\",resource=\"" + _escape(resourceName) + "\"";
+	}
+
+	private void _write(
+		StringBuilder sb, String labels, LatencyHistogram latencyHistogram) {
+
+		long[] counts = latencyHistogram.getCounts();
+
+		long count = 0;
+
+		for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+			count += counts[i];
+
+			_writeSample(
+				sb, "_bucket", labels,
+				",le=\"" + LatencyHistogram.getUpperBoundSeconds(i) + "\"",
+				String.valueOf(count));
+		}
+
+		count += counts[LatencyHistogram.BUCKETS];
+
+		_writeSample(
+			sb, "_bucket", labels, ",le=\"+Inf\"", String.valueOf(count));
+
+		double sumSeconds =
+			(double)latencyHistogram.getSumNanos() /
+				TimeUnit.SECONDS.toNanos(1);
+
+		_writeSample(sb, "_sum", labels, "", String.valueOf(sumSeconds));
+		_writeSample(sb, "_count", labels, "", String.valueOf(count));
+	}
+
+	private void _writeSample(
+		StringBuilder sb, String suffix, String labels, String extraLabel,
+		String value) {
+
+		sb.append(_METRIC_NAME);
+		sb.append(suffix);
+		sb.append('{');
+		sb.append(labels);
+		sb.append(extraLabel);
+		sb.append("} ");
+		sb.append(value);
+		sb.append('\n');
+	}
+
+	private static final int _MAX_SERIES = 1024;
+
+	private static final String _METRIC_NAME = "apio_request_duration_seconds";
+
+	private static final String _REJECTIONS_METRIC_NAME =
+		"apio_bulkhead_rejected_requests_total";
+
+	private final ConcurrentMap<String, LatencyHistogram> _latencyHistograms =
+		new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, LongAdder> _rejections =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.metrics;
+
+/**
+ * Identifies the route that handled a request: the endpoint, the resource's
+ * name, and the HTTP method.
+ *
+ * @author Alejandro Hernández
+ */
+public class Route {
+
+	public Route(String endpoint, String resourceName, String method) {
+		this.endpoint = endpoint;
+		this.resourceName = resourceName;
+		this.method = method;
+	}
+
+	/**
+	 * The endpoint that handled the request (for example, {@code page} or
+	 * {@code form}).
+	 */
+	public final String endpoint;
+
+	/**
+	 * The HTTP method of the request.
+	 */
+	public final String method;
+
+	/**
+	 * The name of the resource, or an empty string if the endpoint doesn't
+	 * have one.
+	 */
+	public final String resourceName;
+
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.tracing;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Runs a callback right before the first byte of a response is written, while
+ * its headers can still be modified. The callback also runs if the stream is
+ * flushed or closed before anything is written.
+ *
+ * @author Alejandro Hernández
+ */
+public class ServerTimingOutputStream extends FilterOutputStream {
+
+	public ServerTimingOutputStream(
+		OutputStream outputStream, Runnable beforeCommitRunnable) {
+
+		super(outputStream);
+
+		_beforeCommitRunnable = beforeCommitRunnable;
+	}
+
+	@Override
+	public void close() throws IOException {
+		_beforeCommit();
+
+		super.close();
+	}
+
+	@Override
+	public void flush() throws IOException {
+		_beforeCommit();
+
+		out.flush();
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		_beforeCommit();
+
+		out.write(bytes, offset, length);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		_beforeCommit();
+
+		out.write(b);
+	}
+
+	private void _beforeCommit() {
+		if (_committed) {
+			return;
+		}
+
+		_committed = true;
+
+		_beforeCommitRunnable.run();
+	}
+
+	private final Runnable _beforeCommitRunnable;
+	private boolean _committed;
+
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.tracing;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Formats request trace spans as the value of a {@code Server-Timing} header
+ * and as slow request log entries.
+ *
+ * @author Alejandro Hernández
+ */
+public class ServerTimingUtil {
+
+	/**
+	 * The name of the {@code Server-Timing} header.
+	 */
+	public static final String SERVER_TIMING = "Server-Timing";
+
+	/**
+	 * Returns the value of a {@code Server-Timing} header with one metric per
+	 * span. Each metric's duration is in milliseconds.
+	 *
+	 * @param  spans the spans, with their durations in nanoseconds
+	 * @return the header value
+	 */
+	public static String toHeaderValue(Map<String, Long> spans) {
+		StringJoiner stringJoiner = new StringJoiner(", ");
+
+		spans.forEach(
+			(name, nanos) -> stringJoiner.add(
+				name + ";dur=" + _toMillis(nanos)));
+
+		return stringJoiner.toString();
+	}
+
+	/**
+	 * Returns a slow request log entry, with the request's method, path, total
+	 * duration, and spans as {@code key=value} pairs. Durations are in
+	 * milliseconds.
+	 *
+	 * @param  method the request's method
+	 * @param  path the request's path
+	 * @param  totalNanos the request's total duration, in nanoseconds
+	 * @param  spans the spans, with their durations in nanoseconds
+	 * @return the log entry
+	 */
+	public static String toLogMessage(
+		String method, String path, long totalNanos, Map<String, Long> spans) {
+
+		StringJoiner stringJoiner = new StringJoiner(" ");
+
+		stringJoiner.add("Slow request:");
+		stringJoiner.add("method=" + method);
+		stringJoiner.add("path=" + path);
+		stringJoiner.add("total=" + _toMillis(totalNanos));
+
+		spans.forEach(
+			(name, nanos) -> stringJoiner.add(name + "=" + _toMillis(nanos)));
+
+		return stringJoiner.toString();
+	}
+
+	private static String _toMillis(long nanos) {
+		return String.format(Locale.US, "%.3f", nanos / 1_000_000.0);
+	}
+
+	private ServerTimingUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.bulkhead;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BulkheadTest {
+
+	@Test
+	public void testQueuedRequestAcquiresPermitReleasedBeforeTimeout()
+		throws Exception {
+
+		Bulkhead bulkhead = new Bulkhead(
+			"people", 1, 1, TimeUnit.SECONDS.toNanos(10));
+
+		assertThat(bulkhead.tryAcquire(), is(true));
+
+		CompletableFuture<Boolean> completableFuture =
+			CompletableFuture.supplyAsync(bulkhead::tryAcquire);
+
+		Thread.sleep(50);
+
+		bulkhead.release();
+
+		assertThat(completableFuture.get(10, TimeUnit.SECONDS), is(true));
+	}
+
+	@Test
+	public void testRequestIsRejectedIfQueueIsFull() {
+		Bulkhead bulkhead = new Bulkhead(
+			"people", 1, 0, TimeUnit.SECONDS.toNanos(10));
+
+		assertThat(bulkhead.tryAcquire(), is(true));
+		assertThat(bulkhead.tryAcquire(), is(false));
+	}
+
+	@Test
+	public void testRequestIsRejectedIfQueueTimeoutExpires() {
+		Bulkhead bulkhead = new Bulkhead(
+			"people", 1, 1, TimeUnit.MILLISECONDS.toNanos(10));
+
+		assertThat(bulkhead.tryAcquire(), is(true));
+		assertThat(bulkhead.tryAcquire(), is(false));
+
+		bulkhead.release();
+
+		assertThat(bulkhead.tryAcquire(), is(true));
+	}
+
+	@Test
+	public void testRequestsUnderTheLimitAreAcquiredImmediately() {
+		Bulkhead bulkhead = new Bulkhead("people", 2, 0, 0);
+
+		assertThat(bulkhead.getName(), is("people"));
+		assertThat(bulkhead.tryAcquire(), is(true));
+		assertThat(bulkhead.tryAcquire(), is(true));
+		assertThat(bulkhead.tryAcquire(), is(false));
+	}
+
+}
\ No newline at end of file
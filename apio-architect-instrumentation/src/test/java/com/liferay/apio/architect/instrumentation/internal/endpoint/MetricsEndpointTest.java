@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.endpoint;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+
+import com.liferay.apio.architect.instrumentation.internal.metrics.MetricsRegistry;
+
+import java.lang.reflect.Field;
+
+import java.util.Collections;
+
+import javax.ws.rs.NotFoundException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class MetricsEndpointTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_metricsEndpoint = new MetricsEndpoint();
+
+		Field field = MetricsEndpoint.class.getDeclaredField(
+			"_metricsRegistry");
+
+		field.setAccessible(true);
+
+		field.set(_metricsEndpoint, new MetricsRegistry());
+	}
+
+	@Test(expected = NotFoundException.class)
+	public void testDisabledEndpointIsNotFound() {
+		_metricsEndpoint.activate(Collections.emptyMap());
+
+		_metricsEndpoint.metrics();
+	}
+
+	@Test
+	public void testEnabledEndpointWritesTheMetrics() {
+		_metricsEndpoint.activate(
+			Collections.singletonMap("metrics.endpoint.enabled", true));
+
+		assertThat(
+			_metricsEndpoint.metrics(),
+			startsWith("# HELP apio_request_duration_seconds"));
+	}
+
+	private MetricsEndpoint _metricsEndpoint;
+
+}
\ No newline at end of file
@@ -0,0 +1,333 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.filter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.instrumentation.internal.metrics.MetricsRegistry;
+
+import java.io.IOException;
+
+import java.lang.reflect.Field;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.ws.rs.ServiceUnavailableException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.PathSegment;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.Providers;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BulkheadFilterTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_bulkheadFilter = new BulkheadFilter();
+
+		Field field = BulkheadFilter.class.getDeclaredField(
+			"_metricsRegistry");
+
+		field.setAccessible(true);
+
+		field.set(_bulkheadFilter, new MetricsRegistry());
+
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("bulkhead.enabled", true);
+		properties.put("bulkhead.max.queue.size", 0);
+		properties.put("bulkhead.resource.limits", "people=1");
+
+		_bulkheadFilter.activate(properties);
+	}
+
+	@Test
+	public void testPermitsAreHeldUntilTheEntityIsWritten() throws Exception {
+		Map<String, Object> properties = new HashMap<>();
+
+		ContainerRequestContext containerRequestContext =
+			_createContainerRequestContext(properties);
+
+		_bulkheadFilter.filter(containerRequestContext);
+
+		_bulkheadFilter.filter(
+			containerRequestContext, _createContainerResponseContext(true));
+
+		assertThat(_canAcquirePermit(), is(false));
+
+		WriterInterceptorContext writerInterceptorContext =
+			_createWriterInterceptorContext(properties);
+
+		_bulkheadFilter.aroundWriteTo(writerInterceptorContext);
+
+		Mockito.verify(
+			writerInterceptorContext
+		).proceed();
+
+		assertThat(_canAcquirePermit(), is(true));
+	}
+
+	@Test
+	public void testPermitsAreReleasedIfTheEntityCannotBeWritten()
+		throws Exception {
+
+		Map<String, Object> properties = new HashMap<>();
+
+		ContainerRequestContext containerRequestContext =
+			_createContainerRequestContext(properties);
+
+		_bulkheadFilter.filter(containerRequestContext);
+
+		_bulkheadFilter.filter(
+			containerRequestContext, _createContainerResponseContext(true));
+
+		WriterInterceptorContext writerInterceptorContext =
+			_createWriterInterceptorContext(properties);
+
+		Mockito.doThrow(
+			new IOException()
+		).when(
+			writerInterceptorContext
+		).proceed();
+
+		try {
+			_bulkheadFilter.aroundWriteTo(writerInterceptorContext);
+		}
+		catch (IOException ioe) {
+			assertThat(_canAcquirePermit(), is(true));
+
+			return;
+		}
+
+		throw new AssertionError("The entity write should have failed");
+	}
+
+	@Test
+	public void testPermitsAreReleasedIfNoWriterCanWriteTheEntity()
+		throws Exception {
+
+		Field field = BulkheadFilter.class.getDeclaredField("_providers");
+
+		field.setAccessible(true);
+
+		field.set(_bulkheadFilter, Mockito.mock(Providers.class));
+
+		ContainerRequestContext containerRequestContext =
+			_createContainerRequestContext(new HashMap<>());
+
+		_bulkheadFilter.filter(containerRequestContext);
+
+		assertThat(_canAcquirePermit(), is(false));
+
+		_bulkheadFilter.filter(
+			containerRequestContext, _createContainerResponseContext(true));
+
+		assertThat(_canAcquirePermit(), is(true));
+	}
+
+	@Test
+	public void testPermitsAreReleasedOnlyOnce() throws Exception {
+		Map<String, Object> properties = new HashMap<>();
+
+		ContainerRequestContext containerRequestContext =
+			_createContainerRequestContext(properties);
+
+		_bulkheadFilter.filter(containerRequestContext);
+
+		WriterInterceptorContext writerInterceptorContext =
+			_createWriterInterceptorContext(new HashMap<>(properties));
+
+		_bulkheadFilter.filter(
+			containerRequestContext, _createContainerResponseContext(false));
+
+		_bulkheadFilter.aroundWriteTo(writerInterceptorContext);
+
+		_bulkheadFilter.filter(_createContainerRequestContext(new HashMap<>()));
+
+		assertThat(_canAcquirePermit(), is(false));
+	}
+
+	@Test
+	public void testPermitsAreReleasedWhenAResponseWithoutEntityIsReady() {
+		Map<String, Object> properties = new HashMap<>();
+
+		ContainerRequestContext containerRequestContext =
+			_createContainerRequestContext(properties);
+
+		_bulkheadFilter.filter(containerRequestContext);
+
+		assertThat(_canAcquirePermit(), is(false));
+
+		_bulkheadFilter.filter(
+			containerRequestContext, _createContainerResponseContext(false));
+
+		assertThat(_canAcquirePermit(), is(true));
+	}
+
+	@Test
+	public void testWriterInterceptorIgnoresRequestsWithoutPermits()
+		throws Exception {
+
+		WriterInterceptorContext writerInterceptorContext =
+			_createWriterInterceptorContext(new HashMap<>());
+
+		_bulkheadFilter.aroundWriteTo(writerInterceptorContext);
+
+		Mockito.verify(
+			writerInterceptorContext
+		).proceed();
+
+		assertThat(_canAcquirePermit(), is(true));
+	}
+
+	private boolean _canAcquirePermit() {
+		ContainerRequestContext containerRequestContext =
+			_createContainerRequestContext(new HashMap<>());
+
+		try {
+			_bulkheadFilter.filter(containerRequestContext);
+		}
+		catch (ServiceUnavailableException sue) {
+			return false;
+		}
+
+		_bulkheadFilter.filter(
+			containerRequestContext, _createContainerResponseContext(false));
+
+		return true;
+	}
+
+	private static ContainerRequestContext _createContainerRequestContext(
+		Map<String, Object> properties) {
+
+		ContainerRequestContext containerRequestContext = Mockito.mock(
+			ContainerRequestContext.class);
+
+		Mockito.when(
+			containerRequestContext.getProperty(Mockito.anyString())
+		).thenAnswer(
+			invocation -> properties.get(invocation.getArguments()[0])
+		);
+
+		Mockito.doAnswer(
+			invocation -> properties.put(
+				(String)invocation.getArguments()[0],
+				invocation.getArguments()[1])
+		).when(
+			containerRequestContext
+		).setProperty(
+			Mockito.anyString(), Mockito.any()
+		);
+
+		Mockito.doAnswer(
+			invocation -> properties.remove(invocation.getArguments()[0])
+		).when(
+			containerRequestContext
+		).removeProperty(
+			Mockito.anyString()
+		);
+
+		UriInfo uriInfo = Mockito.mock(UriInfo.class);
+
+		Mockito.when(
+			containerRequestContext.getUriInfo()
+		).thenReturn(
+			uriInfo
+		);
+
+		List<PathSegment> pathSegments = Stream.of(
+			"p", "people"
+		).map(
+			BulkheadFilterTest::_createPathSegment
+		).collect(
+			Collectors.toList()
+		);
+
+		Mockito.when(
+			uriInfo.getPathSegments()
+		).thenReturn(
+			pathSegments
+		);
+
+		return containerRequestContext;
+	}
+
+	private static ContainerResponseContext _createContainerResponseContext(
+		boolean hasEntity) {
+
+		ContainerResponseContext containerResponseContext = Mockito.mock(
+			ContainerResponseContext.class);
+
+		Mockito.when(
+			containerResponseContext.hasEntity()
+		).thenReturn(
+			hasEntity
+		);
+
+		return containerResponseContext;
+	}
+
+	private static PathSegment _createPathSegment(String path) {
+		PathSegment pathSegment = Mockito.mock(PathSegment.class);
+
+		Mockito.when(
+			pathSegment.getPath()
+		).thenReturn(
+			path
+		);
+
+		return pathSegment;
+	}
+
+	private static WriterInterceptorContext _createWriterInterceptorContext(
+		Map<String, Object> properties) {
+
+		WriterInterceptorContext writerInterceptorContext = Mockito.mock(
+			WriterInterceptorContext.class);
+
+		Mockito.when(
+			writerInterceptorContext.getProperty(Mockito.anyString())
+		).thenAnswer(
+			invocation -> properties.get(invocation.getArguments()[0])
+		);
+
+		Mockito.doAnswer(
+			invocation -> properties.remove(invocation.getArguments()[0])
+		).when(
+			writerInterceptorContext
+		).removeProperty(
+			Mockito.anyString()
+		);
+
+		return writerInterceptorContext;
+	}
+
+	private BulkheadFilter _bulkheadFilter;
+
+}
\ No newline at end of file
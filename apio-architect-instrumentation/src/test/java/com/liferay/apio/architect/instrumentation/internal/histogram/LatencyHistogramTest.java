@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.histogram;
+
+import static com.liferay.apio.architect.instrumentation.internal.histogram.LatencyHistogram.BUCKETS;
+import static com.liferay.apio.architect.instrumentation.internal.histogram.LatencyHistogram.getBucketIndex;
+import static com.liferay.apio.architect.instrumentation.internal.histogram.LatencyHistogram.getUpperBoundSeconds;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class LatencyHistogramTest {
+
+	@Test
+	public void testBucketIndexIsTheCeilingOfTheLogarithmOfMicroseconds() {
+		assertThat(getBucketIndex(-1), is(0));
+		assertThat(getBucketIndex(0), is(0));
+		assertThat(getBucketIndex(1000), is(0));
+		assertThat(getBucketIndex(1001), is(1));
+		assertThat(getBucketIndex(2000), is(1));
+		assertThat(getBucketIndex(3000), is(2));
+		assertThat(getBucketIndex(TimeUnit.MILLISECONDS.toNanos(1)), is(10));
+		assertThat(getBucketIndex(TimeUnit.SECONDS.toNanos(16)), is(24));
+		assertThat(getBucketIndex(TimeUnit.SECONDS.toNanos(17)), is(BUCKETS));
+		assertThat(getBucketIndex(Long.MAX_VALUE), is(BUCKETS));
+	}
+
+	@Test
+	public void testConcurrentRecordingsAreNotLost() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+		IntStream.range(
+			0, 10000
+		).parallel(
+		).forEach(
+			i -> latencyHistogram.record(i * 1000L)
+		);
+
+		long count = LongStream.of(latencyHistogram.getCounts()).sum();
+
+		assertThat(count, is(10000L));
+		assertThat(latencyHistogram.getSumNanos(), is(49995000000L));
+	}
+
+	@Test
+	public void testRecordIncrementsTheLatencyBucket() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+		latencyHistogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+		latencyHistogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+		latencyHistogram.record(TimeUnit.MINUTES.toNanos(1));
+
+		long[] counts = latencyHistogram.getCounts();
+
+		assertThat(counts.length, is(BUCKETS + 1));
+		assertThat(counts[10], is(2L));
+		assertThat(counts[BUCKETS], is(1L));
+		assertThat(
+			latencyHistogram.getSumNanos(),
+			is(TimeUnit.MILLISECONDS.toNanos(60002)));
+	}
+
+	@Test
+	public void testUpperBoundsArePowersOfTwoMicroseconds() {
+		assertThat(getUpperBoundSeconds(0), is(0.000001));
+		assertThat(getUpperBoundSeconds(10), is(0.001024));
+		assertThat(getUpperBoundSeconds(24), is(16.777216));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.jfr;
+
+import static com.liferay.apio.architect.event.PipelineStage.MESSAGE_BODY_WRITE;
+import static com.liferay.apio.architect.event.PipelineStage.PROVIDER_CREATION;
+import static com.liferay.apio.architect.event.PipelineStage.ROUTE_EXECUTION;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNull.nullValue;
+
+import com.liferay.apio.architect.event.PipelineEvent;
+import com.liferay.apio.architect.event.PipelineEventUtil;
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class FlightRecorderPipelineEventRecorderTest {
+
+	@Test
+	public void testBeginRecordsOnlyEnabledEventTypes() throws IOException {
+		FlightRecorderPipelineEventRecorder
+			flightRecorderPipelineEventRecorder =
+				new FlightRecorderPipelineEventRecorder();
+
+		Path path = Files.createTempFile("apio", ".jfr");
+
+		try (Recording recording = new Recording()) {
+			recording.disable(RouteExecutionEvent.class);
+			recording.enable(MessageBodyWriteEvent.class);
+
+			recording.start();
+
+			PipelineEvent pipelineEvent =
+				flightRecorderPipelineEventRecorder.begin(MESSAGE_BODY_WRITE);
+
+			assertThat(pipelineEvent, is(instanceOf(ApioEvent.class)));
+			assertThat(pipelineEvent.isEnabled(), is(true));
+
+			pipelineEvent.setByteCount(1024);
+			pipelineEvent.setItemCount(3);
+			pipelineEvent.setResourceName("people");
+
+			pipelineEvent.close();
+
+			PipelineEvent routeExecutionEvent =
+				flightRecorderPipelineEventRecorder.begin(ROUTE_EXECUTION);
+
+			assertThat(routeExecutionEvent, is(PipelineEventUtil.DISABLED));
+
+			recording.stop();
+
+			recording.dump(path);
+
+			List<RecordedEvent> recordedEvents = RecordingFile.readAllEvents(
+				path);
+
+			assertThat(recordedEvents.size(), is(1));
+
+			RecordedEvent recordedEvent = recordedEvents.get(0);
+
+			assertThat(recordedEvent.getLong("byteCount"), is(1024L));
+			assertThat(recordedEvent.getLong("itemCount"), is(3L));
+			assertThat(recordedEvent.getString("resourceName"), is("people"));
+		}
+		finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void testBeginWithoutRecordingReturnsDisabledEvent() {
+		FlightRecorderPipelineEventRecorder
+			flightRecorderPipelineEventRecorder =
+				new FlightRecorderPipelineEventRecorder();
+
+		PipelineEvent pipelineEvent = flightRecorderPipelineEventRecorder.begin(
+			ROUTE_EXECUTION);
+
+		assertThat(pipelineEvent, is(PipelineEventUtil.DISABLED));
+	}
+
+	@Test
+	public void testProviderCreationEventRecordsTheProviderClass()
+		throws IOException {
+
+		FlightRecorderPipelineEventRecorder
+			flightRecorderPipelineEventRecorder =
+				new FlightRecorderPipelineEventRecorder();
+
+		Path path = Files.createTempFile("apio", ".jfr");
+
+		try (Recording recording = new Recording()) {
+			recording.enable(ProviderCreationEvent.class);
+
+			recording.start();
+
+			PipelineEvent pipelineEvent =
+				flightRecorderPipelineEventRecorder.begin(PROVIDER_CREATION);
+
+			pipelineEvent.setProviderClass(String.class);
+
+			pipelineEvent.close();
+
+			recording.stop();
+
+			recording.dump(path);
+
+			List<RecordedEvent> recordedEvents = RecordingFile.readAllEvents(
+				path);
+
+			assertThat(recordedEvents.size(), is(1));
+
+			RecordedEvent recordedEvent = recordedEvents.get(0);
+
+			RecordedClass recordedClass = recordedEvent.getClass(
+				"providerClass");
+
+			assertThat(recordedClass.getName(), is(String.class.getName()));
+			assertThat(
+				recordedEvent.getString("resourceName"), is(nullValue()));
+		}
+		finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+}
\ No newline at end of file
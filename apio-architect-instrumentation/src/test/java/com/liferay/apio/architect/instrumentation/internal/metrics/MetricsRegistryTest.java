@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.metrics;
+
+import static com.liferay.apio.architect.instrumentation.internal.metrics.MetricsRegistry.OPERATION_PHASE;
+import static com.liferay.apio.architect.instrumentation.internal.metrics.MetricsRegistry.WRITE_PHASE;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.core.Is.is;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class MetricsRegistryTest {
+
+	@Test
+	public void testEmptyRegistryOnlyWritesTheMetricDescription() {
+		MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+		String expected =
+			"# HELP apio_request_duration_seconds Time spent in each phase " +
+				"of the requests handled by Apio, by route.\n# TYPE " +
+					"apio_request_duration_seconds histogram\n";
+
+		assertThat(metricsRegistry.toPrometheusText(), is(expected));
+	}
+
+	@Test
+	public void testLabelValuesAreEscaped() {
+		MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+		Route route = new Route("page", "a\"b\\c\nd", "GET");
+
+		metricsRegistry.record(route, OPERATION_PHASE, 1);
+
+		String text = metricsRegistry.toPrometheusText();
+
+		assertThat(text, containsString("resource=\"a\\\"b\\\\c\\nd\""));
+	}
+
+	@Test
+	public void testNewResourceNamesAreGroupedOnceTheSeriesLimitIsReached() {
+		MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+		for (int i = 0; i < 1100; i++) {
+			Route route = new Route("page", "resource" + i, "GET");
+
+			metricsRegistry.record(route, OPERATION_PHASE, 1);
+		}
+
+		String text = metricsRegistry.toPrometheusText();
+
+		assertThat(text, containsString("resource=\"resource1023\""));
+		assertThat(text, not(containsString("resource=\"resource1024\"")));
+		assertThat(
+			text,
+			containsString(
+				"apio_request_duration_seconds_count{endpoint=\"page\"," +
+					"method=\"GET\",phase=\"operation\",resource=\"other\"} " +
+						"76\n"));
+	}
+
+	@Test
+	public void testRecordedLatenciesAreWrittenAsCumulativeBuckets() {
+		MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+		Route route = new Route("page", "people", "GET");
+
+		metricsRegistry.record(
+			route, OPERATION_PHASE, TimeUnit.MILLISECONDS.toNanos(1));
+		metricsRegistry.record(
+			route, OPERATION_PHASE, TimeUnit.MILLISECONDS.toNanos(3));
+		metricsRegistry.record(
+			route, WRITE_PHASE, TimeUnit.MICROSECONDS.toNanos(500));
+
+		String text = metricsRegistry.toPrometheusText();
+
+		String labels =
+			"endpoint=\"page\",method=\"GET\",phase=\"operation\"," +
+				"resource=\"people\"";
+
+		assertThat(
+			text,
+			containsString(
+				"apio_request_duration_seconds_bucket{" + labels +
+					",le=\"5.12E-4\"} 0\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_request_duration_seconds_bucket{" + labels +
+					",le=\"0.001024\"} 1\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_request_duration_seconds_bucket{" + labels +
+					",le=\"0.004096\"} 2\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_request_duration_seconds_bucket{" + labels +
+					",le=\"+Inf\"} 2\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_request_duration_seconds_sum{" + labels + "} 0.004\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_request_duration_seconds_count{" + labels + "} 2\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_request_duration_seconds_count{endpoint=\"page\"," +
+					"method=\"GET\",phase=\"write\",resource=\"people\"} 1\n"));
+	}
+
+	@Test
+	public void testRejectionsAreWrittenAsCounters() {
+		MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+		metricsRegistry.recordRejection("people");
+		metricsRegistry.recordRejection("people");
+		metricsRegistry.recordRejection("people/{id}/blog-postings");
+
+		String text = metricsRegistry.toPrometheusText();
+
+		assertThat(
+			text,
+			containsString(
+				"# TYPE apio_bulkhead_rejected_requests_total counter\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_bulkhead_rejected_requests_total{bulkhead=\"people\"} " +
+					"2\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_bulkhead_rejected_requests_total{bulkhead=\"people/" +
+					"{id}/blog-postings\"} 1\n"));
+	}
+
+}
\ No newline at end of file
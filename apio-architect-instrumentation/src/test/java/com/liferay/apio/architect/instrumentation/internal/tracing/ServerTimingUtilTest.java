@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.instrumentation.internal.tracing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ServerTimingUtilTest {
+
+	@Test
+	public void testToHeaderValueFormatsEverySpanInMilliseconds() {
+		Map<String, Long> spans = new TreeMap<>();
+
+		spans.put("negotiation", 12_345L);
+		spans.put("provider", 1_500_000L);
+
+		String headerValue = ServerTimingUtil.toHeaderValue(spans);
+
+		assertThat(
+			headerValue, is("negotiation;dur=0.012, provider;dur=1.500"));
+	}
+
+	@Test
+	public void testToHeaderValueWithoutSpansIsEmpty() {
+		String headerValue = ServerTimingUtil.toHeaderValue(
+			Collections.emptyMap());
+
+		assertThat(headerValue, is(""));
+	}
+
+	@Test
+	public void testToLogMessageIncludesRequestAndSpans() {
+		Map<String, Long> spans = Collections.singletonMap("write", 2_000_000L);
+
+		String logMessage = ServerTimingUtil.toLogMessage(
+			"GET", "p/people", 1_234_500_000L, spans);
+
+		assertThat(
+			logMessage,
+			is(
+				"Slow request: method=GET path=p/people total=1234.500 " +
+					"write=2.000"));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.coalescing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.Optional;
+
+/**
+ * Keeps a copy of the bytes written to it, up to a maximum size, while
+ * handing them to the underlying stream.
+ *
+ * @author Alejandro Hernández
+ */
+public class CapturingOutputStream extends FilterOutputStream {
+
+	public CapturingOutputStream(OutputStream outputStream, int maxSize) {
+		super(outputStream);
+
+		_maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the bytes written to this stream, if they didn't exceed the
+	 * maximum size.
+	 *
+	 * @return the written bytes, if they fit; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<byte[]> getBytesOptional() {
+		if (_overflowed) {
+			return Optional.empty();
+		}
+
+		return Optional.of(_byteArrayOutputStream.toByteArray());
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		out.write(bytes, offset, length);
+
+		if (_fits(length)) {
+			_byteArrayOutputStream.write(bytes, offset, length);
+		}
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		out.write(b);
+
+		if (_fits(1)) {
+			_byteArrayOutputStream.write(b);
+		}
+	}
+
+	private boolean _fits(int length) {
+		if (_overflowed) {
+			return false;
+		}
+
+		if ((_byteArrayOutputStream.size() + (long)length) > _maxSize) {
+			_overflowed = true;
+
+			_byteArrayOutputStream.reset();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	private final ByteArrayOutputStream _byteArrayOutputStream =
+		new ByteArrayOutputStream();
+	private final int _maxSize;
+	private boolean _overflowed;
+
+}
\ No newline at end of file
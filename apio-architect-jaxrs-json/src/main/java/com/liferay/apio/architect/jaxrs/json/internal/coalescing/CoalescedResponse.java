@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.coalescing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The rendered response of a coalesced request, shared with the identical
+ * requests that waited for it.
+ *
+ * <p>
+ * The response keeps the headers of the first request's response, so the
+ * waiting requests get them too. The headers that describe the first
+ * response's body encoding or connection ({@code Connection}, {@code
+ * Content-Encoding}, {@code Content-Length} and {@code Transfer-Encoding}),
+ * and its {@code Set-Cookie} headers, are dropped. The {@code Content-Type} is
+ * kept apart, in {@link #contentType}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class CoalescedResponse {
+
+	public CoalescedResponse(
+		byte[] bytes, String contentType, Map<String, List<Object>> headers) {
+
+		this.bytes = bytes;
+		this.contentType = contentType;
+
+		Map<String, List<Object>> sharedHeaders = new LinkedHashMap<>();
+
+		headers.forEach(
+			(name, values) -> {
+				if (!_isDropped(name) && (values != null)) {
+					sharedHeaders.put(
+						name,
+						Collections.unmodifiableList(new ArrayList<>(values)));
+				}
+			});
+
+		this.headers = Collections.unmodifiableMap(sharedHeaders);
+	}
+
+	private static boolean _isDropped(String name) {
+		for (String droppedHeader : _DROPPED_HEADERS) {
+			if (droppedHeader.equalsIgnoreCase(name)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	public final byte[] bytes;
+	public final String contentType;
+	public final Map<String, List<Object>> headers;
+
+	private static final List<String> _DROPPED_HEADERS = Arrays.asList(
+		"Connection", "Content-Encoding", "Content-Length", "Content-Type",
+		"Set-Cookie", "Transfer-Encoding");
+
+}
\ No newline at end of file
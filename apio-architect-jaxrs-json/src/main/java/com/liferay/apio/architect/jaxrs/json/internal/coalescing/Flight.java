@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.coalescing;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * An in-flight computation of a response, started by the first of several
+ * identical requests. The rest of the requests wait for it to land.
+ *
+ * @author Alejandro Hernández
+ */
+public class Flight {
+
+	public Flight(String key) {
+		_key = key;
+
+		_startNanos = System.nanoTime();
+	}
+
+	/**
+	 * Waits for the flight to land and returns its response. If the flight is
+	 * aborted, or doesn't land in time, this method returns {@code
+	 * Optional#empty()}, so the caller can compute the response by itself.
+	 *
+	 * @param  timeoutNanos the maximum time to wait, in nanoseconds
+	 * @return the flight's response, if it landed in time; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<CoalescedResponse> await(long timeoutNanos) {
+		try {
+			return _completableFuture.get(timeoutNanos, TimeUnit.NANOSECONDS);
+		}
+		catch (ExecutionException | TimeoutException e) {
+			return Optional.empty();
+		}
+		catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+
+			return Optional.empty();
+		}
+	}
+
+	public String getKey() {
+		return _key;
+	}
+
+	public long getStartNanos() {
+		return _startNanos;
+	}
+
+	/**
+	 * Returns {@code true} if the flight has landed or has been aborted.
+	 *
+	 * @return {@code true} if the flight is done; {@code false} otherwise
+	 */
+	public boolean isDone() {
+		return _completableFuture.isDone();
+	}
+
+	protected void complete(Optional<CoalescedResponse> optional) {
+		_completableFuture.complete(optional);
+	}
+
+	private final CompletableFuture<Optional<CoalescedResponse>>
+		_completableFuture = new CompletableFuture<>();
+	private final String _key;
+	private final long _startNanos;
+
+}
\ No newline at end of file
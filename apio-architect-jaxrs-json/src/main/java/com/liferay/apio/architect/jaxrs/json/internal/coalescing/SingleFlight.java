@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.coalescing;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces identical concurrent computations. The first caller for a key
+ * starts a {@link Flight}; the rest of the callers find it and wait for its
+ * response instead of computing it again.
+ *
+ * <p>
+ * A flight that hasn't landed after the timeout is considered lost, so a new
+ * flight can replace it.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class SingleFlight {
+
+	public SingleFlight(long timeoutNanos) {
+		_timeoutNanos = timeoutNanos;
+	}
+
+	/**
+	 * Aborts a flight. The callers waiting for it compute their responses by
+	 * themselves.
+	 *
+	 * @param flight the flight
+	 */
+	public void abort(Flight flight) {
+		_flights.remove(flight.getKey(), flight);
+
+		flight.complete(Optional.empty());
+	}
+
+	/**
+	 * Returns the in-flight computation for a key, if it exists and hasn't
+	 * timed out.
+	 *
+	 * @param  key the key
+	 * @return the flight, if present; {@code Optional#empty()} otherwise
+	 */
+	public Optional<Flight> getFlightOptional(String key) {
+		Flight flight = _flights.get(key);
+
+		if ((flight == null) || _isExpired(flight)) {
+			return Optional.empty();
+		}
+
+		return Optional.of(flight);
+	}
+
+	public long getTimeoutNanos() {
+		return _timeoutNanos;
+	}
+
+	/**
+	 * Lands a flight, sharing its response with the callers waiting for it.
+	 *
+	 * @param flight the flight
+	 * @param coalescedResponse the flight's response
+	 */
+	public void land(Flight flight, CoalescedResponse coalescedResponse) {
+		_flights.remove(flight.getKey(), flight);
+
+		flight.complete(Optional.of(coalescedResponse));
+	}
+
+	/**
+	 * Starts a flight for a key, if no other flight is in progress for it.
+	 * The caller that starts the flight must either land it or abort it.
+	 *
+	 * @param  key the key
+	 * @return the started flight, if no other flight was in progress; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Flight> startFlight(String key) {
+		Flight flight = new Flight(key);
+
+		Flight currentFlight = _flights.putIfAbsent(key, flight);
+
+		if (currentFlight == null) {
+			return Optional.of(flight);
+		}
+
+		if (_isExpired(currentFlight) &&
+			_flights.replace(key, currentFlight, flight)) {
+
+			currentFlight.complete(Optional.empty());
+
+			return Optional.of(flight);
+		}
+
+		return Optional.empty();
+	}
+
+	private boolean _isExpired(Flight flight) {
+		long elapsedNanos = System.nanoTime() - flight.getStartNanos();
+
+		if (flight.isDone() || (elapsedNanos > _timeoutNanos)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private final Map<String, Flight> _flights = new ConcurrentHashMap<>();
+	private final long _timeoutNanos;
+
+}
\ No newline at end of file
@@ -0,0 +1,285 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses the bytes written to it before handing them to the underlying
+ * stream.
+ *
+ * <p>
+ * The first {@code minSize} bytes are buffered. If the body ends before
+ * reaching that size, it's written uncompressed. Otherwise, the content
+ * encoding supplier is asked whether the body should be compressed, so the
+ * {@code Content-Encoding} header can still be set before the first byte
+ * reaches the underlying stream.
+ * </p>
+ *
+ * <p>
+ * An explicit {@link #flush()} forces the bytes written so far out to the
+ * client, so streamed bodies (like exports or multi-status responses) reach it
+ * progressively. If the body is still being buffered, the flush ends the
+ * buffering as if the minimum size had been reached.
+ * </p>
+ *
+ * <p>
+ * The {@code gzip} header and trailer are written by this class around a raw
+ * deflate stream, so the pooled {@code Deflater} instances can be reused for
+ * both encodings.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class CompressingOutputStream extends OutputStream {
+
+	public CompressingOutputStream(
+		OutputStream outputStream, int minSize,
+		Supplier<Optional<ContentEncoding>> contentEncodingSupplier,
+		DeflaterPool deflaterPool) {
+
+		_outputStream = outputStream;
+		_contentEncodingSupplier = contentEncodingSupplier;
+		_deflaterPool = deflaterPool;
+
+		_buffer = new byte[Math.max(minSize, 1)];
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			finish();
+		}
+		finally {
+			_outputStream.close();
+		}
+	}
+
+	/**
+	 * Writes any buffered or pending compressed bytes, along with the encoding
+	 * trailer, to the underlying stream, and returns the deflater to the pool.
+	 * Calling this method more than once has no effect.
+	 *
+	 * @throws IOException if an I/O error occurred
+	 */
+	public void finish() throws IOException {
+		if (_state == State.FINISHED) {
+			return;
+		}
+
+		try {
+			if (_state == State.BUFFERING) {
+				_outputStream.write(_buffer, 0, _count);
+			}
+			else if (_state == State.COMPRESSING) {
+				_deflater.finish();
+
+				while (!_deflater.finished()) {
+					_deflate();
+				}
+
+				if (_contentEncoding == ContentEncoding.GZIP) {
+					_writeGZIPTrailer();
+				}
+			}
+
+			_outputStream.flush();
+		}
+		finally {
+			_state = State.FINISHED;
+
+			release();
+		}
+	}
+
+	/**
+	 * Forces the bytes written so far out to the underlying stream and flushes
+	 * it. If the body is still being buffered, compression is decided first.
+	 * If it's being compressed, the deflater is synchronously flushed, so the
+	 * client can decompress every byte written before this call.
+	 *
+	 * @throws IOException if an I/O error occurred
+	 */
+	@Override
+	public void flush() throws IOException {
+		if (_state == State.BUFFERING) {
+			if (_count == 0) {
+				return;
+			}
+
+			_start();
+		}
+
+		if (_state == State.COMPRESSING) {
+			int length;
+
+			do {
+				length = _deflater.deflate(
+					_deflated, 0, _deflated.length, Deflater.SYNC_FLUSH);
+
+				if (length > 0) {
+					_outputStream.write(_deflated, 0, length);
+				}
+			}
+			while (length == _deflated.length);
+		}
+
+		if (_state != State.FINISHED) {
+			_outputStream.flush();
+		}
+	}
+
+	/**
+	 * Returns the deflater to the pool, if one was acquired. Must be called
+	 * even if writing the body fails.
+	 */
+	public void release() {
+		if (_deflater != null) {
+			_deflaterPool.release(_contentEncoding, _deflater);
+
+			_deflater = null;
+		}
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length)
+		throws IOException {
+
+		if (_state == State.BUFFERING) {
+			if ((_count + length) <= _buffer.length) {
+				System.arraycopy(bytes, offset, _buffer, _count, length);
+
+				_count += length;
+
+				return;
+			}
+
+			_start();
+		}
+
+		if (_state == State.PASSING) {
+			_outputStream.write(bytes, offset, length);
+		}
+		else if (_state == State.COMPRESSING) {
+			_compress(bytes, offset, length);
+		}
+		else {
+			throw new IOException("Stream already finished");
+		}
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] {(byte)b}, 0, 1);
+	}
+
+	private void _compress(byte[] bytes, int offset, int length)
+		throws IOException {
+
+		if (length == 0) {
+			return;
+		}
+
+		if (_crc32 != null) {
+			_crc32.update(bytes, offset, length);
+		}
+
+		_deflater.setInput(bytes, offset, length);
+
+		while (!_deflater.needsInput()) {
+			_deflate();
+		}
+	}
+
+	private void _deflate() throws IOException {
+		int length = _deflater.deflate(_deflated, 0, _deflated.length);
+
+		if (length > 0) {
+			_outputStream.write(_deflated, 0, length);
+		}
+	}
+
+	private void _start() throws IOException {
+		Optional<ContentEncoding> optional = _contentEncodingSupplier.get();
+
+		if (!optional.isPresent()) {
+			_state = State.PASSING;
+
+			_outputStream.write(_buffer, 0, _count);
+
+			return;
+		}
+
+		_contentEncoding = optional.get();
+
+		_deflater = _deflaterPool.acquire(_contentEncoding);
+
+		_deflated = new byte[_DEFLATED_BUFFER_SIZE];
+
+		_state = State.COMPRESSING;
+
+		if (_contentEncoding == ContentEncoding.GZIP) {
+			_crc32 = new CRC32();
+
+			_outputStream.write(_GZIP_HEADER);
+		}
+
+		_compress(_buffer, 0, _count);
+	}
+
+	private void _writeGZIPTrailer() throws IOException {
+		byte[] trailer = new byte[8];
+
+		_writeInt((int)_crc32.getValue(), trailer, 0);
+		_writeInt((int)_deflater.getBytesRead(), trailer, 4);
+
+		_outputStream.write(trailer);
+	}
+
+	private void _writeInt(int value, byte[] bytes, int offset) {
+		for (int i = 0; i < 4; i++) {
+			bytes[offset + i] = (byte)(value >> (8 * i));
+		}
+	}
+
+	private static final int _DEFLATED_BUFFER_SIZE = 4096;
+
+	private static final byte[] _GZIP_HEADER =
+		{0x1f, (byte)0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte)0xff};
+
+	private final byte[] _buffer;
+	private ContentEncoding _contentEncoding;
+	private final Supplier<Optional<ContentEncoding>> _contentEncodingSupplier;
+	private int _count;
+	private CRC32 _crc32;
+	private byte[] _deflated;
+	private Deflater _deflater;
+	private final DeflaterPool _deflaterPool;
+	private final OutputStream _outputStream;
+	private State _state = State.BUFFERING;
+
+	private enum State {
+
+		BUFFERING, COMPRESSING, FINISHED, PASSING
+
+	}
+
+}
\ No newline at end of file
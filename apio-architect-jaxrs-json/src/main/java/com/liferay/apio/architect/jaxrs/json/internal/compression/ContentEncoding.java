@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.compression;
+
+import java.util.Optional;
+import java.util.zip.Deflater;
+
+/**
+ * Represents the content codings Apio can apply to a response body.
+ *
+ * @author Alejandro Hernández
+ */
+public enum ContentEncoding {
+
+	DEFLATE("deflate", false), GZIP("gzip", true);
+
+	/**
+	 * Returns the content encoding whose name matches the provided one, if
+	 * present. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  name the content encoding's name
+	 * @return the content encoding, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<ContentEncoding> fromName(String name) {
+		for (ContentEncoding contentEncoding : values()) {
+			if (contentEncoding._name.equalsIgnoreCase(name)) {
+				return Optional.of(contentEncoding);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Creates a new {@code Deflater} for this content encoding. The {@code
+	 * gzip} encoding uses a raw deflate stream, since its header and trailer
+	 * are written by {@link CompressingOutputStream}.
+	 *
+	 * @param  level the compression level
+	 * @return the new deflater
+	 */
+	public Deflater createDeflater(int level) {
+		return new Deflater(level, _nowrap);
+	}
+
+	/**
+	 * Returns the content encoding's name, as used in the {@code
+	 * Content-Encoding} header.
+	 *
+	 * @return the content encoding's name
+	 */
+	public String getName() {
+		return _name;
+	}
+
+	private ContentEncoding(String name, boolean nowrap) {
+		_name = name;
+		_nowrap = nowrap;
+	}
+
+	private final String _name;
+	private final boolean _nowrap;
+
+}
\ No newline at end of file
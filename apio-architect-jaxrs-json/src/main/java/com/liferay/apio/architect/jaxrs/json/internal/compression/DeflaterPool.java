@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.compression;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Keeps a bounded number of idle {@code Deflater} instances per content
+ * encoding, so requests can reuse them instead of allocating a new native
+ * zlib stream each time.
+ *
+ * <p>
+ * Deflaters returned once the pool is full, or after the pool has been
+ * cleared, are ended right away.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class DeflaterPool {
+
+	public DeflaterPool(int level, int maxSize) {
+		_level = level;
+
+		for (ContentEncoding contentEncoding : ContentEncoding.values()) {
+			_deflaters.put(contentEncoding, new ArrayBlockingQueue<>(maxSize));
+		}
+	}
+
+	/**
+	 * Returns an idle deflater for the content encoding, or a new one if the
+	 * pool is empty.
+	 *
+	 * @param  contentEncoding the content encoding
+	 * @return the deflater
+	 */
+	public Deflater acquire(ContentEncoding contentEncoding) {
+		BlockingQueue<Deflater> deflaters = _deflaters.get(contentEncoding);
+
+		Deflater deflater = deflaters.poll();
+
+		if (deflater == null) {
+			return contentEncoding.createDeflater(_level);
+		}
+
+		return deflater;
+	}
+
+	/**
+	 * Ends every idle deflater and stops pooling released ones.
+	 */
+	public void clear() {
+		_cleared = true;
+
+		for (BlockingQueue<Deflater> deflaters : _deflaters.values()) {
+			Deflater deflater;
+
+			while ((deflater = deflaters.poll()) != null) {
+				deflater.end();
+			}
+		}
+	}
+
+	/**
+	 * Returns a deflater, acquired from this pool for the content encoding, so
+	 * it can be reused.
+	 *
+	 * @param contentEncoding the content encoding
+	 * @param deflater the deflater
+	 */
+	public void release(ContentEncoding contentEncoding, Deflater deflater) {
+		if (_cleared) {
+			deflater.end();
+
+			return;
+		}
+
+		deflater.reset();
+
+		BlockingQueue<Deflater> deflaters = _deflaters.get(contentEncoding);
+
+		if (!deflaters.offer(deflater)) {
+			deflater.end();
+		}
+		else if (_cleared) {
+			clear();
+		}
+	}
+
+	private volatile boolean _cleared;
+	private final Map<ContentEncoding, BlockingQueue<Deflater>> _deflaters =
+		new EnumMap<>(ContentEncoding.class);
+	private final int _level;
+
+}
\ No newline at end of file
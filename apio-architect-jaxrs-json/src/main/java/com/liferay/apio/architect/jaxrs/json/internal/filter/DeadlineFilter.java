@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.filter;
+
+import com.liferay.apio.architect.request.Deadline;
+import com.liferay.apio.architect.wiring.osgi.manager.ProviderManager;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.PreMatching;
+import javax.ws.rs.core.Context;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Provides the request's {@link Deadline} as soon as the request arrives, so
+ * its timeout is counted from that moment instead of from the first time a
+ * route or writer asks for it. The deadline is attached to the request, and
+ * the writers check it between items and before fetching related models.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true,
+	property = "liferay.apio.architect.container.request.filter=true"
+)
+@PreMatching
+public class DeadlineFilter implements ContainerRequestFilter {
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext) {
+		_providerManager.provideOptional(_httpServletRequest, Deadline.class);
+	}
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	@Reference
+	private ProviderManager _providerManager;
+
+}
\ No newline at end of file
@@ -16,7 +16,6 @@ package com.liferay.apio.architect.jaxrs.json.internal.filter;
 
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
-import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.functional.Try.Failure;
 import com.liferay.apio.architect.jaxrs.json.internal.util.ErrorUtil;
 
@@ -30,6 +29,7 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -52,37 +52,35 @@ public class FailureFilter implements ContainerResponseFilter {
 			ContainerResponseContext containerResponseContext)
 		throws IOException {
 
-		Try.fromFallible(
-			containerResponseContext::getEntity
-		).map(
-			Failure.class::cast
-		).map(
-			Failure::getException
-		).map(
-			exception -> _errorUtil.getErrorResponse(
-				exception, _request, _httpHeaders)
-		).ifSuccess(
-			response -> {
-				containerResponseContext.setStatus(response.getStatus());
-
-				MultivaluedMap<String, Object> headers =
-					containerResponseContext.getHeaders();
-
-				headers.remove(CONTENT_TYPE);
-
-				MediaType mediaType = response.getMediaType();
-
-				if (mediaType != null) {
-					headers.add(CONTENT_TYPE, mediaType.toString());
-				}
-
-				Object entity = response.getEntity();
-
-				if (entity != null) {
-					containerResponseContext.setEntity(entity);
-				}
-			}
-		);
+		Object entity = containerResponseContext.getEntity();
+
+		if (!(entity instanceof Failure)) {
+			return;
+		}
+
+		Failure<?> failure = (Failure<?>)entity;
+
+		Response response = _errorUtil.getErrorResponse(
+			failure.getException(), _request, _httpHeaders);
+
+		containerResponseContext.setStatus(response.getStatus());
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		headers.remove(CONTENT_TYPE);
+
+		MediaType mediaType = response.getMediaType();
+
+		if (mediaType != null) {
+			headers.add(CONTENT_TYPE, mediaType.toString());
+		}
+
+		Object responseEntity = response.getEntity();
+
+		if (responseEntity != null) {
+			containerResponseContext.setEntity(responseEntity);
+		}
 	}
 
 	@Reference
@@ -0,0 +1,334 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.filter;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_LANGUAGE;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.functional.Try.Failure;
+import com.liferay.apio.architect.jaxrs.json.internal.coalescing.CapturingOutputStream;
+import com.liferay.apio.architect.jaxrs.json.internal.coalescing.CoalescedResponse;
+import com.liferay.apio.architect.jaxrs.json.internal.coalescing.Flight;
+import com.liferay.apio.architect.jaxrs.json.internal.coalescing.SingleFlight;
+import com.liferay.apio.architect.wiring.osgi.manager.ProviderManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Priority;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Coalesces identical concurrent {@code GET} requests, if request coalescing
+ * is enabled. The first request computes and renders the response, and the
+ * identical requests that arrive while it's in flight wait for it and share
+ * its rendered bytes and headers.
+ *
+ * <p>
+ * Two requests are identical if they have the same URI (including the {@code
+ * fields} and {@code embedded} query parameters), {@code Accept} and {@code
+ * Accept-Language} headers, and credentials. Only successful responses are
+ * shared; if the first request fails, or its response is too big, the waiting
+ * requests are executed normally.
+ * </p>
+ *
+ * <p>
+ * The following component properties configure this filter:
+ * </p>
+ *
+ * <ul>
+ * <li>
+ * {@code request.coalescing.enabled}: whether requests are coalesced
+ * </li>
+ * <li>
+ * {@code request.coalescing.max.size}: the maximum number of bytes of a
+ * response that can be shared
+ * </li>
+ * <li>
+ * {@code request.coalescing.timeout}: the maximum time, in milliseconds, a
+ * request waits for an identical in-flight request
+ * </li>
+ * </ul>
+ *
+ * <p>
+ * This filter's writer interceptor runs after the rest of Apio's interceptors,
+ * so it captures the response before it's compressed.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true,
+	property = {
+		"liferay.apio.architect.container.request.filter=true",
+		"liferay.apio.architect.container.response.filter=true",
+		"liferay.apio.architect.writer.interceptor=true",
+		"request.coalescing.enabled:Boolean=false",
+		"request.coalescing.max.size:Integer=1048576",
+		"request.coalescing.timeout:Integer=5000"
+	},
+	service = {
+		ContainerRequestFilter.class, ContainerResponseFilter.class,
+		WriterInterceptor.class
+	}
+)
+@Priority(Priorities.USER + 1000)
+public class RequestCoalescingFilter
+	implements ContainerRequestFilter, ContainerResponseFilter,
+			   WriterInterceptor {
+
+	@Activate
+	@Modified
+	public void activate(Map<String, Object> properties) {
+		Object enabled = properties.get("request.coalescing.enabled");
+
+		_enabled = Boolean.parseBoolean(String.valueOf(enabled));
+
+		_maxSize = Math.max(
+			_getInteger(properties, "request.coalescing.max.size", 1048576),
+			0);
+
+		int timeout = Math.max(
+			_getInteger(properties, "request.coalescing.timeout", 5000), 0);
+
+		_singleFlight = new SingleFlight(
+			TimeUnit.MILLISECONDS.toNanos(timeout));
+	}
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException, WebApplicationException {
+
+		Object flight = writerInterceptorContext.getProperty(_FLIGHT_PROPERTY);
+
+		if (!(flight instanceof Flight)) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		OutputStream outputStream = writerInterceptorContext.getOutputStream();
+
+		CapturingOutputStream capturingOutputStream =
+			new CapturingOutputStream(outputStream, _maxSize);
+
+		writerInterceptorContext.setOutputStream(capturingOutputStream);
+
+		Optional<CoalescedResponse> optional = Optional.empty();
+
+		try {
+			writerInterceptorContext.proceed();
+
+			optional = _getCoalescedResponseOptional(
+				writerInterceptorContext, capturingOutputStream);
+		}
+		finally {
+			writerInterceptorContext.setOutputStream(outputStream);
+
+			writerInterceptorContext.removeProperty(_FLIGHT_PROPERTY);
+
+			SingleFlight singleFlight = _singleFlight;
+
+			if (optional.isPresent()) {
+				singleFlight.land((Flight)flight, optional.get());
+			}
+			else {
+				singleFlight.abort((Flight)flight);
+			}
+		}
+	}
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext) {
+		if (!_enabled ||
+			!HttpMethod.GET.equals(containerRequestContext.getMethod())) {
+
+			return;
+		}
+
+		SingleFlight singleFlight = _singleFlight;
+
+		String key = _getKey(containerRequestContext);
+
+		Optional<Flight> optional = singleFlight.startFlight(key);
+
+		if (optional.isPresent()) {
+			containerRequestContext.setProperty(
+				_FLIGHT_PROPERTY, optional.get());
+
+			return;
+		}
+
+		singleFlight.getFlightOptional(
+			key
+		).flatMap(
+			flight -> flight.await(singleFlight.getTimeoutNanos())
+		).map(
+			this::_toResponse
+		).ifPresent(
+			containerRequestContext::abortWith
+		);
+	}
+
+	@Override
+	public void filter(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		Object flight = containerRequestContext.getProperty(_FLIGHT_PROPERTY);
+
+		if (!(flight instanceof Flight)) {
+			return;
+		}
+
+		int status = containerResponseContext.getStatus();
+
+		if ((status == Status.OK.getStatusCode()) &&
+			containerResponseContext.hasEntity() &&
+			!(containerResponseContext.getEntity() instanceof Failure)) {
+
+			return;
+		}
+
+		containerRequestContext.removeProperty(_FLIGHT_PROPERTY);
+
+		_singleFlight.abort((Flight)flight);
+	}
+
+	private Optional<CoalescedResponse> _getCoalescedResponseOptional(
+		WriterInterceptorContext writerInterceptorContext,
+		CapturingOutputStream capturingOutputStream) {
+
+		MultivaluedMap<String, Object> headers =
+			writerInterceptorContext.getHeaders();
+
+		if (headers.containsKey(CONTENT_ENCODING)) {
+			return Optional.empty();
+		}
+
+		Object contentType = headers.getFirst(CONTENT_TYPE);
+
+		if (contentType == null) {
+			contentType = writerInterceptorContext.getMediaType();
+		}
+
+		String contentTypeString = String.valueOf(contentType);
+
+		return capturingOutputStream.getBytesOptional(
+		).map(
+			bytes -> new CoalescedResponse(bytes, contentTypeString, headers)
+		);
+	}
+
+	private int _getInteger(
+		Map<String, Object> properties, String key, int defaultValue) {
+
+		Object value = properties.get(key);
+
+		if (value instanceof Number) {
+			return ((Number)value).intValue();
+		}
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Integer.parseInt(value.toString().trim());
+		}
+		catch (NumberFormatException nfe) {
+			return defaultValue;
+		}
+	}
+
+	private String _getKey(ContainerRequestContext containerRequestContext) {
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		Credentials credentials = _providerManager.provideMandatory(
+			_httpServletRequest, Credentials.class);
+
+		StringJoiner stringJoiner = new StringJoiner("\n");
+
+		stringJoiner.add(String.valueOf(uriInfo.getRequestUri()));
+		stringJoiner.add(
+			String.valueOf(containerRequestContext.getHeaderString(ACCEPT)));
+		stringJoiner.add(
+			String.valueOf(
+				containerRequestContext.getHeaderString(ACCEPT_LANGUAGE)));
+		stringJoiner.add(String.valueOf(credentials.get()));
+
+		return stringJoiner.toString();
+	}
+
+	private Response _toResponse(CoalescedResponse coalescedResponse) {
+		ResponseBuilder responseBuilder = Response.ok(
+			coalescedResponse.bytes
+		).type(
+			coalescedResponse.contentType
+		);
+
+		coalescedResponse.headers.forEach(
+			(name, values) -> values.forEach(
+				value -> responseBuilder.header(name, value)));
+
+		return responseBuilder.build();
+	}
+
+	private static final String _FLIGHT_PROPERTY =
+		RequestCoalescingFilter.class.getName() + ".flight";
+
+	private volatile boolean _enabled;
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	private volatile int _maxSize;
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	private volatile SingleFlight _singleFlight;
+
+}
\ No newline at end of file
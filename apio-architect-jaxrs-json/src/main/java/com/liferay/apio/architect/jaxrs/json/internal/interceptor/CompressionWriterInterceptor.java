@@ -0,0 +1,341 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.interceptor;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.VARY;
+
+import com.liferay.apio.architect.jaxrs.json.internal.compression.CompressingOutputStream;
+import com.liferay.apio.architect.jaxrs.json.internal.compression.ContentEncoding;
+import com.liferay.apio.architect.jaxrs.json.internal.compression.DeflaterPool;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Compresses the responses written by Apio's message body writers with
+ * {@code gzip} or {@code deflate}, depending on the request's {@code
+ * Accept-Encoding} header.
+ *
+ * <p>
+ * The following component properties configure this interceptor:
+ * </p>
+ *
+ * <ul>
+ * <li>
+ * {@code compression.level}: the {@code Deflater} compression level, from
+ * {@code 0} to {@code 9}
+ * </li>
+ * <li>
+ * {@code compression.media.types}: the media types whose responses can be
+ * compressed
+ * </li>
+ * <li>
+ * {@code compression.min.size}: the minimum number of bytes a response must
+ * have to be compressed
+ * </li>
+ * <li>
+ * {@code compression.pool.size}: the maximum number of idle {@code Deflater}
+ * instances kept per content encoding
+ * </li>
+ * </ul>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true,
+	property = {
+		"compression.level:Integer=6",
+		"compression.media.types=application/hal+json",
+		"compression.media.types=application/json",
+		"compression.media.types=application/ld+json",
+		"compression.media.types=application/problem+json",
+		"compression.media.types=application/x-ndjson",
+		"compression.min.size:Integer=1024",
+		"compression.pool.size:Integer=32",
+		"liferay.apio.architect.writer.interceptor=true"
+	}
+)
+public class CompressionWriterInterceptor implements WriterInterceptor {
+
+	@Activate
+	@Modified
+	public void activate(Map<String, Object> properties) {
+		int level = _getInteger(
+			properties, "compression.level", Deflater.DEFAULT_COMPRESSION);
+
+		if ((level < Deflater.NO_COMPRESSION) ||
+			(level > Deflater.BEST_COMPRESSION)) {
+
+			level = Deflater.DEFAULT_COMPRESSION;
+		}
+
+		int poolSize = _getInteger(properties, "compression.pool.size", 32);
+
+		DeflaterPool deflaterPool = new DeflaterPool(
+			level, Math.max(poolSize, 1));
+
+		_mediaTypes = _getMediaTypes(properties.get("compression.media.types"));
+		_minSize = Math.max(
+			_getInteger(properties, "compression.min.size", 1024), 0);
+
+		DeflaterPool oldDeflaterPool = _deflaterPool;
+
+		_deflaterPool = deflaterPool;
+
+		if (oldDeflaterPool != null) {
+			oldDeflaterPool.clear();
+		}
+	}
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException, WebApplicationException {
+
+		MultivaluedMap<String, Object> headers =
+			writerInterceptorContext.getHeaders();
+
+		Optional<ContentEncoding> optional = _getContentEncodingOptional();
+
+		if (!optional.isPresent() || headers.containsKey(CONTENT_ENCODING)) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		ContentEncoding contentEncoding = optional.get();
+
+		headers.add(VARY, ACCEPT_ENCODING);
+
+		OutputStream outputStream = writerInterceptorContext.getOutputStream();
+
+		CompressingOutputStream compressingOutputStream =
+			new CompressingOutputStream(
+				outputStream, _minSize,
+				() -> {
+					if (!_isCompressible(
+							headers, writerInterceptorContext.getMediaType())) {
+
+						return Optional.empty();
+					}
+
+					headers.putSingle(
+						CONTENT_ENCODING, contentEncoding.getName());
+
+					return Optional.of(contentEncoding);
+				},
+				_deflaterPool);
+
+		writerInterceptorContext.setOutputStream(compressingOutputStream);
+
+		try {
+			writerInterceptorContext.proceed();
+
+			compressingOutputStream.finish();
+		}
+		finally {
+			compressingOutputStream.release();
+
+			writerInterceptorContext.setOutputStream(outputStream);
+		}
+	}
+
+	@Deactivate
+	public void deactivate() {
+		_deflaterPool.clear();
+	}
+
+	private Optional<ContentEncoding> _getContentEncodingOptional() {
+		List<String> values = _httpHeaders.getRequestHeader(ACCEPT_ENCODING);
+
+		if ((values == null) || values.isEmpty()) {
+			return Optional.empty();
+		}
+
+		Map<ContentEncoding, Double> qualities = new EnumMap<>(
+			ContentEncoding.class);
+
+		Double wildcardQuality = null;
+
+		for (String value : values) {
+			for (String coding : value.split(",")) {
+				String[] parts = coding.split(";");
+
+				String name = parts[0].trim();
+
+				double quality = _getQuality(parts);
+
+				if (name.equals("*")) {
+					wildcardQuality = quality;
+
+					continue;
+				}
+
+				ContentEncoding.fromName(
+					name
+				).ifPresent(
+					contentEncoding -> qualities.put(contentEncoding, quality)
+				);
+			}
+		}
+
+		ContentEncoding bestContentEncoding = null;
+		double bestQuality = 0;
+
+		for (ContentEncoding contentEncoding : _PREFERRED_CONTENT_ENCODINGS) {
+			Double quality = qualities.get(contentEncoding);
+
+			if (quality == null) {
+				quality = wildcardQuality;
+			}
+
+			if ((quality != null) && (quality > bestQuality)) {
+				bestContentEncoding = contentEncoding;
+				bestQuality = quality;
+			}
+		}
+
+		return Optional.ofNullable(bestContentEncoding);
+	}
+
+	private int _getInteger(
+		Map<String, Object> properties, String key, int defaultValue) {
+
+		Object value = properties.get(key);
+
+		if (value instanceof Number) {
+			return ((Number)value).intValue();
+		}
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Integer.parseInt(value.toString().trim());
+		}
+		catch (NumberFormatException nfe) {
+			return defaultValue;
+		}
+	}
+
+	private Set<String> _getMediaTypes(Object value) {
+		if (value == null) {
+			return Collections.emptySet();
+		}
+
+		String[] mediaTypes;
+
+		if (value instanceof String[]) {
+			mediaTypes = (String[])value;
+		}
+		else {
+			String string = value.toString();
+
+			mediaTypes = string.split(",");
+		}
+
+		return Stream.of(
+			mediaTypes
+		).map(
+			String::trim
+		).filter(
+			mediaType -> !mediaType.isEmpty()
+		).map(
+			MediaType::valueOf
+		).map(
+			this::_getName
+		).collect(
+			Collectors.toSet()
+		);
+	}
+
+	private String _getName(MediaType mediaType) {
+		return mediaType.getType() + "/" + mediaType.getSubtype();
+	}
+
+	private double _getQuality(String[] parts) {
+		for (int i = 1; i < parts.length; i++) {
+			String parameter = parts[i].trim();
+
+			if (parameter.startsWith("q=")) {
+				try {
+					return Double.parseDouble(parameter.substring(2));
+				}
+				catch (NumberFormatException nfe) {
+					return 0;
+				}
+			}
+		}
+
+		return 1;
+	}
+
+	private boolean _isCompressible(
+		MultivaluedMap<String, Object> headers, MediaType mediaType) {
+
+		Object contentType = headers.getFirst(CONTENT_TYPE);
+
+		if (contentType instanceof MediaType) {
+			mediaType = (MediaType)contentType;
+		}
+		else if (contentType != null) {
+			mediaType = MediaType.valueOf(contentType.toString());
+		}
+
+		if (mediaType == null) {
+			return false;
+		}
+
+		return _mediaTypes.contains(_getName(mediaType));
+	}
+
+	private static final ContentEncoding[] _PREFERRED_CONTENT_ENCODINGS =
+		{ContentEncoding.GZIP, ContentEncoding.DEFLATE};
+
+	private volatile DeflaterPool _deflaterPool;
+
+	@Context
+	private HttpHeaders _httpHeaders;
+
+	private volatile Set<String> _mediaTypes;
+	private volatile int _minSize;
+
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.io;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Counts the bytes written to it before handing them to the underlying
+ * stream.
+ *
+ * @author Alejandro Hernández
+ */
+public class CountingOutputStream extends FilterOutputStream {
+
+	public CountingOutputStream(OutputStream outputStream) {
+		super(outputStream);
+	}
+
+	/**
+	 * Returns the number of bytes written to this stream.
+	 *
+	 * @return the number of bytes written
+	 */
+	public long getCount() {
+		return _count;
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		out.write(bytes, offset, length);
+
+		_count += length;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		out.write(b);
+
+		_count++;
+	}
+
+	private long _count;
+
+}
\ No newline at end of file
@@ -17,6 +17,7 @@ package com.liferay.apio.architect.jaxrs.json.internal.reader;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
@@ -76,13 +77,37 @@ public class JSONBodyMessageBodyReader implements MessageBodyReader<Body> {
 
 		Gson gson = new Gson();
 
-		JsonObject jsonObject = Try.fromFallibleWithResources(
+		JsonElement jsonElement = Try.fromFallibleWithResources(
 			() -> new InputStreamReader(entityStream, "UTF-8"),
-			streamReader -> gson.fromJson(streamReader, JsonObject.class)
+			streamReader -> gson.fromJson(streamReader, JsonElement.class)
+		).filter(
+			element -> (element != null) &&
+				(element.isJsonObject() || element.isJsonArray())
 		).orElseThrow(
 			() -> new BadRequestException("Body is not a valid JSON")
 		);
 
+		if (jsonElement.isJsonArray()) {
+			List<Body> bodies = new ArrayList<>();
+
+			JsonArray jsonArray = jsonElement.getAsJsonArray();
+
+			for (JsonElement element : jsonArray) {
+				if (!element.isJsonObject()) {
+					throw new BadRequestException(
+						"Body list elements must be JSON objects");
+				}
+
+				bodies.add(_getBody(element.getAsJsonObject()));
+			}
+
+			return Body.create(bodies);
+		}
+
+		return _getBody(jsonElement.getAsJsonObject());
+	}
+
+	private Body _getBody(JsonObject jsonObject) {
 		return Body.create(
 			_transform(
 				jsonObject,
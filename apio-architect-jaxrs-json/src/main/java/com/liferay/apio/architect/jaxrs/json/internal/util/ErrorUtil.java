@@ -30,6 +30,7 @@ import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -87,7 +88,7 @@ public class ErrorUtil {
 		Optional<ErrorMessageMapper> errorMessageMapperOptional =
 			_errorMessageMapperManager.getErrorMessageMapperOptional(request);
 
-		return errorMessageMapperOptional.map(
+		ResponseBuilder responseBuilder = errorMessageMapperOptional.map(
 			errorMessageMapper -> {
 				String result = ErrorWriter.writeError(
 					errorMessageMapper, apiError, httpHeaders);
@@ -98,13 +99,36 @@ public class ErrorUtil {
 					errorMessageMapper.getMediaType()
 				).entity(
 					result
-				).build();
+				);
 			}
 		).orElseGet(
-			() -> Response.status(
-				statusCode
-			).build()
+			() -> Response.status(statusCode)
 		);
+
+		_getRetryAfterOptional(
+			exception
+		).ifPresent(
+			retryAfter -> responseBuilder.header(
+				HttpHeaders.RETRY_AFTER, retryAfter)
+		);
+
+		return responseBuilder.build();
+	}
+
+	private static Optional<String> _getRetryAfterOptional(
+		Exception exception) {
+
+		if (!(exception instanceof WebApplicationException)) {
+			return Optional.empty();
+		}
+
+		WebApplicationException webApplicationException =
+			(WebApplicationException)exception;
+
+		Response response = webApplicationException.getResponse();
+
+		return Optional.ofNullable(
+			response.getHeaderString(HttpHeaders.RETRY_AFTER));
 	}
 
 	@Reference(cardinality = OPTIONAL, policyOption = GREEDY)
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.util;
+
+import static com.liferay.apio.architect.request.RequestTrace.RELATED_SPAN;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.language.Language;
+import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.request.RequestTrace;
+import com.liferay.apio.architect.request.RequestTrace.Span;
+import com.liferay.apio.architect.response.control.Embedded;
+import com.liferay.apio.architect.response.control.Fields;
+import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.unsafe.Unsafe;
+import com.liferay.apio.architect.url.ServerURL;
+import com.liferay.apio.architect.wiring.osgi.manager.ProviderManager;
+import com.liferay.apio.architect.wiring.osgi.manager.representable.NameManager;
+import com.liferay.apio.architect.wiring.osgi.manager.router.ItemRouterManager;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.HttpHeaders;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Provides helper methods shared by the message body writers that write single
+ * models.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true, service = WriterHelper.class)
+public class WriterHelper {
+
+	/**
+	 * Returns the {@link RequestInfo} of the current request.
+	 *
+	 * @param  httpHeaders the current request's HTTP headers
+	 * @param  httpServletRequest the current request
+	 * @return the request info
+	 */
+	public RequestInfo getRequestInfo(
+		HttpHeaders httpHeaders, HttpServletRequest httpServletRequest) {
+
+		return RequestInfo.create(
+			builder -> builder.httpHeaders(
+				httpHeaders
+			).httpServletRequest(
+				httpServletRequest
+			).serverURL(
+				_providerManager.provideMandatory(
+					httpServletRequest, ServerURL.class)
+			).embedded(
+				_providerManager.provideOptional(
+					httpServletRequest, Embedded.class
+				).orElse(
+					__ -> false
+				)
+			).fields(
+				_providerManager.provideOptional(
+					httpServletRequest, Fields.class
+				).orElse(
+					__ -> string -> true
+				)
+			).language(
+				_providerManager.provideOptional(
+					httpServletRequest, Language.class
+				).orElse(
+					Locale::getDefault
+				)
+			).build());
+	}
+
+	/**
+	 * Returns the single model identified by the identifier, if present.
+	 *
+	 * @param  identifier the single model's identifier
+	 * @param  identifierClass the class of the resource's identifier
+	 * @param  httpServletRequest the current request
+	 * @return the single model, if present; {@code Optional#empty()} otherwise
+	 */
+	public Optional<SingleModel> getSingleModelOptional(
+		Object identifier, Class<? extends Identifier> identifierClass,
+		HttpServletRequest httpServletRequest) {
+
+		Optional<String> nameOptional = _nameManager.getNameOptional(
+			identifierClass.getName());
+
+		RequestTrace requestTrace = RequestTrace.getRequestTrace(
+			httpServletRequest);
+
+		try (Span span = requestTrace.startSpan(RELATED_SPAN)) {
+			return nameOptional.flatMap(
+				_itemRouterManager::getItemRoutesOptional
+			).flatMap(
+				ItemRoutes::getItemFunctionOptional
+			).map(
+				function -> function.apply(httpServletRequest)
+			).map(
+				function -> function.apply(identifier)
+			).flatMap(
+				Try::toOptional
+			).map(
+				Unsafe::unsafeCast
+			);
+		}
+	}
+
+	@Reference
+	private ItemRouterManager _itemRouterManager;
+
+	@Reference
+	private NameManager _nameManager;
+
+	@Reference
+	private ProviderManager _providerManager;
+
+}
\ No newline at end of file
@@ -138,24 +138,39 @@ public class FormMessageBodyWriter implements MessageBodyWriter<Success<Form>> {
 				)
 			).build());
 
-		FormWriter formWriter = FormWriter.create(
-			builder -> builder.form(
-				form
-			).formMessageMapper(
-				formMessageMapper
-			).requestInfo(
-				requestInfo
-			).build());
-
 		httpHeaders.put(
 			CONTENT_TYPE,
 			Collections.singletonList(formMessageMapper.getMediaType()));
 
-		printWriter.println(formWriter.write());
+		printWriter.println(_write(form, formMessageMapper, requestInfo));
 
 		printWriter.close();
 	}
 
+	private String _write(
+		Form form, FormMessageMapper formMessageMapper,
+		RequestInfo requestInfo) {
+
+		Language language = requestInfo.getLanguage();
+		ServerURL serverURL = requestInfo.getServerURL();
+
+		return _renderedFormCache.getRenderedForm(
+			form, language.getPreferredLocale(),
+			formMessageMapper.getMediaType(), serverURL.get(),
+			() -> {
+				FormWriter formWriter = FormWriter.create(
+					builder -> builder.form(
+						form
+					).formMessageMapper(
+						formMessageMapper
+					).requestInfo(
+						requestInfo
+					).build());
+
+				return formWriter.write();
+			});
+	}
+
 	@Reference
 	private FormMessageMapperManager _formMessageMapperManager;
 
@@ -168,6 +183,9 @@ public class FormMessageBodyWriter implements MessageBodyWriter<Success<Form>> {
 	@Reference
 	private ProviderManager _providerManager;
 
+	private final RenderedFormCache _renderedFormCache =
+		new RenderedFormCache();
+
 	@Context
 	private Request _request;
 
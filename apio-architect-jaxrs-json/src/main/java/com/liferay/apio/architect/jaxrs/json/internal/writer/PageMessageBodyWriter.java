@@ -14,16 +14,25 @@
 
 package com.liferay.apio.architect.jaxrs.json.internal.writer;
 
+import static com.liferay.apio.architect.event.PipelineStage.MESSAGE_BODY_WRITE;
+import static com.liferay.apio.architect.request.RequestTrace.NEGOTIATION_SPAN;
+import static com.liferay.apio.architect.request.RequestTrace.RELATED_SPAN;
+import static com.liferay.apio.architect.request.RequestTrace.SERIALIZATION_SPAN;
 import static com.liferay.apio.architect.unsafe.Unsafe.unsafeCast;
 
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
+import com.liferay.apio.architect.event.PipelineEvent;
+import com.liferay.apio.architect.event.PipelineEventUtil;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.jaxrs.json.internal.io.CountingOutputStream;
 import com.liferay.apio.architect.language.Language;
 import com.liferay.apio.architect.message.json.PageMessageMapper;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.request.RequestTrace;
+import com.liferay.apio.architect.request.RequestTrace.Span;
 import com.liferay.apio.architect.response.control.Embedded;
 import com.liferay.apio.architect.response.control.Fields;
 import com.liferay.apio.architect.routes.ItemRoutes;
@@ -38,17 +47,14 @@ import com.liferay.apio.architect.wiring.osgi.manager.representable.Representabl
 import com.liferay.apio.architect.wiring.osgi.manager.router.ItemRouterManager;
 import com.liferay.apio.architect.wiring.osgi.util.GenericUtil;
 import com.liferay.apio.architect.writer.PageWriter;
+import com.liferay.apio.architect.writer.alias.ItemOperationsFunction;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
-import java.nio.charset.StandardCharsets;
-
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Optional;
@@ -114,12 +120,78 @@ public class PageMessageBodyWriter<T>
 			OutputStream entityStream)
 		throws IOException, WebApplicationException {
 
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-			entityStream, StandardCharsets.UTF_8);
+		Page<T> page = success.getValue();
 
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+		try (PipelineEvent pipelineEvent = PipelineEventUtil.begin(
+				MESSAGE_BODY_WRITE)) {
 
-		Page<T> page = success.getValue();
+			pipelineEvent.setResourceName(page.getResourceName());
+
+			if (!pipelineEvent.isEnabled()) {
+				_writePage(page, httpHeaders, entityStream);
+
+				return;
+			}
+
+			CountingOutputStream countingOutputStream =
+				new CountingOutputStream(entityStream);
+
+			_writePage(page, httpHeaders, countingOutputStream);
+
+			pipelineEvent.setByteCount(countingOutputStream.getCount());
+			pipelineEvent.setItemCount(page.getItemsCount());
+		}
+	}
+
+	private ItemOperationsFunction _getItemOperationsFunction(String name) {
+		Optional<ItemRoutes<Object, Object>> optional =
+			_itemRouterManager.getItemRoutesOptional(name);
+
+		return optional.flatMap(
+			ItemRoutes::getBatchGetOperationsFunctionOptional
+		).map(
+			function -> function.apply(_httpServletRequest)
+		).<ItemOperationsFunction>map(
+			function -> identifiers -> function.apply(
+				identifiers
+			).orElseGet(
+				Collections::emptyMap
+			)
+		).orElse(
+			null
+		);
+	}
+
+	private Optional<SingleModel> _getSingleModelOptional(
+		Object identifier, Class<? extends Identifier> identifierClass) {
+
+		Optional<String> nameOptional = _nameManager.getNameOptional(
+			identifierClass.getName());
+
+		RequestTrace requestTrace = RequestTrace.getRequestTrace(
+			_httpServletRequest);
+
+		try (Span span = requestTrace.startSpan(RELATED_SPAN)) {
+			return nameOptional.flatMap(
+				_itemRouterManager::getItemRoutesOptional
+			).flatMap(
+				ItemRoutes::getItemFunctionOptional
+			).map(
+				function -> function.apply(_httpServletRequest)
+			).map(
+				function -> function.apply(identifier)
+			).flatMap(
+				Try::toOptional
+			).map(
+				Unsafe::unsafeCast
+			);
+		}
+	}
+
+	private void _writePage(
+			Page<T> page, MultivaluedMap<String, Object> httpHeaders,
+			OutputStream outputStream)
+		throws IOException {
 
 		RequestInfo requestInfo = RequestInfo.create(
 			builder -> builder.httpHeaders(
@@ -149,8 +221,13 @@ public class PageMessageBodyWriter<T>
 				)
 			).build());
 
-		Optional<PageMessageMapper<T>> optional =
-			_pageMessageMapperManager.getPageMessageMapperOptional(_request);
+		RequestTrace requestTrace = RequestTrace.getRequestTrace(
+			_httpServletRequest);
+
+		Optional<PageMessageMapper<T>> optional = requestTrace.trace(
+			NEGOTIATION_SPAN,
+			() -> _pageMessageMapperManager.getPageMessageMapperOptional(
+				_request));
 
 		PageMessageMapper<T> pageMessageMapper = optional.orElseThrow(
 			NotSupportedException::new);
@@ -171,36 +248,18 @@ public class PageMessageBodyWriter<T>
 				requestInfo
 			).singleModelFunction(
 				this::_getSingleModelOptional
+			).itemOperationsFunction(
+				_getItemOperationsFunction(page.getResourceName())
 			).build());
 
 		httpHeaders.put(
 			CONTENT_TYPE,
 			Collections.singletonList(pageMessageMapper.getMediaType()));
 
-		printWriter.println(pageWriter.write());
-
-		printWriter.close();
-	}
-
-	private Optional<SingleModel> _getSingleModelOptional(
-		Object identifier, Class<? extends Identifier> identifierClass) {
-
-		Optional<String> nameOptional = _nameManager.getNameOptional(
-			identifierClass.getName());
-
-		return nameOptional.flatMap(
-			_itemRouterManager::getItemRoutesOptional
-		).flatMap(
-			ItemRoutes::getItemFunctionOptional
-		).map(
-			function -> function.apply(_httpServletRequest)
-		).map(
-			function -> function.apply(identifier)
-		).flatMap(
-			Try::toOptional
-		).map(
-			Unsafe::unsafeCast
-		);
+		try (Span span = requestTrace.startSpan(SERIALIZATION_SPAN)) {
+			pageMessageMapper.serialize(
+				pageWriter.writeJsonObject(), outputStream);
+		}
 	}
 
 	@Context
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.writer;
+
+import com.liferay.apio.architect.form.Form;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the rendered representation of forms. A form is rendered once per
+ * form ID, locale, media type and server URL. A cached representation is only
+ * reused for the same {@link Form} instance, so forms replaced by a new router
+ * are rendered again.
+ *
+ * <p>
+ * The cache is emptied once it holds {@code 1024} entries, so its size stays
+ * bounded regardless of the number of locales and server URLs.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class RenderedFormCache {
+
+	/**
+	 * Returns the rendered representation of the form, rendering it with the
+	 * supplier if it isn't cached yet.
+	 *
+	 * @param  form the form
+	 * @param  locale the locale used to render the form
+	 * @param  mediaType the media type of the representation
+	 * @param  serverURL the server URL used to render the form's URLs
+	 * @param  supplier the supplier that renders the form
+	 * @return the rendered representation of the form
+	 */
+	public String getRenderedForm(
+		Form form, Locale locale, String mediaType, String serverURL,
+		Supplier<String> supplier) {
+
+		String key = String.join(
+			" ", form.id, String.valueOf(locale), mediaType, serverURL);
+
+		RenderedForm renderedForm = _renderedForms.get(key);
+
+		if ((renderedForm != null) && (renderedForm.form == form)) {
+			return renderedForm.json;
+		}
+
+		String json = supplier.get();
+
+		if (_renderedForms.size() >= _MAX_RENDERED_FORMS) {
+			_renderedForms.clear();
+		}
+
+		_renderedForms.put(key, new RenderedForm(form, json));
+
+		return json;
+	}
+
+	private static class RenderedForm {
+
+		public RenderedForm(Form form, String json) {
+			this.form = form;
+			this.json = json;
+		}
+
+		public final Form form;
+		public final String json;
+
+	}
+
+	private static final int _MAX_RENDERED_FORMS = 1024;
+
+	private final Map<String, RenderedForm> _renderedForms =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
@@ -14,43 +14,41 @@
 
 package com.liferay.apio.architect.jaxrs.json.internal.writer;
 
+import static com.liferay.apio.architect.event.PipelineStage.MESSAGE_BODY_WRITE;
+import static com.liferay.apio.architect.request.RequestTrace.NEGOTIATION_SPAN;
+import static com.liferay.apio.architect.request.RequestTrace.SERIALIZATION_SPAN;
 import static com.liferay.apio.architect.unsafe.Unsafe.unsafeCast;
 
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
+import com.google.gson.JsonObject;
+
+import com.liferay.apio.architect.event.PipelineEvent;
+import com.liferay.apio.architect.event.PipelineEventUtil;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.identifier.Identifier;
-import com.liferay.apio.architect.language.Language;
+import com.liferay.apio.architect.jaxrs.json.internal.io.CountingOutputStream;
+import com.liferay.apio.architect.jaxrs.json.internal.util.WriterHelper;
 import com.liferay.apio.architect.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.request.RequestInfo;
-import com.liferay.apio.architect.response.control.Embedded;
-import com.liferay.apio.architect.response.control.Fields;
-import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.request.RequestTrace;
+import com.liferay.apio.architect.request.RequestTrace.Span;
 import com.liferay.apio.architect.single.model.SingleModel;
-import com.liferay.apio.architect.unsafe.Unsafe;
-import com.liferay.apio.architect.url.ServerURL;
 import com.liferay.apio.architect.wiring.osgi.manager.PathIdentifierMapperManager;
-import com.liferay.apio.architect.wiring.osgi.manager.ProviderManager;
 import com.liferay.apio.architect.wiring.osgi.manager.message.json.SingleModelMessageMapperManager;
 import com.liferay.apio.architect.wiring.osgi.manager.representable.IdentifierClassManager;
 import com.liferay.apio.architect.wiring.osgi.manager.representable.NameManager;
 import com.liferay.apio.architect.wiring.osgi.manager.representable.RepresentableManager;
-import com.liferay.apio.architect.wiring.osgi.manager.router.ItemRouterManager;
 import com.liferay.apio.architect.wiring.osgi.util.GenericUtil;
 import com.liferay.apio.architect.writer.SingleModelWriter;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
-import java.nio.charset.StandardCharsets;
-
 import java.util.Collections;
-import java.util.Locale;
 import java.util.Optional;
 
 import javax.servlet.http.HttpServletRequest;
@@ -114,44 +112,52 @@ public class SingleModelMessageBodyWriter<T>
 			OutputStream entityStream)
 		throws IOException, WebApplicationException {
 
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-			entityStream, StandardCharsets.UTF_8);
+		SingleModel<T> singleModel = success.getValue();
 
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+		try (PipelineEvent pipelineEvent = PipelineEventUtil.begin(
+				MESSAGE_BODY_WRITE)) {
 
-		SingleModel<T> singleModel = success.getValue();
+			pipelineEvent.setItemCount(1);
+			pipelineEvent.setResourceName(singleModel.getResourceName());
 
-		RequestInfo requestInfo = RequestInfo.create(
-			builder -> builder.httpHeaders(
-				_httpHeaders
-			).httpServletRequest(
-				_httpServletRequest
-			).serverURL(
-				_providerManager.provideMandatory(
-					_httpServletRequest, ServerURL.class)
-			).embedded(
-				_providerManager.provideOptional(
-					_httpServletRequest, Embedded.class
-				).orElse(
-					__ -> false
-				)
-			).fields(
-				_providerManager.provideOptional(
-					_httpServletRequest, Fields.class
-				).orElse(
-					__ -> string -> true
-				)
-			).language(
-				_providerManager.provideOptional(
-					_httpServletRequest, Language.class
-				).orElse(
-					Locale::getDefault
-				)
-			).build());
+			if (!pipelineEvent.isEnabled()) {
+				_writeSingleModel(singleModel, httpHeaders, entityStream);
+
+				return;
+			}
+
+			CountingOutputStream countingOutputStream =
+				new CountingOutputStream(entityStream);
+
+			_writeSingleModel(singleModel, httpHeaders, countingOutputStream);
 
-		Optional<SingleModelMessageMapper<T>> optional =
-			_singleModelMessageMapperManager.
-				getSingleModelMessageMapperOptional(_request);
+			pipelineEvent.setByteCount(countingOutputStream.getCount());
+		}
+	}
+
+	private Optional<SingleModel> _getSingleModelOptional(
+		Object identifier, Class<? extends Identifier> identifierClass) {
+
+		return _writerHelper.getSingleModelOptional(
+			identifier, identifierClass, _httpServletRequest);
+	}
+
+	private void _writeSingleModel(
+			SingleModel<T> singleModel,
+			MultivaluedMap<String, Object> httpHeaders,
+			OutputStream outputStream)
+		throws IOException {
+
+		RequestInfo requestInfo = _writerHelper.getRequestInfo(
+			_httpHeaders, _httpServletRequest);
+
+		RequestTrace requestTrace = RequestTrace.getRequestTrace(
+			_httpServletRequest);
+
+		Optional<SingleModelMessageMapper<T>> optional = requestTrace.trace(
+			NEGOTIATION_SPAN,
+			() -> _singleModelMessageMapperManager.
+				getSingleModelMessageMapperOptional(_request));
 
 		SingleModelMessageMapper<T> singleModelMessageMapper =
 			optional.orElseThrow(NotSupportedException::new);
@@ -178,32 +184,15 @@ public class SingleModelMessageBodyWriter<T>
 			CONTENT_TYPE,
 			Collections.singletonList(singleModelMessageMapper.getMediaType()));
 
-		Optional<String> resultOptional = singleModelWriter.write();
-
-		resultOptional.ifPresent(printWriter::write);
+		try (Span span = requestTrace.startSpan(SERIALIZATION_SPAN)) {
+			Optional<JsonObject> jsonObjectOptional =
+				singleModelWriter.writeJsonObject();
 
-		printWriter.close();
-	}
-
-	private Optional<SingleModel> _getSingleModelOptional(
-		Object identifier, Class<? extends Identifier> identifierClass) {
-
-		Optional<String> nameOptional = _nameManager.getNameOptional(
-			identifierClass.getName());
-
-		return nameOptional.flatMap(
-			_itemRouterManager::getItemRoutesOptional
-		).flatMap(
-			ItemRoutes::getItemFunctionOptional
-		).map(
-			function -> function.apply(_httpServletRequest)
-		).map(
-			function -> function.apply(identifier)
-		).flatMap(
-			Try::toOptional
-		).map(
-			Unsafe::unsafeCast
-		);
+			if (jsonObjectOptional.isPresent()) {
+				singleModelMessageMapper.serialize(
+					jsonObjectOptional.get(), outputStream);
+			}
+		}
 	}
 
 	@Context
@@ -215,18 +204,12 @@ public class SingleModelMessageBodyWriter<T>
 	@Reference
 	private IdentifierClassManager _identifierClassManager;
 
-	@Reference
-	private ItemRouterManager _itemRouterManager;
-
 	@Reference
 	private NameManager _nameManager;
 
 	@Reference
 	private PathIdentifierMapperManager _pathIdentifierMapperManager;
 
-	@Reference
-	private ProviderManager _providerManager;
-
 	@Reference
 	private RepresentableManager _representableManager;
 
@@ -236,4 +219,7 @@ public class SingleModelMessageBodyWriter<T>
 	@Reference
 	private SingleModelMessageMapperManager _singleModelMessageMapperManager;
 
+	@Reference
+	private WriterHelper _writerHelper;
+
 }
\ No newline at end of file
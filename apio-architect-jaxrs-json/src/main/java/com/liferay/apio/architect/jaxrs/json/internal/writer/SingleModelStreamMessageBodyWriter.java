@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.writer;
+
+import static com.liferay.apio.architect.unsafe.Unsafe.unsafeCast;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.jaxrs.json.internal.util.WriterHelper;
+import com.liferay.apio.architect.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.single.model.SingleModelStream;
+import com.liferay.apio.architect.wiring.osgi.manager.PathIdentifierMapperManager;
+import com.liferay.apio.architect.wiring.osgi.manager.message.json.SingleModelMessageMapperManager;
+import com.liferay.apio.architect.wiring.osgi.manager.representable.NameManager;
+import com.liferay.apio.architect.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.wiring.osgi.util.GenericUtil;
+import com.liferay.apio.architect.writer.SingleModelWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.InternalServerErrorException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Writes single model streams as newline-delimited JSON. Each model is
+ * rendered by the plain JSON {@link SingleModelMessageMapper} and written to
+ * the response as soon as it's obtained, so memory usage doesn't depend on the
+ * collection's size.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true,
+	property = "liferay.apio.architect.message.body.writer=true"
+)
+@Provider
+public class SingleModelStreamMessageBodyWriter<T>
+	implements MessageBodyWriter<Try.Success<SingleModelStream<T>>> {
+
+	@Override
+	public long getSize(
+		Try.Success<SingleModelStream<T>> success, Class<?> clazz,
+		Type genericType, Annotation[] annotations, MediaType mediaType) {
+
+		return -1;
+	}
+
+	@Override
+	public boolean isWriteable(
+		Class<?> clazz, Type genericType, Annotation[] annotations,
+		MediaType mediaType) {
+
+		Try<Class<Object>> classTry =
+			GenericUtil.getFirstGenericTypeArgumentFromTypeTry(
+				genericType, Try.class);
+
+		return classTry.filter(
+			SingleModelStream.class::equals
+		).isSuccess();
+	}
+
+	@Override
+	public void writeTo(
+			Try.Success<SingleModelStream<T>> success, Class<?> clazz,
+			Type genericType, Annotation[] annotations, MediaType mediaType,
+			MultivaluedMap<String, Object> httpHeaders,
+			OutputStream entityStream)
+		throws IOException, WebApplicationException {
+
+		try (SingleModelStream<T> singleModelStream = success.getValue()) {
+			Optional<SingleModelMessageMapper<T>> optional =
+				_singleModelMessageMapperManager.
+					getSingleModelMessageMapperOptional(APPLICATION_JSON_TYPE);
+
+			SingleModelMessageMapper<T> singleModelMessageMapper =
+				optional.orElseThrow(
+					() -> new InternalServerErrorException(
+						"No plain JSON single model message mapper is " +
+							"available"));
+
+			RequestInfo requestInfo = _writerHelper.getRequestInfo(
+				_httpHeaders, _httpServletRequest);
+
+			httpHeaders.put(
+				CONTENT_TYPE, Collections.singletonList(_NDJSON_MEDIA_TYPE));
+
+			Writer writer = new BufferedWriter(
+				new OutputStreamWriter(entityStream, StandardCharsets.UTF_8));
+
+			singleModelStream.forEach(
+				singleModel -> _writeLine(
+					writer, singleModel, singleModelMessageMapper,
+					requestInfo));
+
+			writer.flush();
+		}
+		catch (UncheckedIOException uioe) {
+			throw uioe.getCause();
+		}
+	}
+
+	private Optional<SingleModel> _getSingleModelOptional(
+		Object identifier, Class<? extends Identifier> identifierClass) {
+
+		return _writerHelper.getSingleModelOptional(
+			identifier, identifierClass, _httpServletRequest);
+	}
+
+	private void _writeLine(
+		Writer writer, SingleModel<T> singleModel,
+		SingleModelMessageMapper<T> singleModelMessageMapper,
+		RequestInfo requestInfo) {
+
+		SingleModelWriter<T> singleModelWriter = SingleModelWriter.create(
+			builder -> builder.singleModel(
+				singleModel
+			).modelMessageMapper(
+				singleModelMessageMapper
+			).pathFunction(
+				_pathIdentifierMapperManager::mapToPath
+			).resourceNameFunction(
+				_nameManager::getNameOptional
+			).representorFunction(
+				name -> unsafeCast(
+					_representableManager.getRepresentorOptional(name))
+			).requestInfo(
+				requestInfo
+			).singleModelFunction(
+				this::_getSingleModelOptional
+			).build());
+
+		Optional<String> optional = singleModelWriter.write();
+
+		try {
+			if (optional.isPresent()) {
+				writer.write(optional.get());
+				writer.write('\n');
+			}
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+	}
+
+	private static final String _NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+	@Context
+	private HttpHeaders _httpHeaders;
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	@Reference
+	private NameManager _nameManager;
+
+	@Reference
+	private PathIdentifierMapperManager _pathIdentifierMapperManager;
+
+	@Reference
+	private RepresentableManager _representableManager;
+
+	@Reference
+	private SingleModelMessageMapperManager _singleModelMessageMapperManager;
+
+	@Reference
+	private WriterHelper _writerHelper;
+
+}
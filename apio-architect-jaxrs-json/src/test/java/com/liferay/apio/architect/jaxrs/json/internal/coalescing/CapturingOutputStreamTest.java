@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.coalescing;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CapturingOutputStreamTest {
+
+	@Test
+	public void testBytesAboveMaxSizeAreWrittenButNotCaptured()
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		CapturingOutputStream capturingOutputStream =
+			new CapturingOutputStream(byteArrayOutputStream, 4);
+
+		capturingOutputStream.write(new byte[] {1, 2, 3}, 0, 3);
+		capturingOutputStream.write(4);
+		capturingOutputStream.write(5);
+
+		assertThat(byteArrayOutputStream.size(), is(5));
+		assertThat(
+			capturingOutputStream.getBytesOptional(), is(Optional.empty()));
+	}
+
+	@Test
+	public void testBytesUpToMaxSizeAreCaptured() throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		CapturingOutputStream capturingOutputStream =
+			new CapturingOutputStream(byteArrayOutputStream, 4);
+
+		capturingOutputStream.write(new byte[] {0, 1, 2, 3}, 1, 3);
+		capturingOutputStream.write(4);
+
+		byte[] bytes = capturingOutputStream.getBytesOptional().get();
+
+		assertThat(bytes, is(new byte[] {1, 2, 3, 4}));
+		assertThat(byteArrayOutputStream.toByteArray(), is(bytes));
+	}
+
+}
\ No newline at end of file
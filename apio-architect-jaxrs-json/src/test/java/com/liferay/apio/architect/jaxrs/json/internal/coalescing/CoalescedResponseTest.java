@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.coalescing;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CoalescedResponseTest {
+
+	@Test
+	public void testEncodingAndConnectionHeadersAreDropped() {
+		Map<String, List<Object>> headers = new HashMap<>();
+
+		headers.put("content-length", Collections.singletonList(3));
+		headers.put("Content-Type", Collections.singletonList("text/plain"));
+		headers.put("Set-Cookie", Collections.singletonList("a=b"));
+		headers.put("Transfer-Encoding", Collections.singletonList("chunked"));
+
+		CoalescedResponse coalescedResponse = new CoalescedResponse(
+			new byte[] {1, 2, 3}, "application/json", headers);
+
+		assertThat(coalescedResponse.headers.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testResponseHeadersAreKept() {
+		Map<String, List<Object>> headers = new HashMap<>();
+
+		headers.put("Retry-After", Collections.singletonList(1));
+		headers.put("Vary", Arrays.asList("Accept", "Accept-Language"));
+
+		CoalescedResponse coalescedResponse = new CoalescedResponse(
+			new byte[] {1, 2, 3}, "application/json", headers);
+
+		headers.clear();
+
+		assertThat(
+			coalescedResponse.headers.get("Retry-After"),
+			is(Collections.singletonList(1)));
+		assertThat(
+			coalescedResponse.headers.get("Vary"),
+			is(Arrays.asList("Accept", "Accept-Language")));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.coalescing;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class SingleFlightTest {
+
+	@Test
+	public void testAbortedFlightReturnsEmptyToWaitingCallers() {
+		SingleFlight singleFlight = new SingleFlight(_TIMEOUT_NANOS);
+
+		Flight flight = singleFlight.startFlight("key").get();
+
+		singleFlight.abort(flight);
+
+		assertThat(flight.await(_TIMEOUT_NANOS), is(Optional.empty()));
+		assertThat(singleFlight.getFlightOptional("key"), is(Optional.empty()));
+	}
+
+	@Test
+	public void testExpiredFlightCanBeReplaced() {
+		SingleFlight singleFlight = new SingleFlight(0);
+
+		Flight flight = singleFlight.startFlight("key").get();
+
+		Optional<Flight> optional = singleFlight.startFlight("key");
+
+		assertThat(optional.isPresent(), is(true));
+		assertThat(optional.get() == flight, is(false));
+		assertThat(flight.await(_TIMEOUT_NANOS), is(Optional.empty()));
+	}
+
+	@Test
+	public void testLandedFlightIsSharedWithWaitingCallers() {
+		SingleFlight singleFlight = new SingleFlight(_TIMEOUT_NANOS);
+
+		Flight flight = singleFlight.startFlight("key").get();
+
+		assertThat(singleFlight.startFlight("key"), is(Optional.empty()));
+
+		Flight waitingFlight = singleFlight.getFlightOptional("key").get();
+
+		CompletableFuture<Optional<CoalescedResponse>> completableFuture =
+			CompletableFuture.supplyAsync(
+				() -> waitingFlight.await(_TIMEOUT_NANOS));
+
+		CoalescedResponse coalescedResponse = new CoalescedResponse(
+			new byte[] {1, 2, 3}, "application/json", Collections.emptyMap());
+
+		singleFlight.land(flight, coalescedResponse);
+
+		Optional<CoalescedResponse> optional = completableFuture.join();
+
+		assertThat(optional.get() == coalescedResponse, is(true));
+		assertThat(singleFlight.getFlightOptional("key"), is(Optional.empty()));
+		assertThat(singleFlight.startFlight("key").isPresent(), is(true));
+	}
+
+	@Test
+	public void testWaitingCallerGivesUpAfterTimeout() {
+		SingleFlight singleFlight = new SingleFlight(_TIMEOUT_NANOS);
+
+		Flight flight = singleFlight.startFlight("key").get();
+
+		Optional<CoalescedResponse> optional = flight.await(
+			TimeUnit.MILLISECONDS.toNanos(10));
+
+		assertThat(optional, is(Optional.empty()));
+	}
+
+	private static final long _TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+}
\ No newline at end of file
@@ -0,0 +1,286 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.compression;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CompressingOutputStreamTest {
+
+	@Test
+	public void testBodiesAboveMinSizeAreCompressedWithDeflate()
+		throws IOException {
+
+		byte[] bytes = _getBody(5000);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		_write(
+			byteArrayOutputStream, () -> Optional.of(ContentEncoding.DEFLATE),
+			bytes);
+
+		byte[] inflated = _read(
+			new InflaterInputStream(
+				new ByteArrayInputStream(
+					byteArrayOutputStream.toByteArray())));
+
+		assertThat(inflated, is(bytes));
+	}
+
+	@Test
+	public void testBodiesAboveMinSizeAreCompressedWithGZIP()
+		throws IOException {
+
+		byte[] bytes = _getBody(5000);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		_write(
+			byteArrayOutputStream, () -> Optional.of(ContentEncoding.GZIP),
+			bytes);
+
+		assertThat(byteArrayOutputStream.size() < bytes.length, is(true));
+
+		byte[] inflated = _read(
+			new GZIPInputStream(
+				new ByteArrayInputStream(
+					byteArrayOutputStream.toByteArray())));
+
+		assertThat(inflated, is(bytes));
+	}
+
+	@Test
+	public void testBodiesBelowMinSizeAreNotCompressed() throws IOException {
+		byte[] bytes = _getBody(100);
+
+		AtomicInteger calls = new AtomicInteger();
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		_write(
+			byteArrayOutputStream,
+			() -> {
+				calls.incrementAndGet();
+
+				return Optional.of(ContentEncoding.GZIP);
+			},
+			bytes);
+
+		assertThat(calls.get(), is(0));
+		assertThat(byteArrayOutputStream.toByteArray(), is(bytes));
+	}
+
+	@Test
+	public void testBodiesAreNotCompressedIfSupplierReturnsEmpty()
+		throws IOException {
+
+		byte[] bytes = _getBody(5000);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		_write(byteArrayOutputStream, Optional::empty, bytes);
+
+		assertThat(byteArrayOutputStream.toByteArray(), is(bytes));
+	}
+
+	@Test
+	public void testFlushForcesCompressedBytesOut() throws Exception {
+		byte[] bytes = _getBody(5000);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		CompressingOutputStream compressingOutputStream =
+			new CompressingOutputStream(
+				byteArrayOutputStream, 1024,
+				() -> Optional.of(ContentEncoding.DEFLATE),
+				new DeflaterPool(6, 1));
+
+		compressingOutputStream.write(bytes);
+
+		compressingOutputStream.flush();
+
+		assertThat(
+			_inflate(byteArrayOutputStream.toByteArray(), bytes.length),
+			is(bytes));
+
+		compressingOutputStream.close();
+	}
+
+	@Test
+	public void testFlushWhileBufferingStartsCompressing() throws Exception {
+		byte[] bytes = _getBody(100);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		CompressingOutputStream compressingOutputStream =
+			new CompressingOutputStream(
+				byteArrayOutputStream, 1024,
+				() -> Optional.of(ContentEncoding.DEFLATE),
+				new DeflaterPool(6, 1));
+
+		compressingOutputStream.flush();
+
+		assertThat(byteArrayOutputStream.size(), is(0));
+
+		compressingOutputStream.write(bytes);
+
+		compressingOutputStream.flush();
+
+		assertThat(
+			_inflate(byteArrayOutputStream.toByteArray(), bytes.length),
+			is(bytes));
+
+		compressingOutputStream.write(bytes);
+
+		compressingOutputStream.close();
+
+		byte[] inflated = _read(
+			new InflaterInputStream(
+				new ByteArrayInputStream(
+					byteArrayOutputStream.toByteArray())));
+
+		assertThat(inflated.length, is(bytes.length * 2));
+	}
+
+	@Test
+	public void testPooledDeflatersAreReused() throws IOException {
+		DeflaterPool deflaterPool = new DeflaterPool(6, 1);
+
+		for (int i = 0; i < 3; i++) {
+			byte[] bytes = _getBody(3000 + i);
+
+			ByteArrayOutputStream byteArrayOutputStream =
+				new ByteArrayOutputStream();
+
+			CompressingOutputStream compressingOutputStream =
+				new CompressingOutputStream(
+					byteArrayOutputStream, 1024,
+					() -> Optional.of(ContentEncoding.GZIP), deflaterPool);
+
+			compressingOutputStream.write(bytes);
+
+			compressingOutputStream.close();
+
+			byte[] inflated = _read(
+				new GZIPInputStream(
+					new ByteArrayInputStream(
+						byteArrayOutputStream.toByteArray())));
+
+			assertThat(inflated, is(bytes));
+		}
+	}
+
+	private static byte[] _getBody(int size) {
+		StringBuilder sb = new StringBuilder();
+
+		while (sb.length() < size) {
+			sb.append("{\"@id\":\"http://localhost/p/people/");
+			sb.append(sb.length());
+			sb.append("\"},");
+		}
+
+		String body = sb.substring(0, size);
+
+		return body.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] _inflate(byte[] bytes, int length)
+		throws DataFormatException {
+
+		Inflater inflater = new Inflater();
+
+		inflater.setInput(bytes);
+
+		byte[] inflated = new byte[length];
+
+		int count = 0;
+
+		while (count < length) {
+			int inflatedCount = inflater.inflate(
+				inflated, count, length - count);
+
+			if (inflatedCount == 0) {
+				break;
+			}
+
+			count += inflatedCount;
+		}
+
+		inflater.end();
+
+		return Arrays.copyOf(inflated, count);
+	}
+
+	private static byte[] _read(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		byte[] buffer = new byte[1024];
+
+		int length;
+
+		while ((length = inputStream.read(buffer)) != -1) {
+			byteArrayOutputStream.write(buffer, 0, length);
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private static void _write(
+			ByteArrayOutputStream byteArrayOutputStream,
+			Supplier<Optional<ContentEncoding>> supplier, byte[] bytes)
+		throws IOException {
+
+		CompressingOutputStream compressingOutputStream =
+			new CompressingOutputStream(
+				byteArrayOutputStream, 1024, supplier, new DeflaterPool(6, 4));
+
+		for (int i = 0; i < bytes.length; i += 333) {
+			int length = Math.min(333, bytes.length - i);
+
+			compressingOutputStream.write(bytes, i, length);
+		}
+
+		compressingOutputStream.close();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.jaxrs.json.internal.writer;
+
+import static com.liferay.apio.architect.test.util.form.MockFormCreator.createForm;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.form.Form;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RenderedFormCacheTest {
+
+	@Test
+	public void testCacheIsClearedWhenFull() {
+		RenderedFormCache renderedFormCache = new RenderedFormCache();
+
+		Form form = createForm("a", "b");
+
+		_render(renderedFormCache, form, "http://0");
+
+		for (int i = 1; i < 1024; i++) {
+			_render(renderedFormCache, form, "http://" + i);
+		}
+
+		_render(renderedFormCache, form, "http://0");
+
+		assertThat(_renders.get(), is(1024));
+
+		_render(renderedFormCache, form, "http://1024");
+		_render(renderedFormCache, form, "http://0");
+
+		assertThat(_renders.get(), is(1026));
+	}
+
+	@Test
+	public void testFormIsRenderedAgainIfItsInstanceChanges() {
+		RenderedFormCache renderedFormCache = new RenderedFormCache();
+
+		_render(renderedFormCache, createForm("a", "b"), "http://localhost");
+
+		String json = _render(
+			renderedFormCache, createForm("a", "b"), "http://localhost");
+
+		assertThat(json, is("render 2"));
+	}
+
+	@Test
+	public void testFormIsRenderedOncePerFormLocaleMediaTypeAndServerURL() {
+		RenderedFormCache renderedFormCache = new RenderedFormCache();
+
+		Form form = createForm("a", "b");
+
+		String json = _render(
+			renderedFormCache, form, Locale.ENGLISH, "application/json",
+			"http://localhost");
+
+		assertThat(json, is("render 1"));
+
+		json = _render(
+			renderedFormCache, form, Locale.ENGLISH, "application/json",
+			"http://localhost");
+
+		assertThat(json, is("render 1"));
+
+		_render(
+			renderedFormCache, createForm("a", "c"), Locale.ENGLISH,
+			"application/json", "http://localhost");
+		_render(
+			renderedFormCache, form, Locale.GERMAN, "application/json",
+			"http://localhost");
+		_render(
+			renderedFormCache, form, Locale.ENGLISH, "application/ld+json",
+			"http://localhost");
+		_render(
+			renderedFormCache, form, Locale.ENGLISH, "application/json",
+			"http://remote");
+
+		assertThat(_renders.get(), is(5));
+	}
+
+	private String _render(
+		RenderedFormCache renderedFormCache, Form form, Locale locale,
+		String mediaType, String serverURL) {
+
+		Supplier<String> supplier =
+			() -> "render " + _renders.incrementAndGet();
+
+		return renderedFormCache.getRenderedForm(
+			form, locale, mediaType, serverURL, supplier);
+	}
+
+	private String _render(
+		RenderedFormCache renderedFormCache, Form form, String serverURL) {
+
+		return _render(
+			renderedFormCache, form, Locale.ENGLISH, "application/json",
+			serverURL);
+	}
+
+	private final AtomicInteger _renders = new AtomicInteger();
+
+}
\ No newline at end of file
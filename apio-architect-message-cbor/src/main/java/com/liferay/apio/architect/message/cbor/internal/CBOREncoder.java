@@ -0,0 +1,256 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.message.cbor.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Encodes JSON elements in CBOR (RFC 7049). Every JSON value has a direct
+ * counterpart in CBOR, so the encoding doesn't lose information. Integral
+ * numbers are written with the smallest possible integer encoding, and
+ * decimal numbers as single precision floats when no precision is lost.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class CBOREncoder {
+
+	/**
+	 * Writes the CBOR representation of a JSON element to an output stream.
+	 *
+	 * @param jsonElement the JSON element
+	 * @param outputStream the output stream
+	 */
+	public static void encode(
+			JsonElement jsonElement, OutputStream outputStream)
+		throws IOException {
+
+		DataOutputStream dataOutputStream = new DataOutputStream(
+			new BufferedOutputStream(outputStream));
+
+		_encode(jsonElement, dataOutputStream);
+
+		dataOutputStream.flush();
+	}
+
+	private static void _encode(
+			JsonElement jsonElement, DataOutputStream dataOutputStream)
+		throws IOException {
+
+		if (jsonElement.isJsonObject()) {
+			JsonObject jsonObject = jsonElement.getAsJsonObject();
+
+			Set<Map.Entry<String, JsonElement>> entries = jsonObject.entrySet();
+
+			_encodeHead(_MAJOR_TYPE_MAP, entries.size(), dataOutputStream);
+
+			for (Map.Entry<String, JsonElement> entry : entries) {
+				_encodeString(entry.getKey(), dataOutputStream);
+				_encode(entry.getValue(), dataOutputStream);
+			}
+		}
+		else if (jsonElement.isJsonArray()) {
+			JsonArray jsonArray = jsonElement.getAsJsonArray();
+
+			_encodeHead(_MAJOR_TYPE_ARRAY, jsonArray.size(), dataOutputStream);
+
+			for (JsonElement element : jsonArray) {
+				_encode(element, dataOutputStream);
+			}
+		}
+		else if (jsonElement.isJsonPrimitive()) {
+			_encodePrimitive(
+				jsonElement.getAsJsonPrimitive(), dataOutputStream);
+		}
+		else {
+			dataOutputStream.writeByte(_NULL);
+		}
+	}
+
+	private static void _encodeDouble(
+			double value, DataOutputStream dataOutputStream)
+		throws IOException {
+
+		float floatValue = (float)value;
+
+		if ((floatValue == value) || Double.isNaN(value)) {
+			dataOutputStream.writeByte(_SINGLE_PRECISION_FLOAT);
+			dataOutputStream.writeFloat(floatValue);
+		}
+		else {
+			dataOutputStream.writeByte(_DOUBLE_PRECISION_FLOAT);
+			dataOutputStream.writeDouble(value);
+		}
+	}
+
+	private static void _encodeHead(
+			int majorType, long length, DataOutputStream dataOutputStream)
+		throws IOException {
+
+		int initialByte = majorType << 5;
+
+		if (length < 24) {
+			dataOutputStream.writeByte(initialByte | (int)length);
+		}
+		else if (length < 0x100) {
+			dataOutputStream.writeByte(initialByte | 24);
+			dataOutputStream.writeByte((int)length);
+		}
+		else if (length < 0x10000) {
+			dataOutputStream.writeByte(initialByte | 25);
+			dataOutputStream.writeShort((int)length);
+		}
+		else if (length < 0x100000000L) {
+			dataOutputStream.writeByte(initialByte | 26);
+			dataOutputStream.writeInt((int)length);
+		}
+		else {
+			dataOutputStream.writeByte(initialByte | 27);
+			dataOutputStream.writeLong(length);
+		}
+	}
+
+	private static void _encodeLong(
+			long value, DataOutputStream dataOutputStream)
+		throws IOException {
+
+		if (value >= 0) {
+			_encodeHead(_MAJOR_TYPE_UNSIGNED_INTEGER, value, dataOutputStream);
+		}
+		else {
+			_encodeHead(
+				_MAJOR_TYPE_NEGATIVE_INTEGER, -1 - value, dataOutputStream);
+		}
+	}
+
+	private static void _encodeNumber(
+			Number number, DataOutputStream dataOutputStream)
+		throws IOException {
+
+		if ((number instanceof Byte) || (number instanceof Integer) ||
+			(number instanceof Long) || (number instanceof Short)) {
+
+			_encodeLong(number.longValue(), dataOutputStream);
+
+			return;
+		}
+
+		if ((number instanceof Double) || (number instanceof Float)) {
+			_encodeDouble(number.doubleValue(), dataOutputStream);
+
+			return;
+		}
+
+		BigDecimal bigDecimal = new BigDecimal(number.toString());
+
+		if (_isLong(bigDecimal)) {
+			_encodeLong(bigDecimal.longValue(), dataOutputStream);
+		}
+		else {
+			_encodeDouble(bigDecimal.doubleValue(), dataOutputStream);
+		}
+	}
+
+	private static void _encodePrimitive(
+			JsonPrimitive jsonPrimitive, DataOutputStream dataOutputStream)
+		throws IOException {
+
+		if (jsonPrimitive.isBoolean()) {
+			if (jsonPrimitive.getAsBoolean()) {
+				dataOutputStream.writeByte(_TRUE);
+			}
+			else {
+				dataOutputStream.writeByte(_FALSE);
+			}
+		}
+		else if (jsonPrimitive.isNumber()) {
+			_encodeNumber(jsonPrimitive.getAsNumber(), dataOutputStream);
+		}
+		else {
+			_encodeString(jsonPrimitive.getAsString(), dataOutputStream);
+		}
+	}
+
+	private static void _encodeString(
+			String string, DataOutputStream dataOutputStream)
+		throws IOException {
+
+		byte[] bytes = string.getBytes(UTF_8);
+
+		_encodeHead(_MAJOR_TYPE_TEXT_STRING, bytes.length, dataOutputStream);
+
+		dataOutputStream.write(bytes);
+	}
+
+	private static boolean _isLong(BigDecimal bigDecimal) {
+		BigDecimal strippedBigDecimal = bigDecimal.stripTrailingZeros();
+
+		if (strippedBigDecimal.scale() > 0) {
+			return false;
+		}
+
+		BigInteger bigInteger = strippedBigDecimal.toBigInteger();
+
+		if (bigInteger.bitLength() < 64) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private CBOREncoder() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final int _DOUBLE_PRECISION_FLOAT = 0xfb;
+
+	private static final int _FALSE = 0xf4;
+
+	private static final int _MAJOR_TYPE_ARRAY = 4;
+
+	private static final int _MAJOR_TYPE_MAP = 5;
+
+	private static final int _MAJOR_TYPE_NEGATIVE_INTEGER = 1;
+
+	private static final int _MAJOR_TYPE_TEXT_STRING = 3;
+
+	private static final int _MAJOR_TYPE_UNSIGNED_INTEGER = 0;
+
+	private static final int _NULL = 0xf6;
+
+	private static final int _SINGLE_PRECISION_FLOAT = 0xfa;
+
+	private static final int _TRUE = 0xf5;
+
+}
\ No newline at end of file
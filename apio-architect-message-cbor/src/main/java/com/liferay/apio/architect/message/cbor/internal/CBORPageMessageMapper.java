@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.message.cbor.internal;
+
+import com.google.gson.JsonObject;
+
+import com.liferay.apio.architect.message.json.PageMessageMapper;
+import com.liferay.apio.architect.message.json.plain.internal.PlainJSONPageMessageMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Represents collection pages in CBOR (RFC 7049). The message has the same
+ * structure as in plain JSON, so the mapping is inherited from {@link
+ * PlainJSONPageMessageMapper}, but it's serialized with a binary encoding that
+ * is smaller and cheaper to parse.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true, service = PageMessageMapper.class)
+public class CBORPageMessageMapper<T> extends PlainJSONPageMessageMapper<T> {
+
+	@Override
+	public String getMediaType() {
+		return "application/cbor";
+	}
+
+	@Override
+	public void serialize(JsonObject jsonObject, OutputStream outputStream)
+		throws IOException {
+
+		CBOREncoder.encode(jsonObject, outputStream);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.message.cbor.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CBOREncoderTest {
+
+	@Test
+	public void testEncodeArray() throws IOException {
+		JsonArray jsonArray = new JsonArray();
+
+		jsonArray.add(1);
+		jsonArray.add(2);
+		jsonArray.add(3);
+
+		assertThat(_encode(jsonArray), is("83010203"));
+		assertThat(_encode(new JsonArray()), is("80"));
+	}
+
+	@Test
+	public void testEncodeBoolean() throws IOException {
+		assertThat(_encode(new JsonPrimitive(false)), is("f4"));
+		assertThat(_encode(new JsonPrimitive(true)), is("f5"));
+	}
+
+	@Test
+	public void testEncodeDecimalNumber() throws IOException {
+		assertThat(_encode(new JsonPrimitive(1.5)), is("fa3fc00000"));
+		assertThat(_encode(new JsonPrimitive(1.1)), is("fb3ff199999999999a"));
+		assertThat(_encode(_parse("-4.1")), is("fbc010666666666666"));
+	}
+
+	@Test
+	public void testEncodeIntegralNumber() throws IOException {
+		assertThat(_encode(new JsonPrimitive(0)), is("00"));
+		assertThat(_encode(new JsonPrimitive(23)), is("17"));
+		assertThat(_encode(new JsonPrimitive(24)), is("1818"));
+		assertThat(_encode(new JsonPrimitive(1000)), is("1903e8"));
+		assertThat(_encode(new JsonPrimitive(1000000)), is("1a000f4240"));
+		assertThat(
+			_encode(new JsonPrimitive(1000000000000L)),
+			is("1b000000e8d4a51000"));
+		assertThat(_encode(new JsonPrimitive(-1)), is("20"));
+		assertThat(_encode(new JsonPrimitive(-1000)), is("3903e7"));
+		assertThat(_encode(_parse("100")), is("1864"));
+		assertThat(_encode(_parse("1.0")), is("01"));
+	}
+
+	@Test
+	public void testEncodeNull() throws IOException {
+		assertThat(_encode(JsonNull.INSTANCE), is("f6"));
+	}
+
+	@Test
+	public void testEncodeObject() throws IOException {
+		JsonObject jsonObject = new JsonObject();
+
+		jsonObject.addProperty("a", 1);
+
+		JsonArray jsonArray = new JsonArray();
+
+		jsonArray.add(2);
+		jsonArray.add(3);
+
+		jsonObject.add("b", jsonArray);
+
+		assertThat(_encode(jsonObject), is("a26161016162820203"));
+		assertThat(_encode(new JsonObject()), is("a0"));
+	}
+
+	@Test
+	public void testEncodeString() throws IOException {
+		assertThat(_encode(new JsonPrimitive("")), is("60"));
+		assertThat(_encode(new JsonPrimitive("a")), is("6161"));
+		assertThat(_encode(new JsonPrimitive("IETF")), is("6449455446"));
+		assertThat(_encode(new JsonPrimitive("ü")), is("62c3bc"));
+		assertThat(
+			_encode(new JsonPrimitive("水")), is("63e6b0b4"));
+	}
+
+	private String _encode(JsonElement jsonElement) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		CBOREncoder.encode(jsonElement, byteArrayOutputStream);
+
+		String hex = DatatypeConverter.printHexBinary(
+			byteArrayOutputStream.toByteArray());
+
+		return hex.toLowerCase();
+	}
+
+	private JsonElement _parse(String json) {
+		JsonParser jsonParser = new JsonParser();
+
+		return jsonParser.parse(json);
+	}
+
+}
\ No newline at end of file
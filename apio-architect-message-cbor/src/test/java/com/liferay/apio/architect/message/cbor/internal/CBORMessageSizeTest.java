@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.message.cbor.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import com.google.gson.JsonObject;
+
+import com.liferay.apio.architect.message.json.MessageMapper;
+import com.liferay.apio.architect.message.json.ld.internal.JSONLDPageMessageMapper;
+import com.liferay.apio.architect.message.json.ld.internal.JSONLDSingleModelMessageMapper;
+import com.liferay.apio.architect.test.util.internal.writer.MockPageWriter;
+import com.liferay.apio.architect.test.util.internal.writer.MockSingleModelWriter;
+import com.liferay.apio.architect.test.util.model.RootModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.ws.rs.core.HttpHeaders;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * Compares the size of the CBOR messages with the JSON-LD ones, for the same
+ * {@link RootModel} hierarchy used in the message mapper tests. Serialization
+ * speed is measured by {@code MessageSerializationBenchmark}, in {@code
+ * apio-architect-benchmarks}.
+ *
+ * @author Alejandro Hernández
+ */
+public class CBORMessageSizeTest {
+
+	@Test
+	public void testCBORPageIsSmallerThanJSONLD() throws IOException {
+		CBORPageMessageMapper<RootModel> cborPageMessageMapper =
+			new CBORPageMessageMapper<>();
+		JSONLDPageMessageMapper<RootModel> jsonLDPageMessageMapper =
+			new JSONLDPageMessageMapper<>();
+
+		byte[] cbor = _serialize(
+			cborPageMessageMapper,
+			MockPageWriter.write(_httpHeaders, cborPageMessageMapper));
+		byte[] jsonLD = _serialize(
+			jsonLDPageMessageMapper,
+			MockPageWriter.write(_httpHeaders, jsonLDPageMessageMapper));
+
+		assertThat(cbor.length, lessThan(jsonLD.length));
+	}
+
+	@Test
+	public void testCBORSingleModelIsSmallerThanJSONLD() throws IOException {
+		CBORSingleModelMessageMapper<RootModel> cborSingleModelMessageMapper =
+			new CBORSingleModelMessageMapper<>();
+		JSONLDSingleModelMessageMapper<RootModel>
+			jsonLDSingleModelMessageMapper =
+				new JSONLDSingleModelMessageMapper<>();
+
+		byte[] cbor = _serialize(
+			cborSingleModelMessageMapper,
+			MockSingleModelWriter.write(
+				_httpHeaders, cborSingleModelMessageMapper));
+		byte[] jsonLD = _serialize(
+			jsonLDSingleModelMessageMapper,
+			MockSingleModelWriter.write(
+				_httpHeaders, jsonLDSingleModelMessageMapper));
+
+		assertThat(cbor.length, lessThan(jsonLD.length));
+	}
+
+	private static byte[] _serialize(
+			MessageMapper<?> messageMapper, JsonObject jsonObject)
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		messageMapper.serialize(jsonObject, byteArrayOutputStream);
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private static final HttpHeaders _httpHeaders = Mockito.mock(
+		HttpHeaders.class);
+
+}
\ No newline at end of file
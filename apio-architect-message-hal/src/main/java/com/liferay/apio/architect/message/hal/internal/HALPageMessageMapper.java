@@ -73,6 +73,17 @@ public class HALPageMessageMapper<T> implements PageMessageMapper<T> {
 		);
 	}
 
+	@Override
+	public void mapEstimatedItemTotalCount(
+		JSONObjectBuilder jsonObjectBuilder, int estimatedTotalCount) {
+
+		jsonObjectBuilder.field(
+			"estimatedTotal"
+		).numberValue(
+			estimatedTotalCount
+		);
+	}
+
 	@Override
 	public void mapFirstPageURL(
 		JSONObjectBuilder jsonObjectBuilder, String url) {
@@ -67,6 +67,29 @@ public class HALSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapDoubleField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).numberValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllNumbers(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedResourceBooleanField(
 		JSONObjectBuilder jsonObjectBuilder,
@@ -93,29 +116,38 @@ public class HALSingleModelMessageMapper<T>
 	}
 
 	@Override
-	public void mapEmbeddedResourceLink(
+	public void mapEmbeddedResourceDoubleField(
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String fieldName,
-		String url) {
+		double value) {
 
-		Optional<String> optional = embeddedPathElements.lastOptional();
+		_mapEmbeddedResourceField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			builder -> builder.numberValue(value));
+	}
 
-		String head = embeddedPathElements.head();
+	@Override
+	public void mapEmbeddedResourceDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double[] value) {
 
-		Stream<String> middleStream = embeddedPathElements.middleStream();
+		_mapEmbeddedResourceField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			builder -> builder.arrayValue(
+			).addAllNumbers(
+				value
+			));
+	}
 
-		String[] middle = middleStream.toArray(String[]::new);
+	@Override
+	public void mapEmbeddedResourceLink(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		String url) {
 
-		jsonObjectBuilder.field(
-			"_embedded"
-		).ifElseCondition(
-			optional.isPresent(),
-			builder -> builder.nestedSuffixedField(
-				"_embedded", head, middle
-			).field(
-				optional.get()
-			),
-			builder -> builder.field(head)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).nestedField(
 			"_links", fieldName, "href"
 		).stringValue(
@@ -123,6 +155,31 @@ public class HALSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapEmbeddedResourceLongField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long value) {
+
+		_mapEmbeddedResourceField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			builder -> builder.numberValue(value));
+	}
+
+	@Override
+	public void mapEmbeddedResourceLongListField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long[] value) {
+
+		_mapEmbeddedResourceField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			builder -> builder.arrayValue(
+			).addAllNumbers(
+				value
+			));
+	}
+
 	@Override
 	public void mapEmbeddedResourceNumberField(
 		JSONObjectBuilder jsonObjectBuilder,
@@ -242,6 +299,29 @@ public class HALSingleModelMessageMapper<T>
 		}
 	}
 
+	@Override
+	public void mapLongField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).numberValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapLongListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllNumbers(
+			value
+		);
+	}
+
 	@Override
 	public void mapNumberField(
 		JSONObjectBuilder jsonObjectBuilder, String fieldName, Number value) {
@@ -295,20 +375,17 @@ public class HALSingleModelMessageMapper<T>
 		);
 	}
 
-	private void _mapEmbeddedResourceField(
+	private JSONObjectBuilder.FieldStep _getEmbeddedFieldStep(
 		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		Consumer<JSONObjectBuilder.FieldStep> consumer) {
+		FunctionalList<String> embeddedPathElements) {
 
 		Optional<String> optional = embeddedPathElements.lastOptional();
 
 		String head = embeddedPathElements.head();
 
-		Stream<String> middleStream = embeddedPathElements.middleStream();
+		String[] middle = embeddedPathElements.middleArray(String[]::new);
 
-		String[] middle = middleStream.toArray(String[]::new);
-
-		JSONObjectBuilder.FieldStep builderStep = jsonObjectBuilder.field(
+		return jsonObjectBuilder.field(
 			"_embedded"
 		).ifElseCondition(
 			optional.isPresent(),
@@ -318,11 +395,27 @@ public class HALSingleModelMessageMapper<T>
 				optional.get()
 			),
 			builder -> builder.field(head)
-		).field(
-			fieldName
 		);
+	}
+
+	private JSONObjectBuilder _getEmbeddedJSONObjectBuilder(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements) {
+
+		return jsonObjectBuilder.nestedObject(
+			embeddedPathElements, this::_getEmbeddedFieldStep);
+	}
+
+	private void _mapEmbeddedResourceField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		Consumer<JSONObjectBuilder.FieldStep> consumer) {
+
+		JSONObjectBuilder embeddedJSONObjectBuilder =
+			_getEmbeddedJSONObjectBuilder(
+				jsonObjectBuilder, embeddedPathElements);
 
-		consumer.accept(builderStep);
+		consumer.accept(embeddedJSONObjectBuilder.field(fieldName));
 	}
 
 }
\ No newline at end of file
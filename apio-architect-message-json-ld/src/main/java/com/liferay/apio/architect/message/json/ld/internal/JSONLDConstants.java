@@ -36,6 +36,14 @@ public class JSONLDConstants {
 	 */
 	public static final String FIELD_NAME_DESCRIPTION = "description";
 
+	/**
+	 * The {@code estimatedTotalItems} property. Unlike Hydra's {@code
+	 * totalItems}, it contains an estimate of the number of items in the
+	 * collection.
+	 */
+	public static final String FIELD_NAME_ESTIMATED_TOTAL_ITEMS =
+		"estimatedTotalItems";
+
 	/**
 	 * The Hydra <a href="https://www.w3.org/ns/hydra/core#expects">expects </a>
 	 * property.
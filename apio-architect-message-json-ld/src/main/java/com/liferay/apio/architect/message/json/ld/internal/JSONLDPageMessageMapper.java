@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.message.json.ld.internal;
 
 import static com.liferay.apio.architect.message.json.ld.internal.JSONLDConstants.FIELD_NAME_CONTEXT;
+import static com.liferay.apio.architect.message.json.ld.internal.JSONLDConstants.FIELD_NAME_ESTIMATED_TOTAL_ITEMS;
 import static com.liferay.apio.architect.message.json.ld.internal.JSONLDConstants.FIELD_NAME_FIRST;
 import static com.liferay.apio.architect.message.json.ld.internal.JSONLDConstants.FIELD_NAME_ID;
 import static com.liferay.apio.architect.message.json.ld.internal.JSONLDConstants.FIELD_NAME_LAST;
@@ -52,6 +53,12 @@ import org.osgi.service.component.annotations.Component;
  * href="https://www.hydra-cg.com/">Hydra </a> .
  * </p>
  *
+ * <p>
+ * Estimated total counts are mapped to {@code estimatedTotalItems} instead of
+ * {@code totalItems}, because Hydra's {@code totalItems} property represents
+ * the exact number of items in the collection.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -89,6 +96,17 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 		);
 	}
 
+	@Override
+	public void mapEstimatedItemTotalCount(
+		JSONObjectBuilder jsonObjectBuilder, int estimatedTotalCount) {
+
+		jsonObjectBuilder.field(
+			FIELD_NAME_ESTIMATED_TOTAL_ITEMS
+		).numberValue(
+			estimatedTotalCount
+		);
+	}
+
 	@Override
 	public void mapFirstPageURL(
 		JSONObjectBuilder jsonObjectBuilder, String url) {
@@ -35,7 +35,6 @@ import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 import javax.ws.rs.core.HttpHeaders;
 
@@ -86,6 +85,29 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapDoubleField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).numberValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllNumbers(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedOperationFormURL(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
@@ -118,10 +140,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Boolean value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).booleanValue(
@@ -135,10 +155,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		List<Boolean> value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).arrayValue(
@@ -147,16 +165,45 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapEmbeddedResourceDoubleField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double value) {
+
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
+		).field(
+			fieldName
+		).numberValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapEmbeddedResourceDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double[] value) {
+
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
+		).field(
+			fieldName
+		).arrayValue(
+		).addAllNumbers(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedResourceLink(
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String url) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).stringValue(
@@ -164,16 +211,45 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapEmbeddedResourceLongField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long value) {
+
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
+		).field(
+			fieldName
+		).numberValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapEmbeddedResourceLongListField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long[] value) {
+
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
+		).field(
+			fieldName
+		).arrayValue(
+		).addAllNumbers(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedResourceNumberField(
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Number value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).numberValue(
@@ -187,10 +263,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		List<Number> value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).arrayValue(
@@ -205,10 +279,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).stringValue(
@@ -222,10 +294,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		List<String> value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).arrayValue(
@@ -239,10 +309,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, List<String> types) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			FIELD_NAME_TYPE
 		).arrayValue(
@@ -256,10 +324,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String url) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			FIELD_NAME_ID
 		).stringValue(
@@ -285,9 +351,7 @@ public class JSONLDSingleModelMessageMapper<T>
 
 		String head = embeddedPathElements.head();
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		String[] tail = tailStream.toArray(String[]::new);
+		String[] tail = embeddedPathElements.tailArray(String[]::new);
 
 		jsonObjectBuilder.nestedField(
 			head, tail
@@ -295,9 +359,7 @@ public class JSONLDSingleModelMessageMapper<T>
 			url
 		);
 
-		Stream<String> middleStream = embeddedPathElements.middleStream();
-
-		String[] middle = middleStream.toArray(String[]::new);
+		String[] middle = embeddedPathElements.middleArray(String[]::new);
 
 		Optional<String> optional = embeddedPathElements.lastOptional();
 
@@ -333,6 +395,29 @@ public class JSONLDSingleModelMessageMapper<T>
 		}
 	}
 
+	@Override
+	public void mapLongField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).numberValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapLongListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllNumbers(
+			value
+		);
+	}
+
 	@Override
 	public void mapNumberField(
 		JSONObjectBuilder jsonObjectBuilder, String fieldName, Number value) {
@@ -456,11 +541,6 @@ public class JSONLDSingleModelMessageMapper<T>
 		JSONObjectBuilder operationJSONObjectBuilder,
 		FunctionalList<String> embeddedPathElements, Operation operation) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		String head = embeddedPathElements.head();
-		String[] tail = tailStream.toArray(String[]::new);
-
 		operationJSONObjectBuilder.field(
 			FIELD_NAME_ID
 		).stringValue(
@@ -473,8 +553,8 @@ public class JSONLDSingleModelMessageMapper<T>
 			TYPE_OPERATION
 		);
 
-		singleModelJSONObjectBuilder.nestedField(
-			head, tail
+		_getEmbeddedJSONObjectBuilder(
+			singleModelJSONObjectBuilder, embeddedPathElements
 		).field(
 			FIELD_NAME_OPERATION
 		).arrayValue(
@@ -508,4 +588,21 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	private JSONObjectBuilder.FieldStep _getEmbeddedFieldStep(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements) {
+
+		return jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new));
+	}
+
+	private JSONObjectBuilder _getEmbeddedJSONObjectBuilder(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements) {
+
+		return jsonObjectBuilder.nestedObject(
+			embeddedPathElements, this::_getEmbeddedFieldStep);
+	}
+
 }
\ No newline at end of file
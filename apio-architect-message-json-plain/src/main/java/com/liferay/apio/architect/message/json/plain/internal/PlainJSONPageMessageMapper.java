@@ -65,6 +65,17 @@ public class PlainJSONPageMessageMapper<T> implements PageMessageMapper<T> {
 		_singleModelMessageMapper.mapSelfURL(jsonObjectBuilder, url);
 	}
 
+	@Override
+	public void mapEstimatedItemTotalCount(
+		JSONObjectBuilder jsonObjectBuilder, int estimatedTotalCount) {
+
+		jsonObjectBuilder.field(
+			"estimatedTotalNumberOfItems"
+		).numberValue(
+			estimatedTotalCount
+		);
+	}
+
 	@Override
 	public void mapFirstPageURL(
 		JSONObjectBuilder jsonObjectBuilder, String url) {
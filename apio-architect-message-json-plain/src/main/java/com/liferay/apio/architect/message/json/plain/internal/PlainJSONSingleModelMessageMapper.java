@@ -19,7 +19,6 @@ import com.liferay.apio.architect.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.message.json.SingleModelMessageMapper;
 
 import java.util.List;
-import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Component;
 
@@ -63,16 +62,37 @@ public class PlainJSONSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapDoubleField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).numberValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllNumbers(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedResourceBooleanField(
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Boolean value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).booleanValue(
@@ -86,10 +106,8 @@ public class PlainJSONSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		List<Boolean> value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).arrayValue(
@@ -98,16 +116,45 @@ public class PlainJSONSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapEmbeddedResourceDoubleField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double value) {
+
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
+		).field(
+			fieldName
+		).numberValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapEmbeddedResourceDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		double[] value) {
+
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
+		).field(
+			fieldName
+		).arrayValue(
+		).addAllNumbers(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedResourceLink(
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String url) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).stringValue(
@@ -115,16 +162,45 @@ public class PlainJSONSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapEmbeddedResourceLongField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long value) {
+
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
+		).field(
+			fieldName
+		).numberValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapEmbeddedResourceLongListField(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements, String fieldName,
+		long[] value) {
+
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
+		).field(
+			fieldName
+		).arrayValue(
+		).addAllNumbers(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedResourceNumberField(
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Number value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).numberValue(
@@ -138,10 +214,8 @@ public class PlainJSONSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		List<Number> value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).arrayValue(
@@ -156,10 +230,8 @@ public class PlainJSONSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).stringValue(
@@ -173,10 +245,8 @@ public class PlainJSONSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		List<String> value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			fieldName
 		).arrayValue(
@@ -190,10 +260,8 @@ public class PlainJSONSingleModelMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String url) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+		_getEmbeddedJSONObjectBuilder(
+			jsonObjectBuilder, embeddedPathElements
 		).field(
 			"self"
 		).stringValue(
@@ -217,15 +285,37 @@ public class PlainJSONSingleModelMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String url) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).stringValue(
 			url
 		);
 	}
 
+	@Override
+	public void mapLongField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).numberValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapLongListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllNumbers(
+			value
+		);
+	}
+
 	@Override
 	public void mapNumberField(
 		JSONObjectBuilder jsonObjectBuilder, String fieldName, Number value) {
@@ -283,4 +373,21 @@ public class PlainJSONSingleModelMessageMapper<T>
 		);
 	}
 
+	private JSONObjectBuilder.FieldStep _getEmbeddedFieldStep(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements) {
+
+		return jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new));
+	}
+
+	private JSONObjectBuilder _getEmbeddedJSONObjectBuilder(
+		JSONObjectBuilder jsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements) {
+
+		return jsonObjectBuilder.nestedObject(
+			embeddedPathElements, this::_getEmbeddedFieldStep);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.response.control.internal;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.provider.Provider;
+import com.liferay.apio.architect.request.Deadline;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Lets resources provide a {@link Deadline} as a parameter in the methods of
+ * the different routes builders.
+ *
+ * <p>
+ * The timeout, in milliseconds, is read from the {@code X-Request-Timeout}
+ * header. If the {@code deadline.default.timeout} component property is
+ * greater than {@code 0}, it's used when the header isn't present, and the
+ * header can only shorten it. Requests without any timeout get {@link
+ * Deadline#NONE}.
+ * </p>
+ *
+ * <p>
+ * The deadline is created the first time it's provided for a request, and
+ * attached to the request, so every later call returns the same deadline.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true, property = "deadline.default.timeout:Integer=0")
+public class DeadlineProvider implements Provider<Deadline> {
+
+	/**
+	 * The header that contains the request's timeout, in milliseconds.
+	 */
+	public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+	@Activate
+	@Modified
+	public void activate(Map<String, Object> properties) {
+		_defaultTimeout = Try.success(
+			properties.get("deadline.default.timeout")
+		).map(
+			String::valueOf
+		).map(
+			Long::parseLong
+		).filter(
+			timeout -> timeout > 0
+		).orElse(
+			0L
+		);
+	}
+
+	@Override
+	public Deadline createContext(HttpServletRequest httpServletRequest) {
+		Deadline deadline = Deadline.getDeadline(httpServletRequest);
+
+		if (deadline != Deadline.NONE) {
+			return deadline;
+		}
+
+		long timeout = Try.success(
+			httpServletRequest.getHeader(TIMEOUT_HEADER)
+		).map(
+			Long::parseLong
+		).filter(
+			headerTimeout -> headerTimeout > 0
+		).orElse(
+			0L
+		);
+
+		if ((_defaultTimeout > 0) &&
+			((timeout == 0) || (timeout > _defaultTimeout))) {
+
+			timeout = _defaultTimeout;
+		}
+
+		if (timeout <= 0) {
+			return Deadline.NONE;
+		}
+
+		deadline = Deadline.after(timeout, TimeUnit.MILLISECONDS);
+
+		deadline.attach(httpServletRequest);
+
+		return deadline;
+	}
+
+	private volatile long _defaultTimeout;
+
+}
\ No newline at end of file
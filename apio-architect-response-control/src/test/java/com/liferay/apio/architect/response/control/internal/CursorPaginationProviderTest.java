@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.response.control.internal;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.pagination.Cursor;
+import com.liferay.apio.architect.pagination.CursorPagination;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CursorPaginationProviderTest {
+
+	@Test
+	public void testCursorPaginationProviderReturnsCursorIfParams() {
+		CursorPaginationProvider cursorPaginationProvider =
+			new CursorPaginationProvider();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Cursor cursor = Cursor.before("42");
+
+		Mockito.when(
+			httpServletRequest.getParameter("cursor")
+		).thenReturn(
+			cursor.encode()
+		);
+
+		Mockito.when(
+			httpServletRequest.getParameter("per_page")
+		).thenReturn(
+			"10"
+		);
+
+		CursorPagination cursorPagination =
+			cursorPaginationProvider.createContext(httpServletRequest);
+
+		assertThat(cursorPagination.getItemsPerPage(), is(10));
+
+		Optional<Cursor> optional = cursorPagination.getCursorOptional();
+
+		assertThat(optional, is(optionalWithValue()));
+
+		Cursor decodedCursor = optional.get();
+
+		assertThat(decodedCursor.isBefore(), is(true));
+		assertThat(
+			decodedCursor.getKeyOptional(), is(optionalWithValue(is("42"))));
+	}
+
+	@Test
+	public void testCursorPaginationProviderReturnsFirstPageIfInvalidCursor() {
+		CursorPaginationProvider cursorPaginationProvider =
+			new CursorPaginationProvider();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameter("cursor")
+		).thenReturn(
+			"Apio"
+		);
+
+		Mockito.when(
+			httpServletRequest.getParameter("per_page")
+		).thenReturn(
+			"-4"
+		);
+
+		CursorPagination cursorPagination =
+			cursorPaginationProvider.createContext(httpServletRequest);
+
+		assertThat(cursorPagination.getCursorOptional(), is(emptyOptional()));
+		assertThat(cursorPagination.getItemsPerPage(), is(30));
+	}
+
+}
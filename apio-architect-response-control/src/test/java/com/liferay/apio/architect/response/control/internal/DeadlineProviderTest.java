@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.response.control.internal;
+
+import static com.liferay.apio.architect.response.control.internal.DeadlineProvider.TIMEOUT_HEADER;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import com.liferay.apio.architect.request.Deadline;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class DeadlineProviderTest {
+
+	@Test
+	public void testDeadlineProviderReturnsAttachedDeadline() {
+		DeadlineProvider deadlineProvider = _createDeadlineProvider(0);
+
+		HttpServletRequest httpServletRequest = _mockHttpServletRequest("10");
+
+		Deadline deadline = Deadline.after(1, TimeUnit.HOURS);
+
+		Mockito.when(
+			httpServletRequest.getAttribute(Deadline.class.getName())
+		).thenReturn(
+			deadline
+		);
+
+		assertThat(
+			deadlineProvider.createContext(httpServletRequest), is(deadline));
+	}
+
+	@Test
+	public void testDeadlineProviderReturnsNoneIfNoTimeout() {
+		DeadlineProvider deadlineProvider = _createDeadlineProvider(0);
+
+		Deadline deadline = deadlineProvider.createContext(
+			_mockHttpServletRequest("Apio"));
+
+		assertThat(deadline, is(Deadline.NONE));
+	}
+
+	@Test
+	public void testDeadlineProviderUsesDefaultTimeoutIfNoHeader() {
+		DeadlineProvider deadlineProvider = _createDeadlineProvider(1000);
+
+		HttpServletRequest httpServletRequest = _mockHttpServletRequest(null);
+
+		Deadline deadline = deadlineProvider.createContext(httpServletRequest);
+
+		assertThat(
+			deadline.getRemainingNanos(),
+			is(lessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1))));
+		assertThat(deadline.getRemainingNanos(), is(greaterThan(0L)));
+
+		Mockito.verify(
+			httpServletRequest
+		).setAttribute(
+			Deadline.class.getName(), deadline
+		);
+	}
+
+	@Test
+	public void testDeadlineProviderUsesHeaderOnlyToShortenDefaultTimeout() {
+		DeadlineProvider deadlineProvider = _createDeadlineProvider(1000);
+
+		Deadline shorterDeadline = deadlineProvider.createContext(
+			_mockHttpServletRequest("10"));
+
+		assertThat(
+			shorterDeadline.getRemainingNanos(),
+			is(lessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10))));
+
+		Deadline longerDeadline = deadlineProvider.createContext(
+			_mockHttpServletRequest("60000"));
+
+		assertThat(
+			longerDeadline.getRemainingNanos(),
+			is(lessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1))));
+	}
+
+	private DeadlineProvider _createDeadlineProvider(int defaultTimeout) {
+		DeadlineProvider deadlineProvider = new DeadlineProvider();
+
+		deadlineProvider.activate(
+			Collections.singletonMap(
+				"deadline.default.timeout", defaultTimeout));
+
+		return deadlineProvider;
+	}
+
+	private HttpServletRequest _mockHttpServletRequest(String timeout) {
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getHeader(TIMEOUT_HEADER)
+		).thenReturn(
+			timeout
+		);
+
+		return httpServletRequest;
+	}
+
+}
\ No newline at end of file
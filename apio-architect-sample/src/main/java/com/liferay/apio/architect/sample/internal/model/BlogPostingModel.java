@@ -23,11 +23,13 @@ import com.github.javafaker.Lorem;
 import com.github.javafaker.service.RandomService;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -114,25 +116,93 @@ public class BlogPostingModel {
 	}
 
 	/**
-	 * Returns the page of blog postings specified by the page's start and end
-	 * positions.
+	 * Returns the page of blog postings that follow the blog posting with the
+	 * specified ID, ordered by ID. The database seeks directly to the ID, so
+	 * the cost of obtaining a page doesn't depend on its position.
 	 *
-	 * @param  start the page's start position
-	 * @param  end the page's end position
+	 * @param  id the ID of the blog posting that precedes the page, or {@code
+	 *         null} to obtain the first page
+	 * @param  size the page's size
 	 * @return the page of blog postings
 	 */
-	public static List<BlogPostingModel> getPage(int start, int end) {
+	public static List<BlogPostingModel> getPageAfter(Long id, int size) {
+		NavigableMap<Long, BlogPostingModel> navigableMap = _blogPostings;
+
+		if (id != null) {
+			navigableMap = _blogPostings.tailMap(id, false);
+		}
+
+		return _getPage(navigableMap, size);
+	}
+
+	/**
+	 * Returns the page of blog postings that precede the blog posting with the
+	 * specified ID, ordered by ID. The database seeks directly to the ID, so
+	 * the cost of obtaining a page doesn't depend on its position.
+	 *
+	 * @param  id the ID of the blog posting that follows the page, or {@code
+	 *         null} to obtain the last page
+	 * @param  size the page's size
+	 * @return the page of blog postings
+	 */
+	public static List<BlogPostingModel> getPageBefore(Long id, int size) {
+		NavigableMap<Long, BlogPostingModel> navigableMap = _blogPostings;
+
+		if (id != null) {
+			navigableMap = _blogPostings.headMap(id, false);
+		}
+
+		List<BlogPostingModel> blogPostingModels = _getPage(
+			navigableMap.descendingMap(), size);
+
+		Collections.reverse(blogPostingModels);
+
+		return blogPostingModels;
+	}
+
+	/**
+	 * Returns a stream with every blog posting, ordered by ID. The stream is
+	 * backed by the database's weakly consistent iterator, so blog postings are
+	 * read one at a time instead of being copied.
+	 *
+	 * @return the stream with every blog posting
+	 */
+	public static Stream<BlogPostingModel> getStream() {
 		Collection<BlogPostingModel> blogPostingModels = _blogPostings.values();
 
-		Stream<BlogPostingModel> stream = blogPostingModels.stream();
+		return blogPostingModels.stream();
+	}
 
-		return stream.skip(
-			start
-		).limit(
-			end
-		).collect(
-			Collectors.toList()
-		);
+	/**
+	 * Returns {@code true} if a blog posting follows the one with the specified
+	 * ID.
+	 *
+	 * @param  id the blog posting's ID
+	 * @return {@code true} if a blog posting follows the one with the
+	 *         specified ID; {@code false} otherwise
+	 */
+	public static boolean hasNext(long id) {
+		if (_blogPostings.higherKey(id) != null) {
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns {@code true} if a blog posting precedes the one with the
+	 * specified ID.
+	 *
+	 * @param  id the blog posting's ID
+	 * @return {@code true} if a blog posting precedes the one with the
+	 *         specified ID; {@code false} otherwise
+	 */
+	public static boolean hasPrevious(long id) {
+		if (_blogPostings.lowerKey(id) != null) {
+			return true;
+		}
+
+		return false;
 	}
 
 	/**
@@ -252,8 +322,22 @@ public class BlogPostingModel {
 		_title = title;
 	}
 
-	private static final Map<Long, BlogPostingModel> _blogPostings =
-		new ConcurrentHashMap<>();
+	private static List<BlogPostingModel> _getPage(
+		NavigableMap<Long, BlogPostingModel> navigableMap, int size) {
+
+		Collection<BlogPostingModel> blogPostingModels = navigableMap.values();
+
+		Stream<BlogPostingModel> stream = blogPostingModels.stream();
+
+		return stream.limit(
+			size
+		).collect(
+			Collectors.toList()
+		);
+	}
+
+	private static final ConcurrentNavigableMap<Long, BlogPostingModel>
+		_blogPostings = new ConcurrentSkipListMap<>();
 	private static final AtomicLong _count = new AtomicLong(0);
 
 	private final String _content;
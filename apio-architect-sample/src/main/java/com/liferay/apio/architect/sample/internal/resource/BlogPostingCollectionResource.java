@@ -17,8 +17,12 @@ package com.liferay.apio.architect.sample.internal.resource;
 import static com.liferay.apio.architect.sample.internal.auth.PermissionChecker.hasPermission;
 
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.pagination.Cursor;
+import com.liferay.apio.architect.pagination.CursorPageItems;
+import com.liferay.apio.architect.pagination.CursorPagination;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
+import com.liferay.apio.architect.pagination.TotalCount;
 import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.resource.CollectionResource;
 import com.liferay.apio.architect.routes.CollectionRoutes;
@@ -33,6 +37,7 @@ import com.liferay.apio.architect.sample.internal.model.BlogPostingModel;
 import java.util.List;
 import java.util.Optional;
 
+import javax.ws.rs.BadRequestException;
 import javax.ws.rs.ForbiddenException;
 import javax.ws.rs.NotFoundException;
 
@@ -56,10 +61,12 @@ public class BlogPostingCollectionResource
 		CollectionRoutes.Builder<BlogPostingModel> builder) {
 
 		return builder.addGetter(
-			this::_getPageItems
+			this::_getPageItems, CursorPagination.class
 		).addCreator(
 			this::_addBlogPostingModel, Credentials.class,
 			PermissionChecker::hasPermission, BlogPostingForm::buildForm
+		).addStreamGetter(
+			BlogPostingModel::getStream
 		).build();
 	}
 
@@ -139,12 +146,67 @@ public class BlogPostingCollectionResource
 			() -> new NotFoundException("Unable to get blog posting " + id));
 	}
 
-	private PageItems<BlogPostingModel> _getPageItems(Pagination pagination) {
-		List<BlogPostingModel> blogPostingModels = BlogPostingModel.getPage(
-			pagination.getStartPosition(), pagination.getEndPosition());
-		int count = BlogPostingModel.getCount();
+	private static Long _getId(String key) {
+		try {
+			return Long.valueOf(key);
+		}
+		catch (NumberFormatException nfe) {
+			throw new BadRequestException("Invalid cursor " + key, nfe);
+		}
+	}
+
+	private PageItems<BlogPostingModel> _getPageItems(
+		Pagination pagination, CursorPagination cursorPagination) {
+
+		Optional<Cursor> optional = cursorPagination.getCursorOptional();
+
+		Cursor cursor = optional.orElseGet(() -> Cursor.after(null));
+
+		Optional<String> keyOptional = cursor.getKeyOptional();
+
+		Long id = keyOptional.map(
+			BlogPostingCollectionResource::_getId
+		).orElse(
+			null
+		);
+
+		int itemsPerPage = cursorPagination.getItemsPerPage();
+
+		List<BlogPostingModel> blogPostingModels;
+
+		if (cursor.isAfter()) {
+			blogPostingModels = BlogPostingModel.getPageAfter(id, itemsPerPage);
+		}
+		else {
+			blogPostingModels = BlogPostingModel.getPageBefore(
+				id, itemsPerPage);
+		}
+
+		Cursor previousCursor = null;
+		Cursor nextCursor = null;
+
+		if (!blogPostingModels.isEmpty()) {
+			BlogPostingModel firstBlogPostingModel = blogPostingModels.get(0);
+
+			long firstId = firstBlogPostingModel.getId();
+
+			if (BlogPostingModel.hasPrevious(firstId)) {
+				previousCursor = Cursor.before(String.valueOf(firstId));
+			}
+
+			BlogPostingModel lastBlogPostingModel = blogPostingModels.get(
+				blogPostingModels.size() - 1);
+
+			long lastId = lastBlogPostingModel.getId();
+
+			if (BlogPostingModel.hasNext(lastId)) {
+				nextCursor = Cursor.after(String.valueOf(lastId));
+			}
+		}
 
-		return new PageItems<>(blogPostingModels, count);
+		return new CursorPageItems<>(
+			blogPostingModels, TotalCount.lazy(BlogPostingModel::getCount),
+			cursorPagination, previousCursor, nextCursor);
 	}
 
 	private BlogPostingModel _updateBlogPostingModel(
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.test.util.budget;
+
+import com.liferay.apio.architect.test.util.internal.budget.AllocatesAtMost;
+import com.liferay.apio.architect.test.util.internal.budget.InvokesAtMost;
+
+import org.hamcrest.Matcher;
+
+/**
+ * Provides {@code Matcher} objects that run a scenario (for example, writing a
+ * page with a mock writer) and check that it stays within a budget. They can
+ * be used to catch allocation regressions and N+1 invocations of the functions
+ * provided to writers.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public final class BudgetMatchers {
+
+	/**
+	 * Returns a matcher that checks if running a scenario allocates, at most,
+	 * the provided number of bytes in the current thread. The scenario is run
+	 * once before measuring, so class loading and other one-time
+	 * initializations don't count toward the budget.
+	 *
+	 * @param  bytes the maximum number of bytes the scenario can allocate
+	 * @return the matcher that checks the scenario's allocations
+	 */
+	public static Matcher<Runnable> allocatesAtMost(long bytes) {
+		return new AllocatesAtMost(bytes);
+	}
+
+	/**
+	 * Returns {@code true} if the JVM supports measuring the allocations of
+	 * the current thread, which {@link #allocatesAtMost(long)} needs. Tests
+	 * should be skipped (e.g., with {@code Assume}) if it returns {@code
+	 * false}.
+	 *
+	 * @return {@code true} if allocations can be measured; {@code false}
+	 *         otherwise
+	 */
+	public static boolean canMeasureAllocations() {
+		return AllocatesAtMost.isSupported();
+	}
+
+	/**
+	 * Returns a matcher that checks if running a scenario invokes, at most,
+	 * the provided number of times the functions counted by an {@link
+	 * InvocationCounter}. The counter is reset before running the scenario.
+	 *
+	 * @param  invocationCounter the invocation counter
+	 * @param  invocations the maximum number of invocations
+	 * @return the matcher that checks the scenario's invocations
+	 */
+	public static Matcher<Runnable> invokesAtMost(
+		InvocationCounter invocationCounter, long invocations) {
+
+		return new InvokesAtMost(invocationCounter, invocations);
+	}
+
+	private BudgetMatchers() {
+		throw new UnsupportedOperationException();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.test.util.budget;
+
+import com.liferay.apio.architect.writer.alias.PathFunction;
+import com.liferay.apio.architect.writer.alias.SingleModelFunction;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Counts the invocations of the functions it wraps. Every function wrapped by
+ * the same counter adds to the same count, so a counter can be used to count,
+ * for example, the {@link SingleModelFunction} invocations of a writer.
+ *
+ * @author Alejandro Hernández
+ * @see    BudgetMatchers#invokesAtMost(InvocationCounter, long)
+ */
+public class InvocationCounter {
+
+	/**
+	 * Returns a function that counts its invocations and delegates to the
+	 * provided one.
+	 *
+	 * @param  biFunction the function to count
+	 * @return the counting function
+	 */
+	public <T, S, U> BiFunction<T, S, U> countBiFunction(
+		BiFunction<T, S, U> biFunction) {
+
+		return (t, s) -> {
+			_count.incrementAndGet();
+
+			return biFunction.apply(t, s);
+		};
+	}
+
+	/**
+	 * Returns a function that counts its invocations and delegates to the
+	 * provided one.
+	 *
+	 * @param  function the function to count
+	 * @return the counting function
+	 */
+	public <T, S> Function<T, S> countFunction(Function<T, S> function) {
+		return t -> {
+			_count.incrementAndGet();
+
+			return function.apply(t);
+		};
+	}
+
+	/**
+	 * Returns a {@link PathFunction} that counts its invocations and delegates
+	 * to the provided one.
+	 *
+	 * @param  pathFunction the path function to count
+	 * @return the counting path function
+	 */
+	public PathFunction countPathFunction(PathFunction pathFunction) {
+		return countBiFunction(pathFunction)::apply;
+	}
+
+	/**
+	 * Returns a {@link SingleModelFunction} that counts its invocations and
+	 * delegates to the provided one.
+	 *
+	 * @param  singleModelFunction the single model function to count
+	 * @return the counting single model function
+	 */
+	public SingleModelFunction countSingleModelFunction(
+		SingleModelFunction singleModelFunction) {
+
+		return countBiFunction(singleModelFunction)::apply;
+	}
+
+	/**
+	 * Returns the number of invocations counted since this counter was created
+	 * or last reset.
+	 *
+	 * @return the number of invocations
+	 */
+	public long getCount() {
+		return _count.get();
+	}
+
+	/**
+	 * Resets the number of invocations to zero.
+	 */
+	public void reset() {
+		_count.set(0);
+	}
+
+	private final AtomicLong _count = new AtomicLong();
+
+}
\ No newline at end of file
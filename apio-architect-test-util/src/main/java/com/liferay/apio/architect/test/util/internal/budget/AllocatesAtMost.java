@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.test.util.internal.budget;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A {@code Matcher} that checks if running a scenario allocates, at most, a
+ * number of bytes in the current thread. Allocations are measured with {@code
+ * com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}, which is
+ * looked up reflectively, so this class can be loaded in JVMs that don't
+ * provide it. Use {@link #isSupported()} to check whether allocations can be
+ * measured.
+ *
+ * @author Alejandro Hernández
+ */
+public class AllocatesAtMost extends TypeSafeDiagnosingMatcher<Runnable> {
+
+	/**
+	 * Returns {@code true} if the JVM supports measuring the allocations of
+	 * the current thread.
+	 *
+	 * @return {@code true} if allocations can be measured; {@code false}
+	 *         otherwise
+	 */
+	public static boolean isSupported() {
+		if (_getThreadAllocatedBytesMethod == null) {
+			return false;
+		}
+
+		return true;
+	}
+
+	public AllocatesAtMost(long bytes) {
+		_bytes = bytes;
+	}
+
+	@Override
+	public void describeTo(final Description description) {
+		description.appendText(
+			"a scenario that allocates at most "
+		).appendValue(
+			_bytes
+		).appendText(
+			" bytes"
+		);
+	}
+
+	@Override
+	protected boolean matchesSafely(
+		final Runnable runnable, final Description description) {
+
+		if (!isSupported()) {
+			description.appendText(
+				"could not be measured: the JVM doesn't support measuring " +
+					"thread allocations");
+
+			return false;
+		}
+
+		long bytes = _getAllocatedBytes(runnable);
+
+		if (bytes <= _bytes) {
+			return true;
+		}
+
+		description.appendText(
+			"allocated "
+		).appendValue(
+			bytes
+		).appendText(
+			" bytes"
+		);
+
+		return false;
+	}
+
+	private static Method _findThreadAllocatedBytesMethod() {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+		try {
+			Class<?> clazz = Class.forName("com.sun.management.ThreadMXBean");
+
+			if (!clazz.isInstance(threadMXBean)) {
+				return null;
+			}
+
+			Method method = clazz.getMethod("isThreadAllocatedMemoryEnabled");
+
+			if (!(Boolean)method.invoke(threadMXBean)) {
+				return null;
+			}
+
+			return clazz.getMethod("getThreadAllocatedBytes", long.class);
+		}
+		catch (ReflectiveOperationException roe) {
+			return null;
+		}
+	}
+
+	private long _getAllocatedBytes(Runnable runnable) {
+		runnable.run();
+
+		long before = _getThreadAllocatedBytes();
+
+		runnable.run();
+
+		long after = _getThreadAllocatedBytes();
+
+		return after - before;
+	}
+
+	private static long _getThreadAllocatedBytes() {
+		Thread thread = Thread.currentThread();
+
+		try {
+			return (long)_getThreadAllocatedBytesMethod.invoke(
+				ManagementFactory.getThreadMXBean(), thread.getId());
+		}
+		catch (ReflectiveOperationException roe) {
+			throw new IllegalStateException(
+				"Unable to measure thread allocations", roe);
+		}
+	}
+
+	private static final Method _getThreadAllocatedBytesMethod =
+		_findThreadAllocatedBytesMethod();
+
+	private final long _bytes;
+
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.test.util.internal.budget;
+
+import com.liferay.apio.architect.test.util.budget.InvocationCounter;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A {@code Matcher} that checks if running a scenario invokes, at most, a
+ * number of times the functions counted by an {@link InvocationCounter}.
+ *
+ * @author Alejandro Hernández
+ */
+public class InvokesAtMost extends TypeSafeDiagnosingMatcher<Runnable> {
+
+	public InvokesAtMost(
+		InvocationCounter invocationCounter, long invocations) {
+
+		_invocationCounter = invocationCounter;
+		_invocations = invocations;
+	}
+
+	@Override
+	public void describeTo(final Description description) {
+		description.appendText(
+			"a scenario that invokes the counted functions at most "
+		).appendValue(
+			_invocations
+		).appendText(
+			" times"
+		);
+	}
+
+	@Override
+	protected boolean matchesSafely(
+		final Runnable runnable, final Description description) {
+
+		_invocationCounter.reset();
+
+		runnable.run();
+
+		long invocations = _invocationCounter.getCount();
+
+		if (invocations <= _invocations) {
+			return true;
+		}
+
+		description.appendText(
+			"invoked them "
+		).appendValue(
+			invocations
+		).appendText(
+			" times"
+		);
+
+		return false;
+	}
+
+	private final InvocationCounter _invocationCounter;
+	private final long _invocations;
+
+}
\ No newline at end of file
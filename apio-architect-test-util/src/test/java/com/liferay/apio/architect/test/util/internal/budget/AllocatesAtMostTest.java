@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.test.util.internal.budget;
+
+import static com.liferay.apio.architect.test.util.budget.BudgetMatchers.allocatesAtMost;
+import static com.liferay.apio.architect.test.util.budget.BudgetMatchers.canMeasureAllocations;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+
+import static org.junit.Assume.assumeTrue;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class AllocatesAtMostTest {
+
+	@Test
+	public void testMatcherUpdatesDescription() {
+		Description description = new StringDescription();
+
+		allocatesAtMost(1024).describeTo(description);
+
+		String expected = "a scenario that allocates at most <1024L> bytes";
+
+		assertThat(description.toString(), is(expected));
+	}
+
+	@Test
+	public void testScenarioOverBudgetFails() {
+		assumeTrue(canMeasureAllocations());
+
+		assertThat(_allocateMegabyte, is(not(allocatesAtMost(1024))));
+	}
+
+	@Test
+	public void testScenarioOverBudgetUpdatesDescription() {
+		assumeTrue(canMeasureAllocations());
+
+		Description description = new StringDescription();
+
+		allocatesAtMost(1024).describeMismatch(_allocateMegabyte, description);
+
+		assertThat(description.toString(), startsWith("allocated <"));
+	}
+
+	@Test
+	public void testScenarioWithinBudgetValidates() {
+		assumeTrue(canMeasureAllocations());
+
+		Runnable runnable = () -> {
+		};
+
+		assertThat(runnable, allocatesAtMost(1024));
+	}
+
+	private final Runnable _allocateMegabyte =
+		() -> _bytes = new byte[1024 * 1024];
+	private byte[] _bytes;
+
+}
\ No newline at end of file
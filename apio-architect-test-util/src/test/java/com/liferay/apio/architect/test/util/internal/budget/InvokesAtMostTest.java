@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.test.util.internal.budget;
+
+import static com.liferay.apio.architect.test.util.budget.BudgetMatchers.invokesAtMost;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.test.util.budget.InvocationCounter;
+import com.liferay.apio.architect.writer.alias.PathFunction;
+import com.liferay.apio.architect.writer.alias.SingleModelFunction;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class InvokesAtMostTest {
+
+	@Test
+	public void testEveryCountedFunctionAddsToTheSameCount() {
+		PathFunction pathFunction = _invocationCounter.countPathFunction(
+			(resourceName, identifier) -> Optional.empty());
+
+		SingleModelFunction singleModelFunction =
+			_invocationCounter.countSingleModelFunction(
+				(identifier, identifierClass) -> Optional.empty());
+
+		Runnable runnable = () -> {
+			pathFunction.apply("name", "id");
+			singleModelFunction.apply("id", null);
+		};
+
+		assertThat(runnable, invokesAtMost(_invocationCounter, 2));
+		assertThat(runnable, is(not(invokesAtMost(_invocationCounter, 1))));
+	}
+
+	@Test
+	public void testMatcherUpdatesDescription() {
+		Description description = new StringDescription();
+
+		invokesAtMost(_invocationCounter, 3).describeTo(description);
+
+		String expected =
+			"a scenario that invokes the counted functions at most <3L> times";
+
+		assertThat(description.toString(), is(expected));
+	}
+
+	@Test
+	public void testScenarioOverBudgetUpdatesDescription() {
+		Function<String, String> function = _invocationCounter.countFunction(
+			Function.identity());
+
+		Runnable runnable = () -> {
+			function.apply("Apio");
+			function.apply("Architect");
+		};
+
+		Description description = new StringDescription();
+
+		invokesAtMost(
+			_invocationCounter, 1
+		).describeMismatch(
+			runnable, description
+		);
+
+		assertThat(description.toString(), is("invoked them <2L> times"));
+	}
+
+	@Test
+	public void testScenarioWithinBudgetValidates() {
+		Function<String, String> function = _invocationCounter.countFunction(
+			Function.identity());
+
+		function.apply("Previous invocations are not counted");
+
+		Runnable runnable = () -> function.apply("Apio");
+
+		assertThat(runnable, invokesAtMost(_invocationCounter, 1));
+		assertThat(_invocationCounter.getCount(), is(1L));
+	}
+
+	private final InvocationCounter _invocationCounter =
+		new InvocationCounter();
+
+}
\ No newline at end of file
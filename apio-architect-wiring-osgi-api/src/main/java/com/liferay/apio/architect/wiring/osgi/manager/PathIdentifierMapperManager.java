@@ -17,6 +17,7 @@ package com.liferay.apio.architect.wiring.osgi.manager;
 import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.apio.architect.uri.Path;
+import com.liferay.apio.architect.uri.mapper.PathIdentifierMapper;
 
 import java.util.Optional;
 
@@ -29,9 +30,19 @@ import java.util.Optional;
 public interface PathIdentifierMapperManager {
 
 	/**
-	 * Returns {@code true} if a {@link
-	 * com.liferay.apio.architect.uri.mapper.PathIdentifierMapper} for a
-	 * resource has been published.
+	 * Returns the {@link PathIdentifierMapper} of a resource, if present.
+	 * Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  name the resource's name
+	 * @return the resource's {@code PathIdentifierMapper}, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public <T> Optional<PathIdentifierMapper<T>>
+		getPathIdentifierMapperOptional(String name);
+
+	/**
+	 * Returns {@code true} if a {@code PathIdentifierMapper} for a resource
+	 * has been published.
 	 *
 	 * @param  name the resource's name
 	 * @return {@code true} if a {@code PathIdentifierMapper} for a resource is
@@ -41,9 +52,8 @@ public interface PathIdentifierMapperManager {
 
 	/**
 	 * Converts a {@code Path} to its equivalent identifier of type {@code T},
-	 * if a valid {@link
-	 * com.liferay.apio.architect.uri.mapper.PathIdentifierMapper} can be found;
-	 * throws a {@code MustHavePathIdentifierMapper} exception otherwise.
+	 * if a valid {@code PathIdentifierMapper} can be found; throws a {@code
+	 * MustHavePathIdentifierMapper} exception otherwise.
 	 *
 	 * @param  path the {@code Path}
 	 * @return the identifier
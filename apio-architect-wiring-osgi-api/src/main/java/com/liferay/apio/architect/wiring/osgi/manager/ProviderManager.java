@@ -65,4 +65,18 @@ public interface ProviderManager {
 	public <T> Optional<T> provideOptional(
 		HttpServletRequest httpServletRequest, Class<T> clazz);
 
+	/**
+	 * Provides the instances of the classes once, and stores them in the
+	 * request. Later calls to {@link #provideMandatory(HttpServletRequest,
+	 * Class)} or {@link #provideOptional(HttpServletRequest, Class)} with the
+	 * request, or with a request that reads its attributes (like the requests
+	 * of a batch), return the stored instances instead of calling the
+	 * providers again.
+	 *
+	 * @param httpServletRequest the current request
+	 * @param classes the classes whose instances are shared
+	 */
+	public void shareContexts(
+		HttpServletRequest httpServletRequest, Class<?>... classes);
+
 }
\ No newline at end of file
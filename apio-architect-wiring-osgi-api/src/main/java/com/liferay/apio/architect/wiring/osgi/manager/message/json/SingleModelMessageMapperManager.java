@@ -20,6 +20,7 @@ import com.liferay.apio.architect.message.json.SingleModelMessageMapper;
 
 import java.util.Optional;
 
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
 
 /**
@@ -31,6 +32,19 @@ import javax.ws.rs.core.Request;
 @ProviderType
 public interface SingleModelMessageMapperManager {
 
+	/**
+	 * Returns the {@code SingleModelMessageMapper}, if present, registered for
+	 * the media type; {@code Optional#empty()} otherwise. Unlike {@link
+	 * #getSingleModelMessageMapperOptional(Request)}, no content negotiation
+	 * takes place.
+	 *
+	 * @param  mediaType the media type
+	 * @return the {@code SingleModelMessageMapper}, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public <T> Optional<SingleModelMessageMapper<T>>
+		getSingleModelMessageMapperOptional(MediaType mediaType);
+
 	/**
 	 * Returns the {@code SingleModelMessageMapper}, if present, that
 	 * corresponds to the current request; {@code Optional#empty()} otherwise.
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.wiring.osgi.manager.router;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.routes.CollectionRoutes;
+import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.routes.NestedCollectionRoutes;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Holds everything a resource's endpoint needs to dispatch a request: the
+ * resource's routes, representor, identifier class, and the function that maps
+ * a {@link Path} to an identifier.
+ *
+ * <p>
+ * Instances of this class are immutable. They're created once for every
+ * resource when the managers' cache is computed, so a request only has to look
+ * up its resource's dispatcher instead of resolving each piece again.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ * @param  <S> the type of the model's identifier
+ */
+public final class ResourceDispatcher<T, S> {
+
+	public ResourceDispatcher(
+		String name, Optional<CollectionRoutes<T>> collectionRoutesOptional,
+		Optional<ItemRoutes<T, S>> itemRoutesOptional,
+		Optional<Representor<T>> representorOptional,
+		Optional<Class<Identifier>> identifierClassOptional,
+		Function<Path, S> identifierFunction,
+		Map<String, NestedCollectionRoutes<T, Object>> nestedCollectionRoutes,
+		Set<String> relatedNestedNames) {
+
+		_name = name;
+		_collectionRoutesOptional = collectionRoutesOptional;
+		_itemRoutesOptional = itemRoutesOptional;
+		_representorOptional = representorOptional;
+		_identifierClassOptional = identifierClassOptional;
+		_identifierFunction = identifierFunction;
+		_nestedCollectionRoutes = nestedCollectionRoutes;
+		_relatedNestedNames = relatedNestedNames;
+	}
+
+	/**
+	 * Returns the resource's collection routes, if present; {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the collection routes, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<CollectionRoutes<T>> getCollectionRoutesOptional() {
+		return _collectionRoutesOptional;
+	}
+
+	/**
+	 * Returns the resource's identifier class, if present; {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the identifier class, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<Class<Identifier>> getIdentifierClassOptional() {
+		return _identifierClassOptional;
+	}
+
+	/**
+	 * Returns the function that maps a {@link Path} to the resource's
+	 * identifier. The function throws a {@code MustHavePathIdentifierMapper}
+	 * exception if the resource doesn't have a {@code PathIdentifierMapper}.
+	 *
+	 * @return the function that maps a path to an identifier
+	 */
+	public Function<Path, S> getIdentifierFunction() {
+		return _identifierFunction;
+	}
+
+	/**
+	 * Returns the resource's item routes, if present; {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @return the item routes, if present; {@code Optional#empty()} otherwise
+	 */
+	public Optional<ItemRoutes<T, S>> getItemRoutesOptional() {
+		return _itemRoutesOptional;
+	}
+
+	/**
+	 * Returns the resource's name.
+	 *
+	 * @return the resource's name
+	 */
+	public String getName() {
+		return _name;
+	}
+
+	/**
+	 * Returns the routes of a collection nested in this resource, if present;
+	 * {@code Optional#empty()} otherwise. If the parent resource doesn't
+	 * declare nested routes for the collection, its reusable nested routes are
+	 * returned.
+	 *
+	 * @param  nestedName the nested collection resource's name
+	 * @return the nested collection routes, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<NestedCollectionRoutes<T, Object>>
+		getNestedCollectionRoutesOptional(String nestedName) {
+
+		return Optional.ofNullable(_nestedCollectionRoutes.get(nestedName));
+	}
+
+	/**
+	 * Returns the resource's representor, if present; {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @return the representor, if present; {@code Optional#empty()} otherwise
+	 */
+	public Optional<Representor<T>> getRepresentorOptional() {
+		return _representorOptional;
+	}
+
+	/**
+	 * Returns {@code true} if the resource's representor declares a related
+	 * collection of the nested collection resource.
+	 *
+	 * @param  nestedName the nested collection resource's name
+	 * @return {@code true} if the representor declares the related collection;
+	 *         {@code false} otherwise
+	 */
+	public boolean isRelatedCollection(String nestedName) {
+		return _relatedNestedNames.contains(nestedName);
+	}
+
+	private final Optional<CollectionRoutes<T>> _collectionRoutesOptional;
+	private final Optional<Class<Identifier>> _identifierClassOptional;
+	private final Function<Path, S> _identifierFunction;
+	private final Optional<ItemRoutes<T, S>> _itemRoutesOptional;
+	private final String _name;
+	private final Map<String, NestedCollectionRoutes<T, Object>>
+		_nestedCollectionRoutes;
+	private final Set<String> _relatedNestedNames;
+	private final Optional<Representor<T>> _representorOptional;
+
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.wiring.osgi.manager.router;
+
+import aQute.bnd.annotation.ProviderType;
+
+/**
+ * Provides the {@link ResourceDispatcher} of every resource. Dispatchers are
+ * created once, when the managers' cache is computed, and reused by every
+ * request until the cache is cleared.
+ *
+ * @author Alejandro Hernández
+ */
+@ProviderType
+public interface ResourceDispatcherManager {
+
+	/**
+	 * Returns the dispatcher for the resource's name. If the resource doesn't
+	 * exist, the returned dispatcher doesn't have any routes or representor.
+	 *
+	 * @param  name the resource's name
+	 * @return the resource's dispatcher
+	 */
+	public <T, S> ResourceDispatcher<T, S> getResourceDispatcher(String name);
+
+}
\ No newline at end of file
@@ -43,6 +43,16 @@ public class PathIdentifierMapperManagerImpl
 		super(PathIdentifierMapper.class, 0);
 	}
 
+	@Override
+	public <T> Optional<PathIdentifierMapper<T>>
+		getPathIdentifierMapperOptional(String name) {
+
+		Try<PathIdentifierMapper<T>> pathIdentifierMapperTry =
+			_getPathIdentifierMapperTry(name);
+
+		return pathIdentifierMapperTry.toOptional();
+	}
+
 	@Override
 	public boolean hasPathIdentifierMapper(String name) {
 		return _getPathIdentifierMapperTry(name).isSuccess();
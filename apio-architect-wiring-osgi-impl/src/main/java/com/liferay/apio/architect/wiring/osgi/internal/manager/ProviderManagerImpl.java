@@ -14,20 +14,28 @@
 
 package com.liferay.apio.architect.wiring.osgi.internal.manager;
 
+import static com.liferay.apio.architect.event.PipelineStage.PROVIDER_CREATION;
+import static com.liferay.apio.architect.request.RequestTrace.PROVIDER_SPAN;
 import static com.liferay.apio.architect.unsafe.Unsafe.unsafeCast;
 
 import static org.osgi.service.component.annotations.ReferenceCardinality.OPTIONAL;
 import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
 
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.event.PipelineEvent;
+import com.liferay.apio.architect.event.PipelineEventUtil;
 import com.liferay.apio.architect.logger.ApioLogger;
 import com.liferay.apio.architect.provider.Provider;
+import com.liferay.apio.architect.request.RequestTrace;
 import com.liferay.apio.architect.wiring.osgi.internal.manager.base.ClassNameBaseManager;
 import com.liferay.apio.architect.wiring.osgi.manager.ProviderManager;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -89,12 +97,83 @@ public class ProviderManagerImpl
 	public <T> Optional<T> provideOptional(
 		HttpServletRequest httpServletRequest, Class<T> clazz) {
 
+		Optional<T> sharedOptional = _getSharedContextOptional(
+			httpServletRequest, clazz);
+
+		if (sharedOptional != null) {
+			return sharedOptional;
+		}
+
 		Optional<Provider<T>> optional = unsafeCast(getServiceOptional(clazz));
 
-		return optional.map(
-			provider -> provider.createContext(httpServletRequest));
+		RequestTrace requestTrace = RequestTrace.getRequestTrace(
+			httpServletRequest);
+
+		try (PipelineEvent pipelineEvent = PipelineEventUtil.begin(
+				PROVIDER_CREATION)) {
+
+			pipelineEvent.setProviderClass(clazz);
+
+			if (!requestTrace.isEnabled()) {
+				return _createContext(optional, httpServletRequest);
+			}
+
+			return requestTrace.trace(
+				PROVIDER_SPAN,
+				() -> _createContext(optional, httpServletRequest));
+		}
+	}
+
+	@Override
+	public void shareContexts(
+		HttpServletRequest httpServletRequest, Class<?>... classes) {
+
+		Map<String, Optional<?>> sharedContexts = new HashMap<>();
+
+		for (Class<?> clazz : classes) {
+			sharedContexts.put(
+				clazz.getName(), provideOptional(httpServletRequest, clazz));
+		}
+
+		httpServletRequest.setAttribute(
+			_SHARED_CONTEXTS_ATTRIBUTE,
+			Collections.unmodifiableMap(sharedContexts));
+	}
+
+	private static <T> Optional<T> _createContext(
+		Optional<Provider<T>> optional, HttpServletRequest httpServletRequest) {
+
+		if (!optional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Provider<T> provider = optional.get();
+
+		return Optional.ofNullable(provider.createContext(httpServletRequest));
+	}
+
+	private <T> Optional<T> _getSharedContextOptional(
+		HttpServletRequest httpServletRequest, Class<T> clazz) {
+
+		if (httpServletRequest == null) {
+			return null;
+		}
+
+		Object sharedContexts = httpServletRequest.getAttribute(
+			_SHARED_CONTEXTS_ATTRIBUTE);
+
+		if (!(sharedContexts instanceof Map)) {
+			return null;
+		}
+
+		Map<?, ?> map = (Map<?, ?>)sharedContexts;
+
+		return unsafeCast(map.get(clazz.getName()));
 	}
 
+	private static final String _SHARED_CONTEXTS_ATTRIBUTE =
+		ProviderManagerImpl.class.getName() + ".sharedContexts";
+
 	@Reference(cardinality = OPTIONAL, policyOption = GREEDY)
 	private ApioLogger _apioLogger;
 
@@ -28,6 +28,7 @@ import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.routes.NestedCollectionRoutes;
 import com.liferay.apio.architect.unsafe.Unsafe;
 import com.liferay.apio.architect.wiring.osgi.internal.alias.EmptyFunction;
+import com.liferay.apio.architect.wiring.osgi.manager.router.ResourceDispatcher;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -37,6 +38,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
@@ -74,9 +78,11 @@ public class ManagerCache {
 		_nestedCollectionRoutes = null;
 		_pageMessageMappers = null;
 		_representors = null;
+		_resourceDispatchers = null;
 		_reusableNestedCollectionRoutes = null;
 		_rootResourceNames = null;
 		_singleModelMessageMappers = null;
+		_unknownResourceDispatchers = new ConcurrentHashMap<>();
 	}
 
 	public Map<String, CollectionRoutes> getCollectionRoutes(
@@ -361,6 +367,62 @@ public class ManagerCache {
 		);
 	}
 
+	/**
+	 * Returns the dispatcher of the resource's name. If the name isn't one of
+	 * the computed resources, the dispatcher is created with the provided
+	 * function and reused by later requests, until the cache is cleared or
+	 * holds too many unknown names.
+	 *
+	 * @param  name the resource's name
+	 * @param  computeEmptyFunction the function that can be called to compute
+	 *         the data
+	 * @param  createFunction the function that creates the dispatcher of a
+	 *         name that isn't one of the computed resources
+	 * @return the dispatcher
+	 */
+	public <T, S> ResourceDispatcher<T, S> getResourceDispatcher(
+		String name, EmptyFunction computeEmptyFunction,
+		Function<String, ResourceDispatcher<T, S>> createFunction) {
+
+		Map<String, ResourceDispatcher> resourceDispatchers =
+			_resourceDispatchers;
+
+		if (resourceDispatchers == null) {
+			computeEmptyFunction.invoke();
+
+			resourceDispatchers = _resourceDispatchers;
+		}
+
+		ResourceDispatcher resourceDispatcher = null;
+
+		if (resourceDispatchers != null) {
+			resourceDispatcher = resourceDispatchers.get(name);
+		}
+
+		if (resourceDispatcher != null) {
+			return Unsafe.unsafeCast(resourceDispatcher);
+		}
+
+		ConcurrentMap<String, ResourceDispatcher> unknownResourceDispatchers =
+			_unknownResourceDispatchers;
+
+		resourceDispatcher = unknownResourceDispatchers.get(name);
+
+		if (resourceDispatcher != null) {
+			return Unsafe.unsafeCast(resourceDispatcher);
+		}
+
+		if (unknownResourceDispatchers.size() >=
+				_MAX_UNKNOWN_RESOURCE_DISPATCHERS) {
+
+			return createFunction.apply(name);
+		}
+
+		return Unsafe.unsafeCast(
+			unknownResourceDispatchers.computeIfAbsent(
+				name, createFunction::apply));
+	}
+
 	/**
 	 * Returns the nested collection routes for the reusable nested collection
 	 * resource's name.
@@ -408,6 +470,33 @@ public class ManagerCache {
 		);
 	}
 
+	/**
+	 * Returns the single model message mapper, if present, registered for the
+	 * media type; {@code Optional#empty()} otherwise.
+	 *
+	 * @param  mediaType the media type
+	 * @param  computeEmptyFunction the function that can be called to compute
+	 *         the data
+	 * @return the single model message mapper, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public <T> Optional<SingleModelMessageMapper<T>>
+		getSingleModelMessageMapperOptional(
+			MediaType mediaType, EmptyFunction computeEmptyFunction) {
+
+		if (_singleModelMessageMappers == null) {
+			computeEmptyFunction.invoke();
+		}
+
+		return Optional.ofNullable(
+			_singleModelMessageMappers
+		).map(
+			map -> map.get(mediaType)
+		).map(
+			Unsafe::unsafeCast
+		);
+	}
+
 	/**
 	 * Returns the single model message mapper, if present, for the current
 	 * request; {@code Optional#empty()} otherwise.
@@ -587,6 +676,19 @@ public class ManagerCache {
 		_representors.put(key, representor);
 	}
 
+	/**
+	 * Sets the resource dispatchers. The map is copied and published at once,
+	 * so concurrent requests never see a partially computed map.
+	 *
+	 * @param resourceDispatchers the resource dispatchers, by resource name
+	 */
+	public void putResourceDispatchers(
+		Map<String, ResourceDispatcher> resourceDispatchers) {
+
+		_resourceDispatchers = Collections.unmodifiableMap(
+			new HashMap<>(resourceDispatchers));
+	}
+
 	/**
 	 * Adds reusable nested collection routes.
 	 *
@@ -683,6 +785,8 @@ public class ManagerCache {
 		return variantListBuilder.mediaTypes(mediaTypes);
 	}
 
+	private static final int _MAX_UNKNOWN_RESOURCE_DISPATCHERS = 1024;
+
 	private static final MediaType _MEDIA_TYPE = MediaType.valueOf(
 		"application/ld+json");
 
@@ -697,8 +801,11 @@ public class ManagerCache {
 	private Map<String, NestedCollectionRoutes> _nestedCollectionRoutes;
 	private Map<MediaType, PageMessageMapper> _pageMessageMappers;
 	private Map<String, Representor> _representors;
+	private volatile Map<String, ResourceDispatcher> _resourceDispatchers;
 	private Map<String, NestedCollectionRoutes> _reusableNestedCollectionRoutes;
 	private List<String> _rootResourceNames;
 	private Map<MediaType, SingleModelMessageMapper> _singleModelMessageMappers;
+	private volatile ConcurrentMap<String, ResourceDispatcher>
+		_unknownResourceDispatchers = new ConcurrentHashMap<>();
 
 }
\ No newline at end of file
@@ -26,6 +26,7 @@ import com.liferay.apio.architect.wiring.osgi.manager.message.json.SingleModelMe
 
 import java.util.Optional;
 
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
 
 import org.osgi.service.component.annotations.Component;
@@ -45,6 +46,14 @@ public class SingleModelMessageMapperManagerImpl
 			INSTANCE::putSingleModelMessageMapper);
 	}
 
+	@Override
+	public <T> Optional<SingleModelMessageMapper<T>>
+		getSingleModelMessageMapperOptional(MediaType mediaType) {
+
+		return INSTANCE.getSingleModelMessageMapperOptional(
+			mediaType, this::computeMessageMappers);
+	}
+
 	@Override
 	public <T> Optional<SingleModelMessageMapper<T>>
 		getSingleModelMessageMapperOptional(Request request) {
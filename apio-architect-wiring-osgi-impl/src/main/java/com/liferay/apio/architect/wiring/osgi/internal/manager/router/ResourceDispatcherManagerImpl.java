@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.wiring.osgi.internal.manager.router;
+
+import static com.liferay.apio.architect.wiring.osgi.internal.manager.cache.ManagerCache.INSTANCE;
+
+import com.liferay.apio.architect.error.ApioDeveloperError.MustHavePathIdentifierMapper;
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.related.RelatedCollection;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.routes.NestedCollectionRoutes;
+import com.liferay.apio.architect.uri.Path;
+import com.liferay.apio.architect.uri.mapper.PathIdentifierMapper;
+import com.liferay.apio.architect.wiring.osgi.manager.PathIdentifierMapperManager;
+import com.liferay.apio.architect.wiring.osgi.manager.representable.IdentifierClassManager;
+import com.liferay.apio.architect.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.wiring.osgi.manager.router.CollectionRouterManager;
+import com.liferay.apio.architect.wiring.osgi.manager.router.ItemRouterManager;
+import com.liferay.apio.architect.wiring.osgi.manager.router.NestedCollectionRouterManager;
+import com.liferay.apio.architect.wiring.osgi.manager.router.ResourceDispatcher;
+import com.liferay.apio.architect.wiring.osgi.manager.router.ResourceDispatcherManager;
+import com.liferay.apio.architect.wiring.osgi.manager.router.ReusableNestedCollectionRouterManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true)
+public class ResourceDispatcherManagerImpl
+	implements ResourceDispatcherManager {
+
+	@Override
+	public <T, S> ResourceDispatcher<T, S> getResourceDispatcher(String name) {
+		return INSTANCE.getResourceDispatcher(
+			name, this::_computeResourceDispatchers,
+			key -> _createResourceDispatcher(key, Collections.emptySet()));
+	}
+
+	private void _addNames(Set<String> names, Map<String, ?> map) {
+		if (map != null) {
+			names.addAll(map.keySet());
+		}
+	}
+
+	private void _computeResourceDispatchers() {
+		Set<String> names = new TreeSet<>();
+
+		_addNames(names, _collectionRouterManager.getCollectionRoutes());
+		_addNames(names, _itemRouterManager.getItemRoutes());
+		_addNames(names, _representableManager.getRepresentors());
+
+		Map<String, ResourceDispatcher> resourceDispatchers = new HashMap<>();
+
+		for (String name : names) {
+			resourceDispatchers.put(
+				name, _createResourceDispatcher(name, names));
+		}
+
+		INSTANCE.putResourceDispatchers(resourceDispatchers);
+	}
+
+	private <T, S> ResourceDispatcher<T, S> _createResourceDispatcher(
+		String name, Collection<String> nestedNames) {
+
+		Map<String, NestedCollectionRoutes<T, Object>> nestedCollectionRoutes =
+			new HashMap<>();
+
+		for (String nestedName : nestedNames) {
+			Optional<NestedCollectionRoutes<T, Object>> optional =
+				_getNestedCollectionRoutesOptional(name, nestedName);
+
+			optional.ifPresent(
+				routes -> nestedCollectionRoutes.put(nestedName, routes));
+		}
+
+		Optional<Representor<T>> representorOptional =
+			_representableManager.getRepresentorOptional(name);
+
+		return new ResourceDispatcher<>(
+			name, _collectionRouterManager.getCollectionRoutesOptional(name),
+			_itemRouterManager.getItemRoutesOptional(name), representorOptional,
+			_identifierClassManager.getIdentifierClassOptional(name),
+			_getIdentifierFunction(name), nestedCollectionRoutes,
+			_getRelatedNestedNames(
+				representorOptional, nestedCollectionRoutes.keySet()));
+	}
+
+	private <S> Function<Path, S> _getIdentifierFunction(String name) {
+		Optional<PathIdentifierMapper<S>> optional =
+			_pathIdentifierMapperManager.getPathIdentifierMapperOptional(name);
+
+		return optional.<Function<Path, S>>map(
+			pathIdentifierMapper -> pathIdentifierMapper::map
+		).orElse(
+			path -> {
+				throw new MustHavePathIdentifierMapper(path);
+			}
+		);
+	}
+
+	private <T> Optional<NestedCollectionRoutes<T, Object>>
+		_getNestedCollectionRoutesOptional(String name, String nestedName) {
+
+		Optional<NestedCollectionRoutes<T, Object>> optional =
+			_nestedCollectionRouterManager.getNestedCollectionRoutesOptional(
+				name, nestedName);
+
+		return optional.map(
+			Optional::of
+		).orElseGet(
+			() -> _reusableNestedCollectionRouterManager.
+				getNestedCollectionRoutesOptional(nestedName)
+		);
+	}
+
+	private <T> Set<String> _getRelatedNestedNames(
+		Optional<Representor<T>> representorOptional,
+		Set<String> nestedNames) {
+
+		Set<String> classNames = representorOptional.map(
+			Representor::getRelatedCollections
+		).orElseGet(
+			Stream::empty
+		).map(
+			RelatedCollection::getIdentifierClass
+		).map(
+			Class::getName
+		).collect(
+			Collectors.toSet()
+		);
+
+		Set<String> relatedNestedNames = new HashSet<>();
+
+		for (String nestedName : nestedNames) {
+			Optional<Class<Identifier>> optional =
+				_identifierClassManager.getIdentifierClassOptional(nestedName);
+
+			optional.map(
+				Class::getName
+			).filter(
+				classNames::contains
+			).ifPresent(
+				__ -> relatedNestedNames.add(nestedName)
+			);
+		}
+
+		return relatedNestedNames;
+	}
+
+	@Reference
+	private CollectionRouterManager _collectionRouterManager;
+
+	@Reference
+	private IdentifierClassManager _identifierClassManager;
+
+	@Reference
+	private ItemRouterManager _itemRouterManager;
+
+	@Reference
+	private NestedCollectionRouterManager _nestedCollectionRouterManager;
+
+	@Reference
+	private PathIdentifierMapperManager _pathIdentifierMapperManager;
+
+	@Reference
+	private RepresentableManager _representableManager;
+
+	@Reference
+	private ReusableNestedCollectionRouterManager
+		_reusableNestedCollectionRouterManager;
+
+}
\ No newline at end of file
@@ -0,0 +1,364 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.wiring.osgi.internal.manager.router;
+
+import static com.liferay.apio.architect.wiring.osgi.internal.manager.cache.ManagerCache.INSTANCE;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.related.RelatedCollection;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.routes.CollectionRoutes;
+import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.routes.NestedCollectionRoutes;
+import com.liferay.apio.architect.wiring.osgi.manager.PathIdentifierMapperManager;
+import com.liferay.apio.architect.wiring.osgi.manager.representable.IdentifierClassManager;
+import com.liferay.apio.architect.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.wiring.osgi.manager.router.CollectionRouterManager;
+import com.liferay.apio.architect.wiring.osgi.manager.router.ItemRouterManager;
+import com.liferay.apio.architect.wiring.osgi.manager.router.NestedCollectionRouterManager;
+import com.liferay.apio.architect.wiring.osgi.manager.router.ResourceDispatcher;
+import com.liferay.apio.architect.wiring.osgi.manager.router.ReusableNestedCollectionRouterManager;
+
+import java.lang.reflect.Field;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ResourceDispatcherManagerImplTest {
+
+	@Before
+	public void setUp() throws Exception {
+		INSTANCE.clear();
+
+		_resourceDispatcherManagerImpl = new ResourceDispatcherManagerImpl();
+
+		CollectionRouterManager collectionRouterManager = Mockito.mock(
+			CollectionRouterManager.class);
+
+		Mockito.doReturn(
+			Collections.singletonMap("people", _collectionRoutes)
+		).when(
+			collectionRouterManager
+		).getCollectionRoutes();
+
+		Mockito.doReturn(
+			Optional.empty()
+		).when(
+			collectionRouterManager
+		).getCollectionRoutesOptional(
+			Mockito.anyString()
+		);
+
+		Mockito.doReturn(
+			Optional.of(_collectionRoutes)
+		).when(
+			collectionRouterManager
+		).getCollectionRoutesOptional(
+			"people"
+		);
+
+		_setField("_collectionRouterManager", collectionRouterManager);
+
+		IdentifierClassManager identifierClassManager = Mockito.mock(
+			IdentifierClassManager.class);
+
+		Mockito.doReturn(
+			Optional.empty()
+		).when(
+			identifierClassManager
+		).getIdentifierClassOptional(
+			Mockito.anyString()
+		);
+
+		Mockito.doReturn(
+			Optional.of(BlogPostingIdentifier.class)
+		).when(
+			identifierClassManager
+		).getIdentifierClassOptional(
+			"blog-postings"
+		);
+
+		Mockito.doReturn(
+			Optional.of(CommentIdentifier.class)
+		).when(
+			identifierClassManager
+		).getIdentifierClassOptional(
+			"comments"
+		);
+
+		_setField("_identifierClassManager", identifierClassManager);
+
+		ItemRouterManager itemRouterManager = Mockito.mock(
+			ItemRouterManager.class);
+
+		Map<String, ItemRoutes<?, ?>> itemRoutes = new HashMap<>();
+
+		itemRoutes.put("blog-postings", _itemRoutes);
+		itemRoutes.put("comments", _itemRoutes);
+
+		Mockito.doReturn(
+			itemRoutes
+		).when(
+			itemRouterManager
+		).getItemRoutes();
+
+		Mockito.doReturn(
+			Optional.empty()
+		).when(
+			itemRouterManager
+		).getItemRoutesOptional(
+			Mockito.anyString()
+		);
+
+		Mockito.doReturn(
+			Optional.of(_itemRoutes)
+		).when(
+			itemRouterManager
+		).getItemRoutesOptional(
+			"blog-postings"
+		);
+
+		_setField("_itemRouterManager", itemRouterManager);
+
+		NestedCollectionRouterManager nestedCollectionRouterManager =
+			Mockito.mock(NestedCollectionRouterManager.class);
+
+		Mockito.doReturn(
+			Optional.empty()
+		).when(
+			nestedCollectionRouterManager
+		).getNestedCollectionRoutesOptional(
+			Mockito.anyString(), Mockito.anyString()
+		);
+
+		Mockito.doReturn(
+			Optional.of(_nestedCollectionRoutes)
+		).when(
+			nestedCollectionRouterManager
+		).getNestedCollectionRoutesOptional(
+			"people", "blog-postings"
+		);
+
+		_setField(
+			"_nestedCollectionRouterManager", nestedCollectionRouterManager);
+
+		PathIdentifierMapperManager pathIdentifierMapperManager = Mockito.mock(
+			PathIdentifierMapperManager.class);
+
+		Mockito.doReturn(
+			Optional.empty()
+		).when(
+			pathIdentifierMapperManager
+		).getPathIdentifierMapperOptional(
+			Mockito.anyString()
+		);
+
+		_setField("_pathIdentifierMapperManager", pathIdentifierMapperManager);
+
+		Representor<?> representor = Mockito.mock(Representor.class);
+
+		Mockito.when(
+			representor.getRelatedCollections()
+		).thenAnswer(
+			invocation -> Stream.of(
+				new RelatedCollection<>(
+					"blogPostings", BlogPostingIdentifier.class))
+		);
+
+		RepresentableManager representableManager = Mockito.mock(
+			RepresentableManager.class);
+
+		Mockito.doReturn(
+			Collections.singletonMap("people", representor)
+		).when(
+			representableManager
+		).getRepresentors();
+
+		Mockito.doReturn(
+			Optional.empty()
+		).when(
+			representableManager
+		).getRepresentorOptional(
+			Mockito.anyString()
+		);
+
+		Mockito.doReturn(
+			Optional.of(representor)
+		).when(
+			representableManager
+		).getRepresentorOptional(
+			"people"
+		);
+
+		_setField("_representableManager", representableManager);
+
+		ReusableNestedCollectionRouterManager
+			reusableNestedCollectionRouterManager = Mockito.mock(
+				ReusableNestedCollectionRouterManager.class);
+
+		Mockito.doReturn(
+			Optional.empty()
+		).when(
+			reusableNestedCollectionRouterManager
+		).getNestedCollectionRoutesOptional(
+			Mockito.anyString()
+		);
+
+		Mockito.doReturn(
+			Optional.of(_reusableNestedCollectionRoutes)
+		).when(
+			reusableNestedCollectionRouterManager
+		).getNestedCollectionRoutesOptional(
+			"comments"
+		);
+
+		_setField(
+			"_reusableNestedCollectionRouterManager",
+			reusableNestedCollectionRouterManager);
+	}
+
+	@After
+	public void tearDown() {
+		INSTANCE.clear();
+	}
+
+	@Test
+	public void testDispatcherFallsBackToReusableNestedCollectionRoutes() {
+		ResourceDispatcher<Object, Object> resourceDispatcher =
+			_resourceDispatcherManagerImpl.getResourceDispatcher("people");
+
+		Optional<NestedCollectionRoutes<Object, Object>> optional =
+			resourceDispatcher.getNestedCollectionRoutesOptional("comments");
+
+		assertThat(
+			optional.get(), is(sameInstance(_reusableNestedCollectionRoutes)));
+	}
+
+	@Test
+	public void testDispatcherHasNestedCollectionRoutes() {
+		ResourceDispatcher<Object, Object> resourceDispatcher =
+			_resourceDispatcherManagerImpl.getResourceDispatcher("people");
+
+		Optional<NestedCollectionRoutes<Object, Object>> optional =
+			resourceDispatcher.getNestedCollectionRoutesOptional(
+				"blog-postings");
+
+		assertThat(optional.get(), is(sameInstance(_nestedCollectionRoutes)));
+		assertThat(
+			resourceDispatcher.getCollectionRoutesOptional(),
+			is(Optional.of(_collectionRoutes)));
+		assertThat(resourceDispatcher.getName(), is("people"));
+	}
+
+	@Test
+	public void testDispatcherKnowsWhichNestedCollectionsAreRelated() {
+		ResourceDispatcher<Object, Object> resourceDispatcher =
+			_resourceDispatcherManagerImpl.getResourceDispatcher("people");
+
+		assertThat(
+			resourceDispatcher.isRelatedCollection("blog-postings"), is(true));
+		assertThat(
+			resourceDispatcher.isRelatedCollection("comments"), is(false));
+	}
+
+	@Test
+	public void testDispatchersAreComputedOnceAndReused() throws Exception {
+		ResourceDispatcher<Object, Object> resourceDispatcher =
+			_resourceDispatcherManagerImpl.getResourceDispatcher(
+				"blog-postings");
+
+		assertThat(
+			_resourceDispatcherManagerImpl.getResourceDispatcher(
+				"blog-postings"),
+			is(sameInstance(resourceDispatcher)));
+		assertThat(
+			resourceDispatcher.getItemRoutesOptional(),
+			is(Optional.of(_itemRoutes)));
+
+		CollectionRouterManager collectionRouterManager =
+			(CollectionRouterManager)_getField("_collectionRouterManager");
+
+		Mockito.verify(
+			collectionRouterManager
+		).getCollectionRoutes();
+	}
+
+	@Test
+	public void testUnknownNameDispatcherIsEmptyAndReused() {
+		ResourceDispatcher<Object, Object> resourceDispatcher =
+			_resourceDispatcherManagerImpl.getResourceDispatcher("unknown");
+
+		assertThat(
+			resourceDispatcher.getCollectionRoutesOptional(),
+			is(Optional.empty()));
+		assertThat(
+			resourceDispatcher.getItemRoutesOptional(), is(Optional.empty()));
+		assertThat(
+			resourceDispatcher.getRepresentorOptional(), is(Optional.empty()));
+		assertThat(
+			_resourceDispatcherManagerImpl.getResourceDispatcher("unknown"),
+			is(sameInstance(resourceDispatcher)));
+	}
+
+	private Object _getField(String name) throws Exception {
+		Field field = ResourceDispatcherManagerImpl.class.getDeclaredField(
+			name);
+
+		field.setAccessible(true);
+
+		return field.get(_resourceDispatcherManagerImpl);
+	}
+
+	private void _setField(String name, Object value) throws Exception {
+		Field field = ResourceDispatcherManagerImpl.class.getDeclaredField(
+			name);
+
+		field.setAccessible(true);
+
+		field.set(_resourceDispatcherManagerImpl, value);
+	}
+
+	private final CollectionRoutes<?> _collectionRoutes = Mockito.mock(
+		CollectionRoutes.class);
+	private final ItemRoutes<?, ?> _itemRoutes = Mockito.mock(ItemRoutes.class);
+	private final NestedCollectionRoutes<?, ?> _nestedCollectionRoutes =
+		Mockito.mock(NestedCollectionRoutes.class);
+	private ResourceDispatcherManagerImpl _resourceDispatcherManagerImpl;
+	private final NestedCollectionRoutes<?, ?> _reusableNestedCollectionRoutes =
+		Mockito.mock(NestedCollectionRoutes.class);
+
+	private interface BlogPostingIdentifier extends Identifier<Long> {
+	}
+
+	private interface CommentIdentifier extends Identifier<Long> {
+	}
+
+}
\ No newline at end of file
@@ -30,7 +30,9 @@ import com.liferay.apio.architect.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.operation.Method;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.representor.function.DoubleFieldFunction;
 import com.liferay.apio.architect.representor.function.FieldFunction;
+import com.liferay.apio.architect.representor.function.LongFieldFunction;
 import com.liferay.apio.architect.request.RequestInfo;
 import com.liferay.apio.architect.routes.CollectionRoutes;
 import com.liferay.apio.architect.routes.ItemRoutes;
@@ -232,21 +234,28 @@ public class DocumentationWriter {
 		);
 	}
 
+	private void _writeField(
+		String key, JSONObjectBuilder resourceJsonObjectBuilder,
+		Optional<Form<FormField>> formOptional) {
+
+		formOptional.ifPresent(
+			formFieldForm -> {
+				Optional<FormField> field = _getFormField(key, formFieldForm);
+
+				field.ifPresent(
+					formField -> _writeFormField(
+						resourceJsonObjectBuilder, formField));
+			});
+	}
+
 	private void _writeFields(
 		List<FieldFunction> functionMap,
 		JSONObjectBuilder resourceJsonObjectBuilder,
 		Optional<Form<FormField>> formOptional) {
 
 		functionMap.forEach(
-			fieldFunction -> formOptional.ifPresent(
-				formFieldForm -> {
-					Optional<FormField> field = _getFormField(
-						fieldFunction.key, formFieldForm);
-
-					field.ifPresent(
-						formField -> _writeFormField(
-							resourceJsonObjectBuilder, formField));
-				}));
+			fieldFunction -> _writeField(
+				fieldFunction.key, resourceJsonObjectBuilder, formOptional));
 	}
 
 	private void _writeFields(
@@ -283,6 +292,30 @@ public class DocumentationWriter {
 			representor.getNumberListFunctions(), resourceJsonObjectBuilder,
 			formOptional);
 
+		List<DoubleFieldFunction> doubleFieldFunctions =
+			representor.getDoubleFunctions();
+
+		doubleFieldFunctions.forEach(
+			doubleFieldFunction -> _writeField(
+				doubleFieldFunction.key, resourceJsonObjectBuilder,
+				formOptional));
+
+		_writeFields(
+			representor.getDoubleListFunctions(), resourceJsonObjectBuilder,
+			formOptional);
+
+		List<LongFieldFunction> longFieldFunctions =
+			representor.getLongFunctions();
+
+		longFieldFunctions.forEach(
+			longFieldFunction -> _writeField(
+				longFieldFunction.key, resourceJsonObjectBuilder,
+				formOptional));
+
+		_writeFields(
+			representor.getLongListFunctions(), resourceJsonObjectBuilder,
+			formOptional);
+
 		_writeFields(
 			representor.getNestedFieldFunctions(), resourceJsonObjectBuilder,
 			formOptional);
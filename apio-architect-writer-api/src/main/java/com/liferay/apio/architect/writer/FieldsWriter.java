@@ -14,18 +14,24 @@
 
 package com.liferay.apio.architect.writer;
 
+import static com.liferay.apio.architect.event.PipelineStage.RELATED_MODEL_FETCH;
 import static com.liferay.apio.architect.unsafe.Unsafe.unsafeCast;
 import static com.liferay.apio.architect.writer.url.URLCreator.createBinaryURL;
 import static com.liferay.apio.architect.writer.url.URLCreator.createNestedCollectionURL;
 import static com.liferay.apio.architect.writer.url.URLCreator.createSingleURL;
 
+import com.liferay.apio.architect.event.PipelineEvent;
+import com.liferay.apio.architect.event.PipelineEventUtil;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.list.FunctionalList;
 import com.liferay.apio.architect.related.RelatedCollection;
 import com.liferay.apio.architect.related.RelatedModel;
 import com.liferay.apio.architect.representor.BaseRepresentor;
 import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.representor.function.DoubleFieldFunction;
 import com.liferay.apio.architect.representor.function.FieldFunction;
+import com.liferay.apio.architect.representor.function.LongFieldFunction;
+import com.liferay.apio.architect.request.Deadline;
 import com.liferay.apio.architect.request.RequestInfo;
 import com.liferay.apio.architect.response.control.Fields;
 import com.liferay.apio.architect.single.model.SingleModel;
@@ -38,8 +44,11 @@ import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -64,13 +73,28 @@ public class FieldsWriter<T> {
 		Function<T, S> identifierFunction =
 			relatedModel.getIdentifierFunction();
 
-		return identifierFunction.andThen(
-			s -> singleModelFunction.apply(s, relatedModel.getIdentifierClass())
-		).apply(
-			parentSingleModel.getModel()
-		).map(
-			Unsafe::unsafeCast
-		);
+		Class<? extends Identifier<S>> identifierClass =
+			relatedModel.getIdentifierClass();
+
+		try (PipelineEvent pipelineEvent = PipelineEventUtil.begin(
+				RELATED_MODEL_FETCH)) {
+
+			pipelineEvent.setResourceName(identifierClass.getName());
+
+			Optional<SingleModel<U>> optional = identifierFunction.andThen(
+				s -> singleModelFunction.apply(s, identifierClass)
+			).apply(
+				parentSingleModel.getModel()
+			).map(
+				Unsafe::unsafeCast
+			);
+
+			if (optional.isPresent()) {
+				pipelineEvent.setItemCount(1);
+			}
+
+			return optional;
+		}
 	}
 
 	public FieldsWriter(
@@ -85,6 +109,8 @@ public class FieldsWriter<T> {
 		_path = path;
 		_embeddedPathElements = embeddedPathElements;
 		_singleModelFunction = singleModelFunction;
+
+		_deadline = Deadline.getDeadline(requestInfo.getHttpServletRequest());
 	}
 
 	/**
@@ -144,6 +170,43 @@ public class FieldsWriter<T> {
 			BaseRepresentor::getBooleanListFunctions, writeField(biConsumer));
 	}
 
+	/**
+	 * Writes a model's double fields. This method uses an {@code
+	 * ObjDoubleConsumer} so each {@code javax.ws.rs.ext.MessageBodyWriter} can
+	 * write each field differently, without boxing its value.
+	 *
+	 * @param objDoubleConsumer the {@code ObjDoubleConsumer} called to write
+	 *        each field
+	 */
+	public void writeDoubleFields(ObjDoubleConsumer<String> objDoubleConsumer) {
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
+
+		T model = _singleModel.getModel();
+
+		for (DoubleFieldFunction<T> doubleFieldFunction :
+				_baseRepresentor.getDoubleFunctions()) {
+
+			if (fieldsPredicate.test(doubleFieldFunction.key)) {
+				ToDoubleFunction<T> function = doubleFieldFunction.function;
+
+				objDoubleConsumer.accept(
+					doubleFieldFunction.key, function.applyAsDouble(model));
+			}
+		}
+	}
+
+	/**
+	 * Writes the model's double list fields. This method uses a {@code
+	 * BiConsumer} so each {@code javax.ws.rs.ext.MessageBodyWriter} can write
+	 * each field differently.
+	 *
+	 * @param biConsumer the {@code BiConsumer} called to write each field
+	 */
+	public void writeDoubleListFields(BiConsumer<String, double[]> biConsumer) {
+		writeFields(
+			BaseRepresentor::getDoubleListFunctions, writeField(biConsumer));
+	}
+
 	/**
 	 * Returns a consumer for entries of a {@code Map<String, Function<T, S>}.
 	 * The consumer uses a value function to get the final value, then uses the
@@ -255,6 +318,43 @@ public class FieldsWriter<T> {
 				biConsumer));
 	}
 
+	/**
+	 * Writes a model's long fields. This method uses an {@code
+	 * ObjLongConsumer} so each {@code javax.ws.rs.ext.MessageBodyWriter} can
+	 * write each field differently, without boxing its value.
+	 *
+	 * @param objLongConsumer the {@code ObjLongConsumer} called to write
+	 *        each field
+	 */
+	public void writeLongFields(ObjLongConsumer<String> objLongConsumer) {
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
+
+		T model = _singleModel.getModel();
+
+		for (LongFieldFunction<T> longFieldFunction :
+				_baseRepresentor.getLongFunctions()) {
+
+			if (fieldsPredicate.test(longFieldFunction.key)) {
+				ToLongFunction<T> function = longFieldFunction.function;
+
+				objLongConsumer.accept(
+					longFieldFunction.key, function.applyAsLong(model));
+			}
+		}
+	}
+
+	/**
+	 * Writes the model's long list fields. This method uses a {@code
+	 * BiConsumer} so each {@code javax.ws.rs.ext.MessageBodyWriter} can write
+	 * each field differently.
+	 *
+	 * @param biConsumer the {@code BiConsumer} called to write each field
+	 */
+	public void writeLongListFields(BiConsumer<String, long[]> biConsumer) {
+		writeFields(
+			BaseRepresentor::getLongListFunctions, writeField(biConsumer));
+	}
+
 	/**
 	 * Writes a model's number fields. This method uses a {@code BiConsumer} so
 	 * each {@code javax.ws.rs.ext.MessageBodyWriter} can write each field
@@ -375,6 +475,8 @@ public class FieldsWriter<T> {
 		writeRelatedModel(
 			relatedModel, pathFunction,
 			(url, embeddedPathElements) -> {
+				_deadline.check();
+
 				Optional<SingleModel<U>> singleModelOptional = getSingleModel(
 					relatedModel, _singleModel,
 					unsafeCast(_singleModelFunction));
@@ -387,12 +489,7 @@ public class FieldsWriter<T> {
 
 				SingleModel<U> singleModel = singleModelOptional.get();
 
-				Stream<String> stream = Stream.concat(
-					Stream.of(embeddedPathElements.head()),
-					embeddedPathElements.tailStream());
-
-				String embeddedPath = String.join(
-					".", stream.collect(Collectors.toList()));
+				String embeddedPath = embeddedPathElements.join(".");
 
 				if (embedded.test(embeddedPath)) {
 					embeddedURLBiConsumer.accept(url, embeddedPathElements);
@@ -428,6 +525,8 @@ public class FieldsWriter<T> {
 			return;
 		}
 
+		_deadline.check();
+
 		Optional<SingleModel<U>> optional = getSingleModel(
 			relatedModel, _singleModel, unsafeCast(_singleModelFunction));
 
@@ -524,6 +623,7 @@ public class FieldsWriter<T> {
 	}
 
 	private final BaseRepresentor<T> _baseRepresentor;
+	private final Deadline _deadline;
 	private final FunctionalList<String> _embeddedPathElements;
 	private final Path _path;
 	private final RequestInfo _requestInfo;
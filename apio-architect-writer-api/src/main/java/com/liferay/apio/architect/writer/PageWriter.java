@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.writer;
 
+import static com.liferay.apio.architect.event.PipelineStage.REPRESENTOR_WRITE;
 import static com.liferay.apio.architect.writer.url.URLCreator.createCollectionPageURL;
 import static com.liferay.apio.architect.writer.url.URLCreator.createCollectionURL;
 import static com.liferay.apio.architect.writer.url.URLCreator.createFormURL;
@@ -23,6 +24,8 @@ import static com.liferay.apio.architect.writer.util.WriterUtil.getPathOptional;
 
 import com.google.gson.JsonObject;
 
+import com.liferay.apio.architect.event.PipelineEvent;
+import com.liferay.apio.architect.event.PipelineEventUtil;
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.list.FunctionalList;
 import com.liferay.apio.architect.message.json.JSONObjectBuilder;
@@ -31,19 +34,24 @@ import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageType;
 import com.liferay.apio.architect.representor.BaseRepresentor;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.request.Deadline;
 import com.liferay.apio.architect.request.RequestInfo;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.unsafe.Unsafe;
 import com.liferay.apio.architect.uri.Path;
 import com.liferay.apio.architect.writer.alias.BaseRepresentorFunction;
+import com.liferay.apio.architect.writer.alias.ItemOperationsFunction;
 import com.liferay.apio.architect.writer.alias.PathFunction;
 import com.liferay.apio.architect.writer.alias.RepresentorFunction;
 import com.liferay.apio.architect.writer.alias.ResourceNameFunction;
 import com.liferay.apio.architect.writer.alias.SingleModelFunction;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -71,6 +79,7 @@ public class PageWriter<T> {
 
 	public PageWriter(Builder<T> builder) {
 		_page = builder._page;
+		_itemOperationsFunction = builder._itemOperationsFunction;
 		_pageMessageMapper = builder._pageMessageMapper;
 		_pathFunction = builder._pathFunction;
 		_representorFunction = builder._representorFunction;
@@ -92,64 +101,39 @@ public class PageWriter<T> {
 	 *         Representor} and {@code Path} exist for the model; returns {@code
 	 *         Optional#empty()} otherwise
 	 */
-	@SuppressWarnings("Duplicates")
 	public String write() {
-		_pageMessageMapper.onStart(
-			_jsonObjectBuilder, _page, _requestInfo.getHttpHeaders());
-
-		_pageMessageMapper.mapItemTotalCount(
-			_jsonObjectBuilder, _page.getTotalCount());
-
-		Collection<T> items = _page.getItems();
-
-		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, items.size());
-
-		_writePageURLs();
-
-		String url = _getCollectionURL();
-
-		_pageMessageMapper.mapCollectionURL(_jsonObjectBuilder, url);
+		JsonObject jsonObject = writeJsonObject();
 
-		String resourceName = _page.getResourceName();
-
-		items.forEach(
-			model -> _writeItem(
-				new SingleModel<>(
-					model, resourceName, Collections.emptyList())));
-
-		List<Operation> operations = _page.getOperations();
-
-		operations.forEach(
-			operation -> {
-				JSONObjectBuilder operationJSONObjectBuilder =
-					new JSONObjectBuilder();
-
-				_pageMessageMapper.onStartOperation(
-					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
-
-				Optional<Form> formOptional = operation.getFormOptional();
-
-				formOptional.map(
-					form -> createFormURL(_requestInfo.getServerURL(), form)
-				).ifPresent(
-					formURL -> _pageMessageMapper.mapOperationFormURL(
-						_jsonObjectBuilder, operationJSONObjectBuilder, formURL)
-				);
+		return jsonObject.toString();
+	}
 
-				_pageMessageMapper.mapOperationMethod(
-					_jsonObjectBuilder, operationJSONObjectBuilder,
-					operation.method);
+	/**
+	 * Writes the handled {@link Page} to a JSON object, which can later be
+	 * serialized by the {@link PageMessageMapper}. This method uses a {@link
+	 * FieldsWriter} to write the different fields of its items' {@link
+	 * com.liferay.apio.architect.representor.Representor}.
+	 *
+	 * <p>
+	 * The items are pulled from the page one at a time, but the whole JSON
+	 * object is built in memory before it's returned.
+	 * </p>
+	 *
+	 * @return the JSON object representation of the {@code Page}
+	 */
+	public JsonObject writeJsonObject() {
+		try (PipelineEvent pipelineEvent = PipelineEventUtil.begin(
+				REPRESENTOR_WRITE)) {
 
-				_pageMessageMapper.onFinishOperation(
-					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
-			});
+			pipelineEvent.setResourceName(_page.getResourceName());
 
-		_pageMessageMapper.onFinish(
-			_jsonObjectBuilder, _page, _requestInfo.getHttpHeaders());
+			JsonObject jsonObject = _writeJsonObject();
 
-		JsonObject jsonObject = _jsonObjectBuilder.build();
+			if (pipelineEvent.isEnabled()) {
+				pipelineEvent.setItemCount(_page.getItemsCount());
+			}
 
-		return jsonObject.toString();
+			return jsonObject;
+		}
 	}
 
 	/**
@@ -183,6 +167,26 @@ public class PageWriter<T> {
 				return new PageWriter<>(Builder.this);
 			}
 
+			/**
+			 * Adds information to the builder about the function that gets
+			 * the operations allowed for the page's items. The function is
+			 * called with the identifiers of up to 100 items at a time, while
+			 * the items are being written, so streamed items don't have to be
+			 * collected into a list first. If no function is provided, items
+			 * are written without operations.
+			 *
+			 * @param  itemOperationsFunction the function that gets the
+			 *         operations allowed for the page's items
+			 * @return the updated builder
+			 */
+			public BuildStep itemOperationsFunction(
+				ItemOperationsFunction itemOperationsFunction) {
+
+				_itemOperationsFunction = itemOperationsFunction;
+
+				return this;
+			}
+
 		}
 
 		public class PageMessageMapperStep {
@@ -306,6 +310,7 @@ public class PageWriter<T> {
 
 		}
 
+		private ItemOperationsFunction _itemOperationsFunction;
 		private Page<T> _page;
 		private PageMessageMapper<T> _pageMessageMapper;
 		private PathFunction _pathFunction;
@@ -328,6 +333,25 @@ public class PageWriter<T> {
 		);
 	}
 
+	private String _getFormURL(Form form) {
+		return _formURLs.computeIfAbsent(
+			form.id, __ -> createFormURL(_requestInfo.getServerURL(), form));
+	}
+
+	private Optional<Representor<T>> _getItemOperationsRepresentorOptional(
+		String resourceName) {
+
+		if (_itemOperationsFunction == null) {
+			return Optional.empty();
+		}
+
+		return _representorFunction.apply(
+			resourceName
+		).map(
+			Unsafe::unsafeCast
+		);
+	}
+
 	private void _writeItem(SingleModel<T> singleModel) {
 		Optional<Path> pathOptional = getPathOptional(
 			singleModel, _pathFunction, _representorFunction::apply);
@@ -364,6 +388,22 @@ public class PageWriter<T> {
 			(field, value) -> _pageMessageMapper.mapItemStringField(
 				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
 
+		fieldsWriter.writeDoubleFields(
+			(field, value) -> _pageMessageMapper.mapItemDoubleField(
+				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+
+		fieldsWriter.writeDoubleListFields(
+			(field, value) -> _pageMessageMapper.mapItemDoubleListField(
+				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLongFields(
+			(field, value) -> _pageMessageMapper.mapItemLongField(
+				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLongListFields(
+			(field, value) -> _pageMessageMapper.mapItemLongListField(
+				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
+
 		fieldsWriter.writeNumberFields(
 			(field, value) -> _pageMessageMapper.mapItemNumberField(
 				_jsonObjectBuilder, itemJsonObjectBuilder, field, value));
@@ -396,6 +436,36 @@ public class PageWriter<T> {
 			url -> _pageMessageMapper.mapItemSelfURL(
 				_jsonObjectBuilder, itemJsonObjectBuilder, url));
 
+		List<Operation> operations = singleModel.getOperations();
+
+		operations.forEach(
+			operation -> {
+				JSONObjectBuilder operationJSONObjectBuilder =
+					new JSONObjectBuilder();
+
+				_pageMessageMapper.onStartItemOperation(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					operationJSONObjectBuilder, operation);
+
+				Optional<Form> formOptional = operation.getFormOptional();
+
+				formOptional.map(
+					this::_getFormURL
+				).ifPresent(
+					formURL -> _pageMessageMapper.mapItemOperationFormURL(
+						_jsonObjectBuilder, itemJsonObjectBuilder,
+						operationJSONObjectBuilder, formURL)
+				);
+
+				_pageMessageMapper.mapItemOperationMethod(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					operationJSONObjectBuilder, operation.method);
+
+				_pageMessageMapper.onFinishItemOperation(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					operationJSONObjectBuilder, operation);
+			});
+
 		fieldsWriter.writeRelatedModels(
 			embeddedSingleModel -> getPathOptional(
 				embeddedSingleModel, _pathFunction,
@@ -480,6 +550,30 @@ public class PageWriter<T> {
 					_jsonObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
+		fieldsWriter.writeDoubleFields(
+			(field, value) ->
+				_pageMessageMapper.mapItemEmbeddedResourceDoubleField(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, field, value));
+
+		fieldsWriter.writeDoubleListFields(
+			(field, value) ->
+				_pageMessageMapper.mapItemEmbeddedResourceDoubleListField(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, field, value));
+
+		fieldsWriter.writeLongFields(
+			(field, value) ->
+				_pageMessageMapper.mapItemEmbeddedResourceLongField(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, field, value));
+
+		fieldsWriter.writeLongListFields(
+			(field, value) ->
+				_pageMessageMapper.mapItemEmbeddedResourceLongListField(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, field, value));
+
 		fieldsWriter.writeNumberFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceNumberField(
@@ -548,6 +642,120 @@ public class PageWriter<T> {
 			rootSingleModel, embeddedPathElements);
 	}
 
+	private void _writeItems(String resourceName) {
+		Deadline deadline = Deadline.getDeadline(
+			_requestInfo.getHttpServletRequest());
+
+		Optional<Representor<T>> optional =
+			_getItemOperationsRepresentorOptional(resourceName);
+
+		if (!optional.isPresent()) {
+			_page.forEachItem(
+				model -> {
+					deadline.check();
+
+					_writeItem(
+						new SingleModel<>(
+							model, resourceName, Collections.emptyList()));
+				});
+
+			return;
+		}
+
+		Representor<T> representor = optional.get();
+
+		List<T> models = new ArrayList<>(_ITEM_OPERATIONS_CHUNK_SIZE);
+
+		_page.forEachItem(
+			model -> {
+				deadline.check();
+
+				models.add(model);
+
+				if (models.size() == _ITEM_OPERATIONS_CHUNK_SIZE) {
+					_writeItemsWithOperations(
+						models, representor, resourceName);
+
+					models.clear();
+				}
+			});
+
+		if (!models.isEmpty()) {
+			_writeItemsWithOperations(models, representor, resourceName);
+		}
+	}
+
+	private void _writeItemsWithOperations(
+		List<T> models, Representor<T> representor, String resourceName) {
+
+		List<Object> identifiers = new ArrayList<>(models.size());
+
+		models.forEach(
+			model -> identifiers.add(representor.getIdentifier(model)));
+
+		Map<Object, List<Operation>> map = _itemOperationsFunction.apply(
+			identifiers);
+
+		models.forEach(
+			model -> _writeItem(
+				new SingleModel<>(
+					model, resourceName,
+					map.getOrDefault(
+						representor.getIdentifier(model),
+						Collections.emptyList()))));
+	}
+
+	@SuppressWarnings("Duplicates")
+	private JsonObject _writeJsonObject() {
+		_pageMessageMapper.onStart(
+			_jsonObjectBuilder, _page, _requestInfo.getHttpHeaders());
+
+		_writeTotalCount();
+
+		_writeItems(_page.getResourceName());
+
+		_pageMessageMapper.mapPageCount(
+			_jsonObjectBuilder, _page.getItemsCount());
+
+		_writePageURLs();
+
+		String url = _getCollectionURL();
+
+		_pageMessageMapper.mapCollectionURL(_jsonObjectBuilder, url);
+
+		List<Operation> operations = _page.getOperations();
+
+		operations.forEach(
+			operation -> {
+				JSONObjectBuilder operationJSONObjectBuilder =
+					new JSONObjectBuilder();
+
+				_pageMessageMapper.onStartOperation(
+					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
+
+				Optional<Form> formOptional = operation.getFormOptional();
+
+				formOptional.map(
+					this::_getFormURL
+				).ifPresent(
+					formURL -> _pageMessageMapper.mapOperationFormURL(
+						_jsonObjectBuilder, operationJSONObjectBuilder, formURL)
+				);
+
+				_pageMessageMapper.mapOperationMethod(
+					_jsonObjectBuilder, operationJSONObjectBuilder,
+					operation.method);
+
+				_pageMessageMapper.onFinishOperation(
+					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
+			});
+
+		_pageMessageMapper.onFinish(
+			_jsonObjectBuilder, _page, _requestInfo.getHttpHeaders());
+
+		return _jsonObjectBuilder.build();
+	}
+
 	private <S, U> void _writeNestedResources(
 		BaseRepresentorFunction baseRepresentorFunction,
 		SingleModel<U> singleModel, JSONObjectBuilder itemJsonObjectBuilder,
@@ -594,9 +802,11 @@ public class PageWriter<T> {
 			_jsonObjectBuilder,
 			createCollectionPageURL(url, _page, PageType.FIRST));
 
-		_pageMessageMapper.mapLastPageURL(
-			_jsonObjectBuilder,
-			createCollectionPageURL(url, _page, PageType.LAST));
+		if (_page.hasLast()) {
+			_pageMessageMapper.mapLastPageURL(
+				_jsonObjectBuilder,
+				createCollectionPageURL(url, _page, PageType.LAST));
+		}
 
 		if (_page.hasNext()) {
 			_pageMessageMapper.mapNextPageURL(
@@ -611,6 +821,14 @@ public class PageWriter<T> {
 		}
 	}
 
+	private void _writeTotalCount() {
+		_pageMessageMapper.mapTotalCount(_jsonObjectBuilder, _page.getTotal());
+	}
+
+	private static final int _ITEM_OPERATIONS_CHUNK_SIZE = 100;
+
+	private final Map<String, String> _formURLs = new HashMap<>();
+	private final ItemOperationsFunction _itemOperationsFunction;
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final Page<T> _page;
 	private final PageMessageMapper<T> _pageMessageMapper;
@@ -14,12 +14,15 @@
 
 package com.liferay.apio.architect.writer;
 
+import static com.liferay.apio.architect.event.PipelineStage.REPRESENTOR_WRITE;
 import static com.liferay.apio.architect.writer.url.URLCreator.createFormURL;
 import static com.liferay.apio.architect.writer.util.WriterUtil.getFieldsWriter;
 import static com.liferay.apio.architect.writer.util.WriterUtil.getPathOptional;
 
 import com.google.gson.JsonObject;
 
+import com.liferay.apio.architect.event.PipelineEvent;
+import com.liferay.apio.architect.event.PipelineEventUtil;
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.list.FunctionalList;
 import com.liferay.apio.architect.message.json.JSONObjectBuilder;
@@ -37,7 +40,9 @@ import com.liferay.apio.architect.writer.alias.ResourceNameFunction;
 import com.liferay.apio.architect.writer.alias.SingleModelFunction;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -87,124 +92,10 @@ public class SingleModelWriter<T> {
 	 *         model's {@code Representor} and {@code Path} exist; returns
 	 *         {@code Optional#empty()} otherwise
 	 */
-	@SuppressWarnings("Duplicates")
 	public Optional<String> write() {
-		Optional<Path> pathOptional = getPathOptional(
-			_singleModel, _pathFunction, _representorFunction::apply);
-
-		if (!pathOptional.isPresent()) {
-			return Optional.empty();
-		}
-
-		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
-			_singleModel, null, _requestInfo, _representorFunction::apply,
-			_singleModelFunction, pathOptional.get());
-
-		if (!fieldsWriterOptional.isPresent()) {
-			return Optional.empty();
-		}
-
-		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
-
-		_singleModelMessageMapper.onStart(
-			_jsonObjectBuilder, _singleModel, _requestInfo.getHttpHeaders());
-
-		fieldsWriter.writeBooleanFields(
-			(field, value) -> _singleModelMessageMapper.mapBooleanField(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeBooleanListFields(
-			(field, value) -> _singleModelMessageMapper.mapBooleanListField(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeLocalizedStringFields(
-			(field, value) -> _singleModelMessageMapper.mapStringField(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeNumberFields(
-			(field, value) -> _singleModelMessageMapper.mapNumberField(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeNumberListFields(
-			(field, value) -> _singleModelMessageMapper.mapNumberListField(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeStringFields(
-			(field, value) -> _singleModelMessageMapper.mapStringField(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeStringListFields(
-			(field, value) -> _singleModelMessageMapper.mapStringListField(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeLinks(
-			(fieldName, link) -> _singleModelMessageMapper.mapLink(
-				_jsonObjectBuilder, fieldName, link));
-
-		fieldsWriter.writeTypes(
-			types -> _singleModelMessageMapper.mapTypes(
-				_jsonObjectBuilder, types));
-
-		fieldsWriter.writeBinaries(
-			(field, value) -> _singleModelMessageMapper.mapLink(
-				_jsonObjectBuilder, field, value));
-
-		fieldsWriter.writeSingleURL(
-			url -> _singleModelMessageMapper.mapSelfURL(
-				_jsonObjectBuilder, url));
-
-		List<Operation> operations = _singleModel.getOperations();
+		Optional<JsonObject> optional = writeJsonObject();
 
-		operations.forEach(
-			operation -> {
-				JSONObjectBuilder operationJSONObjectBuilder =
-					new JSONObjectBuilder();
-
-				_singleModelMessageMapper.onStartOperation(
-					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
-
-				Optional<Form> formOptional = operation.getFormOptional();
-
-				formOptional.map(
-					form -> createFormURL(_requestInfo.getServerURL(), form)
-				).ifPresent(
-					url -> _singleModelMessageMapper.mapOperationFormURL(
-						_jsonObjectBuilder, operationJSONObjectBuilder, url)
-				);
-
-				_singleModelMessageMapper.mapOperationMethod(
-					_jsonObjectBuilder, operationJSONObjectBuilder,
-					operation.method);
-
-				_singleModelMessageMapper.onFinishOperation(
-					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
-			});
-
-		fieldsWriter.writeRelatedModels(
-			singleModel -> getPathOptional(
-				singleModel, _pathFunction, _representorFunction::apply),
-			this::writeEmbeddedModelFields,
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL),
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapEmbeddedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL));
-
-		fieldsWriter.writeRelatedCollections(
-			_resourceNameFunction,
-			(url, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, url));
-
-		_writeNestedResources(_representorFunction::apply, _singleModel, null);
-
-		_singleModelMessageMapper.onFinish(
-			_jsonObjectBuilder, _singleModel, _requestInfo.getHttpHeaders());
-
-		JsonObject jsonObject = _jsonObjectBuilder.build();
-
-		return Optional.of(jsonObject.toString());
+		return optional.map(JsonObject::toString);
 	}
 
 	public <S> void writeEmbeddedModelFields(
@@ -263,6 +154,26 @@ public class SingleModelWriter<T> {
 				_singleModelMessageMapper.mapEmbeddedResourceStringField(
 					_jsonObjectBuilder, embeddedPathElements, field, value));
 
+		fieldsWriter.writeDoubleFields(
+			(field, value) ->
+				_singleModelMessageMapper.mapEmbeddedResourceDoubleField(
+					_jsonObjectBuilder, embeddedPathElements, field, value));
+
+		fieldsWriter.writeDoubleListFields(
+			(field, value) ->
+				_singleModelMessageMapper.mapEmbeddedResourceDoubleListField(
+					_jsonObjectBuilder, embeddedPathElements, field, value));
+
+		fieldsWriter.writeLongFields(
+			(field, value) ->
+				_singleModelMessageMapper.mapEmbeddedResourceLongField(
+					_jsonObjectBuilder, embeddedPathElements, field, value));
+
+		fieldsWriter.writeLongListFields(
+			(field, value) ->
+				_singleModelMessageMapper.mapEmbeddedResourceLongListField(
+					_jsonObjectBuilder, embeddedPathElements, field, value));
+
 		fieldsWriter.writeNumberFields(
 			(field, value) ->
 				_singleModelMessageMapper.mapEmbeddedResourceNumberField(
@@ -311,8 +222,7 @@ public class SingleModelWriter<T> {
 
 				formOptional.ifPresent(
 					form -> {
-						String url = createFormURL(
-							_requestInfo.getServerURL(), form);
+						String url = _getFormURL(form);
 
 						_singleModelMessageMapper.mapEmbeddedOperationFormURL(
 							_jsonObjectBuilder, operationJSONObjectBuilder,
@@ -352,6 +262,32 @@ public class SingleModelWriter<T> {
 			baseRepresentorFunction, singleModel, embeddedPathElements);
 	}
 
+	/**
+	 * Writes the handled {@link SingleModel} to a JSON object, which can later
+	 * be serialized by the {@link SingleModelMessageMapper}. If no {@code
+	 * Representor} or {@code Path} exists for the model, this method returns
+	 * {@code Optional#empty()}.
+	 *
+	 * @return the JSON object representation of the {@code SingleModel}, if
+	 *         the model's {@code Representor} and {@code Path} exist; returns
+	 *         {@code Optional#empty()} otherwise
+	 */
+	public Optional<JsonObject> writeJsonObject() {
+		try (PipelineEvent pipelineEvent = PipelineEventUtil.begin(
+				REPRESENTOR_WRITE)) {
+
+			pipelineEvent.setResourceName(_singleModel.getResourceName());
+
+			Optional<JsonObject> optional = _writeJsonObject();
+
+			if (optional.isPresent()) {
+				pipelineEvent.setItemCount(1);
+			}
+
+			return optional;
+		}
+	}
+
 	/**
 	 * Creates {@code SingleModelWriter} instances.
 	 *
@@ -518,6 +454,145 @@ public class SingleModelWriter<T> {
 
 	}
 
+	private String _getFormURL(Form form) {
+		return _formURLs.computeIfAbsent(
+			form.id, __ -> createFormURL(_requestInfo.getServerURL(), form));
+	}
+
+	@SuppressWarnings("Duplicates")
+	private Optional<JsonObject> _writeJsonObject() {
+		Optional<Path> pathOptional = getPathOptional(
+			_singleModel, _pathFunction, _representorFunction::apply);
+
+		if (!pathOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
+			_singleModel, null, _requestInfo, _representorFunction::apply,
+			_singleModelFunction, pathOptional.get());
+
+		if (!fieldsWriterOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
+
+		_singleModelMessageMapper.onStart(
+			_jsonObjectBuilder, _singleModel, _requestInfo.getHttpHeaders());
+
+		fieldsWriter.writeBooleanFields(
+			(field, value) -> _singleModelMessageMapper.mapBooleanField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeBooleanListFields(
+			(field, value) -> _singleModelMessageMapper.mapBooleanListField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLocalizedStringFields(
+			(field, value) -> _singleModelMessageMapper.mapStringField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeDoubleFields(
+			(field, value) -> _singleModelMessageMapper.mapDoubleField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeDoubleListFields(
+			(field, value) -> _singleModelMessageMapper.mapDoubleListField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLongFields(
+			(field, value) -> _singleModelMessageMapper.mapLongField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLongListFields(
+			(field, value) -> _singleModelMessageMapper.mapLongListField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeNumberFields(
+			(field, value) -> _singleModelMessageMapper.mapNumberField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeNumberListFields(
+			(field, value) -> _singleModelMessageMapper.mapNumberListField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeStringFields(
+			(field, value) -> _singleModelMessageMapper.mapStringField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeStringListFields(
+			(field, value) -> _singleModelMessageMapper.mapStringListField(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLinks(
+			(fieldName, link) -> _singleModelMessageMapper.mapLink(
+				_jsonObjectBuilder, fieldName, link));
+
+		fieldsWriter.writeTypes(
+			types -> _singleModelMessageMapper.mapTypes(
+				_jsonObjectBuilder, types));
+
+		fieldsWriter.writeBinaries(
+			(field, value) -> _singleModelMessageMapper.mapLink(
+				_jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeSingleURL(
+			url -> _singleModelMessageMapper.mapSelfURL(
+				_jsonObjectBuilder, url));
+
+		List<Operation> operations = _singleModel.getOperations();
+
+		operations.forEach(
+			operation -> {
+				JSONObjectBuilder operationJSONObjectBuilder =
+					new JSONObjectBuilder();
+
+				_singleModelMessageMapper.onStartOperation(
+					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
+
+				Optional<Form> formOptional = operation.getFormOptional();
+
+				formOptional.map(
+					this::_getFormURL
+				).ifPresent(
+					url -> _singleModelMessageMapper.mapOperationFormURL(
+						_jsonObjectBuilder, operationJSONObjectBuilder, url)
+				);
+
+				_singleModelMessageMapper.mapOperationMethod(
+					_jsonObjectBuilder, operationJSONObjectBuilder,
+					operation.method);
+
+				_singleModelMessageMapper.onFinishOperation(
+					_jsonObjectBuilder, operationJSONObjectBuilder, operation);
+			});
+
+		fieldsWriter.writeRelatedModels(
+			singleModel -> getPathOptional(
+				singleModel, _pathFunction, _representorFunction::apply),
+			this::writeEmbeddedModelFields,
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL),
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapEmbeddedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL));
+
+		fieldsWriter.writeRelatedCollections(
+			_resourceNameFunction,
+			(url, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, url));
+
+		_writeNestedResources(_representorFunction::apply, _singleModel, null);
+
+		_singleModelMessageMapper.onFinish(
+			_jsonObjectBuilder, _singleModel, _requestInfo.getHttpHeaders());
+
+		return Optional.of(_jsonObjectBuilder.build());
+	}
+
 	private <S> void _writeNestedResources(
 		BaseRepresentorFunction baseRepresentorFunction,
 		SingleModel<S> singleModel,
@@ -551,6 +626,7 @@ public class SingleModelWriter<T> {
 		);
 	}
 
+	private final Map<String, String> _formURLs = new HashMap<>();
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final PathFunction _pathFunction;
 	private final RepresentorFunction _representorFunction;
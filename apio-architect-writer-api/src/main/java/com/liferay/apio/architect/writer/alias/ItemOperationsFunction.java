@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.writer.alias;
+
+import com.liferay.apio.architect.operation.Operation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Defines a type alias for a function that receives the identifiers of several
+ * items and returns the operations allowed for each of them.
+ *
+ * @author Alejandro Hernández
+ */
+@FunctionalInterface
+public interface ItemOperationsFunction
+	extends Function<List<Object>, Map<Object, List<Operation>>> {
+}
\ No newline at end of file
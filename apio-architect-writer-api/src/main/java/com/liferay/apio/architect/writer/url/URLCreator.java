@@ -15,11 +15,14 @@
 package com.liferay.apio.architect.writer.url;
 
 import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.pagination.Cursor;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageType;
 import com.liferay.apio.architect.uri.Path;
 import com.liferay.apio.architect.url.ServerURL;
 
+import java.util.Optional;
+
 import javax.ws.rs.core.UriBuilder;
 
 /**
@@ -48,7 +51,9 @@ public final class URLCreator {
 	}
 
 	/**
-	 * Returns the URL for a collection page.
+	 * Returns the URL for a collection page. If the page uses keyset
+	 * pagination, the URL contains the opaque cursor of the page type instead
+	 * of its page number.
 	 *
 	 * @param  collectionURL the collection URL
 	 * @param  page the page
@@ -57,6 +62,10 @@ public final class URLCreator {
 	public static String createCollectionPageURL(
 		String collectionURL, Page page, PageType pageType) {
 
+		if (page.isCursorBased()) {
+			return _createCursorPageURL(collectionURL, page, pageType);
+		}
+
 		return UriBuilder.fromUri(
 			collectionURL
 		).queryParam(
@@ -115,6 +124,25 @@ public final class URLCreator {
 		return serverURL.get() + "/p/" + path.asURI();
 	}
 
+	private static String _createCursorPageURL(
+		String collectionURL, Page page, PageType pageType) {
+
+		UriBuilder uriBuilder = UriBuilder.fromUri(collectionURL);
+
+		Optional<Cursor> optional = pageType.getCursorOptional(page);
+
+		optional.map(
+			Cursor::encode
+		).ifPresent(
+			cursor -> uriBuilder.queryParam("cursor", cursor)
+		);
+
+		return uriBuilder.queryParam(
+			"per_page", page.getItemsPerPage()
+		).build(
+		).toString();
+	}
+
 	private URLCreator() {
 		throw new UnsupportedOperationException();
 	}
@@ -0,0 +1,410 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.writer;
+
+import static com.liferay.apio.architect.operation.Method.DELETE;
+import static com.liferay.apio.architect.test.util.budget.BudgetMatchers.allocatesAtMost;
+import static com.liferay.apio.architect.test.util.budget.BudgetMatchers.canMeasureAllocations;
+import static com.liferay.apio.architect.test.util.budget.BudgetMatchers.invokesAtMost;
+import static com.liferay.apio.architect.test.util.writer.MockWriterUtil.getRequestInfo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+
+import static org.junit.Assume.assumeTrue;
+
+import com.liferay.apio.architect.exception.DeadlineExceededException;
+import com.liferay.apio.architect.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.message.json.PageMessageMapper;
+import com.liferay.apio.architect.operation.Method;
+import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.pagination.Pagination;
+import com.liferay.apio.architect.pagination.StreamPageItems;
+import com.liferay.apio.architect.pagination.TotalCount;
+import com.liferay.apio.architect.request.Deadline;
+import com.liferay.apio.architect.request.RequestInfo;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.test.util.budget.InvocationCounter;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+import com.liferay.apio.architect.uri.Path;
+import com.liferay.apio.architect.writer.alias.ItemOperationsFunction;
+import com.liferay.apio.architect.writer.alias.PathFunction;
+import com.liferay.apio.architect.writer.alias.SingleModelFunction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.HttpHeaders;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageWriterTest {
+
+	@Test
+	public void testWriterAllocationsStayWithinBudget() {
+		assumeTrue(canMeasureAllocations());
+
+		Runnable runnable = () -> _write(
+			MockWriterUtil::identifierToPath, MockWriterUtil::getSingleModel,
+			getRequestInfo(null));
+
+		assertThat(runnable, allocatesAtMost(_ITEMS * _BYTES_PER_ITEM));
+	}
+
+	@Test
+	public void testWriterGetsOperationsOfStreamedItemsInChunks() {
+		List<String> writtenIds = new ArrayList<>();
+		List<String> events = new ArrayList<>();
+
+		Stream<RootModel> stream = IntStream.range(
+			0, 150
+		).mapToObj(
+			String::valueOf
+		).map(
+			id -> () -> id
+		);
+
+		Page<RootModel> page = new Page<>(
+			"root",
+			new StreamPageItems<>(
+				stream.iterator(), () -> {
+				},
+				TotalCount.unknown()),
+			new Pagination(150, 1), new Path("name", "id"),
+			Collections.emptyList());
+
+		PageMessageMapper<RootModel> pageMessageMapper =
+			new PageMessageMapper<RootModel>() {
+
+				@Override
+				public String getMediaType() {
+					return "mediaType";
+				}
+
+				@Override
+				public void onFinishItem(
+					JSONObjectBuilder pageJSONObjectBuilder,
+					JSONObjectBuilder itemJSONObjectBuilder,
+					SingleModel<RootModel> singleModel,
+					HttpHeaders httpHeaders) {
+
+					RootModel rootModel = singleModel.getModel();
+
+					writtenIds.add(rootModel.getId());
+				}
+
+			};
+
+		ItemOperationsFunction itemOperationsFunction = identifiers -> {
+			events.add(
+				"get " + identifiers.size() + " after " + writtenIds.size());
+
+			return Collections.emptyMap();
+		};
+
+		_write(
+			page, pageMessageMapper, itemOperationsFunction,
+			MockWriterUtil::identifierToPath, MockWriterUtil::getSingleModel,
+			getRequestInfo(null));
+
+		assertThat(events, contains("get 100 after 0", "get 50 after 100"));
+		assertThat(writtenIds, hasSize(150));
+	}
+
+	@Test
+	public void testWriterPathFunctionInvocationsStayWithinBudget() {
+		InvocationCounter invocationCounter = new InvocationCounter();
+
+		PathFunction pathFunction = invocationCounter.countPathFunction(
+			MockWriterUtil::identifierToPath);
+
+		Runnable runnable = () -> _write(
+			pathFunction, MockWriterUtil::getSingleModel, getRequestInfo(null));
+
+		assertThat(
+			runnable,
+			invokesAtMost(
+				invocationCounter,
+				_ITEMS * _PATH_FUNCTION_INVOCATIONS_PER_ITEM));
+	}
+
+	@Test
+	public void testWriterSingleModelFunctionInvocationsStayWithinBudget() {
+		InvocationCounter invocationCounter = new InvocationCounter();
+
+		SingleModelFunction singleModelFunction =
+			invocationCounter.countSingleModelFunction(
+				MockWriterUtil::getSingleModel);
+
+		Runnable runnable = () -> _write(
+			MockWriterUtil::identifierToPath, singleModelFunction,
+			getRequestInfo(null));
+
+		assertThat(
+			runnable,
+			invokesAtMost(
+				invocationCounter,
+				_ITEMS * _SINGLE_MODEL_FUNCTION_INVOCATIONS_PER_ITEM));
+	}
+
+	@Test(expected = DeadlineExceededException.class)
+	public void testWriterStopsIfDeadlineHasExpired() {
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getAttribute(Deadline.class.getName())
+		).thenReturn(
+			Deadline.after(-1, TimeUnit.MILLISECONDS)
+		);
+
+		RequestInfo requestInfo = RequestInfo.create(
+			builder -> builder.httpHeaders(
+				null
+			).httpServletRequest(
+				httpServletRequest
+			).serverURL(
+				() -> "localhost"
+			).embedded(
+				__ -> false
+			).fields(
+				__ -> string -> true
+			).language(
+				Locale::getDefault
+			).build());
+
+		_write(
+			MockWriterUtil::identifierToPath, MockWriterUtil::getSingleModel,
+			requestInfo);
+	}
+
+	@Test
+	public void testWriterWritesItemOperations() {
+		List<String> events = new ArrayList<>();
+		List<List<Object>> calls = new ArrayList<>();
+
+		PageMessageMapper<RootModel> pageMessageMapper =
+			new PageMessageMapper<RootModel>() {
+
+				@Override
+				public String getMediaType() {
+					return "mediaType";
+				}
+
+				@Override
+				public void mapItemOperationMethod(
+					JSONObjectBuilder pageJSONObjectBuilder,
+					JSONObjectBuilder itemJSONObjectBuilder,
+					JSONObjectBuilder operationJSONObjectBuilder,
+					Method method) {
+
+					events.add("method " + method);
+				}
+
+				@Override
+				public void onFinishItemOperation(
+					JSONObjectBuilder pageJSONObjectBuilder,
+					JSONObjectBuilder itemJSONObjectBuilder,
+					JSONObjectBuilder operationJSONObjectBuilder,
+					Operation operation) {
+
+					events.add("finish " + operation.name);
+				}
+
+				@Override
+				public void onStartItemOperation(
+					JSONObjectBuilder pageJSONObjectBuilder,
+					JSONObjectBuilder itemJSONObjectBuilder,
+					JSONObjectBuilder operationJSONObjectBuilder,
+					Operation operation) {
+
+					events.add("start " + operation.name);
+				}
+
+			};
+
+		ItemOperationsFunction itemOperationsFunction = identifiers -> {
+			calls.add(identifiers);
+
+			Map<Object, List<Operation>> map = new HashMap<>();
+
+			map.put(
+				"1",
+				Collections.singletonList(new Operation(DELETE, "delete-1")));
+
+			return map;
+		};
+
+		_write(
+			_createPage(), pageMessageMapper, itemOperationsFunction,
+			MockWriterUtil::identifierToPath, MockWriterUtil::getSingleModel,
+			getRequestInfo(null));
+
+		assertThat(calls, hasSize(1));
+		assertThat(calls.get(0), hasSize(_ITEMS));
+		assertThat(
+			events,
+			contains("start delete-1", "method DELETE", "finish delete-1"));
+	}
+
+	@Test
+	public void testWriterWritesStreamedItemsIncrementally() {
+		List<String> events = new ArrayList<>();
+
+		Iterator<RootModel> iterator = new Iterator<RootModel>() {
+
+			@Override
+			public boolean hasNext() {
+				if (_index < 3) {
+					return true;
+				}
+
+				return false;
+			}
+
+			@Override
+			public RootModel next() {
+				String id = String.valueOf(_index++);
+
+				events.add("pull " + id);
+
+				return () -> id;
+			}
+
+			private int _index;
+
+		};
+
+		Page<RootModel> page = new Page<>(
+			"root",
+			new StreamPageItems<>(
+				iterator, () -> events.add("close"), TotalCount.unknown()),
+			new Pagination(3, 1), new Path("name", "id"),
+			Collections.emptyList());
+
+		PageMessageMapper<RootModel> pageMessageMapper =
+			new PageMessageMapper<RootModel>() {
+
+				@Override
+				public String getMediaType() {
+					return "mediaType";
+				}
+
+				@Override
+				public void onFinishItem(
+					JSONObjectBuilder pageJSONObjectBuilder,
+					JSONObjectBuilder itemJSONObjectBuilder,
+					SingleModel<RootModel> singleModel,
+					HttpHeaders httpHeaders) {
+
+					RootModel rootModel = singleModel.getModel();
+
+					events.add("write " + rootModel.getId());
+				}
+
+			};
+
+		_write(
+			page, pageMessageMapper, null, MockWriterUtil::identifierToPath,
+			MockWriterUtil::getSingleModel, getRequestInfo(null));
+
+		assertThat(
+			events,
+			contains(
+				"pull 0", "write 0", "pull 1", "write 1", "pull 2", "write 2",
+				"close"));
+	}
+
+	private static Page<RootModel> _createPage() {
+		List<RootModel> items = new ArrayList<>();
+
+		for (int i = 0; i < _ITEMS; i++) {
+			String id = String.valueOf(i);
+
+			items.add(() -> id);
+		}
+
+		return new Page<>(
+			"root", new PageItems<>(items, _ITEMS), new Pagination(_ITEMS, 1),
+			new Path("name", "id"), Collections.emptyList());
+	}
+
+	private static void _write(
+		Page<RootModel> page, PageMessageMapper<RootModel> pageMessageMapper,
+		ItemOperationsFunction itemOperationsFunction,
+		PathFunction pathFunction, SingleModelFunction singleModelFunction,
+		RequestInfo requestInfo) {
+
+		PageWriter<RootModel> pageWriter = PageWriter.create(
+			builder -> builder.page(
+				page
+			).pageMessageMapper(
+				pageMessageMapper
+			).pathFunction(
+				pathFunction
+			).resourceNameFunction(
+				__ -> Optional.of("models")
+			).representorFunction(
+				MockWriterUtil::getRepresentorOptional
+			).requestInfo(
+				requestInfo
+			).singleModelFunction(
+				singleModelFunction
+			).itemOperationsFunction(
+				itemOperationsFunction
+			).build());
+
+		pageWriter.write();
+	}
+
+	private static void _write(
+		PathFunction pathFunction, SingleModelFunction singleModelFunction,
+		RequestInfo requestInfo) {
+
+		_write(
+			_createPage(), () -> "mediaType", null, pathFunction,
+			singleModelFunction, requestInfo);
+	}
+
+	// Measured at about 157 KB per item, plus a margin of about 20%
+	private static final long _BYTES_PER_ITEM = 192 * 1024;
+
+	private static final int _ITEMS = 10;
+
+	private static final int _PATH_FUNCTION_INVOCATIONS_PER_ITEM = 15;
+
+	private static final int _SINGLE_MODEL_FUNCTION_INVOCATIONS_PER_ITEM = 18;
+
+}
\ No newline at end of file
@@ -19,6 +19,9 @@ import static java.util.Collections.emptyList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.pagination.Cursor;
+import com.liferay.apio.architect.pagination.CursorPageItems;
+import com.liferay.apio.architect.pagination.CursorPagination;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.PageType;
@@ -95,6 +98,50 @@ public class URLCreatorTest {
 		assertThat(url, is("www.liferay.com/p/resource"));
 	}
 
+	@Test
+	public void testCreateCursorCollectionPageURL() {
+		CursorPagination cursorPagination = new CursorPagination(
+			30, Cursor.after("1"));
+
+		PageItems<String> pageItems = new CursorPageItems<>(
+			emptyList(), 0, cursorPagination, Cursor.before("2"),
+			Cursor.after("3"));
+
+		Page page = new Page<>("", pageItems, new Pagination(30, 1), null);
+
+		String firstPageURL = URLCreator.createCollectionPageURL(
+			"www.liferay.com", page, PageType.FIRST);
+
+		assertThat(firstPageURL, is("www.liferay.com?per_page=30"));
+
+		String currentPageURL = URLCreator.createCollectionPageURL(
+			"www.liferay.com", page, PageType.CURRENT);
+
+		assertThat(
+			currentPageURL,
+			is(
+				"www.liferay.com?cursor=" + Cursor.after("1").encode() +
+					"&per_page=30"));
+
+		String nextPageURL = URLCreator.createCollectionPageURL(
+			"www.liferay.com", page, PageType.NEXT);
+
+		assertThat(
+			nextPageURL,
+			is(
+				"www.liferay.com?cursor=" + Cursor.after("3").encode() +
+					"&per_page=30"));
+
+		String previousPageURL = URLCreator.createCollectionPageURL(
+			"www.liferay.com", page, PageType.PREVIOUS);
+
+		assertThat(
+			previousPageURL,
+			is(
+				"www.liferay.com?cursor=" + Cursor.before("2").encode() +
+					"&per_page=30"));
+	}
+
 	@Test
 	public void testCreateNestedCollectionURL() {
 		String url = URLCreator.createNestedCollectionURL(